@@ -0,0 +1,332 @@
+//  PopulationView.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.core;
+
+import jmetal.util.Dominance;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays view of a population. The objective values of the
+ * solutions are stored row by row in a single contiguous array
+ * (<code>objectives[i * numberOfObjectives + j]</code>), together with
+ * arrays holding the overall constraint violation and the rank of each
+ * solution. The view keeps a reference to the <code>Solution</code> objects,
+ * so ranks assigned through it are also written back to the solutions.
+ *
+ * A view is a snapshot of a <code>SolutionSet</code> (see
+ * <code>of(SolutionSet)</code>): later changes of the set are not tracked, and
+ * neither are objective values changed directly in a <code>Solution</code>
+ * after it has been added; <code>load(SolutionSet)</code> or
+ * <code>refresh()</code> have to be invoked in those cases.
+ *
+ * The dominance test applied is the one of <code>DominanceComparator</code>,
+ * that is, only the objective values are taken into account.
+ */
+public class PopulationView implements Serializable {
+
+  /**
+   * Default initial number of rows
+   */
+  private static final int DEFAULT_CAPACITY = 16 ;
+
+  /**
+   * Number of objectives of the solutions
+   */
+  private int numberOfObjectives_ ;
+
+  /**
+   * Number of solutions stored in the view
+   */
+  private int size_ ;
+
+  /**
+   * Objective values, row-major
+   */
+  private double [] objectives_ ;
+
+  /**
+   * Overall constraint violation of each solution
+   */
+  private double [] violation_ ;
+
+  /**
+   * Rank of each solution
+   */
+  private int [] rank_ ;
+
+  /**
+   * The solutions the rows belong to
+   */
+  private Solution [] solutions_ ;
+
+  /**
+   * Constructor.
+   * @param numberOfObjectives Number of objectives
+   * @param capacity Initial number of rows
+   */
+  public PopulationView(int numberOfObjectives, int capacity) {
+    numberOfObjectives_ = numberOfObjectives ;
+    if (capacity < 1)
+      capacity = DEFAULT_CAPACITY ;
+    objectives_ = new double[capacity * numberOfObjectives] ;
+    violation_  = new double[capacity] ;
+    rank_       = new int[capacity] ;
+    solutions_  = new Solution[capacity] ;
+    size_       = 0 ;
+  } // PopulationView
+
+  /**
+   * Constructor. Creates a snapshot of a solution set
+   * @param solutionSet The solution set
+   */
+  public PopulationView(SolutionSet solutionSet) {
+    this(numberOfObjectivesOf(solutionSet), solutionSet.size()) ;
+    load(solutionSet) ;
+  } // PopulationView
+
+  /**
+   * Returns a snapshot of a solution set
+   * @param solutionSet The solution set
+   * @return The view
+   */
+  public static PopulationView of(SolutionSet solutionSet) {
+    return new PopulationView(solutionSet) ;
+  } // of
+
+  private static int numberOfObjectivesOf(SolutionSet solutionSet) {
+    if (solutionSet.size() == 0)
+      return 0 ;
+    return solutionSet.get(0).getNumberOfObjectives() ;
+  } // numberOfObjectivesOf
+
+  /**
+   * Replaces the content of the view by the solutions of a set, reusing the
+   * internal arrays when they are large enough.
+   * @param solutionSet The solution set
+   */
+  public void load(SolutionSet solutionSet) {
+    clear() ;
+    if (solutionSet.size() > 0)
+      adopt(solutionSet.get(0)) ;
+    ensureCapacity(solutionSet.size()) ;
+    for (int i = 0; i < solutionSet.size(); i++)
+      write(size_++, solutionSet.get(i)) ;
+  } // load
+
+  /**
+   * Reads again the objective values, constraint violations and ranks of
+   * the solutions of the view.
+   */
+  public void refresh() {
+    for (int i = 0; i < size_; i++)
+      write(i, solutions_[i]) ;
+  } // refresh
+
+  /**
+   * Appends a solution to the view
+   * @param solution The solution
+   * @return The row of the solution
+   */
+  public int add(Solution solution) {
+    adopt(solution) ;
+    ensureCapacity(size_ + 1) ;
+    write(size_, solution) ;
+    return size_++ ;
+  } // add
+
+  /**
+   * Inserts a solution at a given row, shifting the following rows
+   * @param index The row
+   * @param solution The solution
+   */
+  public void add(int index, Solution solution) {
+    adopt(solution) ;
+    ensureCapacity(size_ + 1) ;
+    int m = numberOfObjectives_ ;
+    System.arraycopy(objectives_, index * m, objectives_, (index + 1) * m, (size_ - index) * m) ;
+    System.arraycopy(violation_, index, violation_, index + 1, size_ - index) ;
+    System.arraycopy(rank_, index, rank_, index + 1, size_ - index) ;
+    System.arraycopy(solutions_, index, solutions_, index + 1, size_ - index) ;
+    write(index, solution) ;
+    size_++ ;
+  } // add
+
+  /**
+   * Replaces the solution of a row
+   * @param index The row
+   * @param solution The new solution
+   */
+  public void set(int index, Solution solution) {
+    write(index, solution) ;
+  } // set
+
+  /**
+   * Removes a row, shifting the following ones
+   * @param index The row
+   */
+  public void remove(int index) {
+    int m = numberOfObjectives_ ;
+    int tail = size_ - index - 1 ;
+    System.arraycopy(objectives_, (index + 1) * m, objectives_, index * m, tail * m) ;
+    System.arraycopy(violation_, index + 1, violation_, index, tail) ;
+    System.arraycopy(rank_, index + 1, rank_, index, tail) ;
+    System.arraycopy(solutions_, index + 1, solutions_, index, tail) ;
+    size_-- ;
+    solutions_[size_] = null ;
+  } // remove
+
+  /**
+   * Empties the view
+   */
+  public void clear() {
+    Arrays.fill(solutions_, 0, size_, null) ;
+    size_ = 0 ;
+  } // clear
+
+  /**
+   * Returns the number of rows
+   */
+  public int size() {
+    return size_ ;
+  } // size
+
+  /**
+   * Returns the number of objectives
+   */
+  public int getNumberOfObjectives() {
+    return numberOfObjectives_ ;
+  } // getNumberOfObjectives
+
+  /**
+   * Returns the backing objective array. Row i starts at
+   * <code>i * getNumberOfObjectives()</code>; only the first
+   * <code>size()</code> rows are meaningful.
+   */
+  public double [] getObjectives() {
+    return objectives_ ;
+  } // getObjectives
+
+  /**
+   * Returns the j-th objective value of the i-th solution
+   */
+  public double getObjective(int i, int j) {
+    return objectives_[i * numberOfObjectives_ + j] ;
+  } // getObjective
+
+  /**
+   * Returns the overall constraint violation of the i-th solution
+   */
+  public double getOverallConstraintViolation(int i) {
+    return violation_[i] ;
+  } // getOverallConstraintViolation
+
+  /**
+   * Returns the rank of the i-th solution
+   */
+  public int getRank(int i) {
+    return rank_[i] ;
+  } // getRank
+
+  /**
+   * Sets the rank of the i-th solution, both in the view and in the solution
+   */
+  public void setRank(int i, int rank) {
+    rank_[i] = rank ;
+    solutions_[i].setRank(rank) ;
+  } // setRank
+
+  /**
+   * Returns the i-th solution
+   */
+  public Solution get(int i) {
+    return solutions_[i] ;
+  } // get
+
+  /**
+   * Dominance test between two rows.
+   * @return -1, or 0, or 1 if solution i dominates solution j, both are
+   * non-dominated, or solution i is dominated by solution j, respectively.
+   */
+  public int dominanceTest(int i, int j) {
+    return Dominance.dominanceTest(objectives_, i * numberOfObjectives_, objectives_,
+                                    j * numberOfObjectives_, numberOfObjectives_) ;
+  } // dominanceTest
+
+  /**
+   * Dominance test between a point and a row.
+   * @param point The objective values of a solution
+   * @param j The row
+   * @return -1, or 0, or 1 if the point dominates solution j, both are
+   * non-dominated, or the point is dominated by solution j, respectively.
+   */
+  public int dominanceTest(double [] point, int j) {
+    return Dominance.dominanceTest(point, 0, objectives_, j * numberOfObjectives_,
+                                    numberOfObjectives_) ;
+  } // dominanceTest
+
+  /**
+   * Returns true if the objective values of a point and a row are equal
+   */
+  public boolean equalObjectives(double [] point, int j) {
+    int offset = j * numberOfObjectives_ ;
+    for (int k = 0; k < numberOfObjectives_; k++)
+      if (point[k] != objectives_[offset + k])
+        return false ;
+    return true ;
+  } // equalObjectives
+
+  /**
+   * Copies the objective values of a solution into an array
+   * @param solution The solution
+   * @param point The array, or null
+   * @return The array holding the values
+   */
+  public double [] copyObjectives(Solution solution, double [] point) {
+    if ((point == null) || (point.length < numberOfObjectives_))
+      point = new double[numberOfObjectives_] ;
+    for (int k = 0; k < numberOfObjectives_; k++)
+      point[k] = solution.getObjective(k) ;
+    return point ;
+  } // copyObjectives
+
+  private void write(int i, Solution solution) {
+    int offset = i * numberOfObjectives_ ;
+    for (int k = 0; k < numberOfObjectives_; k++)
+      objectives_[offset + k] = solution.getObjective(k) ;
+    violation_[i] = solution.getOverallConstraintViolation() ;
+    rank_[i]      = solution.getRank() ;
+    solutions_[i] = solution ;
+  } // write
+
+  private void adopt(Solution solution) {
+    if ((numberOfObjectives_ == 0) && (size_ == 0)) {
+      numberOfObjectives_ = solution.getNumberOfObjectives() ;
+      objectives_ = new double[solutions_.length * numberOfObjectives_] ;
+    } // if
+  } // adopt
+
+  private void ensureCapacity(int rows) {
+    if (rows <= solutions_.length)
+      return ;
+    int capacity = Math.max(rows, solutions_.length * 2) ;
+    objectives_ = Arrays.copyOf(objectives_, capacity * numberOfObjectives_) ;
+    violation_  = Arrays.copyOf(violation_, capacity) ;
+    rank_       = Arrays.copyOf(rank_, capacity) ;
+    solutions_  = Arrays.copyOf(solutions_, capacity) ;
+  } // ensureCapacity
+} // PopulationView
@@ -157,6 +157,24 @@ public abstract class Problem implements Serializable {
   public double getUpperLimit(int i) {
     return upperLimit_[i] ;
   } // getUpperLimit 
+
+  /**
+   * Returns the array containing the lower bounds of the variables. The array
+   * is shared, so it must not be modified.
+   * @return The lower bounds.
+   */
+  public double [] getLowerLimit() {
+    return lowerLimit_ ;
+  } // getLowerLimit
+
+  /**
+   * Returns the array containing the upper bounds of the variables. The array
+   * is shared, so it must not be modified.
+   * @return The upper bounds.
+   */
+  public double [] getUpperLimit() {
+    return upperLimit_ ;
+  } // getUpperLimit
     
   /**
    * Evaluates a <code>Solution</code> object.
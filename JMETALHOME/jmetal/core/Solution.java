@@ -204,6 +204,34 @@ public class Solution implements Serializable {
     location_             = solution.getLocation();
   } // Solution
 
+  /**
+   * Copies another solution of the same problem into this one without
+   * allocating new objects, so that discarded solutions can be reused (see
+   * <code>jmetal.util.SolutionPool</code>). The decision variables are
+   * copied in place when they support it.
+   * @param solution Solution to copy.
+   */
+  public void copy(Solution solution) {
+    problem_ = solution.problem_ ;
+    type_ = solution.type_;
+
+    System.arraycopy(solution.objective_, 0, objective_, 0, numberOfObjectives_) ;
+
+    if ((variable_ == null) || (variable_.length != solution.variable_.length))
+      variable_ = type_.copyVariables(solution.variable_) ;
+    else
+      type_.copyVariables(solution.variable_, variable_) ;
+    overallConstraintViolation_  = solution.getOverallConstraintViolation();
+    numberOfViolatedConstraints_ = solution.getNumberOfViolatedConstraint();
+    distanceToSolutionSet_ = solution.getDistanceToSolutionSet();
+    crowdingDistance_     = solution.getCrowdingDistance();
+    kDistance_            = solution.getKDistance();
+    fitness_              = solution.getFitness();
+    marked_               = solution.isMarked();
+    rank_                 = solution.getRank();
+    location_             = solution.getLocation();
+  } // copy
+
   /**
    * Sets the distance between this solution and a <code>SolutionSet</code>.
    * The value is stored in <code>distanceToSolutionSet_</code>.
@@ -502,6 +530,8 @@ public class Solution implements Serializable {
           (variable_[i].getVariableType() == jmetal.encodings.variable.BinaryReal.class))
 
         bits += ((Binary)(variable_[i])).getNumberOfBits() ;
+      else if (variable_[i].getVariableType() == jmetal.encodings.variable.BitString.class)
+        bits += ((jmetal.encodings.variable.BitString)(variable_[i])).getNumberOfBits() ;
 
     return bits ;
   } // getNumberOfBits
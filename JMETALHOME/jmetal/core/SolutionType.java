@@ -58,5 +58,19 @@ public abstract class SolutionType {
 		
 		return variables ;
 	} // copyVariables
+
+	/**
+	 * Copies the decision variables into the variables of another solution,
+	 * reusing them when they support it (see <code>Variable.copy</code>)
+	 * @param vars The variables to copy
+	 * @param target The variables receiving the copy; they are replaced by
+	 * a deep copy when they can not be reused
+	 */
+	public void copyVariables(Variable[] vars, Variable[] target) {
+		for (int var = 0; var < vars.length; var++) {
+			if (!target[var].copy(vars[var]))
+				target[var] = vars[var].deepCopy();
+		} // for
+	} // copyVariables
 	  
 } // SolutionType
@@ -43,6 +43,19 @@ public abstract class Variable implements Serializable {
    */
   public abstract Variable deepCopy();
 
+  /**
+   * Copies the value of another variable of the same class into this one,
+   * reusing the storage of this variable. Not all the subclasses of
+   * <code>Variable</code> support it, so by default nothing is copied and
+   * false is returned; in that case the caller must use
+   * <code>deepCopy</code>.
+   * @param variable The variable to copy.
+   * @return true if the variable has been copied.
+   */
+  public boolean copy(Variable variable) {
+    return false ;
+  } // copy
+
   /**
    * Gets the double value representating the encodings.variable.
    * It is used in subclasses of <code>Variable</code> (i.e. <code>Real</code> 
@@ -0,0 +1,48 @@
+//  BitStringSolutionType.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.encodings.solutionType;
+
+import jmetal.core.Problem;
+import jmetal.core.SolutionType;
+import jmetal.core.Variable;
+import jmetal.encodings.variable.BitString;
+
+/**
+ * Class representing the solution type of solutions composed of BitString
+ * variables, the word-based counterpart of <code>BinarySolutionType</code>
+ */
+public class BitStringSolutionType extends SolutionType {
+
+	/**
+	 * Constructor
+	 * @param problem Problem to solve
+	 */
+	public BitStringSolutionType(Problem problem) {
+		super(problem) ;
+	} // Constructor
+
+	/**
+	 * Creates the variables of the solution
+	 */
+	public Variable[] createVariables() {
+		Variable[]  variables = new Variable[problem_.getNumberOfVariables()];
+
+		for (int var = 0; var < problem_.getNumberOfVariables(); var++)
+			variables[var] = new BitString(problem_.getLength(var));
+
+		return variables ;
+	} // createVariables
+} // BitStringSolutionType
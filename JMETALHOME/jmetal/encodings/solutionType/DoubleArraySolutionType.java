@@ -0,0 +1,61 @@
+//  DoubleArraySolutionType.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.encodings.solutionType;
+
+import jmetal.core.Problem;
+import jmetal.core.SolutionType;
+import jmetal.core.Variable;
+import jmetal.encodings.variable.DoubleArray;
+
+/**
+ * Class representing the solution type of real-coded solutions whose values
+ * are stored in a single primitive array (a <code>DoubleArray</code>
+ * variable). The bounds of the variables are those of the problem.
+ */
+public class DoubleArraySolutionType extends SolutionType {
+
+	/**
+	 * Constructor
+	 * @param problem Problem to solve
+	 */
+	public DoubleArraySolutionType(Problem problem) {
+		super(problem) ;
+	} // Constructor
+
+	/**
+	 * Creates the variables of the solution
+	 */
+	public Variable[] createVariables() {
+		Variable [] variables = new Variable[1];
+
+		variables[0] = new DoubleArray(problem_.getNumberOfVariables(), problem_);
+		return variables ;
+	} // createVariables
+
+	/**
+	 * Copy the variables
+	 * @param vars Variables
+	 * @return An array of variables
+	 */
+	public Variable[] copyVariables(Variable[] vars) {
+		Variable[] variables ;
+
+		variables = new Variable[1];
+		variables[0] = vars[0].deepCopy();
+
+		return variables ;
+	} // copyVariables
+} // DoubleArraySolutionType
@@ -123,23 +123,39 @@ public class ArrayInt extends Variable {
    * @param arrayInt The arrayInt to copy
    */
   private ArrayInt(ArrayInt arrayInt) {
+    problem_ = arrayInt.problem_ ;
     size_   = arrayInt.size_;
     array_ = new int[size_];
-        	
-    lowerBounds_ = new int[size_] ;
-   	upperBounds_ = new int[size_] ;
-    	
-    for (int i = 0; i < size_; i++) {
-      array_[i] = arrayInt.array_[i];
-      lowerBounds_[i] = arrayInt.lowerBounds_[i] ;
-      upperBounds_[i] = arrayInt.upperBounds_[i] ;
-    } // for
+    System.arraycopy(arrayInt.array_, 0, array_, 0, size_);
+
+    // The bounds are never modified, so they are shared by all the copies
+    lowerBounds_ = arrayInt.lowerBounds_ ;
+    upperBounds_ = arrayInt.upperBounds_ ;
   } // Copy Constructor
 
   @Override
   public Variable deepCopy() {
     return new ArrayInt(this);
   } // deepCopy
+
+  /**
+   * Copies the values of another <code>ArrayInt</code> of the same length.
+   * @param variable The variable to copy
+   * @return true if the variable has been copied
+   */
+  @Override
+  public boolean copy(Variable variable) {
+    if (!(variable instanceof ArrayInt) ||
+        (((ArrayInt) variable).size_ != size_))
+      return false ;
+
+    ArrayInt arrayInt = (ArrayInt) variable ;
+    problem_ = arrayInt.problem_ ;
+    System.arraycopy(arrayInt.array_, 0, array_, 0, size_);
+    lowerBounds_ = arrayInt.lowerBounds_ ;
+    upperBounds_ = arrayInt.upperBounds_ ;
+    return true ;
+  } // copy
   
   /**
    * Returns the length of the arrayInt.
@@ -148,6 +164,33 @@ public class ArrayInt extends Variable {
   public int getLength(){
     return size_;
   } // getLength
+
+  /**
+   * Returns the array storing the values. Changes in the returned array are
+   * changes in the variable.
+   * @return The array
+   */
+  public int [] getArray() {
+    return array_ ;
+  } // getArray
+
+  /**
+   * Copies the values into an array
+   * @param values The destination array, whose length must be at least
+   * <code>getLength()</code>
+   */
+  public void getValues(int [] values) {
+    System.arraycopy(array_, 0, values, 0, size_) ;
+  } // getValues
+
+  /**
+   * Copies the values of an array into the variable
+   * @param values The source array, whose length must be at least
+   * <code>getLength()</code>
+   */
+  public void setValues(int [] values) {
+    System.arraycopy(values, 0, array_, 0, size_) ;
+  } // setValues
  	  
    /**
     * getValue
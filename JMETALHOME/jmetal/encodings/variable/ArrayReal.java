@@ -41,7 +41,7 @@ public class ArrayReal extends Variable {
   /**
    * Stores an array of real values
    */
-  public Double[] array_;
+  public double[] array_;
 
   /**
    * Stores the length of the array
@@ -65,7 +65,7 @@ public class ArrayReal extends Variable {
   public ArrayReal(int size, Problem problem) {
     problem_ = problem;
     size_ = size;
-    array_ = new Double[size_];
+    array_ = new double[size_];
 
     for (int i = 0; i < size_; i++) {
       array_[i] = PseudoRandom.randDouble() * (problem_.getUpperLimit(i) -
@@ -82,7 +82,7 @@ public class ArrayReal extends Variable {
   private ArrayReal(ArrayReal arrayReal) {
     problem_ = arrayReal.problem_;
     size_ = arrayReal.size_;
-    array_ = new Double[size_];
+    array_ = new double[size_];
 
     System.arraycopy(arrayReal.array_, 0, array_, 0, size_);
   } // Copy Constructor
@@ -92,6 +92,23 @@ public class ArrayReal extends Variable {
     return new ArrayReal(this);
   } // deepCopy
 
+  /**
+   * Copies the values of another <code>ArrayReal</code> of the same length.
+   * @param variable The variable to copy
+   * @return true if the variable has been copied
+   */
+  @Override
+  public boolean copy(Variable variable) {
+    if (!(variable instanceof ArrayReal) ||
+        (((ArrayReal) variable).size_ != size_))
+      return false ;
+
+    ArrayReal arrayReal = (ArrayReal) variable ;
+    problem_ = arrayReal.problem_ ;
+    System.arraycopy(arrayReal.array_, 0, array_, 0, size_);
+    return true ;
+  } // copy
+
   /**
    * Returns the length of the arrayReal.
    *
@@ -101,6 +118,36 @@ public class ArrayReal extends Variable {
     return size_;
   } // getLength
 
+  /**
+   * Returns the array storing the values. Changes in the returned array are
+   * changes in the variable.
+   *
+   * @return The array
+   */
+  public double[] getArray() {
+    return array_;
+  } // getArray
+
+  /**
+   * Copies the values into an array
+   *
+   * @param values The destination array, whose length must be at least
+   *               <code>getLength()</code>
+   */
+  public void getValues(double[] values) {
+    System.arraycopy(array_, 0, values, 0, size_);
+  } // getValues
+
+  /**
+   * Copies the values of an array into the variable
+   *
+   * @param values The source array, whose length must be at least
+   *               <code>getLength()</code>
+   */
+  public void setValues(double[] values) {
+    System.arraycopy(values, 0, array_, 0, size_);
+  } // setValues
+
   /**
    * getValue
    *
@@ -74,10 +74,7 @@ public class Binary extends Variable {
   public Binary(Binary variable){
     numberOfBits_ = variable.numberOfBits_;
         
-    bits_ = new BitSet(numberOfBits_);
-    for (int i = 0; i < numberOfBits_; i++) {
-      bits_.set(i,variable.bits_.get(i));      
-    }
+    bits_ = (BitSet) variable.bits_.clone();
   } //Binary
 
   /**
@@ -99,6 +96,24 @@ public class Binary extends Variable {
     return new Binary(this);
   } //deepCopy
 
+  /**
+   * Copies the bits of another binary string of the same class and length.
+   * @param variable The variable to copy
+   * @return true if the variable has been copied
+   */
+  public boolean copy(Variable variable) {
+    if (variable.getClass() != getClass())
+      return false ;
+
+    Binary binary = (Binary) variable ;
+    if (binary.numberOfBits_ != numberOfBits_)
+      return false ;
+
+    bits_.clear() ;
+    bits_.or(binary.bits_) ;
+    return true ;
+  } // copy
+
   /**
    * Returns the length of the binary string.
    * @return The length
@@ -131,15 +146,9 @@ public class Binary extends Variable {
   * @return The hamming distance
   */
   public int hammingDistance(Binary other) {
-    int distance = 0;
-    int i = 0;
-    while (i < bits_.size()) {
-      if (bits_.get(i) != other.bits_.get(i)) {
-        distance++;
-      }
-      i++;
-    }
-    return distance;
+    BitSet differences = (BitSet) bits_.clone();
+    differences.xor(other.bits_);
+    return differences.cardinality();
   } // hammingDistance
 
  /**
@@ -114,10 +114,16 @@ public class BinaryReal extends Binary {
    */
   public void decode(){
     double value = 0.0;        
-    for (int i = 0; i < numberOfBits_; i++) {
-      if (bits_.get(i)) {
+    if (numberOfBits_ <= 53) {
+      // The string fits in the mantissa of a double, so it is gathered in a
+      // long, visiting only the bits set, and converted without loss of precision
+      long bits = 0;
+      for (int i = bits_.nextSetBit(0); (i >= 0) && (i < numberOfBits_); i = bits_.nextSetBit(i + 1))
+        bits |= 1L << i;
+      value = (double) bits;
+    } else {
+      for (int i = bits_.nextSetBit(0); (i >= 0) && (i < numberOfBits_); i = bits_.nextSetBit(i + 1))
         value += Math.pow(2.0,i);
-      }
     }
         
     value_ = value * (upperBound_ - lowerBound_) /
@@ -198,6 +204,23 @@ public class BinaryReal extends Binary {
     return new BinaryReal(this);
   } //deepCopy
 
+  /**
+   * Copies the bits, the bounds and the decoded value of another
+   * <code>BinaryReal</code> variable.
+   * @param variable The variable to copy
+   * @return true if the variable has been copied
+   */
+  public boolean copy(Variable variable) {
+    if (!super.copy(variable))
+      return false ;
+
+    BinaryReal binaryReal = (BinaryReal) variable ;
+    lowerBound_ = binaryReal.lowerBound_ ;
+    upperBound_ = binaryReal.upperBound_ ;
+    value_      = binaryReal.value_ ;
+    return true ;
+  } // copy
+
   /**
    * Returns the lower bound of the encodings.variable.
    * @return the lower bound.
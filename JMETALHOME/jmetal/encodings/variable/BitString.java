@@ -0,0 +1,200 @@
+//  BitString.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.encodings.variable;
+
+import jmetal.core.Variable;
+import jmetal.util.PseudoRandom;
+
+/**
+ * This class implements a binary string variable stored in an array of
+ * <code>long</code> words, bit i being bit (i % 64) of word (i / 64). Unlike
+ * <code>Binary</code>, the operations involving several bits (copies, hamming
+ * distance, counting, swapping ranges of bits) work on whole words. The bits
+ * of the last word beyond the length of the string are always zero.
+ */
+public class BitString extends Variable {
+
+  /**
+   * Number of bits of a word
+   */
+  private static final int WORD_SIZE = 64 ;
+
+  /**
+   * Stores the bits of the string
+   */
+  private long [] words_ ;
+
+  /**
+   * Stores the length of the binary string
+   */
+  private int numberOfBits_ ;
+
+  /**
+   * Default constructor.
+   */
+  public BitString() {
+  } // BitString
+
+  /**
+   * Constructor. The bits are set at random; the random numbers are drawn in
+   * the same way as in <code>Binary</code>.
+   * @param numberOfBits Length of the bit string
+   */
+  public BitString(int numberOfBits) {
+    numberOfBits_ = numberOfBits ;
+    words_ = new long[(numberOfBits + WORD_SIZE - 1) / WORD_SIZE] ;
+    for (int i = 0; i < numberOfBits_; i++)
+      if (PseudoRandom.randDouble() < 0.5)
+        words_[i >>> 6] |= 1L << i ;
+  } // BitString
+
+  /**
+   * Copy constructor.
+   * @param variable The BitString variable to copy.
+   */
+  public BitString(BitString variable) {
+    numberOfBits_ = variable.numberOfBits_ ;
+    words_ = variable.words_.clone() ;
+  } // BitString
+
+  /**
+   * Creates an exact copy of a BitString object
+   * @return An exact copy of the object.
+   */
+  public Variable deepCopy() {
+    return new BitString(this) ;
+  } // deepCopy
+
+  /**
+   * Copies the words of another bit string of the same length.
+   * @param variable The variable to copy
+   * @return true if the variable has been copied
+   */
+  public boolean copy(Variable variable) {
+    if (!(variable instanceof BitString) ||
+        (((BitString) variable).numberOfBits_ != numberOfBits_))
+      return false ;
+
+    System.arraycopy(((BitString) variable).words_, 0, words_, 0, words_.length) ;
+    return true ;
+  } // copy
+
+  /**
+   * Returns the length of the binary string.
+   * @return The length
+   */
+  public int getNumberOfBits() {
+    return numberOfBits_ ;
+  } // getNumberOfBits
+
+  /**
+   * Returns the array of words storing the bits. Changes in the array are
+   * changes in the string, so the bits beyond the length of the string must
+   * be kept to zero.
+   * @return The words
+   */
+  public long [] getWords() {
+    return words_ ;
+  } // getWords
+
+  /**
+   * Returns the value of the ith bit.
+   * @param bit The bit to retrieve
+   * @return The ith bit
+   */
+  public boolean getIth(int bit) {
+    return (words_[bit >>> 6] & (1L << bit)) != 0 ;
+  } // getIth
+
+  /**
+   * Sets the value of the ith bit.
+   * @param bit The bit to set
+   * @param value The value
+   */
+  public void setIth(int bit, boolean value) {
+    if (value)
+      words_[bit >>> 6] |= 1L << bit ;
+    else
+      words_[bit >>> 6] &= ~(1L << bit) ;
+  } // setIth
+
+  /**
+   * Flips the value of the ith bit.
+   * @param bit The bit to flip
+   */
+  public void flip(int bit) {
+    words_[bit >>> 6] ^= 1L << bit ;
+  } // flip
+
+  /**
+   * Returns the number of bits set to one
+   */
+  public int cardinality() {
+    int count = 0 ;
+    for (int i = 0; i < words_.length; i++)
+      count += Long.bitCount(words_[i]) ;
+    return count ;
+  } // cardinality
+
+  /**
+   * Obtain the hamming distance between two binary strings
+   * @param other The binary string to compare
+   * @return The hamming distance
+   */
+  public int hammingDistance(BitString other) {
+    int distance = 0 ;
+    for (int i = 0; i < words_.length; i++)
+      distance += Long.bitCount(words_[i] ^ other.words_[i]) ;
+    return distance ;
+  } // hammingDistance
+
+  /**
+   * Swaps the bits in positions [from, to) of this string and another one
+   * of the same length
+   * @param other The other string
+   * @param from First bit to swap
+   * @param to Position after the last bit to swap
+   */
+  public void swap(BitString other, int from, int to) {
+    if (from >= to)
+      return ;
+
+    int first = from >>> 6 ;
+    int last  = (to - 1) >>> 6 ;
+    for (int i = first; i <= last; i++) {
+      long mask = -1L ;
+      if (i == first)
+        mask &= -1L << from ;
+      if (i == last)
+        mask &= -1L >>> -to ;
+
+      long difference = (words_[i] ^ other.words_[i]) & mask ;
+      words_[i]       ^= difference ;
+      other.words_[i] ^= difference ;
+    } // for
+  } // swap
+
+  /**
+   * Returns a string with the bits, the first one being bit 0
+   */
+  public String toString() {
+    StringBuilder result = new StringBuilder(numberOfBits_) ;
+    for (int i = 0; i < numberOfBits_; i++)
+      result.append(getIth(i) ? '1' : '0') ;
+
+    return result.toString() ;
+  } // toString
+} // BitString
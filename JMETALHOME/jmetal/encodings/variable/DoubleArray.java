@@ -0,0 +1,220 @@
+//  DoubleArray.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.encodings.variable;
+
+import jmetal.core.Problem;
+import jmetal.core.Variable;
+import jmetal.util.Configuration;
+import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
+
+/**
+ * Class implementing a decision variable holding all the real values of a
+ * solution in a primitive array. The bounds are not stored in the variable;
+ * they are taken from the problem (<code>Problem.getLowerLimit()</code> and
+ * <code>Problem.getUpperLimit()</code>), so they are held once per problem.
+ */
+public class DoubleArray extends Variable {
+  /**
+   * Problem using the type
+   */
+  private Problem problem_;
+
+  /**
+   * Stores the real values
+   */
+  private double[] array_;
+
+  /**
+   * Constructor
+   */
+  public DoubleArray() {
+    problem_ = null;
+    array_ = null;
+  } // Constructor
+
+  /**
+   * Constructor. The values are initialized randomly inside the bounds of
+   * the problem
+   *
+   * @param size    Size of the array
+   * @param problem The problem
+   */
+  public DoubleArray(int size, Problem problem) {
+    problem_ = problem;
+    array_ = new double[size];
+
+    double [] lowerLimit = problem_.getLowerLimit();
+    double [] upperLimit = problem_.getUpperLimit();
+    for (int i = 0; i < size; i++) {
+      array_[i] = PseudoRandom.randDouble() * (upperLimit[i] - lowerLimit[i]) +
+              lowerLimit[i];
+    } // for
+  } // Constructor
+
+  /**
+   * Copy Constructor
+   *
+   * @param doubleArray The variable to copy
+   */
+  private DoubleArray(DoubleArray doubleArray) {
+    problem_ = doubleArray.problem_;
+    array_ = doubleArray.array_.clone();
+  } // Copy Constructor
+
+  @Override
+  public Variable deepCopy() {
+    return new DoubleArray(this);
+  } // deepCopy
+
+  /**
+   * Copies the values of another <code>DoubleArray</code> of the same length.
+   * @param variable The variable to copy
+   * @return true if the variable has been copied
+   */
+  @Override
+  public boolean copy(Variable variable) {
+    if (!(variable instanceof DoubleArray) ||
+        (((DoubleArray) variable).array_.length != array_.length))
+      return false ;
+
+    DoubleArray doubleArray = (DoubleArray) variable ;
+    problem_ = doubleArray.problem_ ;
+    System.arraycopy(doubleArray.array_, 0, array_, 0, array_.length);
+    return true ;
+  } // copy
+
+  /**
+   * Returns the backing array of the variable. Changes in the array are
+   * changes in the variable.
+   *
+   * @return The array
+   */
+  public double[] getArray() {
+    return array_;
+  } // getArray
+
+  /**
+   * Returns the length of the array.
+   *
+   * @return The length
+   */
+  public int getLength() {
+    return array_.length;
+  } // getLength
+
+  /**
+   * Copies the values into an array
+   *
+   * @param values The destination array, whose length must be at least
+   *               <code>getLength()</code>
+   */
+  public void getValues(double[] values) {
+    System.arraycopy(array_, 0, values, 0, array_.length);
+  } // getValues
+
+  /**
+   * Copies the values of an array into the variable
+   *
+   * @param values The source array, whose length must be at least
+   *               <code>getLength()</code>
+   */
+  public void setValues(double[] values) {
+    System.arraycopy(values, 0, array_, 0, array_.length);
+  } // setValues
+
+  /**
+   * Returns the problem the variable belongs to
+   */
+  public Problem getProblem() {
+    return problem_;
+  } // getProblem
+
+  /**
+   * getValue
+   *
+   * @param index Index of value to be returned
+   * @return the value in position index
+   */
+  public double getValue(int index) throws JMException {
+    if ((index >= 0) && (index < array_.length))
+      return array_[index];
+    else {
+      Configuration.logger_.severe(jmetal.encodings.variable.DoubleArray.class + ".getValue(): index value (" + index + ") invalid");
+      throw new JMException(jmetal.encodings.variable.DoubleArray.class + ".getValue: index value (" + index + ") invalid");
+    } // if
+  } // getValue
+
+  /**
+   * setValue
+   *
+   * @param index Index of value to be set
+   * @param value The value to be set in position index
+   */
+  public void setValue(int index, double value) throws JMException {
+    if ((index >= 0) && (index < array_.length))
+      array_[index] = value;
+    else {
+      Configuration.logger_.severe(jmetal.encodings.variable.DoubleArray.class + ".setValue(): index value (" + index + ") invalid");
+      throw new JMException(jmetal.encodings.variable.DoubleArray.class + ".setValue: index value (" + index + ") invalid");
+    } // else
+  } // setValue
+
+  /**
+   * Get the lower bound of a value
+   *
+   * @param index The index of the value
+   * @return the lower bound
+   */
+  public double getLowerBound(int index) throws JMException {
+    if ((index >= 0) && (index < array_.length))
+      return problem_.getLowerLimit(index);
+    else {
+      Configuration.logger_.severe(jmetal.encodings.variable.DoubleArray.class + ".getLowerBound(): index value (" + index + ") invalid");
+      throw new JMException(jmetal.encodings.variable.DoubleArray.class + ".getLowerBound: index value (" + index + ") invalid");
+    } // else
+  } // getLowerBound
+
+  /**
+   * Get the upper bound of a value
+   *
+   * @param index The index of the value
+   * @return the upper bound
+   */
+  public double getUpperBound(int index) throws JMException {
+    if ((index >= 0) && (index < array_.length))
+      return problem_.getUpperLimit(index);
+    else {
+      Configuration.logger_.severe(jmetal.encodings.variable.DoubleArray.class + ".getUpperBound(): index value (" + index + ") invalid");
+      throw new JMException(jmetal.encodings.variable.DoubleArray.class + ".getUpperBound: index value (" + index + ") invalid");
+    } // else
+  } // getUpperBound
+
+  /**
+   * Returns a string representing the object
+   *
+   * @return The string
+   */
+  public String toString() {
+    StringBuilder string = new StringBuilder();
+    for (int i = 0; i < array_.length; i++) {
+      if (i > 0)
+        string.append(' ');
+      string.append(array_[i]);
+    } // for
+    return string.toString();
+  } // toString
+} // DoubleArray
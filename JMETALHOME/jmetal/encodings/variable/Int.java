@@ -109,6 +109,22 @@ public class Int extends Variable {
 		}
 	} // deepCopy
 
+	/**
+	 * Copies the value and the bounds of another <code>Int</code> variable.
+	 * @param variable The variable to copy
+	 * @return true if the variable has been copied
+	 */
+	public boolean copy(Variable variable) {
+		if (variable.getClass() != Int.class)
+			return false ;
+
+		Int other = (Int) variable ;
+		lowerBound_ = other.lowerBound_ ;
+		upperBound_ = other.upperBound_ ;
+		value_      = other.value_ ;
+		return true ;
+	} // copy
+
 	/**
 	 * Returns the lower bound of the encodings.variable.
 	 * @return the lower bound.
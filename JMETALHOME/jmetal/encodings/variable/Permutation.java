@@ -125,6 +125,20 @@ public class Permutation extends Variable {
     return new Permutation(this);
   } //deepCopy
 
+  /**
+   * Copies another permutation of the same length.
+   * @param variable The variable to copy
+   * @return true if the variable has been copied
+   */
+  public boolean copy(Variable variable) {
+    if (!(variable instanceof Permutation) ||
+        (((Permutation) variable).size_ != size_))
+      return false ;
+
+    System.arraycopy(((Permutation) variable).vector_, 0, vector_, 0, size_);
+    return true ;
+  } // copy
+
   /**
    * Returns the length of the permutation.
    * @return The length
@@ -117,6 +117,22 @@ public class Real extends Variable{
     }
   } // deepCopy
 
+  /**
+   * Copies the value and the bounds of another <code>Real</code> variable.
+   * @param variable The variable to copy
+   * @return true if the variable has been copied
+   */
+  public boolean copy(Variable variable) {
+    if (variable.getClass() != Real.class)
+      return false ;
+
+    Real real = (Real) variable ;
+    lowerBound_ = real.lowerBound_ ;
+    upperBound_ = real.upperBound_ ;
+    value_      = real.value_ ;
+    return true ;
+  } // copy
+
   
   /**
    * Gets the lower bound of the encodings.variable.
@@ -24,21 +24,28 @@ package jmetal.experiments;
 
 import jmetal.core.Algorithm;
 import jmetal.experiments.util.RBoxplot;
+import jmetal.experiments.util.QualityIndicatorTable;
 import jmetal.experiments.util.RWilcoxon;
 import jmetal.experiments.util.RunExperiment;
 import jmetal.experiments.util.Statistics;
 import jmetal.qualityIndicator.Epsilon;
+import jmetal.qualityIndicator.GenerationalDistance;
 import jmetal.qualityIndicator.Hypervolume;
 import jmetal.qualityIndicator.InvertedGenerationalDistance;
 import jmetal.qualityIndicator.Spread;
+import jmetal.qualityIndicator.util.FrontTree;
+import jmetal.qualityIndicator.util.LexicoGraphicalComparator;
 import jmetal.qualityIndicator.util.MetricsUtil;
 import jmetal.util.JMException;
 import jmetal.util.NonDominatedSolutionList;
+import jmetal.util.SharedPool;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
 
 /**
  * Abstract class representing jMetal experiments
@@ -200,7 +207,7 @@ public abstract class Experiment {
   public void runCompleteExperiment(int numberOfThreads) throws JMException, IOException {
     this.initExperiment();
     this.runExperiment(numberOfThreads);
-    this.generateQualityIndicators();
+    this.generateQualityIndicators(numberOfThreads);
   }
 
   private void checkExperimentDirectory() {
@@ -265,99 +272,277 @@ public abstract class Experiment {
   } // checkParetoFronts
 
   /**
-   * Generate the Quality Indicators
+   * Generate the Quality Indicators, using as many threads as available
+   * processors
    */
   public void generateQualityIndicators() {
+    generateQualityIndicators(Runtime.getRuntime().availableProcessors());
+  } // generateQualityIndicators
+
+  /**
+   * Generate the Quality Indicators. The front of each algorithm, problem and
+   * run is evaluated in a task, and the tasks are run in parallel. The
+   * reference front of each problem is read and preprocessed (normalized
+   * and, for GD, indexed in a k-d tree) only once, for all the algorithms
+   * and runs. The values are stored in a single table (see
+   * <code>QualityIndicatorTable</code>), in the file QualityIndicators of
+   * the experiment directory, as they are computed; the values of the runs
+   * whose front and reference front have not changed since they were stored
+   * are taken from it. Finally, the file of each indicator, algorithm and
+   * problem is written, with the value of each run.
+   *
+   * @param numberOfThreads Number of threads computing the indicators
+   */
+  public void generateQualityIndicators(int numberOfThreads) {
 
     checkParetoFronts();
 
     if (indicatorList_.length > 0) {
 
-      for (int algorithmIndex = 0; algorithmIndex < algorithmNameList_.length; algorithmIndex++) {
+      ReferenceFront[] referenceFronts = new ReferenceFront[problemList_.length];
+      for (int problemIndex = 0; problemIndex < problemList_.length; problemIndex++) {
+        referenceFronts[problemIndex] = new ReferenceFront(frontPath_[problemIndex]);
+      } // for
 
-        String algorithmDirectory;
-        algorithmDirectory = experimentBaseDirectory_ + "/data/" + algorithmNameList_[algorithmIndex] + "/";
+      QualityIndicatorTable table;
+      try {
+        table = new QualityIndicatorTable(experimentBaseDirectory_ + "/QualityIndicators");
+      } catch (IOException ex) {
+        Logger.getLogger(Experiment.class.getName()).log(Level.SEVERE, null, ex);
+        return;
+      }
 
-        for (int problemIndex = 0; problemIndex < problemList_.length; problemIndex++) {
+      // values[algorithm][problem][run][indicator], null if not computed
+      Double[][][][] values =
+              new Double[algorithmNameList_.length][problemList_.length][independentRuns_][];
 
-          String problemDirectory = algorithmDirectory + problemList_[problemIndex];
-          String paretoFrontPath = frontPath_[problemIndex];
+      List<Callable<Object>> tasks = new ArrayList<Callable<Object>>();
+      for (int algorithmIndex = 0; algorithmIndex < algorithmNameList_.length; algorithmIndex++) {
+        for (int problemIndex = 0; problemIndex < problemList_.length; problemIndex++) {
+          for (int numRun = 0; numRun < independentRuns_; numRun++) {
+            values[algorithmIndex][problemIndex][numRun] = new Double[indicatorList_.length];
+            tasks.add(Executors.callable(new QualityIndicatorTask(algorithmIndex,
+                    problemIndex,
+                    numRun,
+                    referenceFronts[problemIndex],
+                    table,
+                    values[algorithmIndex][problemIndex][numRun],
+                    numberOfThreads > 1)));
+          } // for
+        } // for
+      } // for
 
-          for (String anIndicatorList_ : indicatorList_) {
-            System.out.println("Experiment - Quality indicator: " + anIndicatorList_);
+      ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+      try {
+        for (Future<Object> result : executor.invokeAll(tasks)) {
+          try {
+            result.get();
+          } catch (ExecutionException ex) {
+            Logger.getLogger(Experiment.class.getName()).log(Level.SEVERE, null, ex);
+          }
+        } // for
+      } catch (InterruptedException ex) {
+        Logger.getLogger(Experiment.class.getName()).log(Level.SEVERE, null, ex);
+      } finally {
+        executor.shutdown();
+        try {
+          table.close();
+        } catch (IOException ex) {
+          Logger.getLogger(Experiment.class.getName()).log(Level.SEVERE, null, ex);
+        }
+      }
 
-            resetFile(problemDirectory + "/" + anIndicatorList_);
+      for (int algorithmIndex = 0; algorithmIndex < algorithmNameList_.length; algorithmIndex++) {
 
-            for (int numRun = 0; numRun < independentRuns_; numRun++) {
+        String algorithmDirectory;
+        algorithmDirectory = experimentBaseDirectory_ + "/data/" + algorithmNameList_[algorithmIndex] + "/";
 
-              String outputParetoFrontFilePath;
-              outputParetoFrontFilePath = problemDirectory + "/FUN." + numRun;
-              String solutionFrontFile = outputParetoFrontFilePath;
-              String qualityIndicatorFile = problemDirectory;
-              double value = 0;
+        for (int problemIndex = 0; problemIndex < problemList_.length; problemIndex++) {
 
-              double[][] trueFront =  new Hypervolume().utils_.readFront(paretoFrontPath);
+          String problemDirectory = algorithmDirectory + problemList_[problemIndex];
 
-              if (anIndicatorList_.equals("HV")) {
+          for (int indicatorIndex = 0; indicatorIndex < indicatorList_.length; indicatorIndex++) {
+            System.out.println("Experiment - Quality indicator: " + indicatorList_[indicatorIndex]);
+
+            String qualityIndicatorFile = problemDirectory + "/" + indicatorList_[indicatorIndex];
+            resetFile(qualityIndicatorFile);
+
+            if (isQualityIndicator(indicatorList_[indicatorIndex])) {
+              try {
+                FileWriter os = new FileWriter(qualityIndicatorFile, true);
+                for (int numRun = 0; numRun < independentRuns_; numRun++) {
+                  Double value = values[algorithmIndex][problemIndex][numRun][indicatorIndex];
+                  if (value != null) {
+                    os.write("" + value + "\n");
+                  } // if
+                } // for
+                os.close();
+              } catch (IOException ex) {
+                Logger.getLogger(Experiment.class.getName()).log(Level.SEVERE, null, ex);
+              }
+            } // if
+          } // for
+        } // for
+      } // for
+    } // if
+  } // generateQualityIndicators
 
-                Hypervolume indicators = new Hypervolume();
-                double[][] solutionFront =
-                        indicators.utils_.readFront(solutionFrontFile);
-                //double[][] trueFront =
-                //        indicators.utils_.readFront(paretoFrontPath);
-                value = indicators.hypervolume(solutionFront, trueFront, trueFront[0].length);
+  /**
+   * Returns true if the indicator is one of those computed by
+   * generateQualityIndicators
+   */
+  private static boolean isQualityIndicator(String indicator) {
+    return indicator.equals("HV") || indicator.equals("SPREAD") ||
+            indicator.equals("IGD") || indicator.equals("GD") ||
+            indicator.equals("EPSILON");
+  } // isQualityIndicator
 
-                qualityIndicatorFile = qualityIndicatorFile + "/HV";
+  /**
+   * Reference front of a problem, preprocessed to compute the quality
+   * indicators of all the fronts of the problem
+   */
+  private static class ReferenceFront {
+    final double[][] front_;
+    final double[] maximumValues_;
+    final double[] minimumValues_;
+    final double[][] normalizedFront_;
+    final double[][] sortedNormalizedFront_;
+    final String hash_;
+    private FrontTree tree_;
+
+    ReferenceFront(String path) {
+      MetricsUtil utils = new MetricsUtil();
+      front_ = utils.readFront(path);
+      int numberOfObjectives = front_[0].length;
+      maximumValues_ = utils.getMaximumValues(front_, numberOfObjectives);
+      minimumValues_ = utils.getMinimumValues(front_, numberOfObjectives);
+      normalizedFront_ = utils.getNormalizedFront(front_, maximumValues_, minimumValues_);
+      sortedNormalizedFront_ = normalizedFront_.clone();
+      Arrays.sort(sortedNormalizedFront_, new LexicoGraphicalComparator());
+
+      // The hash of the file identifies the reference front, which may be
+      // generated again (and so modified) in each experiment
+      CRC32 crc = new CRC32();
+      try {
+        InputStream in = new FileInputStream(path);
+        byte[] buffer = new byte[8192];
+        for (int n = in.read(buffer); n >= 0; n = in.read(buffer)) {
+          crc.update(buffer, 0, n);
+        } // for
+        in.close();
+      } catch (IOException ex) {
+        Logger.getLogger(Experiment.class.getName()).log(Level.SEVERE, null, ex);
+      }
+      hash_ = Long.toHexString(crc.getValue());
+    } // ReferenceFront
+
+    /**
+     * Returns the k-d tree of the normalized front, built in the first call
+     */
+    synchronized FrontTree getTree() {
+      if (tree_ == null) {
+        tree_ = new FrontTree(normalizedFront_);
+      } // if
+      return tree_;
+    } // getTree
+  } // ReferenceFront
 
-              }
-              if (anIndicatorList_.equals("SPREAD")) {
-                Spread indicators = new Spread();
-                double[][] solutionFront =
-                        indicators.utils_.readFront(solutionFrontFile);
-                //double[][] trueFront =
-                //        indicators.utils_.readFront(paretoFrontPath);
-                value = indicators.spread(solutionFront, trueFront, trueFront[0].length);
-
-                qualityIndicatorFile = qualityIndicatorFile + "/SPREAD";
-              }
-              if (anIndicatorList_.equals("IGD")) {
-                InvertedGenerationalDistance indicators = new InvertedGenerationalDistance();
-                double[][] solutionFront =
-                        indicators.utils_.readFront(solutionFrontFile);
-                //double[][] trueFront =
-                //        indicators.utils_.readFront(paretoFrontPath);
-                value = indicators.invertedGenerationalDistance(solutionFront, trueFront, trueFront[0].length);
-
-                qualityIndicatorFile = qualityIndicatorFile + "/IGD";
-              }
-              if (anIndicatorList_.equals("EPSILON")) {
-                Epsilon indicators = new Epsilon();
-                double[][] solutionFront =
-                        indicators.utils_.readFront(solutionFrontFile);
-                //double[][] trueFront =
-                //        indicators.utils_.readFront(paretoFrontPath);
-                value = indicators.epsilon(solutionFront, trueFront, trueFront[0].length);
-
-                qualityIndicatorFile = qualityIndicatorFile + "/EPSILON";
-              }
+  /**
+   * Task computing the quality indicators of the front of an algorithm,
+   * problem and run, unless they are already in the table
+   */
+  private class QualityIndicatorTask implements Runnable {
+    private final int algorithmIndex_;
+    private final int problemIndex_;
+    private final int run_;
+    private final ReferenceFront referenceFront_;
+    private final QualityIndicatorTable table_;
+    private final Double[] values_;
+    private final boolean sequential_;
+
+    QualityIndicatorTask(int algorithmIndex, int problemIndex, int run,
+                         ReferenceFront referenceFront,
+                         QualityIndicatorTable table, Double[] values,
+                         boolean sequential) {
+      algorithmIndex_ = algorithmIndex;
+      problemIndex_ = problemIndex;
+      run_ = run;
+      referenceFront_ = referenceFront;
+      table_ = table;
+      values_ = values;
+      sequential_ = sequential;
+    } // QualityIndicatorTask
+
+    public void run() {
+      // When the tasks run in several threads, the indicators do not use the
+      // shared pool
+      SharedPool.setSequential(sequential_);
+      String algorithm = algorithmNameList_[algorithmIndex_];
+      String problem = problemList_[problemIndex_];
+      File solutionFrontFile = new File(experimentBaseDirectory_ + "/data/" + algorithm + "/" +
+              problem + "/FUN." + run_);
+      if (!solutionFrontFile.exists()) {
+        Logger.getLogger(Experiment.class.getName()).log(Level.SEVERE,
+                "Experiment: front not found: " + solutionFrontFile);
+        return;
+      } // if
 
+      String stamp = solutionFrontFile.lastModified() + ":" + solutionFrontFile.length() +
+              ":" + referenceFront_.hash_;
+      double[][] solutionFront = null;
+      for (int indicatorIndex = 0; indicatorIndex < indicatorList_.length; indicatorIndex++) {
+        String indicator = indicatorList_[indicatorIndex];
+        if (!isQualityIndicator(indicator)) {
+          continue;
+        } // if
 
-              if (!qualityIndicatorFile.equals(problemDirectory)) {
-                FileWriter os;
-                try {
-                  os = new FileWriter(qualityIndicatorFile, true);
-                  os.write("" + value + "\n");
-                  os.close();
-                } catch (IOException ex) {
-                  Logger.getLogger(Experiment.class.getName()).log(Level.SEVERE, null, ex);
-                }
-              } // if
-            } // for
-          } // for
-        } // for
+        values_[indicatorIndex] = table_.getValue(algorithm, problem, run_, indicator, stamp);
+        if (values_[indicatorIndex] == null) {
+          if (solutionFront == null) {
+            solutionFront = new MetricsUtil().readFront(solutionFrontFile.getPath());
+          } // if
+          double value = computeQualityIndicator(indicator, solutionFront);
+          values_[indicatorIndex] = value;
+          try {
+            table_.addValue(algorithm, problem, run_, indicator, stamp, value);
+          } catch (IOException ex) {
+            Logger.getLogger(Experiment.class.getName()).log(Level.SEVERE, null, ex);
+          }
+        } // if
       } // for
-    } // if
-  }
+    } // run
+
+    private double computeQualityIndicator(String indicator, double[][] solutionFront) {
+      ReferenceFront reference = referenceFront_;
+      double value = 0;
+      if (indicator.equals("HV")) {
+        value = new Hypervolume().hypervolume(solutionFront,
+                reference.maximumValues_,
+                reference.minimumValues_,
+                reference.front_[0].length);
+      } else if (indicator.equals("SPREAD")) {
+        value = new Spread().spread(solutionFront,
+                reference.sortedNormalizedFront_,
+                reference.maximumValues_,
+                reference.minimumValues_);
+      } else if (indicator.equals("IGD")) {
+        value = new InvertedGenerationalDistance().invertedGenerationalDistance(solutionFront,
+                reference.normalizedFront_,
+                reference.maximumValues_,
+                reference.minimumValues_);
+      } else if (indicator.equals("GD")) {
+        value = new GenerationalDistance().generationalDistance(solutionFront,
+                reference.getTree(),
+                reference.maximumValues_,
+                reference.minimumValues_);
+      } else if (indicator.equals("EPSILON")) {
+        value = new Epsilon().epsilon(solutionFront,
+                reference.front_,
+                reference.front_[0].length);
+      } // if
+      return value;
+    } // computeQualityIndicator
+  } // QualityIndicatorTask
 
   /**
    * @param file
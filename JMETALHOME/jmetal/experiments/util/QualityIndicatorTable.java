@@ -0,0 +1,161 @@
+//  QualityIndicatorTable.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.experiments.util;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringTokenizer;
+
+/**
+ * This class stores the quality indicator values of an experiment in a
+ * single text file, one line per algorithm, problem, run and indicator:
+ *
+ *   algorithm problem run indicator value stamp
+ *
+ * The stamp identifies the files the value was computed from (for instance,
+ * the modification time and length of the front of the run, and a hash of
+ * the reference front), so a value is only computed again when they change.
+ * Values are appended to the file as soon as they are added, so they are
+ * kept if the experiment is interrupted; when the table is closed, the file
+ * is written again with only the last value of each line.
+ */
+public class QualityIndicatorTable {
+
+  /**
+   * File of the table
+   */
+  private final File file_ ;
+
+  /**
+   * Value and stamp of each algorithm, problem, run and indicator
+   */
+  private final Map<String, String[]> entries_ ;
+
+  /**
+   * Writer appending the values to the file
+   */
+  private Writer writer_ ;
+
+  /**
+   * Constructor. Reads the values already in the file, if it exists.
+   * @param path The path of the file
+   * @throws IOException
+   */
+  public QualityIndicatorTable(String path) throws IOException {
+    file_    = new File(path) ;
+    entries_ = new LinkedHashMap<String, String[]>() ;
+
+    if (file_.exists()) {
+      BufferedReader reader = new BufferedReader(new FileReader(file_)) ;
+      String line = reader.readLine() ;
+      while (line != null) {
+        StringTokenizer st = new StringTokenizer(line) ;
+        if ((st.countTokens() == 6) && !line.startsWith("#")) {
+          String key = st.nextToken() + " " + st.nextToken() + " " +
+                       st.nextToken() + " " + st.nextToken() ;
+          String value = st.nextToken() ;
+          String stamp = st.nextToken() ;
+          entries_.remove(key) ;
+          entries_.put(key, new String[] {value, stamp}) ;
+        } // if
+        line = reader.readLine() ;
+      } // while
+      reader.close() ;
+    } // if
+  } // QualityIndicatorTable
+
+  /**
+   * Returns the value of an indicator, or null if it is not in the table or
+   * it was computed from other files
+   * @param algorithm The name of the algorithm
+   * @param problem The name of the problem
+   * @param run The run
+   * @param indicator The name of the indicator
+   * @param stamp The stamp of the files of the run
+   */
+  public synchronized Double getValue(String algorithm, String problem, int run,
+                                      String indicator, String stamp) {
+    String [] entry = entries_.get(key(algorithm, problem, run, indicator)) ;
+    if ((entry == null) || !entry[1].equals(stamp))
+      return null ;
+    return Double.valueOf(entry[0]) ;
+  } // getValue
+
+  /**
+   * Adds the value of an indicator, appending it to the file
+   * @param algorithm The name of the algorithm
+   * @param problem The name of the problem
+   * @param run The run
+   * @param indicator The name of the indicator
+   * @param stamp The stamp of the files of the run
+   * @param value The value
+   * @throws IOException
+   */
+  public synchronized void addValue(String algorithm, String problem, int run,
+                                    String indicator, String stamp,
+                                    double value) throws IOException {
+    String key = key(algorithm, problem, run, indicator) ;
+    String [] entry = new String[] {"" + value, stamp} ;
+    entries_.remove(key) ;
+    entries_.put(key, entry) ;
+
+    if (writer_ == null) {
+      file_.getAbsoluteFile().getParentFile().mkdirs() ;
+      writer_ = new BufferedWriter(new FileWriter(file_, true)) ;
+    } // if
+    writer_.write(line(key, entry)) ;
+    writer_.flush() ;
+  } // addValue
+
+  /**
+   * Closes the table, writing the file again with the last value of each
+   * algorithm, problem, run and indicator
+   * @throws IOException
+   */
+  public synchronized void close() throws IOException {
+    if (writer_ != null) {
+      writer_.close() ;
+      writer_ = null ;
+    } // if
+
+    File temporary = new File(file_.getPath() + ".tmp") ;
+    Writer writer = new BufferedWriter(new FileWriter(temporary)) ;
+    writer.write("# algorithm problem run indicator value stamp\n") ;
+    for (Map.Entry<String, String[]> entry : entries_.entrySet())
+      writer.write(line(entry.getKey(), entry.getValue())) ;
+    writer.close() ;
+
+    // The original file is replaced in a single step, so it is never lost
+    try {
+      Files.move(temporary.toPath(), file_.toPath(),
+                 StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE) ;
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temporary.toPath(), file_.toPath(), StandardCopyOption.REPLACE_EXISTING) ;
+    } // catch
+  } // close
+
+  private static String key(String algorithm, String problem, int run, String indicator) {
+    return algorithm + " " + problem + " " + run + " " + indicator ;
+  } // key
+
+  private static String line(String key, String [] entry) {
+    return key + " " + entry[0] + " " + entry[1] + "\n" ;
+  } // line
+} // QualityIndicatorTable
@@ -28,6 +28,7 @@ import jmetal.core.SolutionSet;
 import jmetal.experiments.Experiment;
 import jmetal.experiments.Settings;
 import jmetal.util.JMException;
+import jmetal.util.SharedPool;
 
 import java.io.File;
 import java.util.HashMap;
@@ -85,6 +86,9 @@ public class RunExperiment extends Thread {
 	public void run() {
 		Algorithm[] algorithm; // jMetal algorithms to be executed
 
+		// The threads of the experiment already use all the processors
+		SharedPool.setSequential(numberOfThreads_ > 1) ;
+
 		String experimentName = (String) map_.get("experimentName");
 		experimentBaseDirectory_ = (String) map_.get("experimentDirectory");
 		algorithmNameList_ = (String[]) map_.get("algorithmNameList");
@@ -22,7 +22,7 @@
 package jmetal.metaheuristics.mocell;
 
 import jmetal.core.*;
-import jmetal.util.Distance;
+import jmetal.util.CrowdingDistance;
 import jmetal.util.JMException;
 import jmetal.util.Neighborhood;
 import jmetal.util.Ranking;
@@ -58,7 +58,7 @@ public class MOCell extends Algorithm{
     Neighborhood neighborhood;
     Comparator dominance = new DominanceComparator();  
     Comparator crowdingComparator = new CrowdingComparator();
-    Distance distance = new Distance();
+    CrowdingDistance distance = new CrowdingDistance();
 
     // Read the parameters
     populationSize    = ((Integer)getInputParameter("populationSize")).intValue();
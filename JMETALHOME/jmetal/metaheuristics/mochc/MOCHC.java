@@ -23,6 +23,7 @@ package jmetal.metaheuristics.mochc;
 
 import jmetal.core.*;
 import jmetal.encodings.variable.Binary;
+import jmetal.encodings.variable.BitString;
 import jmetal.util.JMException;
 import jmetal.util.archive.CrowdingArchive;
 import jmetal.util.comparators.CrowdingComparator;
@@ -81,9 +82,14 @@ public class MOCHC extends Algorithm {
   public int hammingDistance(Solution solutionOne, Solution solutionTwo) {
     int distance = 0;
     for (int i = 0; i < problem_.getNumberOfVariables(); i++) {
-      distance += 
-        ((Binary)solutionOne.getDecisionVariables()[i]).
-        hammingDistance((Binary)solutionTwo.getDecisionVariables()[i]);
+      if (solutionOne.getDecisionVariables()[i] instanceof BitString)
+        distance +=
+          ((BitString)solutionOne.getDecisionVariables()[i]).
+          hammingDistance((BitString)solutionTwo.getDecisionVariables()[i]);
+      else
+        distance += 
+          ((Binary)solutionOne.getDecisionVariables()[i]).
+          hammingDistance((Binary)solutionTwo.getDecisionVariables()[i]);
     }
     
     return distance;
@@ -140,7 +146,10 @@ public class MOCHC extends Algorithm {
     Solution aux = new Solution(problem_);
     int size = 0;
     for (int var = 0; var < problem_.getNumberOfVariables(); var++) {
-      size += ((Binary)aux.getDecisionVariables()[var]).getNumberOfBits();
+      if (aux.getDecisionVariables()[var] instanceof BitString)
+        size += ((BitString)aux.getDecisionVariables()[var]).getNumberOfBits();
+      else
+        size += ((Binary)aux.getDecisionVariables()[var]).getNumberOfBits();
     }
     minimumDistance = (int) Math.floor(initialConvergenceCount * size);
 
@@ -22,10 +22,12 @@
 package jmetal.metaheuristics.nsgaII;
 
 import jmetal.core.*;
+import jmetal.operators.crossover.Crossover;
 import jmetal.qualityIndicator.QualityIndicator;
-import jmetal.util.Distance;
+import jmetal.util.CrowdingDistance;
 import jmetal.util.JMException;
 import jmetal.util.Ranking;
+import jmetal.util.SolutionPool;
 import jmetal.util.comparators.CrowdingComparator;
 
 /** 
@@ -36,6 +38,11 @@ import jmetal.util.comparators.CrowdingComparator;
  *     A.J. Nebro, J.J. Durillo, C.A. Coello Coello, F. Luna, E. Alba 
  *     "A Study of Convergence Speed in Multi-Objective Metaheuristics." 
  *     To be presented in: PPSN'08. Dortmund. September 2008.
+ *
+ *  If the input parameter "recycleSolutions" is set to true, the solutions
+ *  discarded in the replacement are given back to a <code>SolutionPool</code>,
+ *  from which the crossover operator (if it is a <code>Crossover</code>)
+ *  takes the solutions of the next offspring.
  */
 
 public class NSGAII extends Algorithm {
@@ -70,7 +77,8 @@ public class NSGAII extends Algorithm {
     Operator crossoverOperator;
     Operator selectionOperator;
 
-    Distance distance = new Distance();
+    CrowdingDistance distance = new CrowdingDistance();
+    SolutionPool solutionPool = null;
 
     //Read the parameters
     populationSize = ((Integer) getInputParameter("populationSize")).intValue();
@@ -79,6 +87,8 @@ public class NSGAII extends Algorithm {
 
     //Initialize the variables
     population = new SolutionSet(populationSize);
+    offspringPopulation = new SolutionSet(populationSize);
+    union = new SolutionSet(2 * populationSize);
     evaluations = 0;
 
     requiredEvaluations = 0;
@@ -88,6 +98,13 @@ public class NSGAII extends Algorithm {
     crossoverOperator = operators_.get("crossover");
     selectionOperator = operators_.get("selection");
 
+    if ((getInputParameter("recycleSolutions") != null) &&
+        ((Boolean) getInputParameter("recycleSolutions")).booleanValue() &&
+        (crossoverOperator instanceof Crossover)) {
+      solutionPool = new SolutionPool(populationSize);
+      ((Crossover) crossoverOperator).setSolutionPool(solutionPool);
+    } // if
+
     // Create the initial solutionSet
     Solution newSolution;
     for (int i = 0; i < populationSize; i++) {
@@ -102,7 +119,7 @@ public class NSGAII extends Algorithm {
     while (evaluations < maxEvaluations) {
     System.out.println(evaluations);
       // Create the offSpring solutionSet      
-      offspringPopulation = new SolutionSet(populationSize);
+      offspringPopulation.clear();
       Solution[] parents = new Solution[2];
       for (int i = 0; i < (populationSize / 2); i++) {
         if (evaluations < maxEvaluations) {
@@ -125,7 +142,13 @@ public class NSGAII extends Algorithm {
       System.out.println("NSGAII: " + evaluations);
       
       // Create the solutionSet union of solutionSet and offSpring
-      union = ((SolutionSet) population).union(offspringPopulation);
+      union.clear();
+      for (int i = 0; i < population.size(); i++) {
+        union.add(population.get(i));
+      } // for
+      for (int i = 0; i < offspringPopulation.size(); i++) {
+        union.add(offspringPopulation.get(i));
+      } // for
 
       // Ranking the union
       Ranking ranking = new Ranking(union);
@@ -166,6 +189,21 @@ public class NSGAII extends Algorithm {
         remain = 0;
       } // if                               
 
+      // Give the solutions not selected back to the pool
+      if (solutionPool != null) {
+        for (int i = 0; i < population.size(); i++) {
+          population.get(i).marked();
+        } // for
+        for (int i = 0; i < union.size(); i++) {
+          if (!union.get(i).isMarked()) {
+            solutionPool.release(union.get(i));
+          } // if
+        } // for
+        for (int i = 0; i < population.size(); i++) {
+          population.get(i).unMarked();
+        } // for
+      } // if
+
       // This piece of code prints the feasible solutions of the algorithm every
       // 100 evaluations. It is meant to do convergence studies
       /*if (evaluations%100==0) {
@@ -22,12 +22,15 @@
 package jmetal.metaheuristics.nsgaII;
 
 import jmetal.core.*;
+import jmetal.qualityIndicator.HypervolumeTracker;
 import jmetal.qualityIndicator.QualityIndicator;
 import jmetal.util.Distance;
 import jmetal.util.JMException;
 import jmetal.util.Ranking;
 import jmetal.util.comparators.CrowdingComparator;
 
+import java.io.IOException;
+
 /** 
  *  Implementation of NSGA-II.
  *  This implementation of NSGA-II makes use of a QualityIndicator object
@@ -36,6 +39,13 @@ import jmetal.util.comparators.CrowdingComparator;
  *     A.J. Nebro, J.J. Durillo, C.A. Coello Coello, F. Luna, E. Alba 
  *     "A Study of Convergence Speed in Multi-Objective Metaheuristics." 
  *     To be presented in: PPSN'08. Dortmund. September 2008.
+ *  Every 100 evaluations, the number of evaluations, the elapsed time and the
+ *  hypervolume of the non-dominated solutions evaluated so far are recorded
+ *  in a HypervolumeTracker (the input parameter "hypervolumeTracker" or, if
+ *  it is not given, one created from the "indicators" or, without them, with
+ *  a reference point estimated from the initial population), which is
+ *  written to a file at the end and returned as the output parameter
+ *  "hypervolumeTracker".
  */
 
 public class NSGAII_PeriodicFronts extends Algorithm {
@@ -58,12 +68,8 @@ public class NSGAII_PeriodicFronts extends Algorithm {
     int maxEvaluations;
     int evaluations;
     
-    //parameters for measuring the elapsed time
-    long initTime;
-	long currentTime;
-	long elapsedTime = 0;
-
     QualityIndicator indicators; // QualityIndicator object
+    HypervolumeTracker tracker; // Hypervolume of the solutions evaluated
     int requiredEvaluations; // Use in the example of use of the
     // indicators object (see below)
 
@@ -81,10 +87,12 @@ public class NSGAII_PeriodicFronts extends Algorithm {
     populationSize = ((Integer) getInputParameter("populationSize")).intValue();
     maxEvaluations = ((Integer) getInputParameter("maxEvaluations")).intValue();
     indicators = (QualityIndicator) getInputParameter("indicators");
+    tracker = (HypervolumeTracker) getInputParameter("hypervolumeTracker");
+    if ((tracker == null) && (indicators != null))
+      tracker = new HypervolumeTracker(indicators);
 
     //Initialize the variables
     population = new SolutionSet(populationSize);
-	SolutionSet ranked = new SolutionSet(population.size());
     evaluations = 0;
 
     requiredEvaluations = 0;
@@ -98,23 +106,32 @@ public class NSGAII_PeriodicFronts extends Algorithm {
     Solution newSolution;
     
     //Start measuring the time
-  	initTime = System.currentTimeMillis();
-  	
+    long initTime = System.nanoTime();
+    if (tracker != null)
+      tracker.start(initTime);
+
     for (int i = 0; i < populationSize; i++) {
       newSolution = new Solution(problem_);
       problem_.evaluate(newSolution);
       problem_.evaluateConstraints(newSolution);
       evaluations++;
       population.add(newSolution);
-	  if(evaluations%100 == 0) {
-		currentTime = System.currentTimeMillis();  
-		elapsedTime = currentTime - initTime;
-		  
-		Ranking rank = new Ranking(population);		
-		ranked = rank.getSubfront(0);
-		ranked.printObjectivesToFile("NSGAII_Problem_" + populationSize + "_" + maxEvaluations + "_" + evaluations + "_" + elapsedTime + "ms");
-	  }
+      if (tracker != null) {
+        tracker.add(newSolution);
+        if (evaluations % 100 == 0)
+          tracker.record(evaluations);
+      } // if
     } //for   
+
+    // Without a tracker nor indicators, the reference point of the
+    // hypervolume is estimated from the initial population
+    if (tracker == null) {
+      tracker = new HypervolumeTracker(problem_.getNumberOfObjectives(),
+          HypervolumeTracker.estimateReferencePoint(population));
+      tracker.start(initTime);
+      tracker.add(population);
+      tracker.record(evaluations);
+    } // if
     
     // Generations 
     while (evaluations < maxEvaluations) {
@@ -137,14 +154,10 @@ public class NSGAII_PeriodicFronts extends Algorithm {
           offspringPopulation.add(offSpring[0]);
           offspringPopulation.add(offSpring[1]);
           evaluations += 2;
-		  if(evaluations%100 == 0) {
-			currentTime = System.currentTimeMillis();  
-			elapsedTime = currentTime - initTime;  
-			  
-			Ranking rank = new Ranking(population);		
-			ranked = rank.getSubfront(0);
-			ranked.printObjectivesToFile("NSGAII_Problem_" + populationSize + "_" + maxEvaluations + "_" + evaluations + " " + elapsedTime + "ms");
-		  }
+          tracker.add(offSpring[0]);
+          tracker.add(offSpring[1]);
+          if (evaluations % 100 == 0)
+            tracker.record(evaluations);
           System.out.println("NSGAII: " + evaluations);
         } // if                            
       } // for
@@ -214,6 +227,14 @@ public class NSGAII_PeriodicFronts extends Algorithm {
     // Return as output parameter the required evaluations
     setOutputParameter("evaluations", requiredEvaluations);
 
+    // Write the hypervolume recorded every 100 evaluations
+    try {
+      tracker.write("NSGAII_Problem_" + populationSize + "_" + maxEvaluations + "_HV");
+    } catch (IOException e) {
+      throw new JMException("NSGAII_PeriodicFronts: " + e.getMessage());
+    } // catch
+    setOutputParameter("hypervolumeTracker", tracker);
+
     // Return the first non-dominated front
     Ranking ranking = new Ranking(population);
     ranking.getSubfront(0).printFeasibleFUN("FUN_NSGAII") ;
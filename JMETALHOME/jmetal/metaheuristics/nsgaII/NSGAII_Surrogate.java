@@ -28,6 +28,9 @@ import jmetal.util.JMException;
 import jmetal.util.Ranking;
 import jmetal.util.comparators.CrowdingComparator;
 
+import java.util.Arrays;
+import java.util.Comparator;
+
 /** 
  *  Implementation of NSGA-II.
  *  This implementation of NSGA-II makes use of a QualityIndicator object
@@ -69,6 +72,7 @@ public class NSGAII_Surrogate extends Algorithm {
     SolutionSet offspringPopulation;
     SolutionSet union;
     SolutionSet parentPopulation;
+    ObjectiveGrid grid;
     
     Solution parentSolution1;
 
@@ -113,12 +117,9 @@ public class NSGAII_Surrogate extends Algorithm {
     
     population.printObjectivesToFile("POPULATION");
     
+    grid = new ObjectiveGrid(population, solutionRange);
     parentSolution1 = new Ranking(population).getSubfront(0).get(0); 
-    parentPopulation = getParentPopulation(solutionRange, population, parentSolution1);
-    while(parentPopulation.size() < 2) {
-    	parentSolution1 = (Solution) selectionOperator.execute(population);
-  		parentPopulation = getParentPopulation(solutionRange, population, parentSolution1);
-    }
+    parentPopulation = getParentPopulation(solutionRange, grid, parentSolution1);
     //parentPopulation.printObjectivesToFile("PARENTS1");
     
     // Generations 
@@ -148,11 +149,7 @@ public class NSGAII_Surrogate extends Algorithm {
 	          evaluations += 2;
         	} else {
         		parentSolution1 = (Solution) selectionOperator.execute(population);
-        		parentPopulation = getParentPopulation(solutionRange, population, parentSolution1);
-        		while(parentPopulation.size() < 2) {
-        			parentSolution1 = (Solution) selectionOperator.execute(population);
-        			parentPopulation = getParentPopulation(solutionRange, population, parentSolution1);
-        		}
+        		parentPopulation = getParentPopulation(solutionRange, grid, parentSolution1);
         		//parentPopulation.printObjectivesToFile("PARENTS" + evaluations);
         		parents[0] = parentSolution1;
         		parents[1] = (Solution) selectionOperator.execute(parentPopulation);
@@ -214,6 +211,8 @@ public class NSGAII_Surrogate extends Algorithm {
         remain = 0;
       } // if                               
 
+      grid = new ObjectiveGrid(population, solutionRange);
+
       // This piece of code prints the feasible solutions of the algorithm every
       // 100 evaluations. It is meant to do convergence studies
       if (evaluations%100==0) {
@@ -245,24 +244,161 @@ public class NSGAII_Surrogate extends Algorithm {
     return ranking.getSubfront(0);
   } // execute
 
-	private SolutionSet getParentPopulation(double solutionRange, SolutionSet population, Solution parentSolution1) {
-		SolutionSet parentPopulation = new SolutionSet(population.size());
-		double mostPromitingObjective1 = parentSolution1.getObjective(0);
-    double mostPromitingObjective2 = parentSolution1.getObjective(1);
-    
-    
-    double objective1 = 0;
-    double objective2 = 0;
-    
-    for(int i = 0; i < population.size(); i++) {
-    	objective1 = population.get(i).getObjective(0);
-    	objective2 = population.get(i).getObjective(1);
-    	if(objective1 > (mostPromitingObjective1 - solutionRange) && objective1 < (mostPromitingObjective1 + solutionRange)) {
-    		if(objective2 > (mostPromitingObjective2 - solutionRange) && objective2 < (mostPromitingObjective2 + solutionRange)) {
-    			parentPopulation.add(population.get(i));
-    		}
-    	}
-    }
+  /**
+   * Returns the solutions of the population whose first two objectives are
+   * within a range of those of a solution. If there are not two solutions in
+   * the range, the range is doubled until there are.
+   * @param solutionRange The range
+   * @param grid The grid indexing the population
+   * @param parentSolution1 The solution
+   */
+  private SolutionSet getParentPopulation(double solutionRange, ObjectiveGrid grid, Solution parentSolution1) {
+    SolutionSet parentPopulation = grid.neighbourhood(parentSolution1, solutionRange);
+    double range = solutionRange;
+    while ((parentPopulation.size() < 2) && (range <= grid.getSpread()) &&
+           !Double.isInfinite(range)) {
+      range *= 2;
+      parentPopulation = grid.neighbourhood(parentSolution1, range);
+    } // while
+
+    if (parentPopulation.size() < 2)      // Not two finite solutions
+      parentPopulation = grid.neighbourhood(parentSolution1, Double.POSITIVE_INFINITY);
     return parentPopulation;
-	}
+  } // getParentPopulation
+
+  /**
+   * Index of the solutions of a population in a uniform grid over the first
+   * two objectives. The cells are as wide as the range of the neighbourhoods,
+   * so only the solutions of the cells overlapping the box around a solution
+   * are checked.
+   */
+  private static class ObjectiveGrid {
+    private final SolutionSet population_;
+    private final double      cellSize_;
+    private double            minimum1_;
+    private double            minimum2_;
+    private double            spread_;
+
+    /**
+     * Sorted keys of the occupied cells; the members of the cell i are the
+     * solutions member_[start_[i]] ... member_[start_[i + 1] - 1], in the
+     * order of the population
+     */
+    private long [] keys_;
+    private int []  start_;
+    private int []  member_;
+
+    ObjectiveGrid(SolutionSet population, double cellSize) {
+      population_ = population;
+      cellSize_   = cellSize;
+
+      minimum1_ = Double.POSITIVE_INFINITY;
+      minimum2_ = Double.POSITIVE_INFINITY;
+      double maximum1 = Double.NEGATIVE_INFINITY;
+      double maximum2 = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < population.size(); i++) {
+        minimum1_ = Math.min(minimum1_, population.get(i).getObjective(0));
+        minimum2_ = Math.min(minimum2_, population.get(i).getObjective(1));
+        maximum1  = Math.max(maximum1, population.get(i).getObjective(0));
+        maximum2  = Math.max(maximum2, population.get(i).getObjective(1));
+      } // for
+      spread_ = Math.max(maximum1 - minimum1_, maximum2 - minimum2_);
+
+      final long [] key = new long[population.size()];
+      Integer [] order = new Integer[population.size()];
+      for (int i = 0; i < population.size(); i++) {
+        key[i]   = key(cell(population.get(i).getObjective(0), minimum1_),
+                       cell(population.get(i).getObjective(1), minimum2_));
+        order[i] = i;
+      } // for
+      Arrays.sort(order, new Comparator<Integer>() {
+        public int compare(Integer i, Integer j) {
+          if (key[i] != key[j])
+            return (key[i] < key[j]) ? -1 : 1;
+          return i.compareTo(j);
+        }
+      });
+
+      keys_   = new long[population.size()];
+      start_  = new int[population.size() + 1];
+      member_ = new int[population.size()];
+      int cells = 0;
+      for (int i = 0; i < order.length; i++) {
+        member_[i] = order[i];
+        if ((i == 0) || (key[order[i]] != key[order[i - 1]])) {
+          keys_[cells]  = key[order[i]];
+          start_[cells] = i;
+          cells++;
+        } // if
+      } // for
+      keys_ = Arrays.copyOf(keys_, cells);
+      start_[cells] = order.length;
+    } // ObjectiveGrid
+
+    /**
+     * Returns the largest extent of the population in the two objectives
+     */
+    double getSpread() {
+      return spread_;
+    } // getSpread
+
+    /**
+     * Returns the solutions whose first two objectives are within a range of
+     * those of a solution, in the order of the population
+     */
+    SolutionSet neighbourhood(Solution solution, double range) {
+      double objective1 = solution.getObjective(0);
+      double objective2 = solution.getObjective(1);
+
+      // One more cell on each side, for the rounding errors
+      long first1 = cell(objective1 - range, minimum1_) - 1;
+      long last1  = cell(objective1 + range, minimum1_) + 1;
+      long first2 = cell(objective2 - range, minimum2_) - 1;
+      long last2  = cell(objective2 + range, minimum2_) + 1;
+
+      int [] found = new int[population_.size()];
+      int size = 0;
+      if ((double) (last1 - first1 + 1) * (last2 - first2 + 1) > keys_.length) {
+        for (int i = 0; i < population_.size(); i++)
+          if (inRange(population_.get(i), objective1, objective2, range))
+            found[size++] = i;
+      } else {
+        for (long cell1 = first1; cell1 <= last1; cell1++) {
+          for (long cell2 = first2; cell2 <= last2; cell2++) {
+            int cell = Arrays.binarySearch(keys_, key(cell1, cell2));
+            if (cell < 0)
+              continue;
+            for (int i = start_[cell]; i < start_[cell + 1]; i++)
+              if (inRange(population_.get(member_[i]), objective1, objective2, range))
+                found[size++] = member_[i];
+          } // for
+        } // for
+        Arrays.sort(found, 0, size);
+      } // else
+
+      SolutionSet neighbourhood = new SolutionSet(population_.size());
+      for (int i = 0; i < size; i++)
+        neighbourhood.add(population_.get(found[i]));
+      return neighbourhood;
+    } // neighbourhood
+
+    private static boolean inRange(Solution solution, double objective1,
+                                   double objective2, double range) {
+      double value1 = solution.getObjective(0);
+      double value2 = solution.getObjective(1);
+      return (value1 > (objective1 - range)) && (value1 < (objective1 + range)) &&
+             (value2 > (objective2 - range)) && (value2 < (objective2 + range));
+    } // inRange
+
+    private long cell(double value, double minimum) {
+      double cell = Math.floor((value - minimum) / cellSize_);
+      if (!(cell > Integer.MIN_VALUE))      // Also for NaN
+        return Integer.MIN_VALUE;
+      return (long) Math.min(cell, Integer.MAX_VALUE);
+    } // cell
+
+    private static long key(long cell1, long cell2) {
+      return (cell1 << 32) | (cell2 & 0xffffffffL);
+    } // key
+  } // ObjectiveGrid
 } // NSGA-II
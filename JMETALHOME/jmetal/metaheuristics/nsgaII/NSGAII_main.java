@@ -104,6 +104,8 @@ public class NSGAII_main {
       Object [] params = {"Real"};
       problem = (new ProblemFactory()).getProblem(args[0],params);
       indicators = new QualityIndicator(problem, args[1]) ;
+      // The hypervolume is computed in every generation
+      indicators.setIncremental(true) ;
     } // if
     else { // Default problem
       problem = new EBEs("Real");
@@ -68,10 +68,13 @@ public class NSGAII_main_args {
    * @throws JMException 
    * @throws IOException 
    * @throws SecurityException 
-   * Usage: three options
-   *      - jmetal.metaheuristics.nsgaII.NSGAII_main
-   *      - jmetal.metaheuristics.nsgaII.NSGAII_main problemName
-   *      - jmetal.metaheuristics.nsgaII.NSGAII_main problemName paretoFrontFile
+   * Usage: two options
+   *      - jmetal.metaheuristics.nsgaII.NSGAII_main_args maxEvaluations populationSize
+   *      - jmetal.metaheuristics.nsgaII.NSGAII_main_args maxEvaluations populationSize paretoFrontFile
+   * The hypervolume of the solutions found every 100 evaluations is written
+   * to the file NSGAII_Problem_populationSize_maxEvaluations_HV; it is the
+   * one of the quality indicators if the Pareto front is given and, if not,
+   * the one with a reference point estimated from the initial population.
    */
   public static void main(String [] args) throws 
                                   JMException, 
@@ -91,11 +94,11 @@ public class NSGAII_main_args {
     int populationSize = 200;
 	int time = 0;
 		
-	if(args.length > 0 && args.length < 3) {
+	if(args.length == 2 || args.length == 3) {
 		maxEvaluations = Integer.parseInt(args[0]);
 		populationSize = Integer.parseInt(args[1]);
     } else {
-		System.out.println("Usage: java NSGAII_main_args.java maxEvaluations populationsSize");
+		System.out.println("Usage: java NSGAII_main_args.java maxEvaluations populationsSize [paretoFrontFile]");
 	}
 
     // Logger object and file to store log messages
@@ -105,6 +108,8 @@ public class NSGAII_main_args {
 
 	indicators = null;
     problem = new EBEs("Real");
+    if (args.length == 3)
+      indicators = new QualityIndicator(problem, args[2]) ;
     algorithm = new NSGAII_PeriodicFronts(problem);
     //algorithm = new ssNSGAII(problem);
 
@@ -154,6 +159,8 @@ public class NSGAII_main_args {
     population.printVariablesToFile("VAR");    
     logger_.info("Objectives values have been writen to file FUN");
     population.printObjectivesToFile("FUN");
+    logger_.info("Hypervolume every 100 evaluations has been writen to file " +
+                 "NSGAII_Problem_" + populationSize + "_" + maxEvaluations + "_HV");
   
     if (indicators != null) {
       logger_.info("Quality indicators") ;
@@ -23,7 +23,7 @@ package jmetal.metaheuristics.omopso;
 
 import jmetal.core.*;
 import jmetal.operators.mutation.Mutation;
-import jmetal.util.Distance;
+import jmetal.util.CrowdingDistance;
 import jmetal.util.JMException;
 import jmetal.util.NonDominatedSolutionList;
 import jmetal.util.PseudoRandom;
@@ -100,9 +100,9 @@ public class OMOPSO extends Algorithm {
   private Comparator crowdingDistanceComparator_;
   
   /**
-   * Stores a <code>Distance</code> object
+   * Stores a <code>CrowdingDistance</code> object
    */
-  private Distance distance_;
+  private CrowdingDistance distance_;
   
   /**
   * Stores a operator for uniform mutations
@@ -147,7 +147,7 @@ public class OMOPSO extends Algorithm {
     // Create the dominator for equadless and dominance
     dominance_          = new DominanceComparator();    
     crowdingDistanceComparator_ = new CrowdingDistanceComparator();
-    distance_           = new Distance();
+    distance_           = new CrowdingDistance();
     
     // Create the speed_ vector
     speed_ = new double[particlesSize_][problem_.getNumberOfVariables()];
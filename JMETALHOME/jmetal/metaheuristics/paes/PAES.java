@@ -52,8 +52,8 @@ public class PAES extends Algorithm {
                        Solution mutatedSolution, 
                        AdaptiveGridArchive archive){  
     
-    int originalLocation = archive.getGrid().location(solution);
-    int mutatedLocation  = archive.getGrid().location(mutatedSolution); 
+    long originalLocation = archive.getGrid().location(solution);
+    long mutatedLocation  = archive.getGrid().location(mutatedSolution); 
 
     if (originalLocation == -1) {
       return new Solution(mutatedSolution);
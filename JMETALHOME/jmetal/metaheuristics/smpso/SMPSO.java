@@ -24,7 +24,7 @@ package jmetal.metaheuristics.smpso;
 import jmetal.core.*;
 import jmetal.qualityIndicator.Hypervolume;
 import jmetal.qualityIndicator.QualityIndicator;
-import jmetal.util.Distance;
+import jmetal.util.CrowdingDistance;
 import jmetal.util.JMException;
 import jmetal.util.PseudoRandom;
 import jmetal.util.archive.CrowdingArchive;
@@ -90,9 +90,9 @@ public class SMPSO extends Algorithm {
    */
   private Comparator crowdingDistanceComparator_;
   /**
-   * Stores a <code>Distance</code> object
+   * Stores a <code>CrowdingDistance</code> object
    */
-  private Distance distance_;
+  private CrowdingDistance distance_;
   /**
    * Stores a operator for non uniform mutations
    */
@@ -218,7 +218,7 @@ public class SMPSO extends Algorithm {
     // Create comparators for dominance and crowding distance
     dominance_ = new DominanceComparator();
     crowdingDistanceComparator_ = new CrowdingDistanceComparator();
-    distance_ = new Distance();
+    distance_ = new CrowdingDistance();
 
     // Create the speed_ vector
     speed_ = new double[swarmSize_][problem_.getNumberOfVariables()];
@@ -21,13 +21,14 @@
 package jmetal.metaheuristics.smsemoa;
 
 import jmetal.core.*;
-import jmetal.qualityIndicator.Hypervolume;
 import jmetal.qualityIndicator.QualityIndicator;
-import jmetal.qualityIndicator.util.MetricsUtil;
+import jmetal.qualityIndicator.fastHypervolume.IncrementalHypervolumeContributions;
+import jmetal.qualityIndicator.fastHypervolume.MonteCarloHypervolume;
+import jmetal.util.IncrementalRanking;
 import jmetal.util.JMException;
 import jmetal.util.Ranking;
-import jmetal.util.comparators.CrowdingDistanceComparator;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 
@@ -49,20 +50,12 @@ import java.util.LinkedList;
  */
 public class SMSEMOA extends Algorithm {
 
-  /**
-   * stores the problem  to solve
-   */
-  private MetricsUtil utils_;
-  private Hypervolume hv_;
-
   /**
    * Constructor
    * @param problem Problem to solve
    */
   public SMSEMOA(Problem problem) {
     super(problem) ;
-    this.utils_ = new jmetal.qualityIndicator.util.MetricsUtil();
-    this.hv_ = new Hypervolume();
   } // SMSEMOA
 
   /**
@@ -76,13 +69,13 @@ public class SMSEMOA extends Algorithm {
     int maxEvaluations;
     int evaluations;
     double offset = 100.0;
+    long hypervolumeSamples;
 
     QualityIndicator indicators; // QualityIndicator object
     int requiredEvaluations; // Use in the example of use of the indicators object (see below)
 
     SolutionSet population;
-    SolutionSet offspringPopulation;
-    SolutionSet union;
+    HypervolumeRanking ranking;
 
     Operator mutationOperator;
     Operator crossoverOperator;
@@ -93,7 +86,11 @@ public class SMSEMOA extends Algorithm {
     maxEvaluations = ((Integer) getInputParameter("maxEvaluations")).intValue();
     indicators = (QualityIndicator) getInputParameter("indicators");
     offset = (Double) getInputParameter("offset");
-
+    // With more than three objectives, the contributions are estimated with
+    // this number of samples if it is given (they are exact otherwise)
+    hypervolumeSamples = 0;
+    if (getInputParameter("hypervolumeSamples") != null)
+      hypervolumeSamples = ((Number) getInputParameter("hypervolumeSamples")).longValue();
 
     //Initialize the variables
     population = new SolutionSet(populationSize);
@@ -116,11 +113,13 @@ public class SMSEMOA extends Algorithm {
       population.add(newSolution);
     } //for
 
+    ranking = new HypervolumeRanking(population, problem_.getNumberOfObjectives(), offset,
+                                     hypervolumeSamples);
+
     // Generations ...
     while (evaluations < maxEvaluations) {
 
       // select parents
-      offspringPopulation = new SolutionSet(populationSize);
       LinkedList<Solution> selectedParents = new LinkedList<Solution>();
       Solution[] parents = new Solution[0];
       while (selectedParents.size() < 2) {
@@ -145,69 +144,10 @@ public class SMSEMOA extends Algorithm {
       problem_.evaluate(offSpring[0]);
       problem_.evaluateConstraints(offSpring[0]);
 
-      // insert child into the offspring population
-      offspringPopulation.add(offSpring[0]);
-
       evaluations++;
 
-      // Create the solutionSet union of solutionSet and offSpring
-      union = ((SolutionSet) population).union(offspringPopulation);
-
-      // Ranking the union (non-dominated sorting)
-      Ranking ranking = new Ranking(union);
-
-      // ensure crowding distance values are up to date
-      // (may be important for parent selection)
-      for (int j = 0; j < population.size(); j++) {
-        population.get(j).setCrowdingDistance(0.0);
-      }
-
-      SolutionSet lastFront = ranking.getSubfront(ranking.getNumberOfSubfronts() - 1);
-      if (lastFront.size() > 1) {
-        double[][] frontValues = lastFront.writeObjectivesToMatrix();
-        int numberOfObjectives = problem_.getNumberOfObjectives();
-        // STEP 1. Obtain the maximum and minimum values of the Pareto front
-        double[] maximumValues = utils_.getMaximumValues(union.writeObjectivesToMatrix(), numberOfObjectives);
-        double[] minimumValues = utils_.getMinimumValues(union.writeObjectivesToMatrix(), numberOfObjectives);
-        // STEP 2. Get the normalized front
-        double[][] normalizedFront = utils_.getNormalizedFront(frontValues, maximumValues, minimumValues);
-        // compute offsets for reference point in normalized space
-        double[] offsets = new double[maximumValues.length];
-        for (int i = 0; i < maximumValues.length; i++) {
-          offsets[i] = offset / (maximumValues[i] - minimumValues[i]);
-        }
-        // STEP 3. Inverse the pareto front. This is needed because the original
-        //metric by Zitzler is for maximization problems
-        double[][] invertedFront = utils_.invertedFront(normalizedFront);
-        // shift away from origin, so that boundary points also get a contribution > 0
-        for (double[] point : invertedFront) {
-          for (int i = 0; i < point.length; i++) {
-            point[i] += offsets[i];
-          }
-        }
-
-        // calculate contributions and sort
-        double[] contributions = hvContributions(invertedFront);
-        for (int i = 0; i < contributions.length; i++) {
-          // contribution values are used analogously to crowding distance
-          lastFront.get(i).setCrowdingDistance(contributions[i]);
-        }
-
-        lastFront.sort(new CrowdingDistanceComparator());
-      }
-
-      // all but the worst are carried over to the survivor population
-      SolutionSet front = null;
-      population.clear();
-      for (int i = 0; i < ranking.getNumberOfSubfronts() - 1; i++) {
-        front = ranking.getSubfront(i);
-        for (int j = 0; j < front.size(); j++) {
-          population.add(front.get(j));
-        }
-      }
-      for (int i = 0; i < lastFront.size() - 1; i++) {
-        population.add(lastFront.get(i));
-      }
+      // The worst solution of the population and the child is removed
+      ranking.replace(offSpring[0], population);
 
       // This piece of code shows how to use the indicator object into the code
       // of SMS-EMOA. In particular, it finds the number of evaluations required
@@ -225,36 +165,77 @@ public class SMSEMOA extends Algorithm {
     setOutputParameter("evaluations", requiredEvaluations);
     
     // Return the first non-dominated front
-    Ranking ranking = new Ranking(population);
-    ranking.getSubfront(0).printFeasibleFUN("FUN") ;
-    return ranking.getSubfront(0);
+    Ranking finalRanking = new Ranking(population);
+    finalRanking.getSubfront(0).printFeasibleFUN("FUN") ;
+    return finalRanking.getSubfront(0);
   } // execute
 
   /**
-   * Calculates how much hypervolume each point dominates exclusively. The points
-   * have to be transformed beforehand, to accommodate the assumptions of Zitzler's
-   * hypervolume code.
-   * @param front transformed objective values
-   * @return HV contributions
+   * Steady-state replacement of SMS-EMOA. The fronts are kept up to date by an
+   * <code>IncrementalRanking</code>, and the solution removed from the last
+   * front is its least hypervolume contributor, kept up to date by an
+   * <code>IncrementalHypervolumeContributions</code> (instead of computing all
+   * the contributions of the front for each new solution). The reference point
+   * is the maximum of each objective in the population (including the new
+   * solution) plus the offset; the contributions are the ones of the front
+   * normalized with the minimum and maximum values, up to a common factor, so
+   * the least contributor is the same. The contributions are used as the
+   * crowding distances of the last front; the crowding distances of the rest
+   * of the solutions are 0. With more than three objectives, the contributions
+   * are estimated by <code>MonteCarloHypervolume</code> if the
+   * hypervolumeSamples parameter is given.
    */
-  private double[] hvContributions(double[][] front) {
-    int numberOfObjectives = problem_.getNumberOfObjectives();
-    double[] contributions = new double[front.length];
-    double[][] frontSubset = new double[front.length - 1][front[0].length];
-    LinkedList<double[]> frontCopy = new LinkedList<double[]>();
-      Collections.addAll(frontCopy, front);
-    double[][] totalFront = frontCopy.toArray(frontSubset);
-    double totalVolume = hv_.calculateHypervolume(totalFront, totalFront.length, numberOfObjectives);
-    for (int i = 0; i < front.length; i++) {
-      double[] evaluatedPoint = frontCopy.remove(i);
-      frontSubset = frontCopy.toArray(frontSubset);
-      // STEP4. The hypervolume (control is passed to java version of Zitzler code)
-      double hv = hv_.calculateHypervolume(frontSubset, frontSubset.length, numberOfObjectives);
-      double contribution = totalVolume - hv;
-      contributions[i] = contribution;
-      // put point back
-      frontCopy.add(i, evaluatedPoint);
+  private static class HypervolumeRanking extends IncrementalRanking {
+    private final int numberOfObjectives_;
+    private final double offset_;
+    private final long hypervolumeSamples_;
+    private IncrementalHypervolumeContributions contributions_;
+
+    HypervolumeRanking(SolutionSet population, int numberOfObjectives, double offset,
+                       long hypervolumeSamples) {
+      super(population, numberOfObjectives);
+      numberOfObjectives_ = numberOfObjectives;
+      offset_ = offset;
+      hypervolumeSamples_ = hypervolumeSamples;
+    }
+
+    protected Solution removeFromLastFront(SolutionSet front) {
+      double[] referencePoint = new double[numberOfObjectives_];
+      Arrays.fill(referencePoint, Double.NEGATIVE_INFINITY);
+      for (int i = 0; i < getNumberOfSubfronts(); i++) {
+        SolutionSet subfront = getSubfront(i);
+        for (int j = 0; j < subfront.size(); j++)
+          for (int k = 0; k < numberOfObjectives_; k++)
+            referencePoint[k] = Math.max(referencePoint[k], subfront.get(j).getObjective(k));
+      }
+      for (int k = 0; k < numberOfObjectives_; k++)
+        referencePoint[k] += offset_;
+
+      if (contributions_ == null) {
+        contributions_ = new IncrementalHypervolumeContributions(numberOfObjectives_, referencePoint);
+        if (hypervolumeSamples_ > 0)
+          contributions_.setEstimator(new MonteCarloHypervolume(), hypervolumeSamples_);
+      } else
+        contributions_.setReferencePoint(referencePoint);
+      contributions_.setSolutions(front);
+
+      Solution worst = contributions_.getLeastContributor();
+      int index = 0;
+      for (int i = 0; i < front.size(); i++) {
+        Solution solution = front.get(i);
+        // contribution values are used analogously to crowding distance
+        solution.setCrowdingDistance(contributions_.getContribution(solution));
+        if (solution == worst)
+          index = i;
+      }
+      front.remove(index);
+      contributions_.remove(worst);
+      return worst;
+    }
+
+    protected void assignDensity(SolutionSet front) {
+      for (int i = 0; i < front.size(); i++)
+        front.get(i).setCrowdingDistance(0.0);
     }
-    return contributions;
-  }
+  } // HypervolumeRanking
 } // SMSEMOA
@@ -78,8 +78,8 @@ public class BLXAlphaCrossover extends Crossover {
 
 		Solution [] offSpring = new Solution[2];
 
-		offSpring[0] = new Solution(parent1);
-		offSpring[1] = new Solution(parent2);
+		offSpring[0] = copyOf(parent1);
+		offSpring[1] = copyOf(parent2);
 
 		int i;
 		double random;
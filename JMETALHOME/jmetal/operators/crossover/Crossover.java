@@ -22,6 +22,8 @@
 package jmetal.operators.crossover;
 
 import jmetal.core.Operator;
+import jmetal.core.Solution;
+import jmetal.util.SolutionPool;
 
 import java.util.HashMap;
 
@@ -30,7 +32,42 @@ import java.util.HashMap;
  */
 public abstract class Crossover extends Operator {
 
+	/**
+	 * Pool providing the solutions used to build the offspring; if null, new
+	 * solutions are created
+	 */
+	private SolutionPool solutionPool_ ;
+
 	public Crossover(HashMap<String, Object> parameters) {
 	  super(parameters);
+	  if ((parameters != null) && (parameters.get("solutionPool") != null))
+	    solutionPool_ = (SolutionPool) parameters.get("solutionPool") ;
   }
+
+	/**
+	 * Sets the pool of solutions used to build the offspring
+	 * @param solutionPool The pool, or null to create new solutions
+	 */
+	public void setSolutionPool(SolutionPool solutionPool) {
+		solutionPool_ = solutionPool ;
+	} // setSolutionPool
+
+	/**
+	 * Returns the pool of solutions used to build the offspring
+	 */
+	public SolutionPool getSolutionPool() {
+		return solutionPool_ ;
+	} // getSolutionPool
+
+	/**
+	 * Returns a copy of a parent, taken from the pool of solutions if there
+	 * is one
+	 * @param parent The solution to copy
+	 * @return The copy
+	 */
+	protected Solution copyOf(Solution parent) {
+		if (solutionPool_ == null)
+			return new Solution(parent) ;
+		return solutionPool_.copyOf(parent) ;
+	} // copyOf
 } // Crossover
@@ -23,6 +23,7 @@ package jmetal.operators.crossover;
 
 import jmetal.core.Solution;
 import jmetal.encodings.solutionType.ArrayRealSolutionType;
+import jmetal.encodings.solutionType.DoubleArraySolutionType;
 import jmetal.encodings.solutionType.RealSolutionType;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
@@ -76,7 +77,8 @@ public class DifferentialEvolutionCrossover extends Crossover {
    * Valid solution types to apply this operator 
    */
   private static final List VALID_TYPES = Arrays.asList(RealSolutionType.class,
-  		                                            ArrayRealSolutionType.class) ;
+  		                                            ArrayRealSolutionType.class,
+  		                                            DoubleArraySolutionType.class) ;
 
 	private double CR_  ;
 	private double F_   ;
@@ -145,9 +147,7 @@ public class DifferentialEvolutionCrossover extends Crossover {
 			throw new JMException("Exception in " + name + ".execute()") ;
 		}
 
-		int jrand ;
-
-		child = new Solution(current) ;
+		child = copyOf(current) ;
 		
 		XReal xParent0 = new XReal(parent[0]) ;
 		XReal xParent1 = new XReal(parent[1]) ;
@@ -155,7 +155,28 @@ public class DifferentialEvolutionCrossover extends Crossover {
 		XReal xCurrent = new XReal(current) ;
 		XReal xChild   = new XReal(child) ;
 
+		// Array-backed solutions are operated on in place by the array kernel;
+		// the values of the other ones are accessed one at a time
+		if (xCurrent.isArrayBacked() && xParent0.isArrayBacked() &&
+		    xParent1.isArrayBacked() && xParent2.isArrayBacked())
+			doCrossover(xCurrent.getValues(),
+			            xParent0.getValues(), xParent1.getValues(), xParent2.getValues(),
+			            xChild.getValues(), xChild.getLowerBounds(), xChild.getUpperBounds()) ;
+		else
+			doCrossover(xCurrent, xParent0, xParent1, xParent2, xChild) ;
+
+		return child ;
+	}
+
+	/**
+	 * Performs the operation accessing the values of the solutions one at a
+	 * time
+	 */
+	private void doCrossover(XReal xCurrent,
+	                         XReal xParent0, XReal xParent1, XReal xParent2,
+	                         XReal xChild) throws JMException {
 		int numberOfVariables = xParent0.getNumberOfDecisionVariables() ;
+		int jrand ;
 		jrand = PseudoRandom.randInt(0, numberOfVariables - 1);
 
 		// STEP 4. Checking the DE variant
@@ -283,6 +304,151 @@ public class DifferentialEvolutionCrossover extends Crossover {
 			String name = cls.getName(); 
 			throw new JMException("Exception in " + name + ".execute()") ;
 		} // else
-		return child ;
-	}
+	} // doCrossover
+
+	/**
+	 * Performs the operation on arrays of values
+	 * @param current The values of the current solution
+	 * @param parent0 The values of the first parent
+	 * @param parent1 The values of the second parent
+	 * @param parent2 The values of the third parent
+	 * @param child The values of the child, which are overwritten
+	 * @param lowerBound The lower bounds of the variables
+	 * @param upperBound The upper bounds of the variables
+	 * @throws JMException if the DE variant is unknown
+	 */
+	public void doCrossover(double [] current,
+	                        double [] parent0, double [] parent1, double [] parent2,
+	                        double [] child,
+	                        double [] lowerBound, double [] upperBound) throws JMException {
+		int numberOfVariables = parent0.length ;
+		int jrand ;
+		jrand = PseudoRandom.randInt(0, numberOfVariables - 1);
+
+		// STEP 4. Checking the DE variant
+		if ((DE_Variant_.compareTo("rand/1/bin") == 0) || 
+				(DE_Variant_.compareTo("best/1/bin") == 0)) { 
+			for (int j=0; j < numberOfVariables; j++) {
+				if (PseudoRandom.randDouble(0, 1) < CR_ || j == jrand) {
+					double value ;
+					value = parent2[j]  + F_ * (parent0[j] -
+							                                  parent1[j]) ;
+					
+					if (value < lowerBound[j])
+						value =  lowerBound[j] ;
+					if (value > upperBound[j])
+						value = upperBound[j] ;
+          /*
+					if (value < lowerBound[j]) {
+            double rnd = PseudoRandom.randDouble(0, 1) ;
+            value = lowerBound[j] + rnd *(parent2[j] - lowerBound[j]) ;
+					}
+          if (value > upperBound[j]) {
+            double rnd = PseudoRandom.randDouble(0, 1) ;
+            value = upperBound[j] - rnd*(upperBound[j]-parent2[j]) ;
+          }
+          */
+					child[j] = value ;
+				}
+				else {
+					double value ;
+					value = current[j];
+					child[j] = value ;
+				} // else
+			} // for
+		} // if
+		else if ((DE_Variant_.compareTo("rand/1/exp") == 0) || 
+				     (DE_Variant_.compareTo("best/1/exp") == 0)) {
+			for (int j=0; j < numberOfVariables; j++) {
+				if (PseudoRandom.randDouble(0, 1) < CR_ || j == jrand) {
+					double value ;
+					value = parent2[j]  + F_ * (parent0[j] -
+							parent1[j]) ;
+
+					if (value < lowerBound[j])
+						value =  lowerBound[j] ;
+					if (value > upperBound[j])
+						value = upperBound[j] ;
+
+					child[j] = value ;
+				}
+				else {
+					CR_ = 0.0 ;
+					double value ;
+					value = current[j];
+					child[j] = value ;
+			  } // else
+			} // for		
+		} // if
+		else if ((DE_Variant_.compareTo("current-to-rand/1") == 0) || 
+             (DE_Variant_.compareTo("current-to-best/1") == 0)) { 
+			for (int j=0; j < numberOfVariables; j++) {
+				double value ;
+				value = current[j] + K_ * (parent2[j] - 
+					    current[j]) +					
+						  F_ * (parent0[j] - parent1[j]) ;
+
+				if (value < lowerBound[j])
+					value =  lowerBound[j] ;
+				if (value > upperBound[j])
+					value = upperBound[j] ;
+
+				child[j] = value ;
+			} // for		
+		} // if
+		else if ((DE_Variant_.compareTo("current-to-rand/1/bin") == 0) ||
+				     (DE_Variant_.compareTo("current-to-best/1/bin") == 0)) { 
+			for (int j=0; j < numberOfVariables; j++) {
+				if (PseudoRandom.randDouble(0, 1) < CR_ || j == jrand) {
+					double value ;
+					value = current[j] + K_ * (parent2[j] - 
+							current[j]) +					
+							F_ * (parent0[j] - parent1[j]) ;
+
+					if (value < lowerBound[j])
+						value =  lowerBound[j] ;
+					if (value > upperBound[j])
+						value = upperBound[j] ;
+
+					child[j] = value ;
+				}
+				else {
+					double value ;
+					value = current[j];
+					child[j] = value ;
+				} // else
+			} // for
+		} // if
+		else if ((DE_Variant_.compareTo("current-to-rand/1/exp") == 0) || 
+				(DE_Variant_.compareTo("current-to-best/1/exp") == 0)) {
+			for (int j=0; j < numberOfVariables; j++) {
+				if (PseudoRandom.randDouble(0, 1) < CR_ || j == jrand) {
+					double value ;
+					value = current[j] + K_ * (parent2[j] - 
+							current[j]) +					
+							F_ * (parent0[j] - parent1[j]) ;
+
+					if (value < lowerBound[j])
+						value =  lowerBound[j] ;
+					if (value > upperBound[j])
+						value = upperBound[j] ;
+
+					child[j] = value ;
+				}
+				else {
+					CR_ = 0.0 ;
+					double value ;
+					value = current[j];
+					child[j] = value ;
+				} // else
+			} // for		
+		} // if		
+		else {
+			Configuration.logger_.severe("DifferentialEvolutionCrossover.execute: " +
+					" unknown DE variant (" + DE_Variant_ + ")");
+			Class<String> cls = java.lang.String.class;
+			String name = cls.getName(); 
+			throw new JMException("Exception in " + name + ".execute()") ;
+		} // else
+	} // doCrossover
 } // DifferentialEvolutionCrossover
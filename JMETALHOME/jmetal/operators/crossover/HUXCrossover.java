@@ -24,12 +24,15 @@ package jmetal.operators.crossover;
 import jmetal.core.Solution;
 import jmetal.encodings.solutionType.BinaryRealSolutionType;
 import jmetal.encodings.solutionType.BinarySolutionType;
+import jmetal.encodings.solutionType.BitStringSolutionType;
 import jmetal.encodings.variable.Binary;
+import jmetal.encodings.variable.BitString;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
 import jmetal.util.PseudoRandom;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 
@@ -37,7 +40,7 @@ import java.util.List;
  * This class allows to apply a HUX crossover operator using two parent
  * solutions.
  * NOTE: the operator is applied to the first encodings.variable of the solutions, and
- * the type of the solutions must be Binary or BinaryReal
+ * the type of the solutions must be Binary, BinaryReal or BitString
  */
 public class HUXCrossover extends Crossover{
 
@@ -45,7 +48,8 @@ public class HUXCrossover extends Crossover{
    * Valid solution types to apply this operator 
    */
   private static final List VALID_TYPES = Arrays.asList(BinarySolutionType.class,
-  		                                            BinaryRealSolutionType.class) ;
+  		                                            BinaryRealSolutionType.class,
+  		                                            BitStringSolutionType.class) ;
 
   private Double probability_ = null ;
   /**
@@ -82,22 +86,31 @@ public class HUXCrossover extends Crossover{
                                 Solution parent1, 
                                 Solution parent2) throws JMException {
     Solution [] offSpring = new Solution[2];
-    offSpring[0] = new Solution(parent1);
-    offSpring[1] = new Solution(parent2);
+    offSpring[0] = copyOf(parent1);
+    offSpring[1] = copyOf(parent2);
     try {         
       if (PseudoRandom.randDouble() < probability) {
+        if (parent1.getType().getClass() == BitStringSolutionType.class) {
+          for (int var = 0; var < parent1.getDecisionVariables().length; var++)
+            doCrossover((BitString)offSpring[0].getDecisionVariables()[var],
+                        (BitString)offSpring[1].getDecisionVariables()[var]) ;
+          return offSpring ;
+        } // if
+
         for (int var = 0; var < parent1.getDecisionVariables().length; var++) {
           Binary p1 = (Binary)parent1.getDecisionVariables()[var];
           Binary p2 = (Binary)parent2.getDecisionVariables()[var];
 
-          for (int bit = 0; bit < p1.getNumberOfBits(); bit++) {
-            if (p1.bits_.get(bit) != p2.bits_.get(bit)) {
-              if (PseudoRandom.randDouble() < 0.5) {
-                ((Binary)offSpring[0].getDecisionVariables()[var])
-                .bits_.set(bit,p2.bits_.get(bit));
-                ((Binary)offSpring[1].getDecisionVariables()[var])
-                .bits_.set(bit,p1.bits_.get(bit));
-              }
+          // Only the bits in which the parents differ can be exchanged; as the
+          // offsprings are copies of the parents, exchanging them is flipping them
+          BitSet differences = (BitSet) p1.bits_.clone() ;
+          differences.xor(p2.bits_) ;
+          for (int bit = differences.nextSetBit(0);
+               (bit >= 0) && (bit < p1.getNumberOfBits());
+               bit = differences.nextSetBit(bit + 1)) {
+            if (PseudoRandom.randDouble() < 0.5) {
+              ((Binary)offSpring[0].getDecisionVariables()[var]).bits_.flip(bit);
+              ((Binary)offSpring[1].getDecisionVariables()[var]).bits_.flip(bit);
             }
           }
         }  
@@ -119,6 +132,31 @@ public class HUXCrossover extends Crossover{
     return offSpring;                                                                                      
   } // doCrossover
 
+  /**
+   * Performs the crossover on two strings, which are modified in place: each
+   * of the bits in which they differ is exchanged with probability 0.5. The
+   * differing bits of each word are obtained with a XOR, and the random
+   * numbers are drawn in the same order as in the <code>Binary</code> case.
+   * @param x1 The first string
+   * @param x2 The second string
+   */
+  public void doCrossover(BitString x1, BitString x2) {
+    long [] words1 = x1.getWords() ;
+    long [] words2 = x2.getWords() ;
+    for (int i = 0; i < words1.length; i++) {
+      long differences = words1[i] ^ words2[i] ;
+      long mask = 0 ;
+      while (differences != 0) {
+        long bit = Long.lowestOneBit(differences) ;
+        if (PseudoRandom.randDouble() < 0.5)
+          mask |= bit ;
+        differences ^= bit ;
+      } // while
+      words1[i] ^= mask ;
+      words2[i] ^= mask ;
+    } // for
+  } // doCrossover
+
   
   /**
   * Executes the operation
@@ -141,8 +179,8 @@ public class HUXCrossover extends Crossover{
         VALID_TYPES.contains(parents[1].getType().getClass())) ) {
 
       Configuration.logger_.severe("HUXCrossover.execute: the solutions " +
-          "are not of the right type. The type should be 'Binary' of " +
-          "'BinaryReal', but " +
+          "are not of the right type. The type should be 'Binary', " +
+          "'BinaryReal' or 'BitString', but " +
           parents[0].getType() + " and " + 
           parents[1].getType() + " are obtained");
 
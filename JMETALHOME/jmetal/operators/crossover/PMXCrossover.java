@@ -72,8 +72,8 @@ public class PMXCrossover extends Crossover {
 
     Solution[] offspring = new Solution[2];
 
-    offspring[0] = new Solution(parent1);
-    offspring[1] = new Solution(parent2);
+    offspring[0] = copyOf(parent1);
+    offspring[1] = copyOf(parent2);
 
     int permutationLength;
 
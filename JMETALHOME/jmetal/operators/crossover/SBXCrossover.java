@@ -23,6 +23,7 @@ package jmetal.operators.crossover;
 
 import jmetal.core.Solution;
 import jmetal.encodings.solutionType.ArrayRealSolutionType;
+import jmetal.encodings.solutionType.DoubleArraySolutionType;
 import jmetal.encodings.solutionType.RealSolutionType;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
@@ -51,7 +52,8 @@ public class SBXCrossover extends Crossover {
    * Valid solution types to apply this operator 
    */
   private static final List VALID_TYPES = Arrays.asList(RealSolutionType.class,
-                                                  ArrayRealSolutionType.class) ;
+                                                  ArrayRealSolutionType.class,
+                                                  DoubleArraySolutionType.class) ;
   
   /** 
    * Constructor
@@ -80,20 +82,30 @@ public class SBXCrossover extends Crossover {
     
     Solution [] offSpring = new Solution[2];
 
-    offSpring[0] = new Solution(parent1);
-    offSpring[1] = new Solution(parent2);
-                    
+    offSpring[0] = copyOf(parent1);
+    offSpring[1] = copyOf(parent2);
+
+		XReal x1 = new XReal(parent1) ;		
+		XReal x2 = new XReal(parent2) ;		
+		XReal offs1 = new XReal(offSpring[0]) ;
+		XReal offs2 = new XReal(offSpring[1]) ;
+
+    // Array-backed solutions are operated on in place by the array kernel;
+    // the values of the other ones are accessed one at a time
+    if (x1.isArrayBacked() && x2.isArrayBacked()) {
+      doCrossover(probability, x1.getValues(), x2.getValues(),
+                  offs1.getValues(), offs2.getValues(),
+                  x1.getLowerBounds(), x1.getUpperBounds()) ;
+      return offSpring ;
+    } // if
+
     int i;
     double rand;
     double y1, y2, yL, yu;
     double c1, c2;
     double alpha, beta, betaq;
     double valueX1,valueX2;
-		XReal x1 = new XReal(parent1) ;		
-		XReal x2 = new XReal(parent2) ;		
-		XReal offs1 = new XReal(offSpring[0]) ;
-		XReal offs2 = new XReal(offSpring[1]) ;
-		
+
 		int numberOfVariables = x1.getNumberOfDecisionVariables() ;
 
     if (PseudoRandom.randDouble() <= probability){
@@ -164,8 +176,101 @@ public class SBXCrossover extends Crossover {
         } // if
       } // if
     } // if
-                                    
-     return offSpring;                                                                                      
+
+    return offSpring;                                                                                      
+  } // doCrossover
+
+  /**
+   * Performs the crossover operation on arrays of values.
+   * @param probability Crossover probability
+   * @param x1 The values of the first parent
+   * @param x2 The values of the second parent
+   * @param offs1 The values of the first offspring, initially equal to x1
+   * @param offs2 The values of the second offspring, initially equal to x2
+   * @param lowerBound The lower bounds of the variables
+   * @param upperBound The upper bounds of the variables
+   */
+  public void doCrossover(double probability,
+                          double [] x1, double [] x2,
+                          double [] offs1, double [] offs2,
+                          double [] lowerBound, double [] upperBound) {
+    int i;
+    double rand;
+    double y1, y2, yL, yu;
+    double c1, c2;
+    double alpha, beta, betaq;
+    double valueX1,valueX2;
+
+		int numberOfVariables = x1.length ;
+
+    if (PseudoRandom.randDouble() <= probability){
+      for (i=0; i<numberOfVariables; i++){
+        valueX1 = x1[i];
+        valueX2 = x2[i];
+        if (PseudoRandom.randDouble()<=0.5 ){
+          if (java.lang.Math.abs(valueX1- valueX2) > EPS){
+            
+            if (valueX1 < valueX2){
+              y1 = valueX1;
+              y2 = valueX2;
+            } else {
+              y1 = valueX2;
+              y2 = valueX1;
+            } // if                       
+            
+            yL = lowerBound[i] ;
+            yu = upperBound[i] ;
+            rand = PseudoRandom.randDouble();
+            beta = 1.0 + (2.0*(y1-yL)/(y2-y1));
+            alpha = 2.0 - java.lang.Math.pow(beta,-(distributionIndex_+1.0));
+            
+            if (rand <= (1.0/alpha)){
+              betaq = java.lang.Math.pow ((rand*alpha),(1.0/(distributionIndex_+1.0)));
+            } else {
+              betaq = java.lang.Math.pow ((1.0/(2.0 - rand*alpha)),(1.0/(distributionIndex_+1.0)));
+            } // if
+            
+            c1 = 0.5*((y1+y2)-betaq*(y2-y1));
+            beta = 1.0 + (2.0*(yu-y2)/(y2-y1));
+            alpha = 2.0 - java.lang.Math.pow(beta,-(distributionIndex_+1.0));
+            
+            if (rand <= (1.0/alpha)){
+              betaq = java.lang.Math.pow ((rand*alpha),(1.0/(distributionIndex_+1.0)));
+            } else {
+              betaq = java.lang.Math.pow ((1.0/(2.0 - rand*alpha)),(1.0/(distributionIndex_+1.0)));
+            } // if
+              
+            c2 = 0.5*((y1+y2)+betaq*(y2-y1));
+            
+            if (c1<yL)
+              c1=yL;
+            
+            if (c2<yL)
+              c2=yL;
+            
+            if (c1>yu)
+              c1=yu;
+            
+            if (c2>yu)
+              c2=yu;                        
+              
+            if (PseudoRandom.randDouble()<=0.5) {
+              offs1[i] = c2 ;
+              offs2[i] = c1 ;
+            } else {
+              offs1[i] = c1 ;
+              offs2[i] = c2 ;
+            } // if
+          } else {
+            offs1[i] = valueX1 ;
+            offs2[i] = valueX2 ;
+          } // if
+        } else {
+          offs1[i] = valueX2 ;
+          offs2[i] = valueX1 ;
+        } // if
+      } // if
+    } // if
   } // doCrossover
   
   
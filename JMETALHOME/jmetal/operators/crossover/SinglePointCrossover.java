@@ -22,15 +22,20 @@
 package jmetal.operators.crossover;
 
 import jmetal.core.Solution;
+import jmetal.encodings.solutionType.ArrayIntSolutionType;
 import jmetal.encodings.solutionType.BinaryRealSolutionType;
 import jmetal.encodings.solutionType.BinarySolutionType;
+import jmetal.encodings.solutionType.BitStringSolutionType;
 import jmetal.encodings.solutionType.IntSolutionType;
 import jmetal.encodings.variable.Binary;
+import jmetal.encodings.variable.BitString;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
 import jmetal.util.PseudoRandom;
+import jmetal.util.wrapper.XInt;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 
@@ -44,7 +49,9 @@ public class SinglePointCrossover extends Crossover {
    */
   private static final List VALID_TYPES = Arrays.asList(BinarySolutionType.class,
   		                                            BinaryRealSolutionType.class,
-  		                                            IntSolutionType.class) ;
+  		                                            IntSolutionType.class,
+  		                                            ArrayIntSolutionType.class,
+  		                                            BitStringSolutionType.class) ;
 
   private Double crossoverProbability_ = null;
 
@@ -79,8 +86,8 @@ public class SinglePointCrossover extends Crossover {
           Solution parent1,
           Solution parent2) throws JMException {
     Solution[] offSpring = new Solution[2];
-    offSpring[0] = new Solution(parent1);
-    offSpring[1] = new Solution(parent2);
+    offSpring[0] = copyOf(parent1);
+    offSpring[1] = copyOf(parent2);
     try {
       if (PseudoRandom.randDouble() < probability) {
         if ((parent1.getType().getClass() == BinarySolutionType.class) ||
@@ -118,13 +125,11 @@ public class SinglePointCrossover extends Crossover {
           offSpring2 =
                   (Binary) parent2.getDecisionVariables()[variable].deepCopy();
 
-          for (int i = intoVariableCrossoverPoint;
-                  i < offSpring1.getNumberOfBits();
-                  i++) {
-            boolean swap = offSpring1.bits_.get(i);
-            offSpring1.bits_.set(i, offSpring2.bits_.get(i));
-            offSpring2.bits_.set(i, swap);
-          }
+          BitSet differences = (BitSet) offSpring1.bits_.clone();
+          differences.xor(offSpring2.bits_);
+          differences.clear(0, intoVariableCrossoverPoint);
+          offSpring1.bits_.xor(differences);
+          offSpring2.bits_.xor(differences);
 
           offSpring[0].getDecisionVariables()[variable] = offSpring1;
           offSpring[1].getDecisionVariables()[variable] = offSpring2;
@@ -145,6 +150,48 @@ public class SinglePointCrossover extends Crossover {
             ((Binary) offSpring[1].getDecisionVariables()[i]).decode();
           }
         } // Binary or BinaryReal
+        else if (parent1.getType().getClass() == BitStringSolutionType.class) {
+          //1. Compute the total number of bits
+          int totalNumberOfBits = 0;
+          for (int i = 0; i < parent1.getDecisionVariables().length; i++) {
+            totalNumberOfBits +=
+                    ((BitString) parent1.getDecisionVariables()[i]).getNumberOfBits();
+          }
+
+          //2. Calculate the point to make the crossover
+          int crossoverPoint = PseudoRandom.randInt(0, totalNumberOfBits - 1);
+
+          //3. Compute the variable containing the crossoverPoint bit, and the
+          //   bit into that variable
+          int variable = 0;
+          int bit = crossoverPoint;
+          while (bit >= ((BitString) parent1.getDecisionVariables()[variable]).getNumberOfBits()) {
+            bit -= ((BitString) parent1.getDecisionVariables()[variable]).getNumberOfBits();
+            variable++;
+          }
+
+          //4. Make the crossover into the gene
+          BitString offSpring1 = (BitString) offSpring[0].getDecisionVariables()[variable];
+          BitString offSpring2 = (BitString) offSpring[1].getDecisionVariables()[variable];
+          offSpring1.swap(offSpring2, bit, offSpring1.getNumberOfBits());
+
+          //5. Apply the crossover to the other variables
+          for (int i = 0; i < variable; i++) {
+            offSpring[0].getDecisionVariables()[i] =
+                    parent2.getDecisionVariables()[i].deepCopy();
+
+            offSpring[1].getDecisionVariables()[i] =
+                    parent1.getDecisionVariables()[i].deepCopy();
+          }
+        } // BitString
+        else if (parent1.getType().getClass() == ArrayIntSolutionType.class) {
+          int [] x1 = new XInt(parent1).getValues() ;
+          int [] x2 = new XInt(parent2).getValues() ;
+          int crossoverPoint = PseudoRandom.randInt(0, x1.length - 1);
+          int length = x1.length - crossoverPoint ;
+          System.arraycopy(x2, crossoverPoint, new XInt(offSpring[0]).getValues(), crossoverPoint, length) ;
+          System.arraycopy(x1, crossoverPoint, new XInt(offSpring[1]).getValues(), crossoverPoint, length) ;
+        } // ArrayInt representation
         else { // Integer representation
           int crossoverPoint = PseudoRandom.randInt(0, parent1.numberOfVariables() - 1);
           int valueX1;
@@ -180,7 +227,7 @@ public class SinglePointCrossover extends Crossover {
         VALID_TYPES.contains(parents[1].getType().getClass())) ) {
 
       Configuration.logger_.severe("SinglePointCrossover.execute: the solutions " +
-              "are not of the right type. The type should be 'Binary' or 'Int', but " +
+              "are not of the right type. The type should be 'Binary', 'BitString', 'Int' or 'ArrayInt', but " +
               parents[0].getType() + " and " +
               parents[1].getType() + " are obtained");
 
@@ -82,8 +82,8 @@ public class TwoPointsCrossover extends Crossover {
 
 		Solution [] offspring = new Solution[2];
 
-		offspring[0] = new Solution(parent1);
-		offspring[1] = new Solution(parent2);
+		offspring[0] = copyOf(parent1);
+		offspring[1] = copyOf(parent2);
 
 		if (parent1.getType().getClass() == PermutationSolutionType.class) {
 				if (PseudoRandom.randDouble() < probability) {
@@ -22,13 +22,17 @@
 package jmetal.operators.mutation;
 
 import jmetal.core.Solution;
+import jmetal.encodings.solutionType.ArrayIntSolutionType;
 import jmetal.encodings.solutionType.BinaryRealSolutionType;
 import jmetal.encodings.solutionType.BinarySolutionType;
+import jmetal.encodings.solutionType.BitStringSolutionType;
 import jmetal.encodings.solutionType.IntSolutionType;
 import jmetal.encodings.variable.Binary;
+import jmetal.encodings.variable.BitString;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
 import jmetal.util.PseudoRandom;
+import jmetal.util.wrapper.XInt;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -45,7 +49,9 @@ public class BitFlipMutation extends Mutation {
    */
   private static final List VALID_TYPES = Arrays.asList(BinarySolutionType.class,
       BinaryRealSolutionType.class,
-      IntSolutionType.class) ;
+      IntSolutionType.class,
+      ArrayIntSolutionType.class,
+      BitStringSolutionType.class) ;
 
   private Double mutationProbability_ = null ;
   
@@ -81,6 +87,17 @@ public class BitFlipMutation extends Mutation {
 					((Binary) solution.getDecisionVariables()[i]).decode();
 				}
 			} // if
+			else if (solution.getType().getClass() == BitStringSolutionType.class) {
+				for (int i = 0; i < solution.getDecisionVariables().length; i++)
+					doMutation(probability, (BitString) solution.getDecisionVariables()[i]) ;
+			} // else if
+			else if (solution.getType().getClass() == ArrayIntSolutionType.class) {
+				XInt x = new XInt(solution) ;
+				int [] values = x.getValues() ;
+				for (int i = 0; i < values.length; i++)
+					if (PseudoRandom.randDouble() < probability)
+						values[i] = PseudoRandom.randInt(x.getLowerBound(i), x.getUpperBound(i)) ;
+			} // else if
 			else { // Integer representation
 				for (int i = 0; i < solution.getDecisionVariables().length; i++)
 					if (PseudoRandom.randDouble() < probability) {
@@ -99,6 +116,36 @@ public class BitFlipMutation extends Mutation {
 		}
 	} // doMutation
 
+	/**
+	 * Flips each bit of a string with a given probability. Instead of drawing
+	 * a random number per bit, the distance to the next flipped bit is drawn
+	 * from the geometric distribution, so the number of random numbers used
+	 * is proportional to the number of bits flipped.
+	 * @param probability Mutation probability
+	 * @param variable The string to mutate
+	 */
+	public void doMutation(double probability, BitString variable) {
+		if (probability <= 0.0)
+			return ;
+
+		double logOfComplement = Math.log(1.0 - probability) ;
+		long bit = skip(logOfComplement) ;
+		while (bit < variable.getNumberOfBits()) {
+			variable.flip((int) bit) ;
+			bit += 1 + skip(logOfComplement) ;
+		} // while
+	} // doMutation
+
+	/**
+	 * Returns the number of bits to skip before the next flip. The value is
+	 * bounded by Integer.MAX_VALUE, which is beyond the length of any string.
+	 * @param logOfComplement Logarithm of (1 - mutation probability)
+	 */
+	private long skip(double logOfComplement) {
+		double skip = Math.floor(Math.log(1.0 - PseudoRandom.randDouble()) / logOfComplement) ;
+		return (long) Math.min(skip, Integer.MAX_VALUE) ;
+	} // skip
+
 	/**
 	 * Executes the operation
 	 * @param object An object containing a solution to mutate
@@ -111,7 +158,7 @@ public class BitFlipMutation extends Mutation {
 		if (!VALID_TYPES.contains(solution.getType().getClass())) {
 			Configuration.logger_.severe("BitFlipMutation.execute: the solution " +
 					"is not of the right type. The type should be 'Binary', " +
-					"'BinaryReal' or 'Int', but " + solution.getType() + " is obtained");
+					"'BinaryReal', 'BitString', 'Int' or 'ArrayInt', but " + solution.getType() + " is obtained");
 
 			Class cls = java.lang.String.class;
 			String name = cls.getName();
@@ -23,6 +23,7 @@ package jmetal.operators.mutation;
 
 import jmetal.core.Solution;
 import jmetal.encodings.solutionType.ArrayRealSolutionType;
+import jmetal.encodings.solutionType.DoubleArraySolutionType;
 import jmetal.encodings.solutionType.RealSolutionType;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
@@ -46,7 +47,8 @@ public class PolynomialMutation extends Mutation {
   /**
    * Valid solution types to apply this operator 
    */
-  private static final List VALID_TYPES = Arrays.asList(RealSolutionType.class, ArrayRealSolutionType.class) ;
+  private static final List VALID_TYPES = Arrays.asList(RealSolutionType.class, ArrayRealSolutionType.class,
+                                                        DoubleArraySolutionType.class) ;
 
 	/**
 	 * Constructor
@@ -67,9 +69,16 @@ public class PolynomialMutation extends Mutation {
 	 * @throws JMException 
 	 */
 	public void doMutation(double probability, Solution solution) throws JMException {        
+		XReal x = new XReal(solution) ;		
+		// Array-backed solutions are mutated in place by the array kernel; the
+		// values of the other ones are accessed one at a time
+		if (x.isArrayBacked()) {
+			doMutation(probability, x.getValues(), x.getLowerBounds(), x.getUpperBounds()) ;
+			return ;
+		} // if
+
 		double rnd, delta1, delta2, mut_pow, deltaq;
 		double y, yl, yu, val, xy;
-		XReal x = new XReal(solution) ;		
 		for (int var=0; var < solution.numberOfVariables(); var++) {
 			if (PseudoRandom.randDouble() <= probability)
 			{
@@ -100,6 +109,49 @@ public class PolynomialMutation extends Mutation {
 				x.setValue(var, y);                           
 			}
 		} // for
+	} // doMutation
+
+	/**
+	 * Perform the mutation operation on an array of values
+	 * @param probability Mutation probability
+	 * @param x The values to mutate
+	 * @param lowerBound The lower bounds of the variables
+	 * @param upperBound The upper bounds of the variables
+	 */
+	public void doMutation(double probability, double [] x,
+	                       double [] lowerBound, double [] upperBound) {
+		double rnd, delta1, delta2, mut_pow, deltaq;
+		double y, yl, yu, val, xy;
+		for (int var=0; var < x.length; var++) {
+			if (PseudoRandom.randDouble() <= probability)
+			{
+				y      = x[var];
+				yl     = lowerBound[var];                
+				yu     = upperBound[var];
+				delta1 = (y-yl)/(yu-yl);
+				delta2 = (yu-y)/(yu-yl);
+				rnd = PseudoRandom.randDouble();
+				mut_pow = 1.0/(eta_m_+1.0);
+				if (rnd <= 0.5)
+				{
+					xy     = 1.0-delta1;
+					val    = 2.0*rnd+(1.0-2.0*rnd)*(Math.pow(xy,(distributionIndex_+1.0)));
+					deltaq =  java.lang.Math.pow(val,mut_pow) - 1.0;
+				}
+				else
+				{
+					xy = 1.0-delta2;
+					val = 2.0*(1.0-rnd)+2.0*(rnd-0.5)*(java.lang.Math.pow(xy,(distributionIndex_+1.0)));
+					deltaq = 1.0 - (java.lang.Math.pow(val,mut_pow));
+				}
+				y = y + deltaq*(yu-yl);
+				if (y<yl)
+					y = yl;
+				if (y>yu)
+					y = yu;
+				x[var] = y;                           
+			}
+		} // for
 
 	} // doMutation
 
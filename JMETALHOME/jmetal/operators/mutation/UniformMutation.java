@@ -23,6 +23,7 @@ package jmetal.operators.mutation;
 
 import jmetal.core.Solution;
 import jmetal.encodings.solutionType.ArrayRealSolutionType;
+import jmetal.encodings.solutionType.DoubleArraySolutionType;
 import jmetal.encodings.solutionType.RealSolutionType;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
@@ -41,7 +42,8 @@ public class UniformMutation extends Mutation{
    * Valid solution types to apply this operator 
    */
   private static final List VALID_TYPES = Arrays.asList(RealSolutionType.class,
-  		                                            ArrayRealSolutionType.class) ;
+  		                                            ArrayRealSolutionType.class,
+  		                                            DoubleArraySolutionType.class) ;
   /**
    * Stores the value used in a uniform mutation operator
    */
@@ -82,6 +84,11 @@ public class UniformMutation extends Mutation{
   public void doMutation(double probability, Solution solution) throws JMException {  
   	XReal x = new XReal(solution) ; 
 
+    if (x.isArrayBacked()) {
+      doMutation(probability, x.getValues(), x.getLowerBounds(), x.getUpperBounds()) ;
+      return ;
+    } // if
+
     for (int var = 0; var < solution.getDecisionVariables().length; var++) {
       if (PseudoRandom.randDouble() < probability) {
         double rand = PseudoRandom.randDouble();
@@ -98,6 +105,31 @@ public class UniformMutation extends Mutation{
       } // if
     } // for
   } // doMutation
+
+  /**
+   * Performs the operation on an array of values, which is modified in place
+   * @param probability Mutation probability
+   * @param x The values to mutate
+   * @param lowerBound The lower bounds of the variables
+   * @param upperBound The upper bounds of the variables
+   */
+  public void doMutation(double probability, double [] x,
+                         double [] lowerBound, double [] upperBound) {
+    double perturbation = perturbation_.doubleValue() ;
+    for (int var = 0; var < x.length; var++) {
+      if (PseudoRandom.randDouble() < probability) {
+        double rand = PseudoRandom.randDouble();
+        double tmp = (rand - 0.5)*perturbation + x[var];
+
+        if (tmp < lowerBound[var])
+          tmp = lowerBound[var];
+        else if (tmp > upperBound[var])
+          tmp = upperBound[var];
+
+        x[var] = tmp ;
+      } // if
+    } // for
+  } // doMutation
   
   /**
   * Executes the operation
@@ -49,9 +49,9 @@ public class PESA2Selection extends Selection {
   public Object execute(Object object) throws JMException    {
     try {
       AdaptiveGridArchive archive = (AdaptiveGridArchive)object;
-      int selected;        
-      int hypercube1 = archive.getGrid().randomOccupiedHypercube();
-      int hypercube2 = archive.getGrid().randomOccupiedHypercube();                                        
+      long selected;        
+      long hypercube1 = archive.getGrid().randomOccupiedHypercube();
+      long hypercube2 = archive.getGrid().randomOccupiedHypercube();                                        
         
       if (hypercube1 != hypercube2){
         if (archive.getGrid().getLocationDensity(hypercube1) < 
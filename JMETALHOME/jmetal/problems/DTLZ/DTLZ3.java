@@ -23,10 +23,11 @@ package jmetal.problems.DTLZ;
 
 import jmetal.core.Problem;
 import jmetal.core.Solution;
-import jmetal.core.Variable;
 import jmetal.encodings.solutionType.BinaryRealSolutionType;
+import jmetal.encodings.solutionType.DoubleArraySolutionType;
 import jmetal.encodings.solutionType.RealSolutionType;
 import jmetal.util.JMException;
+import jmetal.util.wrapper.XReal;
 
 /**
  * Class representing problem DTLZ3
@@ -66,6 +67,8 @@ public class DTLZ3 extends Problem{
     	solutionType_ = new BinaryRealSolutionType(this) ;
     else if (solutionType.compareTo("Real") == 0)
     	solutionType_ = new RealSolutionType(this) ;
+    else if (solutionType.compareTo("DoubleArray") == 0)
+    	solutionType_ = new DoubleArraySolutionType(this) ;
     else {
     	System.out.println("Error: solution type " + solutionType + " invalid") ;
     	System.exit(-1) ;
@@ -78,15 +81,11 @@ public class DTLZ3 extends Problem{
    * @throws JMException 
   */      
   public void evaluate(Solution solution) throws JMException {
-    Variable[] gen  = solution.getDecisionVariables();
+    double [] x = new XReal(solution).getValues() ;
 
-    double [] x = new double[numberOfVariables_];
     double [] f = new double[numberOfObjectives_];
     int k = numberOfVariables_ - numberOfObjectives_ + 1;
         
-    for (int i = 0; i < numberOfVariables_; i++)
-      x[i] = gen[i].getValue();
-        
     double g = 0.0;
     for (int i = numberOfVariables_ - k; i < numberOfVariables_; i++)
       g += (x[i] - 0.5)*(x[i] - 0.5) - Math.cos(20.0 * Math.PI * (x[i] - 0.5));
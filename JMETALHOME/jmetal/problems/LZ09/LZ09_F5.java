@@ -23,12 +23,11 @@ package jmetal.problems.LZ09;
 
 import jmetal.core.Problem;
 import jmetal.core.Solution;
-import jmetal.core.Variable;
 import jmetal.encodings.solutionType.BinaryRealSolutionType;
+import jmetal.encodings.solutionType.DoubleArraySolutionType;
 import jmetal.encodings.solutionType.RealSolutionType;
 import jmetal.util.JMException;
-
-import java.util.Vector;
+import jmetal.util.wrapper.XReal;
 
 /** 
  * Class representing problem LZ09_F5 
@@ -73,6 +72,8 @@ public class LZ09_F5 extends Problem {
     	 solutionType_ = new BinaryRealSolutionType(this) ;
      else if (solutionType.compareTo("Real") == 0)
     	 solutionType_ = new RealSolutionType(this) ;
+     else if (solutionType.compareTo("DoubleArray") == 0)
+    	 solutionType_ = new DoubleArraySolutionType(this) ;
      else {
      	System.out.println("Error: solution type " + solutionType + " invalid") ;
      	System.exit(-1) ;
@@ -85,20 +86,13 @@ public class LZ09_F5 extends Problem {
      * @throws JMException 
     */    
     public void evaluate(Solution solution) throws JMException {
-      Variable[] gen  = solution.getDecisionVariables();
-      
-      Vector<Double> x = new Vector<Double>(numberOfVariables_) ;
-      Vector<Double> y = new Vector<Double>(numberOfObjectives_);
-          
-      for (int i = 0; i < numberOfVariables_; i++) {
-      	x.addElement(gen[i].getValue());
-      	y.addElement(0.0) ;
-      } // for
+      double [] x = new XReal(solution).getValues() ;
+      double [] y = new double[numberOfObjectives_] ;
         
       LZ09_.objective(x, y) ;
       
       for (int i = 0; i < numberOfObjectives_; i++)
-        solution.setObjective(i, y.get(i)); 
+        solution.setObjective(i, y[i]); 
     } // evaluate
 } // LZ09_F5
 
@@ -23,7 +23,9 @@ package jmetal.problems ;
 import jmetal.core.Problem;
 import jmetal.core.Solution;
 import jmetal.encodings.solutionType.BinarySolutionType;
+import jmetal.encodings.solutionType.BitStringSolutionType;
 import jmetal.encodings.variable.Binary;
+import jmetal.encodings.variable.BitString;
 
 /**
  * Class representing problem OneZeroMax. The problem consist of maximizing the
@@ -58,6 +60,8 @@ public class OneZeroMax extends Problem {
     
     if (solutionType.compareTo("Binary") == 0)
     	solutionType_ = new BinarySolutionType(this) ;
+    else if (solutionType.compareTo("BitString") == 0)
+    	solutionType_ = new BitStringSolutionType(this) ;
     else {
     	System.out.println("OneZeroMax: solution type " + solutionType + " invalid") ;
     	System.exit(-1) ;
@@ -70,20 +74,18 @@ public class OneZeroMax extends Problem {
   * @param solution The solution to evaluate
   */      
   public void evaluate(Solution solution) {
-    Binary variable ;
     int    counterOnes   ;
     int    counterZeroes ;
     
-    variable = ((Binary)solution.getDecisionVariables()[0]) ;
-    
-    counterOnes = 0 ;
-    counterZeroes = 0 ;
-
-    for (int i = 0; i < variable.getNumberOfBits() ; i++) 
-      if (variable.bits_.get(i))
-        counterOnes ++ ;
-      else
-      	counterZeroes ++ ;
+    if (solution.getDecisionVariables()[0] instanceof BitString) {
+      BitString variable = (BitString)solution.getDecisionVariables()[0] ;
+      counterOnes   = variable.cardinality() ;
+      counterZeroes = variable.getNumberOfBits() - counterOnes ;
+    } else {
+      Binary variable = (Binary)solution.getDecisionVariables()[0] ;
+      counterOnes   = variable.bits_.cardinality() ;
+      counterZeroes = variable.getNumberOfBits() - counterOnes ;
+    } // else
 
     // OneZeroMax is a maximization problem: multiply by -1 to minimize
     solution.setObjective(0, -1.0*counterOnes);            
@@ -22,8 +22,8 @@
 package jmetal.problems.WFG;
 
 import jmetal.core.Solution;
-import jmetal.core.Variable;
 import jmetal.util.JMException;
+import jmetal.util.wrapper.XReal;
 
 /**
  * This class implements the WFG1 problem
@@ -179,10 +179,10 @@ public class WFG1 extends WFG {
   */  
   public final void evaluate(Solution solution) throws JMException {
     float [] variables = new float[getNumberOfVariables()];
-    Variable[] dv = solution.getDecisionVariables();
+    double [] dv = new XReal(solution).getValues() ;
         
     for (int i = 0; i < getNumberOfVariables(); i++) {
-      variables[i] = (float)dv[i].getValue();    
+      variables[i] = (float)dv[i];    
     }
         
     float [] f = evaluate(variables);
@@ -22,8 +22,8 @@
 package jmetal.problems.WFG;
 
 import jmetal.core.Solution;
-import jmetal.core.Variable;
 import jmetal.util.JMException;
+import jmetal.util.wrapper.XReal;
 
 /**
  * This class implements the WFG4 problem
@@ -139,10 +139,10 @@ public class WFG4 extends WFG{
   */        
   public final void evaluate(Solution solution) throws JMException {
     float [] variables = new float[this.getNumberOfVariables()];
-    Variable[] dv = solution.getDecisionVariables();
+    double [] dv = new XReal(solution).getValues() ;
       
     for (int i = 0; i < this.getNumberOfVariables(); i++) {
-      variables[i] = (float)dv[i].getValue();
+      variables[i] = (float)dv[i];
     }
       
     float [] sol = evaluate(variables);
@@ -25,6 +25,7 @@ import jmetal.core.Problem;
 import jmetal.core.Solution;
 import jmetal.encodings.solutionType.ArrayRealSolutionType;
 import jmetal.encodings.solutionType.BinaryRealSolutionType;
+import jmetal.encodings.solutionType.DoubleArraySolutionType;
 import jmetal.encodings.solutionType.RealSolutionType;
 import jmetal.util.JMException;
 import jmetal.util.wrapper.XReal;
@@ -71,6 +72,8 @@ public class ZDT3 extends Problem {
     	solutionType_ = new RealSolutionType(this) ;
     else if (solutionType.compareTo("ArrayReal") == 0)
     	solutionType_ = new ArrayRealSolutionType(this) ;
+    else if (solutionType.compareTo("DoubleArray") == 0)
+    	solutionType_ = new DoubleArraySolutionType(this) ;
     else {
     	System.out.println("Error: solution type " + solutionType + " invalid") ;
     	System.exit(-1) ;
@@ -84,10 +87,10 @@ public class ZDT3 extends Problem {
    * @throws JMException 
   */    
   public void evaluate(Solution solution) throws JMException {
-		XReal x = new XReal(solution) ;
+		double [] x = new XReal(solution).getValues() ;
 
     double [] f = new double[numberOfObjectives_] ;    
-    f[0]        = x.getValue(0)     ;
+    f[0]        = x[0]     ;
     double g    = this.evalG(x)                 ;
     double h    = this.evalH(f[0],g)                 ;
     f[1]        = h * g                           ;
@@ -98,13 +101,12 @@ public class ZDT3 extends Problem {
     
   /**
    * Returns the value of the ZDT2 function G.
-   * @param  x Solution
-   * @throws JMException 
+   * @param  x Values of the variables
    */    
-  private double evalG(XReal x) throws JMException {
+  private double evalG(double [] x) {
     double g = 0.0;        
-    for (int i = 1; i < x.getNumberOfDecisionVariables();i++)
-      g += x.getValue(i);
+    for (int i = 1; i < x.length;i++)
+      g += x[i];
     double constant = (9.0 / (numberOfVariables_-1));
     g = constant * g;
     g = g + 1.0;
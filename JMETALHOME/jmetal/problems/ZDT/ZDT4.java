@@ -25,6 +25,7 @@ import jmetal.core.Problem;
 import jmetal.core.Solution;
 import jmetal.encodings.solutionType.ArrayRealSolutionType;
 import jmetal.encodings.solutionType.BinaryRealSolutionType;
+import jmetal.encodings.solutionType.DoubleArraySolutionType;
 import jmetal.encodings.solutionType.RealSolutionType;
 import jmetal.util.JMException;
 import jmetal.util.wrapper.XReal;
@@ -70,6 +71,8 @@ public class ZDT4 extends Problem{
     	solutionType_ = new RealSolutionType(this) ;
     else if (solutionType.compareTo("ArrayReal") == 0)
     	solutionType_ = new ArrayRealSolutionType(this) ;
+    else if (solutionType.compareTo("DoubleArray") == 0)
+    	solutionType_ = new DoubleArraySolutionType(this) ;
     else {
     	System.out.println("Error: solution type " + solutionType + " invalid") ;
     	System.exit(-1) ;
@@ -82,10 +85,10 @@ public class ZDT4 extends Problem{
    * @throws JMException 
   */    
   public void evaluate(Solution solution) throws JMException {
-		XReal x = new XReal(solution) ;
+		double [] x = new XReal(solution).getValues() ;
     
     double [] f = new double[numberOfObjectives_] ; 
-    f[0]        = x.getValue(0)     ;
+    f[0]        = x[0]     ;
     double g    = this.evalG(x)                 ;
     double h    = this.evalH(f[0],g)              ;
     f[1]        = h * g                           ;   
@@ -100,10 +103,18 @@ public class ZDT4 extends Problem{
    * @throws JMException
   */  
   public double evalG(XReal x) throws JMException{
+    return evalG(x.getValues()) ;
+  } // evalG
+
+  /**
+   * Returns the value of the ZDT4 function G.
+   * @param  x Values of the variables
+   */
+  public double evalG(double [] x) {
     double g = 0.0;
     for (int var = 1; var < numberOfVariables_; var++)
-      g += Math.pow(x.getValue(var),2.0) + 
-          - 10.0 * Math.cos(4.0*Math.PI*x.getValue(var));
+      g += Math.pow(x[var],2.0) + 
+          - 10.0 * Math.cos(4.0*Math.PI*x[var]);
     
     double constante = 1.0 + 10.0*(numberOfVariables_ - 1);
     return g + constante;
@@ -25,7 +25,9 @@ import jmetal.core.Problem;
 import jmetal.core.Solution;
 import jmetal.core.Variable;
 import jmetal.encodings.solutionType.BinarySolutionType;
+import jmetal.encodings.solutionType.BitStringSolutionType;
 import jmetal.encodings.variable.Binary;
+import jmetal.encodings.variable.BitString;
 
 /**
  * Class representing problem ZDT5
@@ -34,7 +36,7 @@ public class ZDT5 extends Problem {
      
  /**
   * Creates a default instance of problem ZDT5 (11 decision variables).
-  * This problem allows only "Binary" representations.
+  * This problem allows only "Binary" and "BitString" representations.
   */
   public ZDT5(String solutionType) throws ClassNotFoundException {
     this(solutionType, 11); // 11 variables by default
@@ -43,7 +45,7 @@ public class ZDT5 extends Problem {
  /** 
   * Creates a instance of problem ZDT5
   * @param numberOfVariables Number of variables.
-  * This problem allows only "Binary" representations.
+  * This problem allows only "Binary" and "BitString" representations.
   */
   public ZDT5(String solutionType, Integer numberOfVariables) {
     numberOfVariables_  = numberOfVariables;
@@ -57,7 +59,10 @@ public class ZDT5 extends Problem {
       length_[var] = 5;
     }
         
-    solutionType_ = new BinarySolutionType(this) ; 
+    if (solutionType.compareTo("BitString") == 0)
+    	solutionType_ = new BitStringSolutionType(this) ;
+    else
+    	solutionType_ = new BinarySolutionType(this) ; 
     
     // All the variables of this problem are Binary
     //variableType_ = new Class[numberOfVariables_];
@@ -72,7 +77,7 @@ public class ZDT5 extends Problem {
   */    
   public void evaluate(Solution solution) {        
     double [] f = new double[numberOfObjectives_] ; 
-    f[0]        = 1 + u((Binary)solution.getDecisionVariables()[0]);
+    f[0]        = 1 + u(solution.getDecisionVariables()[0]);
     double g    = evalG(solution.getDecisionVariables())                 ;
     double h    = evalH(f[0],g)              ;
     f[1]        = h * g                           ;   
@@ -89,7 +94,7 @@ public class ZDT5 extends Problem {
   public double evalG(Variable[] decisionVariables) {
     double res = 0.0;
     for (int var = 1; var < numberOfVariables_; var++) {
-      res += evalV(u((Binary)decisionVariables[var]));
+      res += evalV(u(decisionVariables[var]));
     }
     
     return res;
@@ -120,7 +125,9 @@ public class ZDT5 extends Problem {
    * Returns the u value defined in ZDT5 for a encodings.variable.
    * @param variable The binary encodings.variable
    */
-  private double u(Binary variable) {
-    return variable.bits_.cardinality();
+  private double u(Variable variable) {
+    if (variable instanceof BitString)
+      return ((BitString)variable).cardinality();
+    return ((Binary)variable).bits_.cardinality();
   } // u
 } // ZDT5
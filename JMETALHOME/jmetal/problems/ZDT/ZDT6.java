@@ -25,6 +25,7 @@ import jmetal.core.Problem;
 import jmetal.core.Solution;
 import jmetal.encodings.solutionType.ArrayRealSolutionType;
 import jmetal.encodings.solutionType.BinaryRealSolutionType;
+import jmetal.encodings.solutionType.DoubleArraySolutionType;
 import jmetal.encodings.solutionType.RealSolutionType;
 import jmetal.util.JMException;
 import jmetal.util.wrapper.XReal;
@@ -67,6 +68,8 @@ public class ZDT6 extends Problem {
     	solutionType_ = new RealSolutionType(this) ;
     else if (solutionType.compareTo("ArrayReal") == 0)
     	solutionType_ = new ArrayRealSolutionType(this) ;
+    else if (solutionType.compareTo("DoubleArray") == 0)
+    	solutionType_ = new DoubleArraySolutionType(this) ;
     else {
     	System.out.println("Error: solution type " + solutionType + " invalid") ;
     	System.exit(-1) ;
@@ -79,9 +82,9 @@ public class ZDT6 extends Problem {
    * @throws JMException 
   */    
   public void evaluate(Solution solution) throws JMException {
-		XReal x = new XReal(solution) ;
+		double [] x = new XReal(solution).getValues() ;
         
-    double x1   = x.getValue(0)       ;
+    double x1   = x[0]       ;
     double [] f = new double[numberOfObjectives_]   ;
     f[0]        = 1.0 - Math.exp((-4.0)*x1) * Math.pow(Math.sin(6.0*Math.PI*x1),6.0);
     double g    = this.evalG(x)                   ;
@@ -98,9 +101,17 @@ public class ZDT6 extends Problem {
    * @throws JMException 
   */
   public double evalG(XReal x) throws JMException{
+    return evalG(x.getValues()) ;
+  } // evalG
+
+  /**
+   * Returns the value of the ZDT6 function G.
+   * @param  x Values of the variables
+   */
+  public double evalG(double [] x) {
     double g = 0.0;
     for (int var = 1; var < this.numberOfVariables_; var++)
-      g += x.getValue(var);
+      g += x[var];
     g = g / (numberOfVariables_ - 1);
     g = java.lang.Math.pow(g,0.25);
     g = 9.0 * g;
@@ -24,7 +24,9 @@ package jmetal.problems.singleObjective;
 import jmetal.core.Problem;
 import jmetal.core.Solution;
 import jmetal.encodings.solutionType.BinarySolutionType;
+import jmetal.encodings.solutionType.BitStringSolutionType;
 import jmetal.encodings.variable.Binary;
+import jmetal.encodings.variable.BitString;
 
 /**
  * Class representing problem OneMax. The problem consist of maximizing the
@@ -59,6 +61,8 @@ public class OneMax extends Problem {
     
     if (solutionType.compareTo("Binary") == 0)
     	solutionType_ = new BinarySolutionType(this) ;
+    else if (solutionType.compareTo("BitString") == 0)
+    	solutionType_ = new BitStringSolutionType(this) ;
     else {
     	System.out.println("OneMax: solution type " + solutionType + " invalid") ;
     	System.exit(-1) ;
@@ -71,16 +75,12 @@ public class OneMax extends Problem {
   * @param solution The solution to evaluate
   */      
   public void evaluate(Solution solution) {
-    Binary variable ;
     int    counter  ;
     
-    variable = ((Binary)solution.getDecisionVariables()[0]) ;
-    
-    counter = 0 ;
-
-    for (int i = 0; i < variable.getNumberOfBits() ; i++) 
-      if (variable.bits_.get(i))
-        counter ++ ;
+    if (solution.getDecisionVariables()[0] instanceof BitString)
+      counter = ((BitString)solution.getDecisionVariables()[0]).cardinality() ;
+    else
+      counter = ((Binary)solution.getDecisionVariables()[0]).bits_.cardinality() ;
 
     // OneMax is a maximization problem: multiply by -1 to minimize
     solution.setObjective(0, -1.0*counter);            
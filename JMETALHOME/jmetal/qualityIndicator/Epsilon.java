@@ -21,6 +21,17 @@
 
 package jmetal.qualityIndicator ;
 
+import jmetal.qualityIndicator.util.LexicoGraphicalComparator;
+import jmetal.util.SharedPool;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.StringTokenizer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
 /**
  * This class implements the unary epsilon additive indicator as proposed in
  * E. Zitzler, E. Thiele, L. Laummanns, M., Fonseca, C., and Grunert da Fonseca.
@@ -46,6 +57,38 @@ public class Epsilon {
   public jmetal.qualityIndicator.util.MetricsUtil utils_ = 
   		new jmetal.qualityIndicator.util.MetricsUtil();
 
+  /**
+   * Minimum number of pairs of points (solution front times true Pareto
+   * front) to compute the indicator in parallel by default
+   */
+  public static final int PARALLEL_THRESHOLD = 1 << 20 ;
+
+  /**
+   * Ranges of points of the true Pareto front with fewer pairs than this are
+   * not split into parallel tasks
+   */
+  private static final int FORK_THRESHOLD = 1 << 16 ;
+
+  /**
+   * Pool given in the constructor, or null
+   */
+  private final ForkJoinPool pool_ ;
+
+  /**
+   * Constructor
+   */
+  public Epsilon() {
+    this(null) ;
+  } // Epsilon
+
+  /**
+   * Constructor
+   * @param pool Pool in which the indicator is always computed, whatever
+   * the size of the fronts; if null, the object decides by itself
+   */
+  public Epsilon(ForkJoinPool pool) {
+    pool_ = pool ;
+  } // Epsilon
 
   /**
    * Returns the epsilon indicator.
@@ -54,64 +97,294 @@ public class Epsilon {
    * @return the value of the epsilon indicator
    */
   public double epsilon(double [][] b, double [][] a, int dim) {
-    int  i, j, k;
-    double  eps, eps_j = 0.0, eps_k=0.0, eps_temp;
+    dim_ = dim ;
+    set_params() ;
+    return compute(b, a) ;
+  } // epsilon
 
+  /**
+   * Returns the multiplicative epsilon indicator. All the values of an
+   * objective must have the same sign, and be different from 0.
+   * @param b True Pareto front
+   * @param a Solution front
+   * @return the value of the multiplicative epsilon indicator
+   */
+  public double multiplicativeEpsilon(double [][] b, double [][] a, int dim) {
     dim_ = dim ;
     set_params() ;
-    
+    method_ = 1 ;
+    return compute(b, a) ;
+  } // multiplicativeEpsilon
+
+  /**
+   * Returns the epsilon indicator of the front stored in a file, which is
+   * read line by line and scored while it is being read, without storing it
+   * (see <code>Accumulator</code>).
+   * @param file Name of the file containing the front
+   * @param a The front compared with the one of the file (in the
+   * <code>epsilon</code> method, the second argument)
+   * @return the value of the epsilon indicator
+   * @throws IOException
+   */
+  public double epsilon(String file, double [][] a, int dim) throws IOException {
+    Accumulator accumulator = accumulator(a, dim) ;
+
+    BufferedReader reader = new BufferedReader(new FileReader(file)) ;
+    try {
+      double [] point = new double[dim_] ;
+      String line = reader.readLine() ;
+      while (line != null) {
+        StringTokenizer st = new StringTokenizer(line) ;
+        if (st.hasMoreTokens()) {
+          for (int k = 0; k < dim_; k++)
+            point[k] = Double.parseDouble(st.nextToken()) ;
+          accumulator.add(point) ;
+        } // if
+        line = reader.readLine() ;
+      } // while
+    } finally {
+      reader.close() ;
+    } // finally
+    return accumulator.getValue() ;
+  } // epsilon
+
+  /**
+   * Returns an <code>Accumulator</code> computing the epsilon indicator of
+   * the points added to it, compared with a given front. It uses the
+   * parameters of this object, so the object must not be used for anything
+   * else while the accumulator is in use.
+   * @param a The front compared with the points added (in the
+   * <code>epsilon</code> method, the second argument)
+   */
+  public Accumulator accumulator(double [][] a, int dim) {
+    dim_ = dim ;
+    set_params() ;
+    return new Accumulator(a) ;
+  } // accumulator
+
+  /**
+   * Computes the indicator with the parameters set. For each point of a,
+   * the minimum over the points of b of the maximum over the objectives is
+   * computed; the loop over the objectives stops as soon as the maximum
+   * reaches the minimum found so far, and the loop over b stops as soon as
+   * the minimum does not exceed the indicator value found so far, so the
+   * result is exactly the one of the full loops.
+   */
+  private double compute(double [][] b, double [][] a) {
+    if (a.length == 0)
+      return (method_ == 0) ? Double.MIN_VALUE : 0 ;
+    if (b.length == 0)
+      return 0.0 ;
+    if (method_ != 0)
+      checkData(b, a) ;
+
+    boolean minimization = true ;
+    for (int k = 0; k < dim_; k++)
+      minimization &= (obj_[k] == 0) ;
+    if ((dim_ == 2) && (method_ == 0) && minimization)
+      return epsilon2D(b, a) ;
+
+    ForkJoinPool pool = pool_ ;
+    if (pool == null)
+      pool = SharedPool.get((long) a.length * b.length, PARALLEL_THRESHOLD) ;
+
+    if (pool == null)
+      return epsilon(b, a, 0, a.length) ;
+    else
+      return pool.invoke(new EpsilonTask(b, a, 0, a.length)) ;
+  } // compute
+
+  /**
+   * Returns the maximum, over the points of a in [from, to), of the
+   * minimum over the points of b of the maximum over the objectives
+   */
+  private double epsilon(double [][] b, double [][] a, int from, int to) {
+    double eps = Double.NEGATIVE_INFINITY ;
+    for (int i = from; i < to; i++) {
+      double eps_j = Double.POSITIVE_INFINITY ;
+      for (int j = 0; (j < b.length) && (eps_j > eps); j++) {
+        double eps_k = epsilon(b[j], a[i], 0) ;
+        for (int k = 1; (k < dim_) && (eps_k < eps_j); k++) {
+          double eps_temp = epsilon(b[j], a[i], k) ;
+          if (eps_k < eps_temp)
+            eps_k = eps_temp ;
+        } // for
+        if (eps_j > eps_k)
+          eps_j = eps_k ;
+      } // for
+      if (eps < eps_j)
+        eps = eps_j ;
+    } // for
+    return eps ;
+  } // epsilon
+
+  /**
+   * Returns the value of an objective for a pair of points
+   */
+  private double epsilon(double [] b, double [] a, int k) {
     if (method_ == 0)
-      eps = Double.MIN_VALUE;
+      return (obj_[k] == 0) ? b[k] - a[k] : a[k] - b[k] ;
     else
-      eps= 0;
-
-    for (i = 0; i < a.length; i++) {
-      for (j = 0; j < b.length; j++) {
-        for (k = 0; k < dim_; k++) {
-          switch (method_) {
-            case 0:
-              if (obj_[k] == 0)
-                eps_temp = b[j][k] - a[i][k];                
-                //eps_temp = b[j * dim_ + k] - a[i * dim_ + k];
-              else
-                eps_temp = a[i][k] - b[j][k];
-                //eps_temp = a[i * dim_ + k] - b[j * dim_ + k];
-              break;
-            default:
-              if ( (a[i][k] < 0 && b[j][k] > 0) ||
-                   (a[i][k] > 0 && b[j][k] < 0) ||
-                   (a[i][k] == 0 || b[j][k] == 0)) {
-              //if ( (a[i * dim_ + k] < 0 && b[j * dim_ + k] > 0) ||
-              //     (a[i * dim_ + k] > 0 && b[j * dim_ + k] < 0) ||
-              //     (a[i * dim_ + k] == 0 || b[j * dim_ + k] == 0)) {
-                System.err.println("error in data file");
-                System.exit(0);
-              }
-              if (obj_[k] == 0)
-                eps_temp = b[j][k] / a[i][k];
-                //eps_temp = b[j * dim_ + k] / a[i * dim_ + k];
-              else
-                eps_temp = a[i][k] / b[j][k];
-                //eps_temp = a[i * dim_ + k] / b[j * dim_ + k];
-            break;
-          }
-          if (k == 0)
-            eps_k = eps_temp;
-          else if (eps_k < eps_temp)
-            eps_k = eps_temp;
-        }
-        if (j == 0)
-          eps_j = eps_k;
-        else if (eps_j > eps_k)
-          eps_j = eps_k;
-      }
-      if (i == 0)
-        eps = eps_j;
-      else if (eps < eps_j)
-        eps = eps_j;
-    }
-    return eps;
+      return (obj_[k] == 0) ? b[k] / a[k] : a[k] / b[k] ;
   } // epsilon
+
+  /**
+   * Additive epsilon with two objectives to minimize, in O((n + m) log n)
+   * time. Only the non-dominated points of b are needed, as no point has a
+   * lower value than a point dominating it; sorted by the first objective,
+   * b[j][0] - a[i][0] increases and b[j][1] - a[i][1] decreases, so the
+   * minimum of their maximum is found by a binary search.
+   */
+  private double epsilon2D(double [][] b, double [][] a) {
+    double [][] sorted = b.clone() ;
+    Arrays.sort(sorted, new LexicoGraphicalComparator()) ;
+    int n = 0 ;
+    for (double [] point : sorted)
+      if ((n == 0) || (point[1] < sorted[n - 1][1]))
+        sorted[n++] = point ;
+
+    double eps = Double.NEGATIVE_INFINITY ;
+    for (double [] point : a) {
+      // First point of b in which the first objective gives the maximum
+      int low = 0 ;
+      int high = n ;
+      while (low < high) {
+        int middle = (low + high) >>> 1 ;
+        if (sorted[middle][0] - point[0] >= sorted[middle][1] - point[1])
+          high = middle ;
+        else
+          low = middle + 1 ;
+      } // while
+      double eps_j = Double.POSITIVE_INFINITY ;
+      if (low < n)
+        eps_j = sorted[low][0] - point[0] ;
+      if ((low > 0) && (sorted[low - 1][1] - point[1] < eps_j))
+        eps_j = sorted[low - 1][1] - point[1] ;
+      if (eps < eps_j)
+        eps = eps_j ;
+    } // for
+    return eps ;
+  } // epsilon2D
+
+  /**
+   * Checks that the multiplicative epsilon can be computed: no value is 0,
+   * and all the values of an objective have the same sign
+   */
+  private void checkData(double [][] b, double [][] a) {
+    for (int k = 0; k < dim_; k++) {
+      boolean positive = false ;
+      boolean negative = false ;
+      for (double [][] front : new double[][][] {a, b}) {
+        for (double [] point : front) {
+          if (point[k] == 0)
+            throw new IllegalArgumentException("Epsilon: error in data file") ;
+          positive |= (point[k] > 0) ;
+          negative |= (point[k] < 0) ;
+        } // for
+      } // for
+      if (positive && negative)
+        throw new IllegalArgumentException("Epsilon: error in data file") ;
+    } // for
+  } // checkData
+
+  /**
+   * Task computing the indicator for a range of points of a
+   */
+  private class EpsilonTask extends RecursiveTask<Double> {
+    private final double [][] b_ ;
+    private final double [][] a_ ;
+    private final int from_ ;
+    private final int to_ ;
+
+    EpsilonTask(double [][] b, double [][] a, int from, int to) {
+      b_    = b ;
+      a_    = a ;
+      from_ = from ;
+      to_   = to ;
+    } // EpsilonTask
+
+    protected Double compute() {
+      if (((long) (to_ - from_) * b_.length <= FORK_THRESHOLD) || (to_ - from_ < 2))
+        return epsilon(b_, a_, from_, to_) ;
+
+      int middle = (from_ + to_) >>> 1 ;
+      EpsilonTask left = new EpsilonTask(b_, a_, from_, middle) ;
+      EpsilonTask right = new EpsilonTask(b_, a_, middle, to_) ;
+      invokeAll(left, right) ;
+      double eps = left.join() ;
+      double eps_right = right.join() ;
+      if (eps < eps_right)
+        eps = eps_right ;
+      return eps ;
+    } // compute
+  } // EpsilonTask
+
+  /**
+   * This class computes the additive epsilon indicator of a front whose
+   * points are added one at a time, for instance while it is being read, so
+   * it does not have to be stored. It keeps, for each point of the other
+   * front, the minimum over the points added so far, and gives exactly the
+   * same value as the <code>epsilon</code> method. Accumulators are created
+   * by the <code>accumulator</code> method.
+   */
+  public class Accumulator {
+
+    /**
+     * The front compared with the points added
+     */
+    private final double [][] a_ ;
+
+    /**
+     * Minimum over the points added of the maximum over the objectives, for
+     * each point of a_
+     */
+    private final double [] minimum_ ;
+
+    /**
+     * Number of points added
+     */
+    private int numberOfPoints_ ;
+
+    private Accumulator(double [][] a) {
+      a_       = a ;
+      minimum_ = new double[a.length] ;
+      Arrays.fill(minimum_, Double.POSITIVE_INFINITY) ;
+    } // Accumulator
+
+    /**
+     * Adds a point; it is not stored, so the array can be reused
+     * @param point The point
+     */
+    public void add(double [] point) {
+      numberOfPoints_++ ;
+      for (int i = 0; i < a_.length; i++) {
+        double eps_k = epsilon(point, a_[i], 0) ;
+        for (int k = 1; (k < dim_) && (eps_k < minimum_[i]); k++) {
+          double eps_temp = epsilon(point, a_[i], k) ;
+          if (eps_k < eps_temp)
+            eps_k = eps_temp ;
+        } // for
+        if (minimum_[i] > eps_k)
+          minimum_[i] = eps_k ;
+      } // for
+    } // add
+
+    /**
+     * Returns the epsilon indicator of the points added so far
+     */
+    public double getValue() {
+      if (a_.length == 0)
+        return Double.MIN_VALUE ;
+      if (numberOfPoints_ == 0)
+        return 0.0 ;
+
+      double eps = Double.NEGATIVE_INFINITY ;
+      for (double eps_j : minimum_)
+        if (eps < eps_j)
+          eps = eps_j ;
+      return eps ;
+    } // getValue
+  } // Accumulator
  
   /**
    * Established the params by default
@@ -115,9 +115,13 @@ public class GeneralizedSpread {
       
       double dmean = 0.0;
       
-      // STEP 6. Calculate the mean distance between each point and its nearest neighbor
-      for (double[] aNormalizedFront : normalizedFront) {
-        dmean += utils_.distanceToNearestPoint(aNormalizedFront, normalizedFront);
+      // STEP 6. Calculate the mean distance between each point and its nearest
+      // neighbor, searched in a k-d tree of the front
+      jmetal.qualityIndicator.util.FrontTree tree =
+              new jmetal.qualityIndicator.util.FrontTree(normalizedFront);
+      double [] nearestDistances = tree.distancesToNearestPoints(normalizedFront);
+      for (double nearestDistance : nearestDistances) {
+        dmean += nearestDistance;
       }
       
       dmean = dmean / (numberOfPoints);
@@ -125,16 +129,14 @@ public class GeneralizedSpread {
       // STEP 7. Calculate the distance to extremal values
       double dExtrems = 0.0;
       for (double[] extremValue : extremValues) {
-        dExtrems += utils_.distanceToClosedPoint(extremValue, normalizedFront);
+        dExtrems += tree.distanceToClosedPoint(extremValue);
       }
       
       // STEP 8. Computing the value of the metric
       double mean = 0.0;
-      for (double[] aNormalizedFront : normalizedFront) {
-        mean += Math.abs(utils_.distanceToNearestPoint(aNormalizedFront, normalizedFront) -
-                dmean);
+      for (double nearestDistance : nearestDistances) {
+        mean += Math.abs(nearestDistance - dmean);
       }
-      
       double value = (dExtrems + mean) / (dExtrems + (numberOfPoints*dmean));
       return value;
       
@@ -21,6 +21,8 @@
 
 package jmetal.qualityIndicator;
 
+import jmetal.qualityIndicator.util.FrontTree;
+
 /**
  * This class implements the generational distance indicator. It can be used also 
  * as a command line by typing: 
@@ -65,35 +67,68 @@ public class GenerationalDistance {
      */
     double [] minimumValue ;
     
+    // STEP 1. Obtain the maximum and minimum values of the Pareto front
+    maximumValue = utils_.getMaximumValues(trueParetoFront, numberOfObjectives);
+    minimumValue = utils_.getMinimumValues(trueParetoFront, numberOfObjectives);
+    
+    // STEP 2. Get the normalized true Pareto front
+    return generationalDistance(front,
+                                utils_.getNormalizedFront(trueParetoFront,
+                                                          maximumValue,
+                                                          minimumValue),
+                                maximumValue,
+                                minimumValue);
+  } // generationalDistance
+  
+  /**
+   * Returns the generational distance value for a given front, normalized with
+   * the maximum and minimum values of the true Pareto front
+   * @param front The front 
+   * @param normalizedParetoFront The normalized true pareto front
+   * @param maximumValue The maximum values of the true pareto front
+   * @param minimumValue The minimum values of the true pareto front
+   */
+  public double generationalDistance(double [][] front,
+                                     double [][] normalizedParetoFront,
+                                     double [] maximumValue,
+                                     double [] minimumValue) {
+    return generationalDistance(front,
+                                new FrontTree(normalizedParetoFront),
+                                maximumValue,
+                                minimumValue);
+  } // generationalDistance
+
+  /**
+   * Returns the generational distance value for a given front, normalized with
+   * the maximum and minimum values of the true Pareto front, whose nearest
+   * points are searched in a k-d tree of the normalized true Pareto front.
+   * The tree can be kept to evaluate any number of fronts.
+   * @param front The front 
+   * @param paretoFrontTree The tree of the normalized true pareto front
+   * @param maximumValue The maximum values of the true pareto front
+   * @param minimumValue The minimum values of the true pareto front
+   */
+  public double generationalDistance(double [][] front,
+                                     FrontTree paretoFrontTree,
+                                     double [] maximumValue,
+                                     double [] minimumValue) {
+        
     /**
      * Stores the normalized front.
      */
     double [][] normalizedFront ;
     
-    /**
-     * Stores the normalized true Pareto front.
-     */ 
-    double [][] normalizedParetoFront ; 
-    
-    // STEP 1. Obtain the maximum and minimum values of the Pareto front
-    maximumValue = utils_.getMaximumValues(trueParetoFront, numberOfObjectives);
-    minimumValue = utils_.getMinimumValues(trueParetoFront, numberOfObjectives);
-    
-    // STEP 2. Get the normalized front and true Pareto fronts
+    // STEP 2. Get the normalized front
     normalizedFront       = utils_.getNormalizedFront(front, 
     		                                          maximumValue, 
     		                                          minimumValue);
-    normalizedParetoFront = utils_.getNormalizedFront(trueParetoFront, 
-    		                                          maximumValue,
-    		                                          minimumValue);
     
     // STEP 3. Sum the distances between each point of the front and the 
     // nearest point in the true Pareto front
+    double [] distances = paretoFrontTree.distancesToClosedPoints(normalizedFront);
     double sum = 0.0;
     for (int i = 0; i < front.length; i++) 
-      sum += Math.pow(utils_.distanceToClosedPoint(normalizedFront[i],
-    		                                       normalizedParetoFront),
-    		                                       pow_);
+      sum += Math.pow(distances[i], pow_);
    
     
     // STEP 4. Obtain the sqrt of the sum
@@ -208,16 +208,25 @@ public class Hypervolume {
   public double hypervolume(double [][] paretoFront, 
                             double [][] paretoTrueFront,
                             int numberOfObjectives) {
-    
-    /**
-     * Stores the maximum values of true pareto front.
-     */
-    double[] maximumValues;
-    
-    /**
-     * Stores the minimum values of the true pareto front.
-     */
-    double[] minimumValues;
+    // STEP 1. Obtain the maximum and minimum values of the Pareto front
+    return hypervolume(paretoFront,
+                       utils_.getMaximumValues(paretoTrueFront,numberOfObjectives),
+                       utils_.getMinimumValues(paretoTrueFront,numberOfObjectives),
+                       numberOfObjectives);
+  }// hypervolume
+  
+  /** 
+   * Returns the hypevolume value of the paretoFront, normalized with the
+   * maximum and minimum values of the true Pareto front
+   * @param paretoFront The pareto front
+   * @param maximumValues The maximum values of the true pareto front
+   * @param minimumValues The minimum values of the true pareto front
+   * @param numberOfObjectives Number of objectives of the pareto front
+   */
+  public double hypervolume(double [][] paretoFront, 
+                            double [] maximumValues,
+                            double [] minimumValues,
+                            int numberOfObjectives) {
     
     /**
      * Stores the normalized front.
@@ -229,10 +238,6 @@ public class Hypervolume {
      */
     double [][] invertedFront;
     
-    // STEP 1. Obtain the maximum and minimum values of the Pareto front
-    maximumValues = utils_.getMaximumValues(paretoTrueFront,numberOfObjectives);
-    minimumValues = utils_.getMinimumValues(paretoTrueFront,numberOfObjectives);
-    
     // STEP 2. Get the normalized front
     normalizedFront = utils_.getNormalizedFront(paretoFront,
                                                 maximumValues,
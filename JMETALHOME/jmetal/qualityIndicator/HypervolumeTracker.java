@@ -0,0 +1,508 @@
+//  HypervolumeTracker.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.qualityIndicator;
+
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.qualityIndicator.fastHypervolume.MonteCarloHypervolume;
+import jmetal.util.NDTree;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * This class follows the hypervolume of the solutions found by an algorithm
+ * while it runs. It keeps the non-dominated solutions added to it (in an
+ * <code>NDTree</code>) and their hypervolume (minimization), which is
+ * updated each time a solution is added or removed:
+ * - with two objectives, the points are kept sorted by the first objective,
+ *   as a staircase whose area is updated in O(log n) time;
+ * - with three objectives, the volume gained or lost is the exclusive
+ *   hypervolume of the point, computed with a sweep over the third objective
+ *   in O(n log n) time;
+ * - with more objectives, the hypervolume is estimated with a
+ *   <code>MonteCarloHypervolume</code> when it is requested after a change.
+ * Only feasible solutions (those whose overall constraint violation is not
+ * negative) are kept, so the hypervolume is the one of the feasible front
+ * (the one written by <code>SolutionSet.printFeasibleFUN</code>).
+ * Algorithms add their solutions as they evaluate them and call
+ * <code>record</code> whenever they want a sample (for instance, in each
+ * generation) of the number of evaluations, the time elapsed since the
+ * tracker was created (or started), and the hypervolume. The samples are
+ * kept in memory, and written to a file at the end with <code>write</code>.
+ *
+ * A tracker created from a <code>QualityIndicator</code> measures the same
+ * hypervolume as <code>QualityIndicator.getHypervolume</code>: the points
+ * are normalized with the bounds of the true Pareto front, the values lower
+ * than 0 are taken as 0, and the reference point is 1.
+ */
+public class HypervolumeTracker {
+
+  /**
+   * Number of objectives
+   */
+  private final int numberOfObjectives_ ;
+
+  /**
+   * Reference point, in the space of the points (normalized, if the points
+   * are normalized)
+   */
+  private final double [] referencePoint_ ;
+
+  /**
+   * Bounds used to normalize the objective values, or null if they are not
+   * normalized
+   */
+  private final double [] maximumValues_ ;
+  private final double [] minimumValues_ ;
+
+  /**
+   * Non-dominated solutions
+   */
+  private final NDTree<Solution> nondominated_ ;
+
+  /**
+   * Point of each non-dominated solution
+   */
+  private final Map<Solution, double []> points_ ;
+
+  /**
+   * Points dominating the reference point, sorted by the first objective
+   * (two objectives)
+   */
+  private final Staircase staircase_ ;
+
+  /**
+   * Hypervolume of the non-dominated solutions (two and three objectives, or
+   * more if it is not dirty_)
+   */
+  private double hypervolume_ ;
+
+  /**
+   * True if the hypervolume has to be estimated again (more than three
+   * objectives)
+   */
+  private boolean dirty_ ;
+
+  /**
+   * Estimator of the hypervolume with more than three objectives
+   */
+  private MonteCarloHypervolume estimator_ ;
+
+  /**
+   * Value of System.nanoTime() when the tracker was started
+   */
+  private long startTime_ ;
+
+  /**
+   * Samples: number of evaluations, elapsed time (ns) and hypervolume
+   */
+  private long []   evaluations_ ;
+  private long []   elapsedTimes_ ;
+  private double [] hypervolumes_ ;
+  private int       numberOfSamples_ ;
+
+  /**
+   * Constructor
+   * @param numberOfObjectives The number of objectives
+   * @param referencePoint The reference point of the hypervolume
+   */
+  public HypervolumeTracker(int numberOfObjectives, double [] referencePoint) {
+    this(numberOfObjectives, referencePoint, null, null) ;
+  } // HypervolumeTracker
+
+  /**
+   * Constructor. The hypervolume is the one given by
+   * <code>QualityIndicator.getHypervolume</code>.
+   * @param indicators The quality indicators of the problem, with its true
+   * Pareto front
+   */
+  public HypervolumeTracker(QualityIndicator indicators) {
+    this(indicators.problem_.getNumberOfObjectives(),
+         filledArray(indicators.problem_.getNumberOfObjectives(), 1.0),
+         indicators.maximumValues_,
+         indicators.minimumValues_) ;
+  } // HypervolumeTracker
+
+  private HypervolumeTracker(int numberOfObjectives, double [] referencePoint,
+                             double [] maximumValues, double [] minimumValues) {
+    numberOfObjectives_ = numberOfObjectives ;
+    referencePoint_     = referencePoint.clone() ;
+    maximumValues_      = maximumValues ;
+    minimumValues_      = minimumValues ;
+    nondominated_       = new NDTree<Solution>(numberOfObjectives, true) ;
+    points_             = new IdentityHashMap<Solution, double []>() ;
+    staircase_          = new Staircase(referencePoint_[0], referencePoint_[1]) ;
+    hypervolume_        = 0.0 ;
+    dirty_              = false ;
+    evaluations_        = new long[64] ;
+    elapsedTimes_       = new long[64] ;
+    hypervolumes_       = new double[64] ;
+    numberOfSamples_    = 0 ;
+    startTime_          = System.nanoTime() ;
+  } // HypervolumeTracker
+
+  private static double [] filledArray(int length, double value) {
+    double [] array = new double[length] ;
+    Arrays.fill(array, value) ;
+    return array ;
+  } // filledArray
+
+  /**
+   * Sets the estimator of the hypervolume with more than three objectives;
+   * by default, <code>new MonteCarloHypervolume()</code>
+   * @param estimator The estimator
+   */
+  public void setEstimator(MonteCarloHypervolume estimator) {
+    estimator_ = estimator ;
+    dirty_ = true ;
+  } // setEstimator
+
+  /**
+   * Starts measuring the elapsed time again, and discards the samples
+   */
+  public void start() {
+    start(System.nanoTime()) ;
+  } // start
+
+  /**
+   * Measures the elapsed time from a given instant, and discards the samples
+   * @param startTime The instant, as given by System.nanoTime()
+   */
+  public void start(long startTime) {
+    startTime_ = startTime ;
+    numberOfSamples_ = 0 ;
+  } // start
+
+  /**
+   * Returns a reference point for a problem whose Pareto front is not known:
+   * the worst value of each objective in a solution set (of its feasible
+   * solutions, if there is any), plus a 10% of the range of the objective
+   * @param solutionSet The solution set (for instance, the initial population
+   * of an algorithm)
+   */
+  public static double [] estimateReferencePoint(SolutionSet solutionSet) {
+    int numberOfObjectives = solutionSet.get(0).getNumberOfObjectives() ;
+    boolean feasible = false ;
+    for (int i = 0; i < solutionSet.size(); i++)
+      feasible = feasible || (solutionSet.get(i).getOverallConstraintViolation() >= 0) ;
+
+    double [] referencePoint = new double[numberOfObjectives] ;
+    for (int k = 0; k < numberOfObjectives; k++) {
+      double max = Double.NEGATIVE_INFINITY ;
+      double min = Double.POSITIVE_INFINITY ;
+      for (int i = 0; i < solutionSet.size(); i++) {
+        Solution solution = solutionSet.get(i) ;
+        if (!feasible || (solution.getOverallConstraintViolation() >= 0)) {
+          max = Math.max(max, solution.getObjective(k)) ;
+          min = Math.min(min, solution.getObjective(k)) ;
+        } // if
+      } // for
+      double margin = 0.1 * (max - min) ;
+      if (margin == 0.0)
+        margin = (max != 0.0) ? 0.1 * Math.abs(max) : 1.0 ;
+      referencePoint[k] = max + margin ;
+    } // for
+    return referencePoint ;
+  } // estimateReferencePoint
+
+  /**
+   * Adds a solution. If it is infeasible, or dominated by (or equal to) a
+   * solution of the tracker, it is discarded; otherwise, the solutions it
+   * dominates are removed, and it is kept. The objective values are copied,
+   * so the solution can be modified afterwards.
+   * @param solution The solution
+   * @return true if the solution has been kept
+   */
+  public boolean add(Solution solution) {
+    if (solution.getOverallConstraintViolation() < 0)
+      return false ;
+
+    double [] point = new double[numberOfObjectives_] ;
+    for (int k = 0; k < numberOfObjectives_; k++) {
+      point[k] = solution.getObjective(k) ;
+      if (maximumValues_ != null)
+        point[k] = Math.max(0.0, (point[k] - minimumValues_[k]) /
+                                 (maximumValues_[k] - minimumValues_[k])) ;
+    } // for
+
+    List<Solution> removed = new ArrayList<Solution>() ;
+    if (!nondominated_.update(point, solution, removed))
+      return false ;
+
+    // The volume added by the point includes the one of the points it
+    // dominates, which are then removed without changing the hypervolume
+    if (dominatesReferencePoint(point)) {
+      if (numberOfObjectives_ == 2) {
+        for (Solution dominated : removed)
+          staircase_.remove(points_.get(dominated)) ;
+        staircase_.add(point) ;
+      } else if (numberOfObjectives_ == 3) {
+        hypervolume_ += exclusiveHypervolume(point, null) ;
+      } else
+        dirty_ = true ;
+    } // if
+    for (Solution dominated : removed)
+      points_.remove(dominated) ;
+    points_.put(solution, point) ;
+    return true ;
+  } // add
+
+  /**
+   * Adds the solutions of a solution set
+   * @param solutionSet The solution set
+   */
+  public void add(SolutionSet solutionSet) {
+    for (int i = 0; i < solutionSet.size(); i++)
+      add(solutionSet.get(i)) ;
+  } // add
+
+  /**
+   * Removes a solution kept by the tracker. The solutions dominated by it
+   * which were discarded are not recovered.
+   * @param solution The solution
+   * @return true if the solution was kept by the tracker
+   */
+  public boolean remove(Solution solution) {
+    double [] point = points_.get(solution) ;
+    if ((point == null) || !nondominated_.remove(point, solution))
+      return false ;
+
+    points_.remove(solution) ;
+    if (dominatesReferencePoint(point)) {
+      if (numberOfObjectives_ == 2)
+        staircase_.remove(point) ;
+      else if (numberOfObjectives_ == 3)
+        hypervolume_ -= exclusiveHypervolume(point, solution) ;
+      else
+        dirty_ = true ;
+    } // if
+    return true ;
+  } // remove
+
+  /**
+   * Returns the number of solutions kept
+   */
+  public int size() {
+    return nondominated_.size() ;
+  } // size
+
+  /**
+   * Returns the non-dominated solutions kept by the tracker
+   */
+  public SolutionSet getNondominatedSolutions() {
+    List<Solution> solutions = new ArrayList<Solution>() ;
+    nondominated_.collect(solutions) ;
+    SolutionSet solutionSet = new SolutionSet(solutions.size()) ;
+    for (Solution solution : solutions)
+      solutionSet.add(solution) ;
+    return solutionSet ;
+  } // getNondominatedSolutions
+
+  /**
+   * Returns the hypervolume of the solutions kept (an estimate, with more
+   * than three objectives)
+   */
+  public double getHypervolume() {
+    if (numberOfObjectives_ == 2)
+      return staircase_.getArea() ;
+
+    if (dirty_) {
+      List<double []> points = new ArrayList<double []>() ;
+      for (double [] point : points_.values())
+        if (dominatesReferencePoint(point))
+          points.add(point) ;
+      if (estimator_ == null)
+        estimator_ = new MonteCarloHypervolume() ;
+      hypervolume_ = points.isEmpty() ? 0.0 :
+          estimator_.estimate(points.toArray(new double[points.size()][]), referencePoint_).getValue() ;
+      dirty_ = false ;
+    } // if
+    return hypervolume_ ;
+  } // getHypervolume
+
+  /**
+   * Records a sample with the number of evaluations, the time elapsed since
+   * the tracker was created or started, and the hypervolume
+   * @param evaluations The number of evaluations done by the algorithm
+   */
+  public void record(long evaluations) {
+    long elapsedTime = System.nanoTime() - startTime_ ;
+    if (numberOfSamples_ == evaluations_.length) {
+      evaluations_  = Arrays.copyOf(evaluations_, 2 * numberOfSamples_) ;
+      elapsedTimes_ = Arrays.copyOf(elapsedTimes_, 2 * numberOfSamples_) ;
+      hypervolumes_ = Arrays.copyOf(hypervolumes_, 2 * numberOfSamples_) ;
+    } // if
+    evaluations_[numberOfSamples_]  = evaluations ;
+    elapsedTimes_[numberOfSamples_] = elapsedTime ;
+    hypervolumes_[numberOfSamples_] = getHypervolume() ;
+    numberOfSamples_++ ;
+  } // record
+
+  /**
+   * Returns the number of samples recorded
+   */
+  public int getNumberOfSamples() {
+    return numberOfSamples_ ;
+  } // getNumberOfSamples
+
+  /**
+   * Returns the number of evaluations of a sample
+   */
+  public long getEvaluations(int sample) {
+    return evaluations_[sample] ;
+  } // getEvaluations
+
+  /**
+   * Returns the elapsed time, in nanoseconds, of a sample
+   */
+  public long getElapsedTime(int sample) {
+    return elapsedTimes_[sample] ;
+  } // getElapsedTime
+
+  /**
+   * Returns the hypervolume of a sample
+   */
+  public double getHypervolume(int sample) {
+    return hypervolumes_[sample] ;
+  } // getHypervolume
+
+  /**
+   * Writes the samples to a file, one per line: number of evaluations,
+   * elapsed time (ns) and hypervolume
+   * @param path The path of the file
+   * @throws IOException
+   */
+  public void write(String path) throws IOException {
+    BufferedWriter writer = new BufferedWriter(new FileWriter(path)) ;
+    try {
+      for (int i = 0; i < numberOfSamples_; i++)
+        writer.write(evaluations_[i] + " " + elapsedTimes_[i] + " " + hypervolumes_[i] + "\n") ;
+    } finally {
+      writer.close() ;
+    } // finally
+  } // write
+
+  private boolean dominatesReferencePoint(double [] point) {
+    for (int k = 0; k < numberOfObjectives_; k++)
+      if (point[k] >= referencePoint_[k])
+        return false ;
+    return true ;
+  } // dominatesReferencePoint
+
+  /**
+   * Returns the hypervolume dominated by a point (three objectives) and not
+   * by the rest of the points kept (excluding a solution, if not null): the
+   * volume of its box minus the hypervolume of the rest of the points,
+   * limited to the box, which is computed with a sweep over the third
+   * objective keeping the staircase of the first two objectives.
+   */
+  private double exclusiveHypervolume(double [] point, Solution excluded) {
+    List<double []> limited = new ArrayList<double []>() ;
+    for (Map.Entry<Solution, double []> entry : points_.entrySet()) {
+      double [] other = entry.getValue() ;
+      if ((entry.getKey() != excluded) && dominatesReferencePoint(other))
+        limited.add(new double[] {Math.max(point[0], other[0]),
+                                  Math.max(point[1], other[1]),
+                                  Math.max(point[2], other[2])}) ;
+    } // for
+    Collections.sort(limited, new Comparator<double []>() {
+      public int compare(double [] point1, double [] point2) {
+        return Double.compare(point1[2], point2[2]) ;
+      } // compare
+    }) ;
+
+    double volume = (referencePoint_[0] - point[0]) *
+                    (referencePoint_[1] - point[1]) *
+                    (referencePoint_[2] - point[2]) ;
+    Staircase staircase = new Staircase(referencePoint_[0], referencePoint_[1]) ;
+    for (int i = 0; i < limited.size(); i++) {
+      staircase.add(limited.get(i)) ;
+      double next = (i + 1 < limited.size()) ? limited.get(i + 1)[2] : referencePoint_[2] ;
+      volume -= staircase.getArea() * (next - limited.get(i)[2]) ;
+    } // for
+    return volume ;
+  } // exclusiveHypervolume
+
+  /**
+   * Non-dominated points of two objectives sorted by the first one (so the
+   * second one decreases), and the area they dominate up to a reference
+   * point: the sum, for each point, of its distance to the next point in the
+   * first objective times its distance to the reference point in the
+   * second one. Adding or removing a point only changes the terms of the
+   * point and of the previous one.
+   */
+  private static class Staircase {
+    private final double referenceX_ ;
+    private final double referenceY_ ;
+    private final TreeMap<Double, double []> points_ ;
+    private double area_ ;
+
+    Staircase(double referenceX, double referenceY) {
+      referenceX_ = referenceX ;
+      referenceY_ = referenceY ;
+      points_     = new TreeMap<Double, double []>() ;
+      area_       = 0.0 ;
+    } // Staircase
+
+    double getArea() {
+      return area_ ;
+    } // getArea
+
+    /**
+     * Adds a point, unless it is dominated by (or equal to) another one,
+     * removing the points it dominates
+     */
+    void add(double [] point) {
+      Map.Entry<Double, double []> floor = points_.floorEntry(point[0]) ;
+      if ((floor != null) && (floor.getValue()[1] <= point[1]))
+        return ;
+
+      Map.Entry<Double, double []> ceiling = points_.ceilingEntry(point[0]) ;
+      while ((ceiling != null) && (ceiling.getValue()[1] >= point[1])) {
+        remove(ceiling.getValue()) ;
+        ceiling = points_.ceilingEntry(point[0]) ;
+      } // while
+
+      Map.Entry<Double, double []> lower = points_.lowerEntry(point[0]) ;
+      Map.Entry<Double, double []> higher = points_.higherEntry(point[0]) ;
+      double next = (higher == null) ? referenceX_ : higher.getKey() ;
+      if (lower != null)
+        area_ += (point[0] - next) * (referenceY_ - lower.getValue()[1]) ;
+      area_ += (next - point[0]) * (referenceY_ - point[1]) ;
+      points_.put(point[0], point) ;
+    } // add
+
+    /**
+     * Removes a point, if it is in the staircase
+     */
+    void remove(double [] point) {
+      double [] stored = points_.get(point[0]) ;
+      if ((stored == null) || (stored[1] != point[1]))
+        return ;
+
+      points_.remove(point[0]) ;
+      Map.Entry<Double, double []> lower = points_.lowerEntry(point[0]) ;
+      Map.Entry<Double, double []> higher = points_.higherEntry(point[0]) ;
+      double next = (higher == null) ? referenceX_ : higher.getKey() ;
+      if (lower != null)
+        area_ -= (point[0] - next) * (referenceY_ - lower.getValue()[1]) ;
+      area_ -= (next - point[0]) * (referenceY_ - point[1]) ;
+    } // remove
+  } // Staircase
+} // HypervolumeTracker
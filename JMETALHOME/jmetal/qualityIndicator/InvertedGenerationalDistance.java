@@ -65,35 +65,49 @@ public class InvertedGenerationalDistance {
      */
     double [] minimumValue ;
     
+    // STEP 1. Obtain the maximum and minimum values of the Pareto front
+    maximumValue = utils_.getMaximumValues(trueParetoFront, numberOfObjectives);
+    minimumValue = utils_.getMinimumValues(trueParetoFront, numberOfObjectives);
+    
+    // STEP 2. Get the normalized true Pareto front
+    return invertedGenerationalDistance(front,
+                                        utils_.getNormalizedFront(trueParetoFront,
+                                                                  maximumValue,
+                                                                  minimumValue),
+                                        maximumValue,
+                                        minimumValue);
+  } // invertedGenerationalDistance
+  
+  /**
+   * Returns the inverted generational distance value for a given front,
+   * normalized with the maximum and minimum values of the true Pareto front
+   * @param front The front 
+   * @param normalizedParetoFront The normalized true pareto front
+   * @param maximumValue The maximum values of the true pareto front
+   * @param minimumValue The minimum values of the true pareto front
+   */
+  public double invertedGenerationalDistance(double [][] front,
+                                             double [][] normalizedParetoFront,
+                                             double [] maximumValue,
+                                             double [] minimumValue) {
+        
     /**
      * Stores the normalized front.
      */
     double [][] normalizedFront ;
     
-    /**
-     * Stores the normalized true Pareto front.
-     */ 
-    double [][] normalizedParetoFront ; 
-    
-    // STEP 1. Obtain the maximum and minimum values of the Pareto front
-    maximumValue = utils_.getMaximumValues(trueParetoFront, numberOfObjectives);
-    minimumValue = utils_.getMinimumValues(trueParetoFront, numberOfObjectives);
-    
-    // STEP 2. Get the normalized front and true Pareto fronts
+    // STEP 2. Get the normalized front
     normalizedFront       = utils_.getNormalizedFront(front, 
     		                                          maximumValue, 
     		                                          minimumValue);
-    normalizedParetoFront = utils_.getNormalizedFront(trueParetoFront, 
-    		                                          maximumValue,
-    		                                          minimumValue);
     
     // STEP 3. Sum the distances between each point of the true Pareto front and
-    // the nearest point in the true Pareto front
+    // the nearest point in the front, searched in a k-d tree of the front
+    double [] distances = utils_.distancesToClosedPoints(normalizedParetoFront,
+                                                         normalizedFront);
     double sum = 0.0;
-    for (double[] aNormalizedParetoFront : normalizedParetoFront)
-      sum += Math.pow(utils_.distanceToClosedPoint(aNormalizedParetoFront,
-              normalizedFront),
-              pow_);
+    for (double distance : distances)
+      sum += Math.pow(distance, pow_);
    
     
     // STEP 4. Obtain the sqrt of the sum
@@ -23,15 +23,39 @@ package jmetal.qualityIndicator;
 
 import jmetal.core.Problem;
 import jmetal.core.SolutionSet;
+import jmetal.qualityIndicator.fastHypervolume.MonteCarloHypervolume;
+import jmetal.qualityIndicator.util.FrontTree;
+import jmetal.qualityIndicator.util.LexicoGraphicalComparator;
+import jmetal.util.NondominatedSorter;
+
+import java.util.Arrays;
 
 /**
- * QualityIndicator class
+ * QualityIndicator class. The true Pareto front is preprocessed once, in the
+ * constructor (its objective values, their bounds and the normalized front),
+ * so each indicator only has to process the solution set. In incremental
+ * mode (see setIncremental), the hypervolume of a solution set is only
+ * computed again when its first front changes.
  */
 public class QualityIndicator {
   SolutionSet trueParetoFront_ ;
   double      trueParetoFrontHypervolume_ ;
   Problem     problem_ ; 
   public jmetal.qualityIndicator.util.MetricsUtil utils_  ;
+
+  double [][] trueParetoFrontMatrix_ ;
+  double []   maximumValues_ ;
+  double []   minimumValues_ ;
+  double [][] normalizedTrueParetoFront_ ;
+  double [][] sortedNormalizedTrueParetoFront_ ;
+  FrontTree   normalizedTrueParetoFrontTree_ ;
+
+  boolean     incremental_ ;
+  NondominatedSorter sorter_ ;
+  double [][] hypervolumeFirstFront_ ;
+  double      hypervolume_ ;
+  double [][] estimateFirstFront_ ;
+  MonteCarloHypervolume.Estimate estimate_ ;
   
   /**
    * Constructor
@@ -42,11 +66,33 @@ public class QualityIndicator {
     problem_ = problem ;
     utils_ = new jmetal.qualityIndicator.util.MetricsUtil() ;
     trueParetoFront_ = utils_.readNonDominatedSolutionSet(paretoFrontFile);
-    trueParetoFrontHypervolume_ = new Hypervolume().hypervolume(
-                 trueParetoFront_.writeObjectivesToMatrix(),   
-                 trueParetoFront_.writeObjectivesToMatrix(),
-                 problem_.getNumberOfObjectives());
+    // Computed when it is first requested, as it takes too long with many
+    // objectives
+    trueParetoFrontHypervolume_ = Double.NaN ;
+
+    int numberOfObjectives = problem_.getNumberOfObjectives() ;
+    trueParetoFrontMatrix_ = trueParetoFront_.writeObjectivesToMatrix() ;
+    maximumValues_ = utils_.getMaximumValues(trueParetoFrontMatrix_, numberOfObjectives) ;
+    minimumValues_ = utils_.getMinimumValues(trueParetoFrontMatrix_, numberOfObjectives) ;
+    normalizedTrueParetoFront_ = utils_.getNormalizedFront(trueParetoFrontMatrix_,
+                                                           maximumValues_,
+                                                           minimumValues_) ;
+    sortedNormalizedTrueParetoFront_ = normalizedTrueParetoFront_.clone() ;
+    Arrays.sort(sortedNormalizedTrueParetoFront_, new LexicoGraphicalComparator()) ;
   } // Constructor 
+
+  /**
+   * Sets the incremental mode, in which the hypervolume (exact or estimated)
+   * of a solution set is only computed again if its first front is not the
+   * same as in the previous call. It is meant for algorithms computing the
+   * hypervolume of their population in every generation.
+   * @param incremental True to set the incremental mode
+   */
+  public void setIncremental(boolean incremental) {
+    incremental_ = incremental ;
+    hypervolumeFirstFront_ = null ;
+    estimateFirstFront_ = null ;
+  } // setIncremental
   
   /**
    * Returns the hypervolume of solution set
@@ -54,17 +100,53 @@ public class QualityIndicator {
    * @return The value of the hypervolume indicator
    */
   public double getHypervolume(SolutionSet solutionSet) {
-    return new Hypervolume().hypervolume(solutionSet.writeObjectivesToMatrix(),
-                                         trueParetoFront_.writeObjectivesToMatrix(),
-                                         problem_.getNumberOfObjectives());
+    double [][] front = solutionSet.writeObjectivesToMatrix() ;
+    if (incremental_) {
+      double [][] firstFront = getFirstFront(front) ;
+      if (Arrays.deepEquals(firstFront, hypervolumeFirstFront_))
+        return hypervolume_ ;
+      hypervolumeFirstFront_ = firstFront ;
+    } // if
+
+    hypervolume_ = new Hypervolume().hypervolume(front,
+                                                 maximumValues_,
+                                                 minimumValues_,
+                                                 problem_.getNumberOfObjectives());
+    return hypervolume_ ;
   } // getHypervolume
 
+  /**
+   * Returns an estimate of the hypervolume of solution set, with its
+   * confidence bounds, computed by <code>MonteCarloHypervolume</code>. It
+   * can be used with many objectives, where the exact hypervolume takes too
+   * long to compute.
+   * @param solutionSet Solution set
+   * @return The estimate of the hypervolume indicator
+   */
+  public MonteCarloHypervolume.Estimate getHypervolumeEstimate(SolutionSet solutionSet) {
+    double [][] front = solutionSet.writeObjectivesToMatrix() ;
+    if (incremental_) {
+      double [][] firstFront = getFirstFront(front) ;
+      if (Arrays.deepEquals(firstFront, estimateFirstFront_))
+        return estimate_ ;
+      estimateFirstFront_ = firstFront ;
+    } // if
+
+    estimate_ = new MonteCarloHypervolume().estimate(front, maximumValues_, minimumValues_) ;
+    return estimate_ ;
+  } // getHypervolumeEstimate
     
   /**
    * Returns the hypervolume of the true Pareto front
    * @return The hypervolume of the true Pareto front
    */
   public double getTrueParetoFrontHypervolume() {
+    if (Double.isNaN(trueParetoFrontHypervolume_))
+      trueParetoFrontHypervolume_ = new Hypervolume().hypervolume(
+                 trueParetoFrontMatrix_,
+                 maximumValues_,
+                 minimumValues_,
+                 problem_.getNumberOfObjectives());
     return trueParetoFrontHypervolume_ ;
   }
   
@@ -76,8 +158,9 @@ public class QualityIndicator {
   public double getIGD(SolutionSet solutionSet) {
     return new InvertedGenerationalDistance().invertedGenerationalDistance(
                     solutionSet.writeObjectivesToMatrix(),
-                    trueParetoFront_.writeObjectivesToMatrix(),
-                    problem_.getNumberOfObjectives());
+                    normalizedTrueParetoFront_,
+                    maximumValues_,
+                    minimumValues_);
   } // getIGD
   
  /**
@@ -86,10 +169,14 @@ public class QualityIndicator {
    * @return The value of the hypervolume indicator
    */
   public double getGD(SolutionSet solutionSet) {
+    // The k-d tree of the true Pareto front is built in the first call
+    if (normalizedTrueParetoFrontTree_ == null)
+      normalizedTrueParetoFrontTree_ = new FrontTree(normalizedTrueParetoFront_) ;
     return new GenerationalDistance().generationalDistance(
                     solutionSet.writeObjectivesToMatrix(),
-                    trueParetoFront_.writeObjectivesToMatrix(),
-                    problem_.getNumberOfObjectives());
+                    normalizedTrueParetoFrontTree_,
+                    maximumValues_,
+                    minimumValues_);
   } // getGD
   
   /**
@@ -99,8 +186,9 @@ public class QualityIndicator {
    */
   public double getSpread(SolutionSet solutionSet) {
     return new Spread().spread(solutionSet.writeObjectivesToMatrix(),
-                               trueParetoFront_.writeObjectivesToMatrix(),
-                               problem_.getNumberOfObjectives());
+                               sortedNormalizedTrueParetoFront_,
+                               maximumValues_,
+                               minimumValues_);
   } // getGD
   
     /**
@@ -110,7 +198,31 @@ public class QualityIndicator {
    */
   public double getEpsilon(SolutionSet solutionSet) {
     return new Epsilon().epsilon(solutionSet.writeObjectivesToMatrix(),
-                                 trueParetoFront_.writeObjectivesToMatrix(),
+                                 trueParetoFrontMatrix_,
                                  problem_.getNumberOfObjectives());
   } // getEpsilon
+
+  /**
+   * Returns the non-dominated points of a front, in lexicographical order
+   */
+  private double [][] getFirstFront(double [][] front) {
+    int numberOfObjectives = problem_.getNumberOfObjectives() ;
+    double [] objectives = new double[front.length * numberOfObjectives] ;
+    for (int i = 0; i < front.length; i++)
+      System.arraycopy(front[i], 0, objectives, i * numberOfObjectives, numberOfObjectives) ;
+
+    if (sorter_ == null)
+      sorter_ = new NondominatedSorter() ;
+    int [] ranks = new int[front.length] ;
+    sorter_.sort(objectives, front.length, numberOfObjectives, ranks) ;
+
+    int size = 0 ;
+    double [][] firstFront = new double[front.length][] ;
+    for (int i = 0; i < front.length; i++)
+      if (ranks[i] == 0)
+        firstFront[size++] = front[i] ;
+    firstFront = Arrays.copyOf(firstFront, size) ;
+    Arrays.sort(firstFront, new LexicoGraphicalComparator()) ;
+    return firstFront ;
+  } // getFirstFront
 } // QualityIndicator
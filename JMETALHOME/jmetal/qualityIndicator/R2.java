@@ -21,6 +21,7 @@
 package jmetal.qualityIndicator;
 
 import jmetal.core.SolutionSet;
+import jmetal.qualityIndicator.util.R2Contributions;
 
 import java.io.BufferedReader;
 import java.io.FileInputStream;
@@ -31,7 +32,6 @@ import java.util.StringTokenizer;
 public class R2 {
 
   public jmetal.qualityIndicator.util.MetricsUtil utils_;
-  double [][] matrix_ = null;
   double [][] lambda_ = null;
   int    nObj_         = 0;
   
@@ -147,75 +147,31 @@ public class R2 {
   private double 
   R2Withouth(double [][] approximation,double [][] paretoFront, int index) 
   {
-        
-    /**
-     * Stores the maximum values of true Pareto front.
-     */
-    double [] maximumValue ;
-    
-    /**
-     * Stores the minimum values of the true Pareto front.
-     */
-    double [] minimumValue ;
-    
-    /**
-     * Stores the normalized front.
-     */
-    double [][] normalizedApproximation ;
-    
-    /**
-     * Stores the normalized true Pareto front.
-     */ 
-    double [][] normalizedParetoFront ; 
-    
-    // STEP 1. Obtain the maximum and minimum values of the Pareto front
-    maximumValue = utils_.getMaximumValues(paretoFront, nObj_);
-    minimumValue = utils_.getMinimumValues(paretoFront, nObj_);
-    
-    // STEP 2. Get the normalized front and true Pareto fronts
-    normalizedApproximation       = utils_.getNormalizedFront(approximation, 
-                                                              maximumValue, 
-                                                              minimumValue);
-    normalizedParetoFront = utils_.getNormalizedFront(paretoFront, 
-    		                                          maximumValue,
-    		                                          minimumValue);
-    
-    // STEP 3. compute all the matrix of tchebicheff values if it is null
-    //if (matrix_ == null) {
-        matrix_ = new double[approximation.length][lambda_.length];
-        for (int i = 0; i < approximation.length; i++) {
-            for (int j = 0; j < lambda_.length; j++) {
-                matrix_[i][j] = lambda_[j][0] * Math.abs(normalizedApproximation[i][0]); 
-                for (int n = 1; n < nObj_; n++) {
-                    matrix_[i][j] = Math.max(matrix_[i][j], lambda_[j][n] * Math.abs(normalizedApproximation[i][n]));
-                }
-            }
-        }
-    //}
-    
-        
-    // STEP45. Compute the R2 value withouth the point
-    double sumWithout = 0.0;     
-    for (int i = 0; i < lambda_.length; i++) {
-        
-        double tmp;
-        if (index != 0) {
-            tmp = matrix_[0][i];
-        } else {
-            tmp = matrix_[1][i];
-        }
-        for (int j = 0; j < approximation.length; j++) {
-            if ( j != index) {
-                tmp = Math.min(tmp, matrix_[j][i]);
-            }
-        }
-        sumWithout += tmp;
-    }
-    
-    // STEP 5. Return the R2 value
-    return sumWithout / (double) lambda_.length;
-            
+    // STEP 1. Compute the utility matrix of the normalized front
+    R2Contributions contributions = contributions(approximation, paretoFront);
+
+    // STEP 2. Return the R2 value withouth the point
+    return contributions.getR2Without(index);
   } // R2
+
+  /**
+   * Returns the utility matrix of a front, normalized with the maximum and
+   * minimum values of the true Pareto front
+   * @param approximation The front
+   * @param paretoFront The true Pareto front
+   */
+  private R2Contributions
+  contributions(double [][] approximation, double [][] paretoFront)
+  {
+    double [] maximumValue = utils_.getMaximumValues(paretoFront, nObj_);
+    double [] minimumValue = utils_.getMinimumValues(paretoFront, nObj_);
+
+    R2Contributions contributions = new R2Contributions(lambda_, nObj_);
+    contributions.setFront(utils_.getNormalizedFront(approximation,
+                                                     maximumValue,
+                                                     minimumValue));
+    return contributions;
+  } // contributions
   
    /**
    * Returns the element contributing the most to the R2 indicator
@@ -227,18 +183,7 @@ public class R2 {
   public int 
   getBest(double [][] approximation,double [][] paretoFront) 
   {
-        int     index_best = -1;
-        double  value = Double.NEGATIVE_INFINITY;
-        
-        for (int i = 0; i < approximation.length; i++) {
-            double aux = this.R2Withouth(approximation, paretoFront, i);
-            if (aux > value) {
-                index_best = i;
-                value = aux;
-            }
-        }  
-            
-        return index_best;
+        return contributions(approximation, paretoFront).getBest();
   } // getBest 
   
 
@@ -252,18 +197,7 @@ public class R2 {
   public int 
   getWorst(double [][] approximation,double [][] paretoFront) 
   {
-        int     index_worst = -1;
-        double  value = Double.POSITIVE_INFINITY;
-        
-        for (int i = 0; i < approximation.length; i++) {
-            double aux = this.R2Withouth(approximation, paretoFront, i);
-            if (aux < value) {
-                index_worst = i;
-                value = aux;
-            }
-        }  
-            
-        return index_worst;
+        return contributions(approximation, paretoFront).getWorst();
   } // getWorst
   
 
@@ -312,8 +246,10 @@ public class R2 {
         double [] values       = new double[approximation.length];
                                 
         
+        // the R2 values without each point are computed in a single pass
+        R2Contributions contributions = contributions(approximation, paretoFront);
         for (int i = 0; i < approximation.length; i++) {
-            values[i]      = this.R2Withouth(approximation, paretoFront, i);
+            values[i]      = contributions.getR2Without(i);
             index_bests[i] = i;
         } // for
         
@@ -367,65 +303,11 @@ public class R2 {
   public double 
   R2(double [][] approximation,double [][] paretoFront) 
   {
-        
-    /**
-     * Stores the maximum values of true pareto front.
-     */
-    double [] maximumValue ;
-    
-    /**
-     * Stores the minimum values of the true pareto front.
-     */
-    double [] minimumValue ;
-    
-    /**
-     * Stores the normalized front.
-     */
-    double [][] normalizedApproximation ;
-    
-    /**
-     * Stores the normalized true Pareto front.
-     */ 
-    double [][] normalizedParetoFront ; 
-    
-    // STEP 1. Obtain the maximum and minimum values of the Pareto front
-    maximumValue = utils_.getMaximumValues(paretoFront, nObj_);
-    minimumValue = utils_.getMinimumValues(paretoFront, nObj_);
-    
-    // STEP 2. Get the normalized front and true Pareto fronts
-    normalizedApproximation       = utils_.getNormalizedFront(approximation, 
-                                                              maximumValue, 
-                                                              minimumValue);
-    normalizedParetoFront = utils_.getNormalizedFront(paretoFront, 
-    		                                          maximumValue,
-    		                                          minimumValue);
-    
-    // STEP 3. compute all the matrix of tchebicheff values if it is null
-    //if (matrix_ == null) {
-        matrix_ = new double[approximation.length][lambda_.length];
-        for (int i = 0; i < approximation.length; i++) {
-            for (int j = 0; j < lambda_.length; j++) {
-                matrix_[i][j] = lambda_[j][0] * Math.abs(normalizedApproximation[i][0]); 
-                for (int n = 1; n < nObj_; n++) {
-                    matrix_[i][j] = Math.max(matrix_[i][j], lambda_[j][n] * Math.abs(normalizedApproximation[i][n]));
-                }
-            }
-        }
-    //}
-    
-    // STEP 4. The matrix is not null. Compute the R2 value
-    double sum = 0.0;
-    for (int i = 0; i < lambda_.length; i++) {
-        double tmp = matrix_[0][i];
-        for (int j = 1; j < approximation.length; j++) {
-            tmp = Math.min(tmp, matrix_[j][i]);
-        }
-        sum += tmp;
-    }
-    
-    // STEP 5. Return the R2 value
-    return sum / (double) lambda_.length;
-            
+    // STEP 1. Compute the utility matrix of the normalized front
+    R2Contributions contributions = contributions(approximation, paretoFront);
+
+    // STEP 2. Return the R2 value
+    return contributions.getR2();
   } // R2
 
   /**
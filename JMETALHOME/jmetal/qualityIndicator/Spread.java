@@ -66,11 +66,6 @@ public class Spread {
      */
     double [] minimumValue ;
 
-    /**
-     * Stores the normalized front.
-     */
-    double [][] normalizedFront ;
-
     /**
      * Stores the normalized true Pareto front.
      */ 
@@ -80,19 +75,42 @@ public class Spread {
     maximumValue = utils_.getMaximumValues(trueParetoFront, numberOfObjectives);
     minimumValue = utils_.getMinimumValues(trueParetoFront, numberOfObjectives);
 
-    // STEP 2. Get the normalized front and true Pareto fronts
-    normalizedFront = utils_.getNormalizedFront(front, 
-    		                                        maximumValue, 
-    		                                        minimumValue);
+    // STEP 2. Get the normalized true Pareto front, and sort it
     normalizedParetoFront = utils_.getNormalizedFront(trueParetoFront, 
     		                                              maximumValue,
     		                                              minimumValue);
+    Arrays.sort(normalizedParetoFront,
+    		    new jmetal.qualityIndicator.util.LexicoGraphicalComparator());
 
-    // STEP 3. Sort normalizedFront and normalizedParetoFront;
+    return spread(front, normalizedParetoFront, maximumValue, minimumValue);
+  } // spread
+
+  /**
+   * Returns the spread of a front, normalized with the maximum and minimum
+   * values of the true Pareto front
+   *  @param front The front.
+   *  @param normalizedParetoFront The normalized true pareto front, sorted
+   *  in lexicographical order.
+   *  @param maximumValue The maximum values of the true pareto front.
+   *  @param minimumValue The minimum values of the true pareto front.
+   */
+  public double spread(double [][] front, 
+                       double [][] normalizedParetoFront,
+                       double []   maximumValue,
+                       double []   minimumValue) {
+    /**
+     * Stores the normalized front.
+     */
+    double [][] normalizedFront ;
+
+    // STEP 2. Get the normalized front
+    normalizedFront = utils_.getNormalizedFront(front, 
+    		                                        maximumValue, 
+    		                                        minimumValue);
+
+    // STEP 3. Sort normalizedFront
     Arrays.sort(normalizedFront,
     		    new jmetal.qualityIndicator.util.LexicoGraphicalComparator());
-    Arrays.sort(normalizedParetoFront,
-    		    new jmetal.qualityIndicator.util.LexicoGraphicalComparator());
 
     int numberOfPoints     = normalizedFront.length;
 //    int numberOfTruePoints = normalizedParetoFront.length;
@@ -25,9 +25,13 @@ package jmetal.qualityIndicator.fastHypervolume;
 import jmetal.core.Solution;
 import jmetal.core.SolutionSet;
 import jmetal.qualityIndicator.fastHypervolume.wfg.Front;
+import jmetal.qualityIndicator.fastHypervolume.wfg.ParallelWFGHV;
+import jmetal.qualityIndicator.fastHypervolume.wfg.Point;
 import jmetal.qualityIndicator.fastHypervolume.wfg.WFGHV;
 import jmetal.util.comparators.ObjectiveComparator;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Created with IntelliJ IDEA.
  * User: Antonio J. Nebro
@@ -37,17 +41,41 @@ import jmetal.util.comparators.ObjectiveComparator;
 public class FastHypervolume {
   Solution referencePoint_ ;
   int numberOfObjectives_ ;
-  double offset_ = 20.0 ;
+  double offset_ ;
+
+  /**
+   * Pool in which the hypervolume of the fronts of more than two objectives
+   * is computed, or null to compute it in the calling thread
+   */
+  private final ForkJoinPool pool_ ;
+
+  /**
+   * Objects computing the hypervolume, kept between calls
+   */
+  private WFGHV wfg_ ;
+  private int wfgDimension_ ;
+  private int wfgCapacity_ ;
+  private ParallelWFGHV parallelWFG_ ;
 
   public FastHypervolume() {
-    referencePoint_ = null ;
-    numberOfObjectives_ = 0 ;
+    this(20.0, null) ;
   }
 
   public FastHypervolume(double offset) {
+    this(offset, null) ;
+  }
+
+  /**
+   * Constructor
+   * @param offset Offset of the reference point of computeHypervolume(solutionSet)
+   * @param pool Pool in which the hypervolume is computed, or null to compute
+   * it sequentially
+   */
+  public FastHypervolume(double offset, ForkJoinPool pool) {
     referencePoint_ = null ;
     numberOfObjectives_ = 0 ;
     offset_ = offset ;
+    pool_ = pool ;
   }
 
   public double computeHypervolume(SolutionSet solutionSet) {
@@ -65,7 +93,7 @@ public class FastHypervolume {
       else {
         updateReferencePoint(solutionSet);
         Front front = new Front(solutionSet.size(), numberOfObjectives_, solutionSet) ;
-        hv = new WFGHV(numberOfObjectives_, solutionSet.size(), referencePoint_).getHV(front) ;
+        hv = getHV(front, referencePoint_) ;
       }
     }
 
@@ -85,9 +113,8 @@ public class FastHypervolume {
 
         hv = get2DHV(solutionSet);
       } else {
-        WFGHV wfg = new WFGHV(numberOfObjectives_, solutionSet.size());
         Front front = new Front(solutionSet.size(), numberOfObjectives_, solutionSet);
-        hv = wfg.getHV(front, referencePoint);
+        hv = getHV(front, referencePoint);
       }
     }
 
@@ -95,6 +122,28 @@ public class FastHypervolume {
   }
 
 
+  /**
+   * Computes the hypervolume of a front of more than two objectives, in the
+   * pool if there is one, reusing the objects of the previous calls
+   */
+  private double getHV(Front front, Solution referencePoint) {
+    if (pool_ != null) {
+      if ((parallelWFG_ == null) || (wfgDimension_ != numberOfObjectives_)) {
+        parallelWFG_ = new ParallelWFGHV(numberOfObjectives_, new Point(referencePoint), pool_) ;
+        wfgDimension_ = numberOfObjectives_ ;
+      }
+      return parallelWFG_.getHV(front, new Point(referencePoint)) ;
+    }
+
+    if ((wfg_ == null) || (wfgDimension_ != numberOfObjectives_) ||
+        (wfgCapacity_ < front.nPoints_)) {
+      wfg_ = new WFGHV(numberOfObjectives_, front.nPoints_) ;
+      wfgDimension_ = numberOfObjectives_ ;
+      wfgCapacity_ = front.nPoints_ ;
+    }
+    return wfg_.getHV(front, referencePoint) ;
+  }
+
   /**
    * Updates the reference point
    */
@@ -135,31 +184,28 @@ public class FastHypervolume {
   }
 
   /**
-   * Computes the HV contribution of the solutions
-   * @return
+   * Computes the HV contribution of the solutions, with the reference point
+   * of computeHypervolume(solutionSet), and sets them as their crowding
+   * distances. As in computeHypervolume, the bi-objective sets are sorted in
+   * descending order by the second objective.
    */
   public void computeHVContributions(SolutionSet solutionSet) {
-    double[] contributions = new double[solutionSet.size()] ;
-    double solutionSetHV = 0 ;
+    if (solutionSet.size() == 0)
+      return ;
 
-    solutionSetHV = computeHypervolume(solutionSet) ;
+    numberOfObjectives_ = solutionSet.get(0).getNumberOfObjectives() ;
+    referencePoint_ = new Solution(numberOfObjectives_) ;
+    updateReferencePoint(solutionSet);
+    if (numberOfObjectives_ == 2)
+      solutionSet.sort(new ObjectiveComparator(numberOfObjectives_-1, true));
 
-    for (int i = 0; i < solutionSet.size(); i++) {
-      Solution currentPoint = solutionSet.get(i);
-      solutionSet.remove(i) ;
+    double[] referencePoint = new double[numberOfObjectives_] ;
+    for (int i = 0; i < numberOfObjectives_; i++)
+      referencePoint[i] = referencePoint_.getObjective(i) ;
 
-      if (numberOfObjectives_ == 2) {
-        //updateReferencePoint(solutionSet);
-        //solutionSet.sort(new ObjectiveComparator(numberOfObjectives_-1, true));
-        contributions[i] = solutionSetHV - get2DHV(solutionSet) ;
-      }
-      else {
-        Front front = new Front(solutionSet.size(), numberOfObjectives_, solutionSet) ;
-        double hv = new WFGHV(numberOfObjectives_, solutionSet.size(), referencePoint_).getHV(front) ;
-        contributions[i] = solutionSetHV - hv ;
-      }
-      solutionSet.add(i, currentPoint) ;
-    }
+    double[] contributions = new double[solutionSet.size()] ;
+    new HypervolumeContributions().computeContributions(
+            solutionSet.writeObjectivesToMatrix(), solutionSet.size(), referencePoint, contributions) ;
 
     for (int i = 0; i < solutionSet.size(); i++) {
       solutionSet.get(i).setCrowdingDistance(contributions[i]) ;
@@ -0,0 +1,357 @@
+//  HypervolumeContributions.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.qualityIndicator.fastHypervolume;
+
+import jmetal.qualityIndicator.fastHypervolume.wfg.Front;
+import jmetal.qualityIndicator.fastHypervolume.wfg.Point;
+import jmetal.qualityIndicator.fastHypervolume.wfg.WFGHV;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This class computes the exclusive hypervolume contributions of a set of
+ * points (the hypervolume lost when each one is removed), assuming
+ * minimization and a given reference point, without computing the
+ * hypervolume of the rest of the set for each point:
+ * - two objectives: the points are sorted, and the contribution of each one
+ *   is the rectangle bounded by its two neighbours (O(n log n));
+ * - three objectives: the algorithm of Emmerich and Fonseca ("Computing
+ *   hypervolume contributions in low dimensions: asymptotically optimal
+ *   algorithm and complexity results", EMO 2011). The points are swept by
+ *   the third objective, keeping the two-dimensional front of the points
+ *   swept in a tree; the region dominated only by each point of that front
+ *   is kept as a list of boxes, which are closed (adding their volume to the
+ *   contribution) when a new point covers them (O(n log n));
+ * - more objectives: the exclusive hypervolume of each point is computed
+ *   with <code>WFGHV</code>, limiting the rest of the points to the region
+ *   dominated by it.
+ * Duplicated points, and points not dominating the reference point, get a
+ * contribution of 0. The algorithms for two and three objectives need a
+ * non-dominated set; if a point dominated by another one is found, the
+ * general one is used.
+ */
+public class HypervolumeContributions {
+
+  /**
+   * Part of the region dominated only by a point: [lowerX, upperX) x
+   * [lowerY, upperY), swept from the value z of the third objective
+   */
+  private static class Box {
+    double lowerX_ ;
+    double upperX_ ;
+    double lowerY_ ;
+    double upperY_ ;
+    double z_ ;
+
+    Box(double lowerX, double upperX, double lowerY, double upperY, double z) {
+      lowerX_ = lowerX ;
+      upperX_ = upperX ;
+      lowerY_ = lowerY ;
+      upperY_ = upperY ;
+      z_      = z ;
+    } // Box
+
+    double volume(double z) {
+      return (upperX_ - lowerX_) * (upperY_ - lowerY_) * (z - z_) ;
+    } // volume
+  } // Box
+
+  /**
+   * Computes the hypervolume contributions of a set of points
+   * @param points The points
+   * @param referencePoint The reference point
+   * @return The contributions
+   */
+  public double[] computeContributions(double [][] points, double [] referencePoint) {
+    double [] contributions = new double[points.length] ;
+    computeContributions(points, points.length, referencePoint, contributions) ;
+    return contributions ;
+  } // computeContributions
+
+  /**
+   * Computes the hypervolume contributions of a set of points
+   * @param points The points; only the first numberOfPoints ones are used
+   * @param numberOfPoints The number of points
+   * @param referencePoint The reference point, which gives the number of
+   * objectives
+   * @param contributions Returns the contribution of each point
+   */
+  public void computeContributions(double [][] points, int numberOfPoints,
+                                   double [] referencePoint, double [] contributions) {
+    final int numberOfObjectives = referencePoint.length ;
+
+    Integer [] sorted = new Integer[numberOfPoints] ;
+    int size = 0 ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      contributions[i] = 0.0 ;
+      if (dominates(points[i], referencePoint, numberOfObjectives))
+        sorted[size++] = i ;
+    } // for
+
+    // Sorted from the last objective to the first one, so the duplicated
+    // points are consecutive
+    final double [][] values = points ;
+    Arrays.sort(sorted, 0, size, new Comparator<Integer>() {
+      public int compare(Integer i, Integer j) {
+        for (int k = numberOfObjectives - 1; k >= 0; k--) {
+          if (values[i][k] < values[j][k])
+            return -1 ;
+          else if (values[i][k] > values[j][k])
+            return 1 ;
+        } // for
+        return 0 ;
+      }
+    }) ;
+
+    int [] order = new int[size] ;
+    boolean [] duplicated = new boolean[numberOfPoints] ;
+    int distinct = 0 ;
+    for (int k = 0; k < size; k++) {
+      int i = sorted[k] ;
+      if ((distinct > 0) && equal(points[order[distinct - 1]], points[i], numberOfObjectives))
+        duplicated[order[distinct - 1]] = true ;
+      else
+        order[distinct++] = i ;
+    } // for
+
+    if (distinct > 0) {
+      boolean done ;
+      if (numberOfObjectives == 2)
+        done = contributions2D(points, order, distinct, referencePoint, contributions) ;
+      else if (numberOfObjectives == 3)
+        done = contributions3D(points, numberOfPoints, order, distinct, referencePoint, contributions) ;
+      else
+        done = false ;
+
+      if (!done)
+        contributionsWFG(points, order, distinct, referencePoint, contributions) ;
+    } // if
+
+    for (int k = 0; k < distinct; k++)
+      if (duplicated[order[k]])
+        contributions[order[k]] = 0.0 ;
+  } // computeContributions
+
+  /**
+   * Two objectives: the points are sorted by increasing second objective, so
+   * the first one decreases; each point dominates alone the rectangle
+   * between the first objective of the previous point and the second
+   * objective of the next one
+   * @return false if the set is dominated
+   */
+  private boolean contributions2D(double [][] points, int [] order, int size,
+                                  double [] referencePoint, double [] contributions) {
+    for (int k = 1; k < size; k++)
+      if (points[order[k]][0] >= points[order[k - 1]][0])
+        return false ;
+
+    for (int k = 0; k < size; k++) {
+      double [] point = points[order[k]] ;
+      double right = (k == 0) ? referencePoint[0] : points[order[k - 1]][0] ;
+      double top = (k == size - 1) ? referencePoint[1] : points[order[k + 1]][1] ;
+      contributions[order[k]] = (right - point[0]) * (top - point[1]) ;
+    } // for
+    return true ;
+  } // contributions2D
+
+  /**
+   * Three objectives: the points are swept by increasing third objective
+   * (dominated points are always swept after a point dominating them).
+   * The front of the points swept, projected on the first two objectives, is
+   * kept sorted by the first objective (so the second one decreases). The
+   * region dominated only by a point of the front is bounded by its
+   * neighbours, minus the regions dominated by the points it dominated
+   * in the plane when it was swept; it is kept as boxes sorted by the first
+   * objective (the second one bounding them decreases). A new point only
+   * reduces the boxes of the points it dominates in the plane (which are
+   * removed from the front) and of its two neighbours: the right part of the
+   * boxes of the previous one and the upper part of the boxes of the next one.
+   * @return false if the set is dominated
+   */
+  @SuppressWarnings("unchecked")
+  private boolean contributions3D(double [][] points, int numberOfPoints, int [] order,
+                                  int size, double [] referencePoint, double [] contributions) {
+    TreeMap<Double, Integer> front = new TreeMap<Double, Integer>() ;
+    ArrayDeque<Box> [] boxes = new ArrayDeque[numberOfPoints] ;
+
+    for (int k = 0; k < size; k++) {
+      int point = order[k] ;
+      // Adding 0.0 turns -0.0 into 0.0, as the keys are compared with compareTo
+      double x = points[point][0] + 0.0 ;
+      double y = points[point][1] ;
+      double z = points[point][2] ;
+
+      Map.Entry<Double, Integer> entry = front.floorEntry(x) ;
+      if ((entry != null) && (points[entry.getValue()][1] <= y))
+        return false ;
+
+      Map.Entry<Double, Integer> previous = front.lowerEntry(x) ;
+      double top = (previous == null) ? referencePoint[1] : points[previous.getValue()][1] ;
+
+      ArrayDeque<Box> list = new ArrayDeque<Box>() ;
+      double left = x ;
+      Map.Entry<Double, Integer> next = front.ceilingEntry(x) ;
+      while ((next != null) && (points[next.getValue()][1] >= y)) {
+        int dominated = next.getValue() ;
+        addBox(list, left, next.getKey(), y, top, z) ;
+        left = next.getKey() ;
+        top  = points[dominated][1] ;
+        for (Box box : boxes[dominated])
+          contributions[dominated] += box.volume(z) ;
+        boxes[dominated] = null ;
+        front.remove(left) ;
+        next = front.higherEntry(left) ;
+      } // while
+      double right = (next == null) ? referencePoint[0] : next.getKey() ;
+      addBox(list, left, right, y, top, z) ;
+      boxes[point] = list ;
+
+      if (previous != null)
+        cutRight(boxes[previous.getValue()], x, z, previous.getValue(), contributions) ;
+      if (next != null)
+        cutTop(boxes[next.getValue()], y, z, next.getValue(), contributions) ;
+      front.put(x, point) ;
+    } // for
+
+    for (int point : front.values())
+      for (Box box : boxes[point])
+        contributions[point] += box.volume(referencePoint[2]) ;
+    return true ;
+  } // contributions3D
+
+  private void addBox(ArrayDeque<Box> list, double left, double right,
+                      double bottom, double top, double z) {
+    if ((right > left) && (top > bottom))
+      list.addLast(new Box(left, right, bottom, top, z)) ;
+  } // addBox
+
+  /**
+   * Closes the part of the boxes of a point to the right of x
+   */
+  private void cutRight(ArrayDeque<Box> list, double x, double z, int point,
+                        double [] contributions) {
+    while (!list.isEmpty() && (list.peekLast().lowerX_ >= x))
+      contributions[point] += list.pollLast().volume(z) ;
+
+    Box box = list.peekLast() ;
+    if ((box != null) && (box.upperX_ > x)) {
+      contributions[point] += box.volume(z) ;
+      box.upperX_ = x ;
+      box.z_      = z ;
+    } // if
+  } // cutRight
+
+  /**
+   * Closes the part of the boxes of a point above y; the boxes cut are
+   * merged into one
+   */
+  private void cutTop(ArrayDeque<Box> list, double y, double z, int point,
+                      double [] contributions) {
+    if (list.isEmpty() || (list.peekFirst().upperY_ <= y))
+      return ;
+
+    Box box = list.peekFirst() ;
+    double left   = box.lowerX_ ;
+    double bottom = box.lowerY_ ;
+    double right  = left ;
+    while (!list.isEmpty() && (list.peekFirst().upperY_ > y)) {
+      box = list.pollFirst() ;
+      contributions[point] += box.volume(z) ;
+      right = box.upperX_ ;
+    } // while
+    list.addFirst(new Box(left, right, bottom, y, z)) ;
+  } // cutTop
+
+  /**
+   * Any number of objectives: the contribution of a point is the hypervolume
+   * it dominates minus the hypervolume of the rest of the points, limited to
+   * the region dominated by the point
+   */
+  private void contributionsWFG(double [][] points, int [] order, int size,
+                                double [] referencePoint, double [] contributions) {
+    int numberOfObjectives = referencePoint.length ;
+    if (size == 1) {
+      contributions[order[0]] = volume(points[order[0]], referencePoint) ;
+      return ;
+    } // if
+
+    Front front = new Front(size - 1, numberOfObjectives) ;
+    WFGHV wfg = new WFGHV(numberOfObjectives, size, new Point(referencePoint)) ;
+    for (int k = 0; k < size; k++) {
+      double [] point = points[order[k]] ;
+      int n = 0 ;
+      for (int l = 0; l < size; l++) {
+        if (l != k) {
+          double [] limited = front.points_[n++].objectives_ ;
+          for (int j = 0; j < numberOfObjectives; j++)
+            limited[j] = Math.max(point[j], points[order[l]][j]) ;
+        } // if
+      } // for
+      front.nPoints_ = n ;
+
+      double hv = (numberOfObjectives == 2) ? get2DHV(front, referencePoint) : wfg.getHV(front) ;
+      contributions[order[k]] = volume(point, referencePoint) - hv ;
+    } // for
+  } // contributionsWFG
+
+  /**
+   * Hypervolume of a front of two objectives, which can contain dominated
+   * points
+   */
+  private double get2DHV(Front front, double [] referencePoint) {
+    Arrays.sort(front.points_, 0, front.nPoints_, new Comparator<Point>() {
+      public int compare(Point point1, Point point2) {
+        return Double.compare(point1.objectives_[0], point2.objectives_[0]) ;
+      }
+    }) ;
+
+    double hv = 0.0 ;
+    double top = referencePoint[1] ;
+    for (int i = 0; i < front.nPoints_; i++) {
+      double [] point = front.points_[i].objectives_ ;
+      if (point[1] < top) {
+        hv += (referencePoint[0] - point[0]) * (top - point[1]) ;
+        top = point[1] ;
+      } // if
+    } // for
+    return hv ;
+  } // get2DHV
+
+  private double volume(double [] point, double [] referencePoint) {
+    double volume = 1.0 ;
+    for (int j = 0; j < referencePoint.length; j++)
+      volume *= referencePoint[j] - point[j] ;
+    return volume ;
+  } // volume
+
+  private boolean dominates(double [] point, double [] referencePoint, int numberOfObjectives) {
+    for (int j = 0; j < numberOfObjectives; j++)
+      if (!(point[j] < referencePoint[j]))
+        return false ;
+    return true ;
+  } // dominates
+
+  private boolean equal(double [] point1, double [] point2, int numberOfObjectives) {
+    for (int j = 0; j < numberOfObjectives; j++)
+      if (point1[j] != point2[j])
+        return false ;
+    return true ;
+  } // equal
+} // HypervolumeContributions
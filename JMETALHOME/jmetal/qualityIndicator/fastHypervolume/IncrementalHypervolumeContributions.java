@@ -0,0 +1,319 @@
+//  IncrementalHypervolumeContributions.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.qualityIndicator.fastHypervolume;
+
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * This class keeps the exclusive hypervolume contributions of a set of
+ * non-dominated solutions (minimization) up to date while solutions are
+ * added and removed, so the least contributor is found in O(log n) time:
+ * - with two objectives, the solutions are kept sorted by the first
+ *   objective, and the contribution of a solution only depends on its two
+ *   neighbours, so adding or removing a solution only updates them in
+ *   O(log n) time; changing the reference point only updates the extreme
+ *   solutions;
+ * - with more objectives, the contributions are computed again with
+ *   <code>HypervolumeContributions</code> (a dimension sweep in O(n log n)
+ *   time with three objectives) the first time they are requested after a
+ *   change; with more than three objectives, they can be estimated with a
+ *   <code>MonteCarloHypervolume</code> instead (see setEstimator).
+ * The ties between contributions are broken by the order in which the
+ * solutions were added.
+ */
+public class IncrementalHypervolumeContributions {
+
+  /**
+   * Number of objectives of the solutions
+   */
+  private final int numberOfObjectives_ ;
+
+  /**
+   * Reference point of the contributions
+   */
+  private double [] referencePoint_ ;
+
+  /**
+   * Contribution, and order of addition, of each solution
+   */
+  private final Map<Solution, Entry> entries_ ;
+
+  /**
+   * Stores the solutions sorted by their objective values (two objectives)
+   */
+  private final TreeSet<Solution> objectiveOrder_ ;
+
+  /**
+   * Stores the solutions sorted by their contributions
+   */
+  private final TreeSet<Solution> contributionOrder_ ;
+
+  /**
+   * True if the contributions have to be computed again (more than two
+   * objectives)
+   */
+  private boolean dirty_ ;
+
+  /**
+   * Number of solutions added so far
+   */
+  private long added_ ;
+
+  /**
+   * Estimator of the contributions with more than three objectives, or null
+   */
+  private MonteCarloHypervolume estimator_ ;
+
+  /**
+   * Number of samples of the estimated contributions
+   */
+  private long numberOfSamples_ ;
+
+  /**
+   * Contribution and order of addition of a solution
+   */
+  private static class Entry {
+    long    order_ ;
+    double  contribution_ ;
+    boolean kept_ ;
+  } // Entry
+
+  /**
+   * Constructor
+   * @param numberOfObjectives The number of objectives of the solutions
+   * @param referencePoint The reference point
+   */
+  public IncrementalHypervolumeContributions(int numberOfObjectives, double [] referencePoint) {
+    numberOfObjectives_ = numberOfObjectives ;
+    referencePoint_     = referencePoint.clone() ;
+    entries_            = new IdentityHashMap<Solution, Entry>() ;
+    objectiveOrder_     = new TreeSet<Solution>(new Comparator<Solution>() {
+      public int compare(Solution solution1, Solution solution2) {
+        for (int i = 0; i < 2; i++) {
+          if (solution1.getObjective(i) < solution2.getObjective(i))
+            return -1 ;
+          else if (solution1.getObjective(i) > solution2.getObjective(i))
+            return 1 ;
+        } // for
+        return compareOrder(solution1, solution2) ;
+      }
+    }) ;
+    contributionOrder_  = new TreeSet<Solution>(new Comparator<Solution>() {
+      public int compare(Solution solution1, Solution solution2) {
+        double value1 = entries_.get(solution1).contribution_ ;
+        double value2 = entries_.get(solution2).contribution_ ;
+        if (value1 < value2)
+          return -1 ;
+        else if (value1 > value2)
+          return 1 ;
+        return compareOrder(solution1, solution2) ;
+      }
+    }) ;
+  } // IncrementalHypervolumeContributions
+
+  /**
+   * Changes the reference point
+   * @param referencePoint The reference point
+   */
+  public void setReferencePoint(double [] referencePoint) {
+    boolean changed = false ;
+    for (int i = 0; i < numberOfObjectives_; i++)
+      changed |= referencePoint[i] != referencePoint_[i] ;
+    if (!changed)
+      return ;
+
+    System.arraycopy(referencePoint, 0, referencePoint_, 0, numberOfObjectives_) ;
+    if ((numberOfObjectives_ == 2) && !objectiveOrder_.isEmpty()) {
+      update(objectiveOrder_.first()) ;
+      update(objectiveOrder_.last()) ;
+    } else
+      dirty_ = true ;
+  } // setReferencePoint
+
+  /**
+   * Makes the contributions be estimated, instead of computed exactly, with
+   * more than three objectives
+   * @param estimator The estimator, or null to compute them exactly
+   * @param numberOfSamples The number of samples of each estimation
+   */
+  public void setEstimator(MonteCarloHypervolume estimator, long numberOfSamples) {
+    estimator_       = estimator ;
+    numberOfSamples_ = numberOfSamples ;
+    if (numberOfObjectives_ > 3)
+      dirty_ = true ;
+  } // setEstimator
+
+  /**
+   * Adds a solution, which must not dominate or be dominated by the
+   * solutions of the set
+   * @param solution The solution
+   */
+  public void add(Solution solution) {
+    Entry entry = new Entry() ;
+    entry.order_ = added_++ ;
+    entries_.put(solution, entry) ;
+    contributionOrder_.add(solution) ;
+    if (numberOfObjectives_ == 2) {
+      objectiveOrder_.add(solution) ;
+      update(solution) ;
+      update(objectiveOrder_.lower(solution)) ;
+      update(objectiveOrder_.higher(solution)) ;
+    } else
+      dirty_ = true ;
+  } // add
+
+  /**
+   * Removes a solution of the set
+   * @param solution The solution
+   */
+  public void remove(Solution solution) {
+    contributionOrder_.remove(solution) ;
+    if (numberOfObjectives_ == 2) {
+      Solution previous = objectiveOrder_.lower(solution) ;
+      Solution next = objectiveOrder_.higher(solution) ;
+      objectiveOrder_.remove(solution) ;
+      entries_.remove(solution) ;
+      update(previous) ;
+      update(next) ;
+    } else {
+      entries_.remove(solution) ;
+      dirty_ = true ;
+    } // else
+  } // remove
+
+  /**
+   * Makes the set contain the solutions of a <code>SolutionSet</code>,
+   * adding and removing only the solutions that differ
+   * @param solutionSet The solutions, which must be non-dominated
+   */
+  public void setSolutions(SolutionSet solutionSet) {
+    for (Entry entry : entries_.values())
+      entry.kept_ = false ;
+
+    List<Solution> added = new ArrayList<Solution>() ;
+    for (int i = 0; i < solutionSet.size(); i++) {
+      Entry entry = entries_.get(solutionSet.get(i)) ;
+      if (entry == null)
+        added.add(solutionSet.get(i)) ;
+      else
+        entry.kept_ = true ;
+    } // for
+
+    List<Solution> removed = new ArrayList<Solution>() ;
+    for (Solution solution : contributionOrder_)
+      if (!entries_.get(solution).kept_)
+        removed.add(solution) ;
+
+    for (int i = 0; i < removed.size(); i++)
+      remove(removed.get(i)) ;
+    for (int i = 0; i < added.size(); i++)
+      add(added.get(i)) ;
+  } // setSolutions
+
+  /**
+   * Returns the solution having the lowest contribution, or null if the set
+   * is empty
+   */
+  public Solution getLeastContributor() {
+    computeContributions() ;
+    return contributionOrder_.isEmpty() ? null : contributionOrder_.first() ;
+  } // getLeastContributor
+
+  /**
+   * Returns the contribution of a solution of the set
+   * @param solution The solution
+   */
+  public double getContribution(Solution solution) {
+    computeContributions() ;
+    return entries_.get(solution).contribution_ ;
+  } // getContribution
+
+  /**
+   * Returns the number of solutions of the set
+   */
+  public int size() {
+    return entries_.size() ;
+  } // size
+
+  /**
+   * Updates the contribution of a solution, given its neighbours (two
+   * objectives)
+   */
+  private void update(Solution solution) {
+    if (solution == null)
+      return ;
+
+    Solution previous = objectiveOrder_.lower(solution) ;
+    Solution next = objectiveOrder_.higher(solution) ;
+    double width = (next == null) ? referencePoint_[0] : next.getObjective(0) ;
+    double height = (previous == null) ? referencePoint_[1] : previous.getObjective(1) ;
+    setContribution(solution, (width - solution.getObjective(0)) * (height - solution.getObjective(1))) ;
+  } // update
+
+  private void setContribution(Solution solution, double contribution) {
+    Entry entry = entries_.get(solution) ;
+    if (contribution != entry.contribution_) {
+      contributionOrder_.remove(solution) ;
+      entry.contribution_ = contribution ;
+      contributionOrder_.add(solution) ;
+    } // if
+  } // setContribution
+
+  /**
+   * Computes all the contributions again if they have changed (more than
+   * two objectives)
+   */
+  private void computeContributions() {
+    if (!dirty_)
+      return ;
+
+    List<Solution> solutions = new ArrayList<Solution>(contributionOrder_) ;
+    double [][] points = new double[solutions.size()][numberOfObjectives_] ;
+    for (int i = 0; i < solutions.size(); i++)
+      for (int j = 0; j < numberOfObjectives_; j++)
+        points[i][j] = solutions.get(i).getObjective(j) ;
+
+    double [] contributions ;
+    if ((estimator_ != null) && (numberOfObjectives_ > 3))
+      contributions = estimator_.contributions(points, referencePoint_, numberOfSamples_) ;
+    else {
+      contributions = new double[solutions.size()] ;
+      new HypervolumeContributions().computeContributions(points, solutions.size(),
+              referencePoint_, contributions) ;
+    } // else
+
+    contributionOrder_.clear() ;
+    for (int i = 0; i < solutions.size(); i++) {
+      entries_.get(solutions.get(i)).contribution_ = contributions[i] ;
+      contributionOrder_.add(solutions.get(i)) ;
+    } // for
+    dirty_ = false ;
+  } // computeContributions
+
+  private int compareOrder(Solution solution1, Solution solution2) {
+    long order1 = entries_.get(solution1).order_ ;
+    long order2 = entries_.get(solution2).order_ ;
+    return (order1 < order2) ? -1 : ((order1 > order2) ? 1 : 0) ;
+  } // compareOrder
+} // IncrementalHypervolumeContributions
@@ -0,0 +1,469 @@
+//  MonteCarloHypervolume.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.qualityIndicator.fastHypervolume;
+
+import jmetal.qualityIndicator.util.MetricsUtil;
+import jmetal.util.SharedPool;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class estimates the hypervolume of a set of points (minimization), and
+ * the exclusive hypervolume contributions of the points, by sampling the box
+ * between the points and the reference point. Unlike the exact algorithms,
+ * its cost grows linearly with the number of objectives, so it can be used
+ * with many objectives.
+ *
+ * The box is sampled with a Halton sequence (quasi-random points) in
+ * <code>REPLICATES</code> independent replicates, each one shifted by a
+ * random vector modulo 1 (randomized quasi-Monte Carlo). Each replicate gives
+ * an unbiased estimate, and the spread of the estimates gives a confidence
+ * interval of their mean. The replicates are sampled in rounds until the
+ * half-width of the 95% confidence interval is below a tolerance relative to
+ * the estimate, or until a maximum number of samples is reached.
+ *
+ * The shifts are drawn from a generator initialized with a fixed seed, and
+ * the replicates are combined in the same order, so the estimates are the
+ * same whether the replicates are sampled in a <code>ForkJoinPool</code> or
+ * sequentially.
+ */
+public class MonteCarloHypervolume {
+
+  /**
+   * Seed used by default
+   */
+  public static final long DEFAULT_SEED = 1L ;
+
+  /**
+   * Relative half-width of the confidence interval used by default
+   */
+  public static final double DEFAULT_TOLERANCE = 0.005 ;
+
+  /**
+   * Maximum number of samples used by default
+   */
+  public static final long DEFAULT_MAX_SAMPLES = 1L << 21 ;
+
+  /**
+   * Number of independent replicates
+   */
+  public static final int REPLICATES = 16 ;
+
+  /**
+   * Quantile 0.975 of the Student's t distribution with REPLICATES - 1
+   * degrees of freedom
+   */
+  private static final double T_QUANTILE = 2.131 ;
+
+  /**
+   * Samples of each replicate in each round
+   */
+  private static final int ROUND_SIZE = 4096 ;
+
+  /**
+   * Minimum number of points of a set to be sampled in parallel by default
+   */
+  public static final int PARALLEL_THRESHOLD = 16 ;
+
+
+  private final long seed_ ;
+  private final double tolerance_ ;
+  private final long maxSamples_ ;
+
+  /**
+   * Pool given in the constructor, or null
+   */
+  private final ForkJoinPool pool_ ;
+
+  private final MetricsUtil utils_ ;
+
+  /**
+   * Estimate of a hypervolume, with the bounds of its 95% confidence interval
+   */
+  public static class Estimate {
+    private final double value_ ;
+    private final double halfWidth_ ;
+    private final long samples_ ;
+
+    Estimate(double value, double halfWidth, long samples) {
+      value_     = value ;
+      halfWidth_ = halfWidth ;
+      samples_   = samples ;
+    } // Estimate
+
+    public double getValue() {
+      return value_ ;
+    } // getValue
+
+    public double getLowerBound() {
+      return value_ - halfWidth_ ;
+    } // getLowerBound
+
+    public double getUpperBound() {
+      return value_ + halfWidth_ ;
+    } // getUpperBound
+
+    public long getNumberOfSamples() {
+      return samples_ ;
+    } // getNumberOfSamples
+
+    public String toString() {
+      return value_ + " [" + getLowerBound() + ", " + getUpperBound() + "]" ;
+    } // toString
+  } // Estimate
+
+  /**
+   * Constructor
+   */
+  public MonteCarloHypervolume() {
+    this(DEFAULT_SEED) ;
+  } // MonteCarloHypervolume
+
+  /**
+   * Constructor
+   * @param seed The seed of the random shifts
+   */
+  public MonteCarloHypervolume(long seed) {
+    this(seed, DEFAULT_TOLERANCE, DEFAULT_MAX_SAMPLES, null) ;
+  } // MonteCarloHypervolume
+
+  /**
+   * Constructor
+   * @param seed The seed of the random shifts
+   * @param tolerance Sampling stops when the half-width of the confidence
+   * interval is below this fraction of the estimate
+   * @param maxSamples Maximum number of samples of an estimate
+   * @param pool Pool in which the replicates are always sampled, whatever the
+   * number of points; if null, the object decides by itself
+   */
+  public MonteCarloHypervolume(long seed, double tolerance, long maxSamples, ForkJoinPool pool) {
+    seed_       = seed ;
+    tolerance_  = tolerance ;
+    maxSamples_ = maxSamples ;
+    pool_       = pool ;
+    utils_      = new MetricsUtil() ;
+  } // MonteCarloHypervolume
+
+  /**
+   * Estimates the hypervolume of a front, normalized with the minimum and
+   * maximum values of the true Pareto front, as <code>Hypervolume</code>
+   * does; the reference point is (1, ..., 1) after the normalization
+   * @param paretoFront The front
+   * @param paretoTrueFront The true Pareto front
+   * @param numberOfObjectives The number of objectives
+   */
+  public Estimate estimate(double [][] paretoFront,
+                           double [][] paretoTrueFront,
+                           int numberOfObjectives) {
+    double [] maximumValues = utils_.getMaximumValues(paretoTrueFront, numberOfObjectives) ;
+    double [] minimumValues = utils_.getMinimumValues(paretoTrueFront, numberOfObjectives) ;
+    return estimate(paretoFront, maximumValues, minimumValues) ;
+  } // estimate
+
+  /**
+   * Estimates the hypervolume of a front, normalized with the given minimum
+   * and maximum values. As in <code>Hypervolume</code>, the normalized values
+   * are clamped to [0, 1] and the reference point is (1, ..., 1).
+   * @param paretoFront The front
+   * @param maximumValues The maximum values of the objectives
+   * @param minimumValues The minimum values of the objectives
+   */
+  public Estimate estimate(double [][] paretoFront,
+                           double [] maximumValues,
+                           double [] minimumValues) {
+    double [][] normalizedFront = utils_.getNormalizedFront(paretoFront, maximumValues, minimumValues) ;
+    for (double [] point : normalizedFront)
+      for (int j = 0; j < point.length; j++)
+        point[j] = Math.max(0.0, Math.min(1.0, point[j])) ;
+
+    double [] referencePoint = new double[maximumValues.length] ;
+    Arrays.fill(referencePoint, 1.0) ;
+    return estimate(normalizedFront, referencePoint) ;
+  } // estimate
+
+  /**
+   * Returns the estimated hypervolume of a front, as
+   * <code>Hypervolume.hypervolume</code>
+   * @param paretoFront The front
+   * @param paretoTrueFront The true Pareto front
+   * @param numberOfObjectives The number of objectives
+   */
+  public double hypervolume(double [][] paretoFront,
+                            double [][] paretoTrueFront,
+                            int numberOfObjectives) {
+    return estimate(paretoFront, paretoTrueFront, numberOfObjectives).getValue() ;
+  } // hypervolume
+
+  /**
+   * Estimates the hypervolume of a set of points. The points not strictly
+   * dominating the reference point are ignored.
+   * @param points The points
+   * @param referencePoint The reference point
+   */
+  public Estimate estimate(double [][] points, double [] referencePoint) {
+    Sampler sampler = new Sampler(points, referencePoint, false) ;
+    if (sampler.points_.length == 0)
+      return new Estimate(0.0, 0.0, 0) ;
+
+    long samplesPerReplicate = 0 ;
+    double mean ;
+    double halfWidth ;
+    do {
+      sampler.sample(ROUND_SIZE) ;
+      samplesPerReplicate += ROUND_SIZE ;
+
+      double [] estimates = new double[REPLICATES] ;
+      mean = 0.0 ;
+      for (int k = 0; k < REPLICATES; k++) {
+        estimates[k] = sampler.volume_ * sampler.replicates_[k].hits_ / samplesPerReplicate ;
+        mean += estimates[k] ;
+      } // for
+      mean /= REPLICATES ;
+
+      double variance = 0.0 ;
+      for (int k = 0; k < REPLICATES; k++)
+        variance += (estimates[k] - mean) * (estimates[k] - mean) ;
+      variance /= REPLICATES - 1 ;
+      halfWidth = T_QUANTILE * Math.sqrt(variance / REPLICATES) ;
+    } while (((mean == 0.0) || (halfWidth > tolerance_ * mean)) &&
+             (samplesPerReplicate * REPLICATES < maxSamples_)) ;
+
+    return new Estimate(mean, halfWidth, samplesPerReplicate * REPLICATES) ;
+  } // estimate
+
+  /**
+   * Estimates the exclusive hypervolume contributions of a set of points,
+   * counting the samples dominated by only one point. The points not
+   * strictly dominating the reference point, and repeated points, get 0.
+   * @param points The points
+   * @param referencePoint The reference point
+   * @param numberOfSamples The number of samples
+   */
+  public double [] contributions(double [][] points, double [] referencePoint, long numberOfSamples) {
+    double [] contributions = new double[points.length] ;
+    Sampler sampler = new Sampler(points, referencePoint, true) ;
+    if (sampler.points_.length == 0)
+      return contributions ;
+
+    int samplesPerReplicate = (int) Math.max(1, (numberOfSamples + REPLICATES - 1) / REPLICATES) ;
+    sampler.sample(samplesPerReplicate) ;
+
+    for (int i = 0; i < sampler.points_.length; i++) {
+      long count = 0 ;
+      for (int k = 0; k < REPLICATES; k++)
+        count += sampler.replicates_[k].exclusive_[i] ;
+      contributions[sampler.index_[i]] = sampler.volume_ * count /
+              ((double) samplesPerReplicate * REPLICATES) ;
+    } // for
+
+    return contributions ;
+  } // contributions
+
+  /**
+   * Radical inverse of an index in a base (the coordinate of the Halton
+   * sequence)
+   */
+  private static double radicalInverse(int base, long index) {
+    double result = 0.0 ;
+    double factor = 1.0 / base ;
+    while (index > 0) {
+      result += (index % base) * factor ;
+      index /= base ;
+      factor /= base ;
+    } // while
+    return result ;
+  } // radicalInverse
+
+  /**
+   * Returns the first n prime numbers
+   */
+  private static int [] primes(int n) {
+    int [] primes = new int[n] ;
+    int found = 0 ;
+    for (int candidate = 2; found < n; candidate++) {
+      boolean prime = true ;
+      for (int i = 0; (i < found) && (primes[i] * primes[i] <= candidate) && prime; i++)
+        prime = candidate % primes[i] != 0 ;
+      if (prime)
+        primes[found++] = candidate ;
+    } // for
+    return primes ;
+  } // primes
+
+  /**
+   * Samples the box between the points and the reference point
+   */
+  private class Sampler {
+    final double [][] points_ ;
+    final int [] index_ ;
+    final double [] lower_ ;
+    final double [] upper_ ;
+    final double volume_ ;
+    final int [] bases_ ;
+    final boolean countExclusive_ ;
+    final Replicate [] replicates_ ;
+
+    Sampler(double [][] points, double [] referencePoint, boolean countExclusive) {
+      int numberOfObjectives = referencePoint.length ;
+      int n = 0 ;
+      int [] index = new int[points.length] ;
+      for (int i = 0; i < points.length; i++) {
+        boolean dominates = true ;
+        for (int j = 0; (j < numberOfObjectives) && dominates; j++)
+          dominates = points[i][j] < referencePoint[j] ;
+        if (dominates)
+          index[n++] = i ;
+      } // for
+
+      index_  = Arrays.copyOf(index, n) ;
+      points_ = new double[n][] ;
+      lower_  = referencePoint.clone() ;
+      upper_  = referencePoint ;
+      for (int i = 0; i < n; i++) {
+        points_[i] = points[index_[i]] ;
+        for (int j = 0; j < numberOfObjectives; j++)
+          lower_[j] = Math.min(lower_[j], points_[i][j]) ;
+      } // for
+
+      double volume = 1.0 ;
+      for (int j = 0; j < numberOfObjectives; j++)
+        volume *= upper_[j] - lower_[j] ;
+      volume_ = volume ;
+
+      bases_ = primes(numberOfObjectives) ;
+      countExclusive_ = countExclusive ;
+      replicates_ = new Replicate[REPLICATES] ;
+      Random random = new Random(seed_) ;
+      for (int k = 0; k < REPLICATES; k++) {
+        replicates_[k] = new Replicate(numberOfObjectives, countExclusive ? n : 0) ;
+        for (int j = 0; j < numberOfObjectives; j++)
+          replicates_[k].shift_[j] = random.nextDouble() ;
+      } // for
+    } // Sampler
+
+    /**
+     * Takes the next samples of every replicate
+     */
+    void sample(int samplesPerReplicate) {
+      ForkJoinPool pool = pool_ ;
+      if (pool == null)
+        pool = SharedPool.get(points_.length, PARALLEL_THRESHOLD) ;
+
+      if (pool == null) {
+        for (int k = 0; k < REPLICATES; k++)
+          sample(replicates_[k], samplesPerReplicate) ;
+      } else
+        pool.invoke(new SampleTask(this, 0, REPLICATES, samplesPerReplicate)) ;
+    } // sample
+
+    void sample(Replicate replicate, int samples) {
+      int numberOfObjectives = lower_.length ;
+      double [] sample = new double[numberOfObjectives] ;
+      for (int s = 0; s < samples; s++) {
+        replicate.index_++ ;
+        for (int j = 0; j < numberOfObjectives; j++) {
+          double u = radicalInverse(bases_[j], replicate.index_) + replicate.shift_[j] ;
+          if (u >= 1.0)
+            u -= 1.0 ;
+          sample[j] = lower_[j] + u * (upper_[j] - lower_[j]) ;
+        } // for
+
+        int dominating = -1 ;
+        int count = 0 ;
+        for (int i = 0; (i < points_.length) && (count < 2); i++) {
+          double [] point = points_[i] ;
+          boolean dominates = true ;
+          for (int j = 0; (j < numberOfObjectives) && dominates; j++)
+            dominates = point[j] <= sample[j] ;
+          if (dominates) {
+            dominating = i ;
+            count = countExclusive_ ? count + 1 : 2 ;
+          } // if
+        } // for
+
+        if (count > 0)
+          replicate.hits_++ ;
+        if (countExclusive_ && (count == 1))
+          replicate.exclusive_[dominating]++ ;
+      } // for
+    } // sample
+  } // Sampler
+
+  /**
+   * State of a replicate: its shift, the index of its last sample in the
+   * Halton sequence, and its counts
+   */
+  private static class Replicate {
+    final double [] shift_ ;
+    final long [] exclusive_ ;
+    long index_ ;
+    long hits_ ;
+
+    Replicate(int numberOfObjectives, int numberOfPoints) {
+      shift_     = new double[numberOfObjectives] ;
+      exclusive_ = new long[numberOfPoints] ;
+    } // Replicate
+  } // Replicate
+
+  /**
+   * Task sampling a range of replicates
+   */
+  private static class SampleTask extends RecursiveAction {
+    private final Sampler sampler_ ;
+    private final int from_ ;
+    private final int to_ ;
+    private final int samples_ ;
+
+    SampleTask(Sampler sampler, int from, int to, int samples) {
+      sampler_ = sampler ;
+      from_    = from ;
+      to_      = to ;
+      samples_ = samples ;
+    } // SampleTask
+
+    protected void compute() {
+      if (to_ - from_ == 1)
+        sampler_.sample(sampler_.replicates_[from_], samples_) ;
+      else {
+        int middle = (from_ + to_) >>> 1 ;
+        invokeAll(new SampleTask(sampler_, from_, middle, samples_),
+                  new SampleTask(sampler_, middle, to_, samples_)) ;
+      } // else
+    } // compute
+  } // SampleTask
+
+  /**
+   * This class can be invoked from the command line. Three params are
+   * required: the file containing the front, the file containing the true
+   * Pareto front and the number of objectives
+   */
+  public static void main(String args[]) {
+    if (args.length < 3) {
+      System.err.println("Error using MonteCarloHypervolume. Usage: \n java " +
+                         "jmetal.qualityIndicator.fastHypervolume.MonteCarloHypervolume " +
+                         "<SolutionFrontFile> <TrueFrontFile> <getNumberOfObjectives>") ;
+      System.exit(1) ;
+    } // if
+
+    MonteCarloHypervolume qualityIndicator = new MonteCarloHypervolume() ;
+    double [][] solutionFront = qualityIndicator.utils_.readFront(args[0]) ;
+    double [][] trueFront     = qualityIndicator.utils_.readFront(args[1]) ;
+    System.out.println(qualityIndicator.estimate(solutionFront, trueFront, Integer.parseInt(args[2]))) ;
+  } // main
+} // MonteCarloHypervolume
@@ -0,0 +1,175 @@
+//  ParallelWFGHV.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.qualityIndicator.fastHypervolume.wfg;
+
+import jmetal.util.SharedPool;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class computes the hypervolume of a front with the WFG algorithm,
+ * computing the top-level slices in parallel in a <code>ForkJoinPool</code>.
+ * After sorting the front, the hypervolume is the sum of one term per point
+ * (its distance to the reference point in the last objective times its
+ * exclusive hypervolume in the rest of the objectives), and the terms only
+ * read the sorted front, so each of them is computed by a task. Every thread
+ * of the pool reuses the same <code>WFGHV</code> object, and then the same
+ * fronts of the recursion, for all its tasks. The terms are added in the
+ * same order as <code>WFGHV</code> does, so the result is exactly the same.
+ *
+ * Fronts of two objectives, or with fewer than
+ * <code>PARALLEL_THRESHOLD</code> points, are computed sequentially unless a
+ * pool is given in the constructor.
+ */
+public class ParallelWFGHV {
+
+  /**
+   * Minimum number of points of a front to be computed in parallel by
+   * default
+   */
+  public static final int PARALLEL_THRESHOLD = 64 ;
+
+  /**
+   * Pool given in the constructor, or null
+   */
+  private final ForkJoinPool pool_ ;
+
+  /**
+   * Number of objectives of the points
+   */
+  private final int dimension_ ;
+
+  /**
+   * Reference point of the hypervolume
+   */
+  private final Point referencePoint_ ;
+
+  /**
+   * Sorts the fronts as <code>WFGHV</code> does
+   */
+  private final PointComparator pointComparator_ ;
+
+  /**
+   * <code>WFGHV</code> object of each thread, kept between tasks
+   */
+  private final ThreadLocal<WFGHV> workers_ ;
+
+  /**
+   * Constructor
+   * @param dimension The number of objectives
+   * @param referencePoint The reference point
+   */
+  public ParallelWFGHV(int dimension, Point referencePoint) {
+    this(dimension, referencePoint, null) ;
+  } // ParallelWFGHV
+
+  /**
+   * Constructor
+   * @param dimension The number of objectives
+   * @param referencePoint The reference point
+   * @param pool Pool in which the slices are always computed, whatever the
+   * size of the front; if null, the object decides by itself
+   */
+  public ParallelWFGHV(int dimension, Point referencePoint, ForkJoinPool pool) {
+    dimension_         = dimension ;
+    referencePoint_    = referencePoint ;
+    pool_              = pool ;
+    pointComparator_   = new PointComparator(true) ;
+    workers_           = new ThreadLocal<WFGHV>() ;
+  } // ParallelWFGHV
+
+  /**
+   * Returns the hypervolume of a front (minimization). The points of the
+   * front are sorted, as <code>WFGHV.getHV</code> does.
+   * @param front The front
+   */
+  public double getHV(Front front) {
+    return getHV(front, referencePoint_) ;
+  } // getHV
+
+  /**
+   * Returns the hypervolume of a front (minimization) with respect to a
+   * reference point other than the one given in the constructor
+   * @param front The front
+   * @param referencePoint The reference point
+   */
+  public double getHV(Front front, Point referencePoint) {
+    int numberOfPoints = front.nPoints_ ;
+    Arrays.sort(front.points_, 0, numberOfPoints, pointComparator_) ;
+
+    ForkJoinPool pool = pool_ ;
+    if ((pool == null) && (dimension_ > 2))
+      pool = SharedPool.get(numberOfPoints, PARALLEL_THRESHOLD) ;
+
+    if ((pool == null) || (dimension_ == 2) || (numberOfPoints < 2))
+      return worker(numberOfPoints, referencePoint).getHV(front) ;
+
+    double [] slices = new double[numberOfPoints] ;
+    pool.invoke(new SliceTask(front, referencePoint, 0, numberOfPoints, slices)) ;
+
+    double volume = 0.0 ;
+    for (int i = numberOfPoints - 1; i >= 0; i--)
+      volume += slices[i] ;
+
+    return volume ;
+  } // getHV
+
+  /**
+   * Returns the <code>WFGHV</code> object of the current thread, created
+   * again if it cannot hold the given number of points, with the given
+   * reference point
+   */
+  private WFGHV worker(int numberOfPoints, Point referencePoint) {
+    WFGHV worker = workers_.get() ;
+    if ((worker == null) || (worker.maxNumberOfPoints_ < numberOfPoints)) {
+      worker = new WFGHV(dimension_, numberOfPoints, referencePoint) ;
+      workers_.set(worker) ;
+    } else
+      worker.referencePoint_ = referencePoint ;
+    return worker ;
+  } // worker
+
+  /**
+   * Task computing the terms of a range of points of a sorted front
+   */
+  private class SliceTask extends RecursiveAction {
+    private final Front front_ ;
+    private final Point referencePoint_ ;
+    private final int from_ ;
+    private final int to_ ;
+    private final double [] slices_ ;
+
+    SliceTask(Front front, Point referencePoint, int from, int to, double [] slices) {
+      front_          = front ;
+      referencePoint_ = referencePoint ;
+      from_           = from ;
+      to_             = to ;
+      slices_         = slices ;
+    } // SliceTask
+
+    protected void compute() {
+      if (to_ - from_ == 1) {
+        slices_[from_] = worker(front_.nPoints_, referencePoint_).getSliceVolume(front_, from_) ;
+      } else {
+        int middle = (from_ + to_) >>> 1 ;
+        invokeAll(new SliceTask(front_, referencePoint_, from_, middle, slices_),
+                  new SliceTask(front_, referencePoint_, middle, to_, slices_)) ;
+      } // else
+    } // compute
+  } // SliceTask
+} // ParallelWFGHV
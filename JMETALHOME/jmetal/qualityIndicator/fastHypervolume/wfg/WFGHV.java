@@ -61,11 +61,8 @@ public class WFGHV {
     maxNumberOfObjectives_ = dimension ;
     pointComparator_ = new PointComparator(true) ;
 
-    int maxd = maxNumberOfPoints_ - (OPT /2 + 1) ;
-    fs_ = new Front[maxd] ;
-    for (int i = 0; i < maxd; i++) {
-      fs_[i] = new Front(maxNumberOfPoints, dimension) ;
-    }
+    // One front per level of recursion, allocated when it is first needed
+    fs_ = new Front[dimension] ;
   }
 
   public WFGHV(int dimension, int maxNumberOfPoints, Solution referencePoint) {
@@ -77,11 +74,8 @@ public class WFGHV {
     maxNumberOfObjectives_ = dimension ;
     pointComparator_ = new PointComparator(true) ;
 
-    int maxd = maxNumberOfPoints_ - (OPT /2 + 1) ;
-    fs_ = new Front[maxd] ;
-    for (int i = 0; i < maxd; i++) {
-      fs_[i] = new Front(maxNumberOfPoints, dimension) ;
-    }
+    // One front per level of recursion, allocated when it is first needed
+    fs_ = new Front[dimension] ;
   }
 
   public WFGHV(int dimension, int maxNumberOfPoints, Point referencePoint) {
@@ -93,11 +87,8 @@ public class WFGHV {
     maxNumberOfObjectives_ = dimension ;
     pointComparator_ = new PointComparator(true) ;
 
-    int maxd = maxNumberOfPoints_ - (OPT /2 + 1) ;
-    fs_ = new Front[maxd] ;
-    for (int i = 0; i < maxd; i++) {
-      fs_[i] = new Front(maxNumberOfPoints, dimension) ;
-    }
+    // One front per level of recursion, allocated when it is first needed
+    fs_ = new Front[dimension] ;
   }
 
   public int getLessContributorHV(SolutionSet set) {
@@ -136,13 +127,9 @@ public class WFGHV {
     else {
       volume = 0.0 ;
 
-      currentDimension_ -- ;
       for (int i = front.nPoints_-1; i >= 0; i--) {
-        volume += Math.abs(front.getPoint(i).objectives_[currentDimension_] -
-                referencePoint_.objectives_[currentDimension_])*
-                this.getExclusiveHV(front, i) ;
+        volume += getSliceVolume(front, i) ;
       }
-      currentDimension_ ++ ;
     }
 
     return volume ;
@@ -157,18 +144,31 @@ public class WFGHV {
     else {
       volume = 0.0 ;
 
-      currentDimension_ -- ;
       for (int i = front.nPoints_-1; i >= 0; i--) {
-        volume += Math.abs(front.getPoint(i).objectives_[currentDimension_] -
-                referencePoint_.objectives_[currentDimension_])*
-                this.getExclusiveHV(front, i) ;
+        volume += getSliceVolume(front, i) ;
       }
-      currentDimension_ ++ ;
     }
 
     return volume ;
   }
 
+  /**
+   * Returns the term of a point in the hypervolume of a sorted front: its
+   * distance to the reference point in the last objective times its exclusive
+   * hypervolume in the rest of the objectives, with respect to the following
+   * points of the front. The terms do not depend on each other, so they can
+   * be computed by different objects (see ParallelWFGHV).
+   */
+  double getSliceVolume(Front front, int point) {
+    double volume ;
+    currentDimension_ -- ;
+    volume = Math.abs(front.getPoint(point).objectives_[currentDimension_] -
+            referencePoint_.objectives_[currentDimension_])*
+            this.getExclusiveHV(front, point) ;
+    currentDimension_ ++ ;
+    return volume ;
+  }
+
   public double get2DHV(Front front) {
     double hv = 0.0 ;
 
@@ -211,6 +211,9 @@ public class WFGHV {
   public void makeDominatedBit(Front front, int p) {
     int z = front.nPoints_ - 1 - p ;
 
+    if (fs_[currentDeep_] == null)
+      fs_[currentDeep_] = new Front(maxNumberOfPoints_, maxNumberOfObjectives_) ;
+
     for (int i = 0 ; i < z ; i++)
       for (int j = 0 ; j < currentDimension_; j++) {
         fs_[currentDeep_].getPoint(i).objectives_[j] = worse(front.points_[p].objectives_[j], front.points_[p+1+i].objectives_[j], false) ;
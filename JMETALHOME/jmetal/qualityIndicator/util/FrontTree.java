@@ -0,0 +1,217 @@
+//  FrontTree.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.qualityIndicator.util;
+
+import jmetal.util.KdTree;
+import jmetal.util.SharedPool;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class finds the distances between points and their nearest points in
+ * a front, as <code>MetricsUtil.distanceToClosedPoint</code> and
+ * <code>MetricsUtil.distanceToNearestPoint</code> do, with a k-d tree built
+ * once over the front. The distances are computed with the same expression,
+ * so they are exactly the same. A tree can be kept and used for any number of
+ * queries (for instance, the tree of a reference front for all the fronts
+ * compared with it), and the queries of a batch of points are answered in
+ * parallel in a <code>ForkJoinPool</code> when there are at least
+ * <code>PARALLEL_THRESHOLD</code> of them.
+ */
+public class FrontTree {
+
+  /**
+   * Minimum number of points of a batch to be searched in parallel by
+   * default
+   */
+  public static final int PARALLEL_THRESHOLD = 2000 ;
+
+  /**
+   * Batches with fewer points than this are not split into parallel tasks
+   */
+  private static final int FORK_THRESHOLD = 256 ;
+
+  /**
+   * Pool given in the constructor, or null
+   */
+  private final ForkJoinPool pool_ ;
+
+  /**
+   * Tree over the points of the front
+   */
+  private final KdTree tree_ ;
+
+  /**
+   * Copy of the tree used by each thread, as the searches of a
+   * <code>KdTree</code> cannot be run concurrently
+   */
+  private final ThreadLocal<KdTree> trees_ ;
+
+  /**
+   * Constructor
+   * @param front The front
+   */
+  public FrontTree(double [][] front) {
+    this(front, null) ;
+  } // FrontTree
+
+  /**
+   * Constructor
+   * @param front The front
+   * @param pool Pool in which the batches of points are always searched,
+   * whatever their size; if null, the tree decides by itself
+   */
+  public FrontTree(double [][] front, ForkJoinPool pool) {
+    int dimensions = (front.length > 0) ? front[0].length : 0 ;
+    double [] points = new double[front.length * dimensions] ;
+    for (int i = 0; i < front.length; i++)
+      System.arraycopy(front[i], 0, points, i * dimensions, dimensions) ;
+
+    pool_  = pool ;
+    tree_  = new KdTree(points, front.length, dimensions) ;
+    trees_ = new ThreadLocal<KdTree>() ;
+  } // FrontTree
+
+  /**
+   * Returns the distance between a point and the nearest point of the front,
+   * or Double.MAX_VALUE if the front is empty
+   * @param point The point
+   */
+  public double distanceToClosedPoint(double [] point) {
+    return distanceToClosedPoint(tree(), point, new int[1], new double[1]) ;
+  } // distanceToClosedPoint
+
+  /**
+   * Returns the distance, greater than 0.0, between a point and the nearest
+   * point of the front, or Double.MAX_VALUE if there is not such a point
+   * @param point The point
+   */
+  public double distanceToNearestPoint(double [] point) {
+    return distanceToNearestPoint(tree(), point) ;
+  } // distanceToNearestPoint
+
+  /**
+   * Returns the distances between each point and the nearest point of the
+   * front
+   * @param points The points
+   */
+  public double [] distancesToClosedPoints(double [][] points) {
+    double [] distances = new double[points.length] ;
+    search(points, distances, false) ;
+    return distances ;
+  } // distancesToClosedPoints
+
+  /**
+   * Returns the distances, greater than 0.0, between each point and the
+   * nearest point of the front
+   * @param points The points
+   */
+  public double [] distancesToNearestPoints(double [][] points) {
+    double [] distances = new double[points.length] ;
+    search(points, distances, true) ;
+    return distances ;
+  } // distancesToNearestPoints
+
+  private void search(double [][] points, double [] distances, boolean nonZero) {
+    ForkJoinPool pool = pool_ ;
+    if (pool == null)
+      pool = SharedPool.get(points.length, PARALLEL_THRESHOLD) ;
+
+    if (pool == null)
+      search(points, 0, points.length, distances, nonZero) ;
+    else
+      pool.invoke(new SearchTask(points, 0, points.length, distances, nonZero)) ;
+  } // search
+
+  private void search(double [][] points, int from, int to, double [] distances,
+                      boolean nonZero) {
+    KdTree tree = tree() ;
+    int [] neighbour = new int[1] ;
+    double [] distance = new double[1] ;
+    for (int i = from; i < to; i++) {
+      if (nonZero)
+        distances[i] = distanceToNearestPoint(tree, points[i]) ;
+      else
+        distances[i] = distanceToClosedPoint(tree, points[i], neighbour, distance) ;
+    } // for
+  } // search
+
+  private double distanceToClosedPoint(KdTree tree, double [] point,
+                                       int [] neighbour, double [] distance) {
+    if (tree.nearest(point, 0, -1, 1, neighbour, distance) == 0)
+      return Double.MAX_VALUE ;
+    return distance[0] ;
+  } // distanceToClosedPoint
+
+  /**
+   * Looks for the nearest points until one of them is not at distance 0.0,
+   * doubling their number each time (the front seldom has repeated points)
+   */
+  private double distanceToNearestPoint(KdTree tree, double [] point) {
+    for (int k = 2; ; k *= 2) {
+      int [] neighbours = new int[k] ;
+      double [] distances = new double[k] ;
+      int found = tree.nearest(point, 0, -1, k, neighbours, distances) ;
+      for (int i = 0; i < found; i++)
+        if (distances[i] > 0.0)
+          return distances[i] ;
+      if (found < k)
+        return Double.MAX_VALUE ;
+    } // for
+  } // distanceToNearestPoint
+
+  /**
+   * Returns the tree of the current thread
+   */
+  private KdTree tree() {
+    KdTree tree = trees_.get() ;
+    if (tree == null) {
+      tree = new KdTree(tree_) ;
+      trees_.set(tree) ;
+    } // if
+    return tree ;
+  } // tree
+
+  /**
+   * Task searching a range of a batch of points
+   */
+  private class SearchTask extends RecursiveAction {
+    private final double [][] points_ ;
+    private final int from_ ;
+    private final int to_ ;
+    private final double [] distances_ ;
+    private final boolean nonZero_ ;
+
+    SearchTask(double [][] points, int from, int to, double [] distances, boolean nonZero) {
+      points_    = points ;
+      from_      = from ;
+      to_        = to ;
+      distances_ = distances ;
+      nonZero_   = nonZero ;
+    } // SearchTask
+
+    protected void compute() {
+      if (to_ - from_ <= FORK_THRESHOLD)
+        search(points_, from_, to_, distances_, nonZero_) ;
+      else {
+        int middle = (from_ + to_) >>> 1 ;
+        invokeAll(new SearchTask(points_, from_, middle, distances_, nonZero_),
+                  new SearchTask(points_, middle, to_, distances_, nonZero_)) ;
+      } // else
+    } // compute
+  } // SearchTask
+} // FrontTree
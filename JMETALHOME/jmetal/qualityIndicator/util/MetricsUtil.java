@@ -24,6 +24,7 @@ package jmetal.qualityIndicator.util;
 import jmetal.core.Solution;
 import jmetal.core.SolutionSet;
 import jmetal.qualityIndicator.Hypervolume;
+import jmetal.qualityIndicator.fastHypervolume.HypervolumeContributions;
 import jmetal.util.NonDominatedSolutionList;
 
 import java.io.BufferedReader;
@@ -187,6 +188,33 @@ public class MetricsUtil {
     
     return minDistance;
   } // distanceToNearestPoint
+
+  /**
+   * Gets the distances between each point of a set and the nearest one in a
+   * given front, as <code>distanceToClosedPoint</code>, searching them in a
+   * k-d tree of the front (see <code>FrontTree</code>)
+   * @param points The points
+   * @param front The front that contains the other points to calculate the
+   * distances
+   * @return The minimum distances between the points and the front
+   */
+  public double [] distancesToClosedPoints(double [][] points, double [][] front) {
+    return new FrontTree(front).distancesToClosedPoints(points);
+  } // distancesToClosedPoints
+
+  /**
+   * Gets the distances between each point of a set and the nearest one in a
+   * given front, greater than 0.0, as <code>distanceToNearestPoint</code>,
+   * searching them in a k-d tree of the front (see <code>FrontTree</code>)
+   * @param points The points
+   * @param front The front that contains the other points to calculate the
+   * distances
+   * @return The minimum distances greater than zero between the points and
+   * the front
+   */
+  public double [] distancesToNearestPoints(double [][] points, double [][] front) {
+    return new FrontTree(front).distancesToNearestPoints(points);
+  } // distancesToNearestPoints
   
   /** 
    * This method receives a pareto front and two points, one whit maximum values
@@ -353,25 +381,13 @@ public class MetricsUtil {
 	   * @return HV contributions
 	   */
 	  public double[] hvContributions(int numberOfobjectives, double[][] front) {
-	    Hypervolume hypervolume = new Hypervolume() ;
-	    int numberOfObjectives = numberOfobjectives;
-	    double[] contributions = new double[front.length];
-	    double[][] frontSubset = new double[front.length - 1][front[0].length];
-	    LinkedList<double[]> frontCopy = new LinkedList<double[]>();
-          Collections.addAll(frontCopy, front);
-	    double[][] totalFront = frontCopy.toArray(frontSubset);
-	    double totalVolume = hypervolume.calculateHypervolume(totalFront, totalFront.length, numberOfObjectives);
-	    for (int i = 0; i < front.length; i++) {
-	      double[] evaluatedPoint = frontCopy.remove(i);
-	      frontSubset = frontCopy.toArray(frontSubset);
-	      // STEP4. The hypervolume (control is passed to java version of Zitzler code)
-	      double hv = hypervolume.calculateHypervolume(frontSubset, frontSubset.length, numberOfObjectives);
-	      double contribution = totalVolume - hv;
-	      contributions[i] = contribution;
-	      // put point back
-	      frontCopy.add(i, evaluatedPoint);
-	    }
-	    return contributions;
+	    // As in Zitzler's code, the points are maximized, and the reference
+	    // point is the origin
+	    double[][] points = new double[front.length][numberOfobjectives];
+	    for (int i = 0; i < front.length; i++)
+	      for (int j = 0; j < numberOfobjectives; j++)
+	        points[i][j] = -front[i][j];
+	    return new HypervolumeContributions().computeContributions(points, new double[numberOfobjectives]);
 	  }
 	  
 	  
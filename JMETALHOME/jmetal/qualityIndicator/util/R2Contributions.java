@@ -0,0 +1,257 @@
+//  R2Contributions.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.qualityIndicator.util;
+
+import java.util.Arrays;
+
+/**
+ * This class computes the R2 indicator of a normalized front, and its value
+ * without each one of the points, from a matrix with the Tchebycheff utility
+ * of every point for every weight vector. For each weight vector, the best
+ * (minimum) utility and the second best one are kept, so:
+ * - the R2 value without a point only differs in the weight vectors for which
+ *   the point is the best one, and the values without all the points are
+ *   computed in a single O(W*N) pass;
+ * - removing a point only looks for a new best or second best utility in the
+ *   weight vectors for which the point was the best or the second best one.
+ * The values are computed with the same operations, in the same order, as
+ * the nested loops of <code>R2</code>, so they are exactly the same.
+ */
+public class R2Contributions {
+
+  /**
+   * Weight vectors
+   */
+  private final double [][] lambda_ ;
+
+  /**
+   * Number of objectives
+   */
+  private final int numberOfObjectives_ ;
+
+  /**
+   * Number of points of the front, including the removed ones
+   */
+  private int numberOfPoints_ ;
+
+  /**
+   * Number of points not removed
+   */
+  private int size_ ;
+
+  /**
+   * Utility of each point for each weight vector; the utilities of the
+   * weight vector w are in [w * numberOfPoints_, (w + 1) * numberOfPoints_)
+   */
+  private double [] utility_ ;
+
+  /**
+   * removed_[i] is true if the point i has been removed
+   */
+  private boolean [] removed_ ;
+
+  /**
+   * Best utility of each weight vector, and the point having it
+   */
+  private double [] best_ ;
+  private int []    bestPoint_ ;
+
+  /**
+   * Second best utility of each weight vector (Double.POSITIVE_INFINITY if
+   * there is only one point), and the point having it
+   */
+  private double [] second_ ;
+  private int []    secondPoint_ ;
+
+  /**
+   * Constructor
+   * @param lambda The weight vectors
+   * @param numberOfObjectives The number of objectives
+   */
+  public R2Contributions(double [][] lambda, int numberOfObjectives) {
+    lambda_             = lambda ;
+    numberOfObjectives_ = numberOfObjectives ;
+    best_               = new double[lambda.length] ;
+    bestPoint_          = new int[lambda.length] ;
+    second_             = new double[lambda.length] ;
+    secondPoint_        = new int[lambda.length] ;
+  } // R2Contributions
+
+  /**
+   * Computes the utility matrix of a front, discarding the previous one
+   * @param normalizedFront The normalized front
+   */
+  public void setFront(double [][] normalizedFront) {
+    int weights = lambda_.length ;
+    numberOfPoints_ = normalizedFront.length ;
+    size_           = normalizedFront.length ;
+    if ((utility_ == null) || (utility_.length < weights * numberOfPoints_))
+      utility_ = new double[weights * numberOfPoints_] ;
+    if ((removed_ == null) || (removed_.length < numberOfPoints_))
+      removed_ = new boolean[numberOfPoints_] ;
+    Arrays.fill(removed_, 0, numberOfPoints_, false) ;
+
+    for (int i = 0; i < numberOfPoints_; i++) {
+      double [] point = normalizedFront[i] ;
+      for (int w = 0; w < weights; w++) {
+        double [] lambda = lambda_[w] ;
+        double utility = lambda[0] * Math.abs(point[0]) ;
+        for (int n = 1; n < numberOfObjectives_; n++)
+          utility = Math.max(utility, lambda[n] * Math.abs(point[n])) ;
+        utility_[w * numberOfPoints_ + i] = utility ;
+      } // for
+    } // for
+
+    for (int w = 0; w < weights; w++) {
+      int offset = w * numberOfPoints_ ;
+      double best = Double.POSITIVE_INFINITY ;
+      double second = Double.POSITIVE_INFINITY ;
+      int bestPoint = -1 ;
+      int secondPoint = -1 ;
+      for (int i = 0; i < numberOfPoints_; i++) {
+        double utility = utility_[offset + i] ;
+        if (utility < best) {
+          second      = best ;
+          secondPoint = bestPoint ;
+          best        = utility ;
+          bestPoint   = i ;
+        } else if (utility < second) {
+          second      = utility ;
+          secondPoint = i ;
+        } // else
+      } // for
+      best_[w]        = best ;
+      bestPoint_[w]   = bestPoint ;
+      second_[w]      = second ;
+      secondPoint_[w] = secondPoint ;
+    } // for
+  } // setFront
+
+  /**
+   * Returns the number of points not removed
+   */
+  public int size() {
+    return size_ ;
+  } // size
+
+  /**
+   * Returns the R2 value of the points not removed
+   */
+  public double getR2() {
+    double sum = 0.0 ;
+    for (int w = 0; w < lambda_.length; w++)
+      sum += best_[w] ;
+    return sum / (double) lambda_.length ;
+  } // getR2
+
+  /**
+   * Returns the R2 value of the points not removed, without one of them
+   * @param point The index of the point in the front
+   */
+  public double getR2Without(int point) {
+    double sum = 0.0 ;
+    for (int w = 0; w < lambda_.length; w++)
+      sum += (bestPoint_[w] == point) ? second_[w] : best_[w] ;
+    return sum / (double) lambda_.length ;
+  } // getR2Without
+
+  /**
+   * Returns the R2 value of the points not removed without each one of them
+   * (NaN for the removed points)
+   */
+  public double [] getR2Without() {
+    double [] values = new double[numberOfPoints_] ;
+    for (int i = 0; i < numberOfPoints_; i++)
+      values[i] = removed_[i] ? Double.NaN : getR2Without(i) ;
+    return values ;
+  } // getR2Without
+
+  /**
+   * Returns the point contributing the least to the R2 value (the one
+   * without which it is the lowest), or -1 if all of them have been removed
+   */
+  public int getWorst() {
+    int worst = -1 ;
+    double value = Double.POSITIVE_INFINITY ;
+    for (int i = 0; i < numberOfPoints_; i++) {
+      if (!removed_[i]) {
+        double aux = getR2Without(i) ;
+        if ((worst == -1) || (aux < value)) {
+          worst = i ;
+          value = aux ;
+        } // if
+      } // if
+    } // for
+    return worst ;
+  } // getWorst
+
+  /**
+   * Returns the point contributing the most to the R2 value (the one
+   * without which it is the highest), or -1 if all of them have been removed
+   */
+  public int getBest() {
+    int best = -1 ;
+    double value = Double.NEGATIVE_INFINITY ;
+    for (int i = 0; i < numberOfPoints_; i++) {
+      if (!removed_[i]) {
+        double aux = getR2Without(i) ;
+        if ((best == -1) || (aux > value)) {
+          best = i ;
+          value = aux ;
+        } // if
+      } // if
+    } // for
+    return best ;
+  } // getBest
+
+  /**
+   * Removes a point. Only the weight vectors for which it is the best or the
+   * second best point are updated.
+   * @param point The index of the point in the front
+   */
+  public void remove(int point) {
+    if (removed_[point])
+      return ;
+    removed_[point] = true ;
+    size_-- ;
+
+    for (int w = 0; w < lambda_.length; w++) {
+      if (bestPoint_[w] == point) {
+        best_[w]      = second_[w] ;
+        bestPoint_[w] = secondPoint_[w] ;
+        findSecond(w) ;
+      } else if (secondPoint_[w] == point)
+        findSecond(w) ;
+    } // for
+  } // remove
+
+  /**
+   * Looks for the second best point of a weight vector
+   */
+  private void findSecond(int w) {
+    int offset = w * numberOfPoints_ ;
+    double second = Double.POSITIVE_INFINITY ;
+    int secondPoint = -1 ;
+    for (int i = 0; i < numberOfPoints_; i++) {
+      if (!removed_[i] && (i != bestPoint_[w]) && (utility_[offset + i] < second)) {
+        second      = utility_[offset + i] ;
+        secondPoint = i ;
+      } // if
+    } // for
+    second_[w]      = second ;
+    secondPoint_[w] = secondPoint ;
+  } // findSecond
+} // R2Contributions
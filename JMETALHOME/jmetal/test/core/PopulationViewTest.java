@@ -0,0 +1,63 @@
+package jmetal.test.core;
+
+import jmetal.core.PopulationView;
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests of the structure-of-arrays view of a solution set
+ */
+public class PopulationViewTest {
+  SolutionSet solutionSet_ ;
+
+  private Solution solution(double f1, double f2) {
+    Solution solution = new Solution(2) ;
+    solution.setObjective(0, f1) ;
+    solution.setObjective(1, f2) ;
+    return solution ;
+  }
+
+  @Before
+  public void setUp() {
+    solutionSet_ = new SolutionSet(10) ;
+    solutionSet_.add(solution(1.0, 4.0)) ;
+    solutionSet_.add(solution(2.0, 2.0)) ;
+    solutionSet_.add(solution(3.0, 3.0)) ;
+  }
+
+  @Test
+  public void shouldCopyTheObjectivesInRowMajorOrder() {
+    PopulationView view = new PopulationView(solutionSet_) ;
+
+    assertEquals(3, view.size()) ;
+    assertEquals(2, view.getNumberOfObjectives()) ;
+    assertEquals(2.0, view.getObjectives()[2], 0.0) ;
+    assertEquals(3.0, view.getObjective(2, 1), 0.0) ;
+    assertSame(solutionSet_.get(1), view.get(1)) ;
+  }
+
+  @Test
+  public void shouldApplyTheDominanceTestOfDominanceComparator() {
+    PopulationView view = new PopulationView(solutionSet_) ;
+
+    assertEquals(0, view.dominanceTest(0, 1)) ;
+    assertEquals(-1, view.dominanceTest(1, 2)) ;
+    assertEquals(1, view.dominanceTest(2, 1)) ;
+    assertEquals(0, view.dominanceTest(2, 2)) ;
+    assertEquals(-1, view.dominanceTest(new double[]{0.0, 0.0}, 0)) ;
+  }
+
+  @Test
+  public void shouldWriteTheRanksBackToTheSolutions() {
+    PopulationView view = new PopulationView(solutionSet_) ;
+    view.setRank(2, 5) ;
+
+    assertEquals(5, view.getRank(2)) ;
+    assertEquals(5, solutionSet_.get(2).getRank()) ;
+  }
+}
@@ -7,6 +7,8 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.junit.Assert.*;
+
 /**
  * Created with IntelliJ IDEA.
  * User: Antonio J. Nebro
@@ -32,12 +34,14 @@ public class ArrayRealTest {
 
   @Test
   public void testDeepCopy() throws Exception {
-
+    ArrayReal copy = (ArrayReal) arrayReal_.deepCopy() ;
+    assertNotSame(arrayReal_.getArray(), copy.getArray()) ;
+    assertArrayEquals(arrayReal_.getArray(), copy.getArray(), EPSILON) ;
   }
 
   @Test
   public void testGetLength() throws Exception {
-
+    assertEquals(problem_.getNumberOfVariables(), arrayReal_.getLength()) ;
   }
 
   @Test
@@ -47,7 +51,20 @@ public class ArrayRealTest {
 
   @Test
   public void testSetValue() throws Exception {
+    arrayReal_.setValue(1, 0.5) ;
+    assertEquals(0.5, arrayReal_.getValue(1), EPSILON) ;
+  }
 
+  @Test
+  public void testGetAndSetValues() throws Exception {
+    double [] values = new double[arrayReal_.getLength()] ;
+    for (int i = 0; i < values.length; i++)
+      values[i] = i * 0.1 ;
+
+    arrayReal_.setValues(values) ;
+    double [] copy = new double[arrayReal_.getLength()] ;
+    arrayReal_.getValues(copy) ;
+    assertArrayEquals(values, copy, EPSILON) ;
   }
 
   @Test
@@ -0,0 +1,73 @@
+package jmetal.test.encodings.variable;
+
+import jmetal.encodings.variable.BitString;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the word-based binary string variable
+ */
+public class BitStringTest {
+  static final int NUMBER_OF_BITS = 150 ;
+  BitString bitString_ ;
+
+  @Before
+  public void setUp() throws Exception {
+    bitString_ = new BitString(NUMBER_OF_BITS) ;
+    for (int i = 0; i < NUMBER_OF_BITS; i++)
+      bitString_.setIth(i, false) ;
+  }
+
+  @Test
+  public void testSetAndFlipBits() throws Exception {
+    bitString_.setIth(0, true) ;
+    bitString_.setIth(64, true) ;
+    bitString_.flip(149) ;
+    bitString_.flip(0) ;
+
+    assertFalse(bitString_.getIth(0)) ;
+    assertTrue(bitString_.getIth(64)) ;
+    assertTrue(bitString_.getIth(149)) ;
+    assertEquals(2, bitString_.cardinality()) ;
+  }
+
+  @Test
+  public void testHammingDistance() throws Exception {
+    BitString other = (BitString) bitString_.deepCopy() ;
+    assertEquals(0, bitString_.hammingDistance(other)) ;
+
+    other.flip(3) ;
+    other.flip(70) ;
+    other.flip(140) ;
+    assertEquals(3, bitString_.hammingDistance(other)) ;
+    assertEquals(0, bitString_.cardinality()) ;
+  }
+
+  @Test
+  public void testSwapARangeOfBits() throws Exception {
+    BitString other = (BitString) bitString_.deepCopy() ;
+    for (int i = 0; i < NUMBER_OF_BITS; i++)
+      other.setIth(i, true) ;
+
+    bitString_.swap(other, 60, 130) ;
+
+    for (int i = 0; i < NUMBER_OF_BITS; i++) {
+      boolean swapped = (i >= 60) && (i < 130) ;
+      assertEquals(swapped, bitString_.getIth(i)) ;
+      assertEquals(!swapped, other.getIth(i)) ;
+    }
+  }
+
+  @Test
+  public void testToString() throws Exception {
+    BitString bitString = new BitString(4) ;
+    bitString.setIth(0, true) ;
+    bitString.setIth(1, false) ;
+    bitString.setIth(2, false) ;
+    bitString.setIth(3, true) ;
+
+    assertEquals("1001", bitString.toString()) ;
+  }
+}
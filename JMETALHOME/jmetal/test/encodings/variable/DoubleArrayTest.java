@@ -0,0 +1,70 @@
+package jmetal.test.encodings.variable;
+
+import jmetal.core.Problem;
+import jmetal.core.Solution;
+import jmetal.encodings.variable.DoubleArray;
+import jmetal.problems.ZDT.ZDT1;
+import jmetal.util.JMException;
+import jmetal.util.wrapper.XReal;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the primitive array representation of real variables
+ */
+public class DoubleArrayTest {
+  static final double EPSILON = 0.0000000000001 ;
+  DoubleArray doubleArray_ ;
+  Problem problem_ ;
+
+  @Before
+  public void setUp() throws Exception {
+    problem_ = new ZDT1("DoubleArray", 5) ;
+    doubleArray_ = new DoubleArray(problem_.getNumberOfVariables(), problem_) ;
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    problem_ = null;
+    doubleArray_ = null ;
+  }
+
+  @Test
+  public void testValuesAreWithinTheBounds() throws Exception {
+    assertEquals(5, doubleArray_.getLength()) ;
+    for (int i = 0; i < doubleArray_.getLength(); i++) {
+      assertTrue(doubleArray_.getValue(i) >= doubleArray_.getLowerBound(i)) ;
+      assertTrue(doubleArray_.getValue(i) <= doubleArray_.getUpperBound(i)) ;
+    }
+  }
+
+  @Test
+  public void testDeepCopy() throws Exception {
+    DoubleArray copy = (DoubleArray) doubleArray_.deepCopy() ;
+    assertNotSame(doubleArray_.getArray(), copy.getArray()) ;
+    assertArrayEquals(doubleArray_.getArray(), copy.getArray(), EPSILON) ;
+
+    double original = doubleArray_.getValue(0) ;
+    copy.setValue(0, original / 2.0) ;
+    assertEquals(original, doubleArray_.getValue(0), EPSILON) ;
+  }
+
+  @Test(expected = JMException.class)
+  public void testGetValueOutOfRange() throws Exception {
+    doubleArray_.getValue(5) ;
+  }
+
+  @Test
+  public void testXRealSharesTheBackingArray() throws Exception {
+    Solution solution = new Solution(problem_) ;
+    XReal x = new XReal(solution) ;
+
+    assertTrue(x.isArrayBacked()) ;
+    double [] values = x.getValues() ;
+    values[1] = 0.5 ;
+    assertEquals(0.5, x.getValue(1), EPSILON) ;
+  }
+}
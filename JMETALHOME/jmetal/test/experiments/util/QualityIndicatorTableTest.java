@@ -0,0 +1,170 @@
+package jmetal.test.experiments.util;
+
+import jmetal.core.Algorithm;
+import jmetal.experiments.Experiment;
+import jmetal.experiments.util.QualityIndicatorTable;
+import jmetal.qualityIndicator.Epsilon;
+import jmetal.qualityIndicator.GenerationalDistance;
+import jmetal.qualityIndicator.Hypervolume;
+import jmetal.qualityIndicator.InvertedGenerationalDistance;
+import jmetal.qualityIndicator.Spread;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests of the QualityIndicatorTable class and of the generation of the
+ * quality indicators of an experiment
+ */
+public class QualityIndicatorTableTest {
+
+  private File directory ;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = File.createTempFile("experiment", "") ;
+    directory.delete() ;
+    directory.mkdirs() ;
+  }
+
+  @After
+  public void tearDown() {
+    delete(directory) ;
+  }
+
+  private static void delete(File file) {
+    File [] files = file.listFiles() ;
+    if (files != null)
+      for (File child : files)
+        delete(child) ;
+    file.delete() ;
+  }
+
+  private static void writeFront(File file, double [][] front) throws IOException {
+    file.getParentFile().mkdirs() ;
+    PrintWriter writer = new PrintWriter(file) ;
+    for (double [] point : front)
+      writer.println(point[0] + " " + point[1]) ;
+    writer.close() ;
+  }
+
+  private static double [][] randomFront(Random random, int size) {
+    double [][] front = new double[size][] ;
+    for (int i = 0; i < size; i++) {
+      double f1 = random.nextDouble() ;
+      front[i] = new double[] {f1, 1.0 - Math.sqrt(f1) + 0.2 * random.nextDouble()} ;
+    }
+    return front ;
+  }
+
+  private static List<Double> readValues(File file) throws IOException {
+    List<Double> values = new ArrayList<Double>() ;
+    BufferedReader reader = new BufferedReader(new FileReader(file)) ;
+    for (String line = reader.readLine(); line != null; line = reader.readLine())
+      values.add(Double.valueOf(line)) ;
+    reader.close() ;
+    return values ;
+  }
+
+  @Test
+  public void shouldKeepTheLastValueOfEachLine() throws IOException {
+    String path = new File(directory, "QualityIndicators").getPath() ;
+    QualityIndicatorTable table = new QualityIndicatorTable(path) ;
+    table.addValue("NSGAII", "ZDT1", 0, "HV", "1:2:3", 0.5) ;
+    table.addValue("NSGAII", "ZDT1", 0, "HV", "1:2:4", 0.25) ;
+    table.addValue("NSGAII", "ZDT1", 1, "HV", "1:2:3", 0.125) ;
+    table.close() ;
+
+    table = new QualityIndicatorTable(path) ;
+    assertEquals(0.25, table.getValue("NSGAII", "ZDT1", 0, "HV", "1:2:4"), 0.0) ;
+    assertNull(table.getValue("NSGAII", "ZDT1", 0, "HV", "1:2:3")) ;
+    assertEquals(0.125, table.getValue("NSGAII", "ZDT1", 1, "HV", "1:2:3"), 0.0) ;
+    assertNull(table.getValue("NSGAII", "ZDT2", 1, "HV", "1:2:3")) ;
+    table.close() ;
+  }
+
+  private static class TestExperiment extends Experiment {
+    public void algorithmSettings(String problemName, int problemId, Algorithm[] algorithm) {
+    }
+  }
+
+  @Test
+  public void shouldComputeOnlyTheChangedRuns() throws IOException {
+    Random random = new Random(48) ;
+    double [][] trueFront = new double[100][] ;
+    for (int i = 0; i < trueFront.length; i++) {
+      double f1 = i / (trueFront.length - 1.0) ;
+      trueFront[i] = new double[] {f1, 1.0 - Math.sqrt(f1)} ;
+    }
+    writeFront(new File(directory, "fronts/ZDT1.pf"), trueFront) ;
+
+    TestExperiment experiment = new TestExperiment() ;
+    experiment.experimentBaseDirectory_ = directory.getPath() ;
+    experiment.paretoFrontDirectory_ = new File(directory, "fronts").getPath() ;
+    experiment.algorithmNameList_ = new String[] {"A", "B"} ;
+    experiment.problemList_ = new String[] {"ZDT1"} ;
+    experiment.paretoFrontFile_ = new String[] {"ZDT1.pf"} ;
+    experiment.frontPath_ = new String[1] ;
+    experiment.indicatorList_ = new String[] {"HV", "SPREAD", "IGD", "GD", "EPSILON"} ;
+    experiment.independentRuns_ = 3 ;
+
+    double [][][][] fronts = new double[2][3][][] ;
+    for (int algorithm = 0; algorithm < 2; algorithm++)
+      for (int run = 0; run < 3; run++) {
+        fronts[algorithm][run] = randomFront(random, 20) ;
+        writeFront(new File(directory, "data/" + experiment.algorithmNameList_[algorithm] + "/ZDT1/FUN." + run),
+                   fronts[algorithm][run]) ;
+      }
+    experiment.generateQualityIndicators(2) ;
+
+    for (int algorithm = 0; algorithm < 2; algorithm++) {
+      File problemDirectory = new File(directory, "data/" + experiment.algorithmNameList_[algorithm] + "/ZDT1") ;
+      List<Double> hv = readValues(new File(problemDirectory, "HV")) ;
+      List<Double> spread = readValues(new File(problemDirectory, "SPREAD")) ;
+      List<Double> igd = readValues(new File(problemDirectory, "IGD")) ;
+      List<Double> gd = readValues(new File(problemDirectory, "GD")) ;
+      List<Double> epsilon = readValues(new File(problemDirectory, "EPSILON")) ;
+      for (int run = 0; run < 3; run++) {
+        double [][] front = fronts[algorithm][run] ;
+        assertEquals(new Hypervolume().hypervolume(front, trueFront, 2), hv.get(run), 0.0) ;
+        assertEquals(new Spread().spread(front, trueFront, 2), spread.get(run), 0.0) ;
+        assertEquals(new InvertedGenerationalDistance().invertedGenerationalDistance(front, trueFront, 2),
+                     igd.get(run), 0.0) ;
+        assertEquals(new GenerationalDistance().generationalDistance(front, trueFront, 2), gd.get(run), 0.0) ;
+        assertEquals(new Epsilon().epsilon(front, trueFront, 2), epsilon.get(run), 0.0) ;
+      }
+    }
+
+    // A value changed in the table is kept while its run does not change
+    String path = new File(directory, "QualityIndicators").getPath() ;
+    File runFile = new File(directory, "data/A/ZDT1/FUN.1") ;
+    String stamp = runFile.lastModified() + ":" + runFile.length() ;
+    String hash = null ;
+    BufferedReader reader = new BufferedReader(new FileReader(path)) ;
+    for (String line = reader.readLine(); line != null; line = reader.readLine())
+      if (line.startsWith("A ZDT1 1 HV "))
+        hash = line.substring(line.lastIndexOf(':') + 1) ;
+    reader.close() ;
+    QualityIndicatorTable table = new QualityIndicatorTable(path) ;
+    table.addValue("A", "ZDT1", 1, "HV", stamp + ":" + hash, -1.0) ;
+    table.close() ;
+
+    double [][] newFront = randomFront(random, 20) ;
+    File changedFile = new File(directory, "data/B/ZDT1/FUN.2") ;
+    writeFront(changedFile, newFront) ;
+    changedFile.setLastModified(changedFile.lastModified() + 2000) ;
+    experiment.generateQualityIndicators(2) ;
+
+    assertEquals(-1.0, readValues(new File(directory, "data/A/ZDT1/HV")).get(1), 0.0) ;
+    assertEquals(new Hypervolume().hypervolume(newFront, trueFront, 2),
+                 readValues(new File(directory, "data/B/ZDT1/HV")).get(2), 0.0) ;
+  }
+}
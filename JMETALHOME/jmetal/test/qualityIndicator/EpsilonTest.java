@@ -0,0 +1,137 @@
+package jmetal.test.qualityIndicator;
+
+import jmetal.qualityIndicator.Epsilon;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of the Epsilon class, compared with the triple loop over the points
+ * of both fronts and the objectives
+ */
+public class EpsilonTest {
+
+  private static double epsilon(double [][] b, double [][] a, boolean multiplicative) {
+    double eps = 0.0 ;
+    for (int i = 0; i < a.length; i++) {
+      double eps_j = 0.0 ;
+      for (int j = 0; j < b.length; j++) {
+        double eps_k = 0.0 ;
+        for (int k = 0; k < a[i].length; k++) {
+          double eps_temp = multiplicative ? b[j][k] / a[i][k] : b[j][k] - a[i][k] ;
+          if ((k == 0) || (eps_k < eps_temp))
+            eps_k = eps_temp ;
+        }
+        if ((j == 0) || (eps_j > eps_k))
+          eps_j = eps_k ;
+      }
+      if ((i == 0) || (eps < eps_j))
+        eps = eps_j ;
+    }
+    return eps ;
+  }
+
+  /**
+   * Random points, some of them repeated or dominated
+   */
+  private static double [][] randomFront(Random random, int n, int dimensions, double offset) {
+    double [][] front = new double[n][] ;
+    for (int i = 0; i < n; i++) {
+      if ((i > 0) && (random.nextInt(8) == 0))
+        front[i] = front[random.nextInt(i)].clone() ;
+      else {
+        front[i] = new double[dimensions] ;
+        double norm = 0.0 ;
+        for (int k = 0; k < dimensions; k++) {
+          front[i][k] = Math.abs(random.nextGaussian()) ;
+          norm += front[i][k] * front[i][k] ;
+        }
+        double scale = (random.nextInt(4) == 0) ? 1.5 : 1.0 ;
+        for (int k = 0; k < dimensions; k++)
+          front[i][k] = offset + scale * front[i][k] / Math.sqrt(norm) ;
+      }
+    }
+    return front ;
+  }
+
+  @Test
+  public void shouldGiveTheSameValueAsTheTripleLoop() {
+    Random random = new Random(49) ;
+    for (int dimensions = 2; dimensions <= 5; dimensions++) {
+      for (int test = 0; test < 20; test++) {
+        double [][] front = randomFront(random, 1 + random.nextInt(60), dimensions, -0.5) ;
+        double [][] trueFront = randomFront(random, 1 + random.nextInt(200), dimensions, -0.5) ;
+        assertEquals(epsilon(front, trueFront, false),
+                     new Epsilon().epsilon(front, trueFront, dimensions), 0.0) ;
+        assertEquals(epsilon(trueFront, front, false),
+                     new Epsilon().epsilon(trueFront, front, dimensions), 0.0) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldGiveTheSameMultiplicativeValueAsTheTripleLoop() {
+    Random random = new Random(50) ;
+    for (int dimensions = 2; dimensions <= 4; dimensions++) {
+      double [][] front = randomFront(random, 50, dimensions, 0.1) ;
+      double [][] trueFront = randomFront(random, 100, dimensions, 0.1) ;
+      assertEquals(epsilon(front, trueFront, true),
+                   new Epsilon().multiplicativeEpsilon(front, trueFront, dimensions), 0.0) ;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectValuesOfDifferentSignsInTheMultiplicativeEpsilon() {
+    double [][] front = {{1.0, 2.0}} ;
+    double [][] trueFront = {{-1.0, 2.0}} ;
+    new Epsilon().multiplicativeEpsilon(front, trueFront, 2) ;
+  }
+
+  @Test
+  public void shouldGiveTheSameValueInParallel() {
+    Random random = new Random(51) ;
+    double [][] front = randomFront(random, 300, 3, 0.0) ;
+    double [][] trueFront = randomFront(random, 2000, 3, 0.0) ;
+    ForkJoinPool pool = new ForkJoinPool(4) ;
+    try {
+      assertEquals(epsilon(front, trueFront, false),
+                   new Epsilon(pool).epsilon(front, trueFront, 3), 0.0) ;
+    } finally {
+      pool.shutdown() ;
+    }
+  }
+
+  @Test
+  public void shouldScoreAFrontWhileReadingIt() throws Exception {
+    Random random = new Random(52) ;
+    for (int dimensions = 2; dimensions <= 3; dimensions++) {
+      double [][] front = randomFront(random, 80, dimensions, 0.0) ;
+      double [][] trueFront = randomFront(random, 150, dimensions, 0.0) ;
+
+      File file = File.createTempFile("front", ".txt") ;
+      try {
+        PrintWriter writer = new PrintWriter(file) ;
+        for (double [] point : front) {
+          for (double value : point)
+            writer.print(value + " ") ;
+          writer.println() ;
+        }
+        writer.close() ;
+        assertEquals(epsilon(front, trueFront, false),
+                     new Epsilon().epsilon(file.getPath(), trueFront, dimensions), 0.0) ;
+      } finally {
+        file.delete() ;
+      }
+
+      Epsilon.Accumulator accumulator = new Epsilon().accumulator(trueFront, dimensions) ;
+      for (double [] point : front)
+        accumulator.add(point) ;
+      assertEquals(epsilon(front, trueFront, false), accumulator.getValue(), 0.0) ;
+    }
+  }
+}
@@ -0,0 +1,223 @@
+package jmetal.test.qualityIndicator;
+
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.problems.ZDT.ZDT1;
+import jmetal.qualityIndicator.Hypervolume;
+import jmetal.qualityIndicator.HypervolumeTracker;
+import jmetal.qualityIndicator.QualityIndicator;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the HypervolumeTracker class, whose hypervolume must be the one of
+ * the non-dominated solutions added and not removed
+ */
+public class HypervolumeTrackerTest {
+
+  private static Solution solution(double [] objectives) {
+    Solution solution = new Solution(objectives.length) ;
+    for (int k = 0; k < objectives.length; k++)
+      solution.setObjective(k, objectives[k]) ;
+    return solution ;
+  }
+
+  /**
+   * Points near the front x1^2 + ... + xm^2 = 1, some of them beyond the
+   * reference point 1
+   */
+  private static double [] randomPoint(Random random, int numberOfObjectives) {
+    double [] point = new double[numberOfObjectives] ;
+    double norm = 0.0 ;
+    for (int k = 0; k < numberOfObjectives; k++) {
+      point[k] = random.nextDouble() ;
+      norm += point[k] * point[k] ;
+    }
+    norm = Math.sqrt(norm) ;
+    double scale = 1.0 + 0.3 * random.nextDouble() ;
+    for (int k = 0; k < numberOfObjectives; k++)
+      point[k] = point[k] / norm * scale ;
+    return point ;
+  }
+
+  /**
+   * Hypervolume of the non-dominated solutions of a tracker, computed from
+   * scratch with the reference point 1
+   */
+  private static double hypervolume(HypervolumeTracker tracker, int numberOfObjectives) {
+    SolutionSet set = tracker.getNondominatedSolutions() ;
+    List<double []> front = new ArrayList<double []>() ;
+    for (int i = 0; i < set.size(); i++) {
+      double [] point = new double[numberOfObjectives] ;
+      boolean inside = true ;
+      for (int k = 0; k < numberOfObjectives; k++) {
+        point[k] = 1.0 - set.get(i).getObjective(k) ;
+        inside = inside && (point[k] > 0.0) ;
+      }
+      if (inside)
+        front.add(point) ;
+    }
+    return new Hypervolume().calculateHypervolume(front.toArray(new double[front.size()][]),
+                                                  front.size(), numberOfObjectives) ;
+  }
+
+  private void shouldUpdateTheExactHypervolume(int numberOfObjectives, long seed) {
+    double [] referencePoint = new double[numberOfObjectives] ;
+    Arrays.fill(referencePoint, 1.0) ;
+    HypervolumeTracker tracker = new HypervolumeTracker(numberOfObjectives, referencePoint) ;
+    Random random = new Random(seed) ;
+    List<Solution> added = new ArrayList<Solution>() ;
+    for (int i = 0; i < 400; i++) {
+      if ((i % 5 == 4) && (tracker.size() > 0)) {
+        SolutionSet set = tracker.getNondominatedSolutions() ;
+        assertTrue(tracker.remove(set.get(random.nextInt(set.size())))) ;
+      } else {
+        Solution solution = solution(randomPoint(random, numberOfObjectives)) ;
+        if (tracker.add(solution))
+          added.add(solution) ;
+      }
+      if (i % 20 == 19) {
+        double expected = hypervolume(tracker, numberOfObjectives) ;
+        assertEquals(expected, tracker.getHypervolume(), 1e-12 * Math.max(1.0, expected)) ;
+      }
+    }
+    assertTrue(added.size() > tracker.size()) ;
+  }
+
+  @Test
+  public void shouldUpdateTheHypervolumeWithTwoObjectives() {
+    shouldUpdateTheExactHypervolume(2, 50) ;
+  }
+
+  @Test
+  public void shouldUpdateTheHypervolumeWithThreeObjectives() {
+    shouldUpdateTheExactHypervolume(3, 51) ;
+  }
+
+  @Test
+  public void shouldEstimateTheHypervolumeWithMoreObjectives() {
+    HypervolumeTracker tracker = new HypervolumeTracker(4, new double[] {1.0, 1.0, 1.0, 1.0}) ;
+    Random random = new Random(52) ;
+    for (int i = 0; i < 100; i++)
+      tracker.add(solution(randomPoint(random, 4))) ;
+    double expected = hypervolume(tracker, 4) ;
+    assertEquals(expected, tracker.getHypervolume(), 0.02 * expected) ;
+  }
+
+  @Test
+  public void shouldDiscardDominatedSolutions() {
+    HypervolumeTracker tracker = new HypervolumeTracker(2, new double[] {1.0, 1.0}) ;
+    assertTrue(tracker.add(solution(new double[] {0.5, 0.5}))) ;
+    assertFalse(tracker.add(solution(new double[] {0.6, 0.6}))) ;
+    assertFalse(tracker.add(solution(new double[] {0.5, 0.5}))) ;
+    assertEquals(0.25, tracker.getHypervolume(), 0.0) ;
+
+    Solution solution = solution(new double[] {0.2, 0.2}) ;
+    assertTrue(tracker.add(solution)) ;
+    assertEquals(1, tracker.size()) ;
+    assertEquals(0.64, tracker.getHypervolume(), 1e-15) ;
+
+    assertTrue(tracker.remove(solution)) ;
+    assertFalse(tracker.remove(solution)) ;
+    assertEquals(0.0, tracker.getHypervolume(), 1e-15) ;
+  }
+
+  @Test
+  public void shouldDiscardInfeasibleSolutions() {
+    HypervolumeTracker tracker = new HypervolumeTracker(2, new double[] {1.0, 1.0}) ;
+    assertTrue(tracker.add(solution(new double[] {0.5, 0.5}))) ;
+
+    Solution infeasible = solution(new double[] {0.1, 0.1}) ;
+    infeasible.setOverallConstraintViolation(-1.0) ;
+    assertFalse(tracker.add(infeasible)) ;
+    assertEquals(1, tracker.size()) ;
+    assertEquals(0.25, tracker.getHypervolume(), 0.0) ;
+  }
+
+  @Test
+  public void shouldEstimateTheReferencePointFromTheFeasibleSolutions() {
+    SolutionSet set = new SolutionSet(3) ;
+    set.add(solution(new double[] {0.0, 2.0})) ;
+    set.add(solution(new double[] {1.0, 2.0})) ;
+    Solution infeasible = solution(new double[] {5.0, 5.0}) ;
+    infeasible.setOverallConstraintViolation(-1.0) ;
+    set.add(infeasible) ;
+
+    double [] referencePoint = HypervolumeTracker.estimateReferencePoint(set) ;
+    assertEquals(1.1, referencePoint[0], 1e-15) ;
+    assertEquals(2.2, referencePoint[1], 1e-15) ;
+  }
+
+  @Test
+  public void shouldGiveTheHypervolumeOfTheQualityIndicators() throws Exception {
+    File paretoFrontFile = File.createTempFile("front", ".pf") ;
+    try {
+      PrintWriter writer = new PrintWriter(paretoFrontFile) ;
+      for (int i = 0; i < 100; i++) {
+        double f1 = i / 99.0 ;
+        writer.println(f1 + " " + (1.0 - Math.sqrt(f1))) ;
+      }
+      writer.close() ;
+
+      QualityIndicator indicators = new QualityIndicator(new ZDT1("Real"), paretoFrontFile.getPath()) ;
+      HypervolumeTracker tracker = new HypervolumeTracker(indicators) ;
+      Random random = new Random(53) ;
+      SolutionSet set = new SolutionSet(300) ;
+      for (int i = 0; i < 300; i++) {
+        double f1 = 1.1 * random.nextDouble() - 0.05 ;
+        Solution solution = solution(new double[] {f1, 1.0 - Math.sqrt(Math.abs(f1)) + 0.3 * random.nextDouble()}) ;
+        set.add(solution) ;
+        tracker.add(solution) ;
+      }
+      assertEquals(indicators.getHypervolume(set), tracker.getHypervolume(), 1e-12) ;
+    } finally {
+      paretoFrontFile.delete() ;
+    }
+  }
+
+  @Test
+  public void shouldRecordAndWriteTheSamples() throws Exception {
+    HypervolumeTracker tracker = new HypervolumeTracker(2, new double[] {1.0, 1.0}) ;
+    tracker.record(0) ;
+    tracker.add(solution(new double[] {0.5, 0.5})) ;
+    tracker.record(100) ;
+    tracker.add(solution(new double[] {0.25, 0.75})) ;
+    tracker.record(200) ;
+
+    assertEquals(3, tracker.getNumberOfSamples()) ;
+    assertEquals(200, tracker.getEvaluations(2)) ;
+    assertEquals(0.0, tracker.getHypervolume(0), 0.0) ;
+    assertEquals(0.25, tracker.getHypervolume(1), 0.0) ;
+    assertEquals(0.3125, tracker.getHypervolume(2), 1e-15) ;
+    assertTrue(tracker.getElapsedTime(2) >= tracker.getElapsedTime(1)) ;
+
+    File file = File.createTempFile("samples", ".hv") ;
+    try {
+      tracker.write(file.getPath()) ;
+      BufferedReader reader = new BufferedReader(new FileReader(file)) ;
+      for (int i = 0; i < 3; i++) {
+        String [] tokens = reader.readLine().split(" ") ;
+        assertEquals(tracker.getEvaluations(i), Long.parseLong(tokens[0])) ;
+        assertEquals(tracker.getElapsedTime(i), Long.parseLong(tokens[1])) ;
+        assertEquals(tracker.getHypervolume(i), Double.parseDouble(tokens[2]), 0.0) ;
+      }
+      assertNull(reader.readLine()) ;
+      reader.close() ;
+    } finally {
+      file.delete() ;
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package jmetal.test.qualityIndicator;
+
+import jmetal.core.Problem;
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.problems.ZDT.ZDT1;
+import jmetal.qualityIndicator.Epsilon;
+import jmetal.qualityIndicator.GenerationalDistance;
+import jmetal.qualityIndicator.Hypervolume;
+import jmetal.qualityIndicator.InvertedGenerationalDistance;
+import jmetal.qualityIndicator.QualityIndicator;
+import jmetal.qualityIndicator.fastHypervolume.MonteCarloHypervolume;
+import jmetal.qualityIndicator.Spread;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the QualityIndicator class, which must give the same values as
+ * the indicators computed from the files
+ */
+public class QualityIndicatorTest {
+
+  private File paretoFrontFile ;
+  private double [][] trueFront ;
+  private Problem problem ;
+
+  @Before
+  public void setUp() throws Exception {
+    problem = new ZDT1("Real") ;
+    paretoFrontFile = File.createTempFile("front", ".pf") ;
+    trueFront = new double[200][] ;
+    PrintWriter writer = new PrintWriter(paretoFrontFile) ;
+    for (int i = 0; i < trueFront.length; i++) {
+      double f1 = i / (trueFront.length - 1.0) ;
+      trueFront[i] = new double[] {f1, 1.0 - Math.sqrt(f1)} ;
+      writer.println(trueFront[i][0] + " " + trueFront[i][1]) ;
+    }
+    writer.close() ;
+  }
+
+  @After
+  public void tearDown() {
+    paretoFrontFile.delete() ;
+  }
+
+  private static Solution solution(double f1, double f2) {
+    Solution solution = new Solution(2) ;
+    solution.setObjective(0, f1) ;
+    solution.setObjective(1, f2) ;
+    return solution ;
+  }
+
+  private static SolutionSet randomSet(Random random, int size) {
+    SolutionSet set = new SolutionSet(size + 10) ;
+    for (int i = 0; i < size; i++) {
+      double f1 = random.nextDouble() ;
+      set.add(solution(f1, 1.0 - Math.sqrt(f1) + 0.2 * random.nextDouble())) ;
+    }
+    return set ;
+  }
+
+  @Test
+  public void shouldGiveTheSameValuesAsTheIndicators() {
+    QualityIndicator indicators = new QualityIndicator(problem, paretoFrontFile.getPath()) ;
+    double [][] trueParetoFront = indicators.utils_.readFront(paretoFrontFile.getPath()) ;
+    Random random = new Random(48) ;
+    for (int run = 0; run < 5; run++) {
+      SolutionSet set = randomSet(random, 50) ;
+      double [][] front = set.writeObjectivesToMatrix() ;
+
+      assertEquals(new Hypervolume().hypervolume(front, trueParetoFront, 2),
+                   indicators.getHypervolume(set), 0.0) ;
+      assertEquals(new InvertedGenerationalDistance().invertedGenerationalDistance(front, trueParetoFront, 2),
+                   indicators.getIGD(set), 0.0) ;
+      assertEquals(new GenerationalDistance().generationalDistance(front, trueParetoFront, 2),
+                   indicators.getGD(set), 0.0) ;
+      assertEquals(new Spread().spread(front, trueParetoFront, 2),
+                   indicators.getSpread(set), 0.0) ;
+      assertEquals(new Epsilon().epsilon(front, trueParetoFront, 2),
+                   indicators.getEpsilon(set), 0.0) ;
+    }
+    assertEquals(new Hypervolume().hypervolume(trueParetoFront, trueParetoFront, 2),
+                 indicators.getTrueParetoFrontHypervolume(), 0.0) ;
+  }
+
+  @Test
+  public void shouldComputeTheHypervolumeAgainOnlyIfTheFirstFrontChanges() {
+    QualityIndicator indicators = new QualityIndicator(problem, paretoFrontFile.getPath()) ;
+    QualityIndicator incremental = new QualityIndicator(problem, paretoFrontFile.getPath()) ;
+    incremental.setIncremental(true) ;
+
+    SolutionSet set = randomSet(new Random(49), 30) ;
+    double hv = incremental.getHypervolume(set) ;
+    assertEquals(indicators.getHypervolume(set), hv, 0.0) ;
+
+    // A dominated solution does not change the first front
+    set.add(solution(2.0, 2.0)) ;
+    assertEquals(hv, incremental.getHypervolume(set), 0.0) ;
+
+    // A solution dominating the rest does
+    set.add(solution(0.0, 0.0)) ;
+    double newHv = incremental.getHypervolume(set) ;
+    assertTrue(newHv > hv) ;
+    assertEquals(indicators.getHypervolume(set), newHv, 0.0) ;
+  }
+
+  @Test
+  public void shouldEstimateTheHypervolumeOfPointsOutOfTheBoundsOfTheTrueFront() {
+    QualityIndicator indicators = new QualityIndicator(problem, paretoFrontFile.getPath()) ;
+    SolutionSet set = randomSet(new Random(50), 30) ;
+    set.add(solution(-0.2, 0.6)) ;
+    double [][] front = set.writeObjectivesToMatrix() ;
+
+    double exact = new Hypervolume().hypervolume(front, trueFront, 2) ;
+    assertEquals(exact, indicators.getHypervolumeEstimate(set).getValue(),
+                 2 * MonteCarloHypervolume.DEFAULT_TOLERANCE * exact) ;
+  }
+}
@@ -0,0 +1,62 @@
+package jmetal.test.qualityIndicator.fastHypervolume;
+
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.qualityIndicator.fastHypervolume.FastHypervolume;
+import jmetal.qualityIndicator.fastHypervolume.wfg.Front;
+import jmetal.qualityIndicator.fastHypervolume.wfg.WFGHV;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of the FastHypervolume class, which must give the same values as a
+ * new WFGHV object in every call, sequentially or in a pool
+ */
+public class FastHypervolumeTest {
+
+  private static SolutionSet randomSet(Random random, int size, int numberOfObjectives) {
+    SolutionSet set = new SolutionSet(size) ;
+    for (int i = 0; i < size; i++) {
+      Solution solution = new Solution(numberOfObjectives) ;
+      for (int k = 0; k < numberOfObjectives; k++)
+        solution.setObjective(k, random.nextDouble()) ;
+      set.add(solution) ;
+    }
+    return set ;
+  }
+
+  private static Solution referencePoint(int numberOfObjectives, double value) {
+    Solution referencePoint = new Solution(numberOfObjectives) ;
+    for (int k = 0; k < numberOfObjectives; k++)
+      referencePoint.setObjective(k, value) ;
+    return referencePoint ;
+  }
+
+  @Test
+  public void shouldGiveTheValuesOfWFGHVInEveryCall() {
+    ForkJoinPool pool = new ForkJoinPool(2) ;
+    try {
+      FastHypervolume sequential = new FastHypervolume() ;
+      FastHypervolume parallel = new FastHypervolume(20.0, pool) ;
+      Random random = new Random(46) ;
+      int [] sizes = {30, 80, 10, 60} ;
+      for (int numberOfObjectives = 3; numberOfObjectives <= 4; numberOfObjectives++) {
+        for (int i = 0; i < sizes.length; i++) {
+          SolutionSet set = randomSet(random, sizes[i], numberOfObjectives) ;
+          Solution referencePoint = referencePoint(numberOfObjectives, 1.0 + 0.5 * i) ;
+          double expected = new WFGHV(numberOfObjectives, set.size())
+                  .getHV(new Front(set.size(), numberOfObjectives, set), referencePoint) ;
+
+          assertEquals(expected, sequential.computeHypervolume(set, referencePoint), 0.0) ;
+          assertEquals(expected, parallel.computeHypervolume(set, referencePoint), 0.0) ;
+        }
+      }
+    } finally {
+      pool.shutdown() ;
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package jmetal.test.qualityIndicator.fastHypervolume;
+
+import jmetal.qualityIndicator.fastHypervolume.HypervolumeContributions;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of the hypervolume contributions, compared with the hypervolume of
+ * the set minus the hypervolume of the rest of the points, both computed on
+ * the grid of the coordinates of the points
+ */
+public class HypervolumeContributionsTest {
+
+  private static final double EPSILON = 1e-9 ;
+
+  /**
+   * Hypervolume of a set, adding the cells of the grid dominated by a point
+   */
+  private static double hypervolume(List<double[]> points, double [] referencePoint) {
+    if (points.isEmpty())
+      return 0.0 ;
+
+    int dimensions = referencePoint.length ;
+    double [][] grid = new double[dimensions][] ;
+    for (int j = 0; j < dimensions; j++) {
+      double [] values = new double[points.size() + 1] ;
+      for (int i = 0; i < points.size(); i++)
+        values[i] = Math.min(points.get(i)[j], referencePoint[j]) ;
+      values[points.size()] = referencePoint[j] ;
+      Arrays.sort(values) ;
+      grid[j] = values ;
+    }
+
+    double hv = 0.0 ;
+    int [] cell = new int[dimensions] ;
+    while (true) {
+      double volume = 1.0 ;
+      double [] corner = new double[dimensions] ;
+      for (int j = 0; j < dimensions; j++) {
+        corner[j] = grid[j][cell[j]] ;
+        volume *= grid[j][cell[j] + 1] - grid[j][cell[j]] ;
+      }
+      if (volume > 0) {
+        for (double [] point : points) {
+          boolean dominates = true ;
+          for (int j = 0; j < dimensions; j++)
+            dominates &= point[j] <= corner[j] ;
+          if (dominates) {
+            hv += volume ;
+            break ;
+          }
+        }
+      }
+
+      int j = 0 ;
+      while ((j < dimensions) && (++cell[j] == grid[j].length - 1))
+        cell[j++] = 0 ;
+      if (j == dimensions)
+        return hv ;
+    }
+  }
+
+  private static void check(double [][] points, double [] referencePoint) {
+    List<double[]> all = new ArrayList<double[]>(Arrays.asList(points)) ;
+    double total = hypervolume(all, referencePoint) ;
+    double [] contributions = new HypervolumeContributions().computeContributions(points, referencePoint) ;
+    for (int i = 0; i < points.length; i++) {
+      List<double[]> rest = new ArrayList<double[]>(all) ;
+      rest.remove(i) ;
+      double expected = total - hypervolume(rest, referencePoint) ;
+      assertEquals("Point " + i, expected, contributions[i], EPSILON) ;
+    }
+  }
+
+  /**
+   * Random points; with a coarse grid, many of them share coordinates
+   */
+  private static double [][] randomPoints(Random random, int n, int dimensions, int grid) {
+    double [][] points = new double[n][dimensions] ;
+    for (int i = 0; i < n; i++)
+      for (int j = 0; j < dimensions; j++)
+        points[i][j] = (grid > 0) ? random.nextInt(grid) : random.nextDouble() ;
+    return points ;
+  }
+
+  private static double [][] nonDominated(double [][] points) {
+    List<double[]> front = new ArrayList<double[]>() ;
+    for (double [] point : points) {
+      boolean dominated = false ;
+      for (double [] other : points) {
+        boolean better = false ;
+        boolean worse = false ;
+        for (int j = 0; j < point.length; j++) {
+          better |= other[j] < point[j] ;
+          worse  |= other[j] > point[j] ;
+        }
+        dominated |= better && !worse ;
+      }
+      if (!dominated)
+        front.add(point) ;
+    }
+    return front.toArray(new double[front.size()][]) ;
+  }
+
+  private static double [] referencePoint(int dimensions, double value) {
+    double [] referencePoint = new double[dimensions] ;
+    Arrays.fill(referencePoint, value) ;
+    return referencePoint ;
+  }
+
+  @Test
+  public void shouldComputeTheContributionsOfNonDominatedFronts() {
+    Random random = new Random(41) ;
+    for (int dimensions = 2; dimensions <= 4; dimensions++) {
+      for (int run = 0; run < 40; run++) {
+        int grid = (run % 2 == 0) ? 0 : 6 ;
+        double [][] front = nonDominated(randomPoints(random, 60 / (dimensions - 1), dimensions, grid)) ;
+        check(front, referencePoint(dimensions, (grid > 0) ? grid + 1 : 1.5)) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldComputeTheContributionsOfDuplicatedPoints() {
+    Random random = new Random(42) ;
+    for (int dimensions = 2; dimensions <= 3; dimensions++) {
+      for (int run = 0; run < 20; run++) {
+        double [][] front = nonDominated(randomPoints(random, 20, dimensions, 5)) ;
+        double [][] points = new double[2 * front.length][] ;
+        for (int i = 0; i < front.length; i++) {
+          points[2 * i] = front[i] ;
+          points[2 * i + 1] = (i % 2 == 0) ? front[i].clone() : front[(i + 1) % front.length] ;
+        }
+        check(points, referencePoint(dimensions, 6.0)) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldComputeTheContributionsOfDominatedPoints() {
+    Random random = new Random(43) ;
+    for (int dimensions = 2; dimensions <= 4; dimensions++) {
+      for (int run = 0; run < 20; run++) {
+        int grid = (run % 2 == 0) ? 0 : 4 ;
+        check(randomPoints(random, 10, dimensions, grid), referencePoint(dimensions, (grid > 0) ? grid : 1.0)) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldIgnoreThePointsNotDominatingTheReferencePoint() {
+    double [][] points = {{0.0, 3.0, 1.0}, {1.0, 1.0, 1.0}, {3.0, 0.0, 0.0}, {2.0, 2.0, 0.5}} ;
+    double [] contributions = new HypervolumeContributions().computeContributions(points, referencePoint(3, 3.0)) ;
+    assertEquals(0.0, contributions[0], EPSILON) ;
+    assertEquals(0.0, contributions[2], EPSILON) ;
+    check(points, referencePoint(3, 3.0)) ;
+  }
+}
@@ -0,0 +1,148 @@
+package jmetal.test.qualityIndicator.fastHypervolume;
+
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.qualityIndicator.fastHypervolume.HypervolumeContributions;
+import jmetal.qualityIndicator.fastHypervolume.IncrementalHypervolumeContributions;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests of the incremental hypervolume contributions, compared with the
+ * contributions computed from scratch after each change
+ */
+public class IncrementalHypervolumeContributionsTest {
+
+  private static final double EPSILON = 1e-12 ;
+
+  /**
+   * Random point on the unit sphere, or on a grid to get repeated values
+   */
+  private static Solution randomSolution(Random random, int numberOfObjectives) {
+    Solution solution = new Solution(numberOfObjectives) ;
+    double norm = 0.0 ;
+    double [] values = new double[numberOfObjectives] ;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      values[j] = Math.abs(random.nextGaussian()) ;
+      norm += values[j] * values[j] ;
+    }
+    for (int j = 0; j < numberOfObjectives; j++) {
+      double value = values[j] / Math.sqrt(norm) ;
+      solution.setObjective(j, random.nextBoolean() ? value : Math.round(value * 4) / 4.0) ;
+    }
+    return solution ;
+  }
+
+  private static boolean dominates(Solution solution1, Solution solution2) {
+    boolean better = false ;
+    for (int j = 0; j < solution1.getNumberOfObjectives(); j++) {
+      if (solution1.getObjective(j) > solution2.getObjective(j))
+        return false ;
+      better |= solution1.getObjective(j) < solution2.getObjective(j) ;
+    }
+    return better ;
+  }
+
+  private static void check(IncrementalHypervolumeContributions contributions,
+                            List<Solution> solutions, double [] referencePoint) {
+    double [][] points = new double[solutions.size()][] ;
+    for (int i = 0; i < solutions.size(); i++) {
+      points[i] = new double[referencePoint.length] ;
+      for (int j = 0; j < referencePoint.length; j++)
+        points[i][j] = solutions.get(i).getObjective(j) ;
+    }
+    double [] expected = new HypervolumeContributions().computeContributions(points, referencePoint) ;
+
+    assertEquals(solutions.size(), contributions.size()) ;
+    double least = Double.POSITIVE_INFINITY ;
+    for (int i = 0; i < solutions.size(); i++) {
+      assertEquals(expected[i], contributions.getContribution(solutions.get(i)), EPSILON) ;
+      least = Math.min(least, expected[i]) ;
+    }
+    if (!solutions.isEmpty())
+      assertEquals(least, contributions.getContribution(contributions.getLeastContributor()), EPSILON) ;
+  }
+
+  private static void run(int numberOfObjectives, long seed) {
+    Random random = new Random(seed) ;
+    double [] referencePoint = new double[numberOfObjectives] ;
+    Arrays.fill(referencePoint, 1.5) ;
+    IncrementalHypervolumeContributions contributions =
+            new IncrementalHypervolumeContributions(numberOfObjectives, referencePoint) ;
+    List<Solution> solutions = new ArrayList<Solution>() ;
+
+    for (int step = 0; step < 400; step++) {
+      int operation = random.nextInt(10) ;
+      if ((operation < 6) || solutions.isEmpty()) {
+        // Adds a solution, as a front would, removing the ones it dominates
+        Solution solution = randomSolution(random, numberOfObjectives) ;
+        boolean dominated = false ;
+        for (Solution member : solutions)
+          dominated |= dominates(member, solution) ;
+        if (!dominated) {
+          for (int i = solutions.size() - 1; i >= 0; i--) {
+            if (dominates(solution, solutions.get(i)))
+              contributions.remove(solutions.remove(i)) ;
+          }
+          solutions.add(solution) ;
+          contributions.add(solution) ;
+        }
+      } else if (operation < 8) {
+        // Removes the least contributor
+        Solution least = contributions.getLeastContributor() ;
+        assertSame(least, solutions.remove(solutions.indexOf(least))) ;
+        contributions.remove(least) ;
+      } else {
+        referencePoint[random.nextInt(numberOfObjectives)] = 1.0 + random.nextDouble() ;
+        contributions.setReferencePoint(referencePoint) ;
+      }
+      check(contributions, solutions, referencePoint) ;
+    }
+  }
+
+  @Test
+  public void shouldKeepTheContributionsOfTwoObjectives() {
+    run(2, 42) ;
+  }
+
+  @Test
+  public void shouldKeepTheContributionsOfThreeObjectives() {
+    run(3, 42) ;
+  }
+
+  @Test
+  public void shouldSetTheSolutionsOfAFront() {
+    Random random = new Random(43) ;
+    double [] referencePoint = {1.5, 1.5} ;
+    IncrementalHypervolumeContributions contributions =
+            new IncrementalHypervolumeContributions(2, referencePoint) ;
+    List<Solution> pool = new ArrayList<Solution>() ;
+    for (int i = 0; i < 30; i++) {
+      double angle = random.nextDouble() * Math.PI / 2 ;
+      Solution solution = new Solution(2) ;
+      solution.setObjective(0, Math.cos(angle)) ;
+      solution.setObjective(1, Math.sin(angle)) ;
+      pool.add(solution) ;
+    }
+
+    for (int step = 0; step < 20; step++) {
+      SolutionSet front = new SolutionSet(pool.size()) ;
+      List<Solution> solutions = new ArrayList<Solution>() ;
+      for (Solution solution : pool) {
+        if (random.nextBoolean()) {
+          front.add(solution) ;
+          solutions.add(solution) ;
+        }
+      }
+      contributions.setSolutions(front) ;
+      check(contributions, solutions, referencePoint) ;
+    }
+  }
+}
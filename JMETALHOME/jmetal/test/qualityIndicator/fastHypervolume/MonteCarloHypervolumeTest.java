@@ -0,0 +1,145 @@
+package jmetal.test.qualityIndicator.fastHypervolume;
+
+import jmetal.qualityIndicator.Hypervolume;
+import jmetal.qualityIndicator.fastHypervolume.HypervolumeContributions;
+import jmetal.qualityIndicator.fastHypervolume.MonteCarloHypervolume;
+import jmetal.qualityIndicator.fastHypervolume.wfg.Front;
+import jmetal.qualityIndicator.fastHypervolume.wfg.Point;
+import jmetal.qualityIndicator.fastHypervolume.wfg.WFGHV;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the Monte Carlo hypervolume estimator, compared with the exact
+ * hypervolume and contributions
+ */
+public class MonteCarloHypervolumeTest {
+
+  /**
+   * Random points on the unit sphere
+   */
+  private static double [][] randomFront(Random random, int n, int dimensions) {
+    double [][] points = new double[n][dimensions] ;
+    for (double [] point : points) {
+      double norm = 0.0 ;
+      for (int j = 0; j < dimensions; j++) {
+        point[j] = Math.abs(random.nextGaussian()) ;
+        norm += point[j] * point[j] ;
+      }
+      for (int j = 0; j < dimensions; j++)
+        point[j] /= Math.sqrt(norm) ;
+    }
+    return points ;
+  }
+
+  private static double exactHypervolume(double [][] points, double [] referencePoint) {
+    int dimensions = referencePoint.length ;
+    Front front = new Front(points.length, dimensions) ;
+    for (int i = 0; i < points.length; i++)
+      System.arraycopy(points[i], 0, front.points_[i].objectives_, 0, dimensions) ;
+    return new WFGHV(dimensions, points.length, new Point(referencePoint.clone())).getHV(front) ;
+  }
+
+  private static double [] referencePoint(int dimensions, double value) {
+    double [] referencePoint = new double[dimensions] ;
+    Arrays.fill(referencePoint, value) ;
+    return referencePoint ;
+  }
+
+  @Test
+  public void shouldEstimateTheHypervolumeWithinTheTolerance() {
+    Random random = new Random(44) ;
+    MonteCarloHypervolume estimator = new MonteCarloHypervolume() ;
+    for (int dimensions = 3; dimensions <= 6; dimensions++) {
+      double [][] points = randomFront(random, 40, dimensions) ;
+      double [] referencePoint = referencePoint(dimensions, 1.1) ;
+      double exact = exactHypervolume(points, referencePoint) ;
+      MonteCarloHypervolume.Estimate estimate = estimator.estimate(points, referencePoint) ;
+
+      assertEquals(exact, estimate.getValue(), 2 * MonteCarloHypervolume.DEFAULT_TOLERANCE * exact) ;
+      assertTrue(estimate.getUpperBound() - estimate.getLowerBound() <=
+                 2 * MonteCarloHypervolume.DEFAULT_TOLERANCE * estimate.getValue()) ;
+    }
+  }
+
+  @Test
+  public void shouldGiveTheSameEstimateInParallel() {
+    Random random = new Random(45) ;
+    double [][] points = randomFront(random, 30, 8) ;
+    double [] referencePoint = referencePoint(8, 1.0) ;
+    ForkJoinPool pool = new ForkJoinPool(4) ;
+    try {
+      MonteCarloHypervolume.Estimate sequential = new MonteCarloHypervolume(7, 0.01, 1 << 20, null)
+              .estimate(points, referencePoint) ;
+      MonteCarloHypervolume.Estimate parallel = new MonteCarloHypervolume(7, 0.01, 1 << 20, pool)
+              .estimate(points, referencePoint) ;
+      assertEquals(sequential.getValue(), parallel.getValue(), 0.0) ;
+      assertEquals(sequential.getLowerBound(), parallel.getLowerBound(), 0.0) ;
+      assertEquals(sequential.getNumberOfSamples(), parallel.getNumberOfSamples()) ;
+
+      double [] contributions1 = new MonteCarloHypervolume(7, 0.01, 1 << 20, null)
+              .contributions(points, referencePoint, 10000) ;
+      double [] contributions2 = new MonteCarloHypervolume(7, 0.01, 1 << 20, pool)
+              .contributions(points, referencePoint, 10000) ;
+      assertTrue(Arrays.equals(contributions1, contributions2)) ;
+    } finally {
+      pool.shutdown() ;
+    }
+  }
+
+  @Test
+  public void shouldEstimateTheContributions() {
+    Random random = new Random(46) ;
+    double [][] points = randomFront(random, 15, 4) ;
+    double [] referencePoint = referencePoint(4, 1.1) ;
+    double [] exact = new HypervolumeContributions().computeContributions(points, referencePoint) ;
+    double [] estimated = new MonteCarloHypervolume().contributions(points, referencePoint, 1 << 20) ;
+    double volume = Math.pow(1.1, 4) ;
+    for (int i = 0; i < points.length; i++)
+      assertEquals(exact[i], estimated[i], 0.002 * volume) ;
+  }
+
+  @Test
+  public void shouldIgnoreThePointsNotDominatingTheReferencePoint() {
+    double [][] points = {{2.0, 0.0, 0.0}, {0.5, 0.5, 1.0}} ;
+    MonteCarloHypervolume.Estimate estimate = new MonteCarloHypervolume().estimate(points, referencePoint(3, 1.0)) ;
+    assertEquals(0.0, estimate.getValue(), 0.0) ;
+    assertEquals(0, estimate.getNumberOfSamples()) ;
+
+    double [] contributions = new MonteCarloHypervolume().contributions(points, referencePoint(3, 1.0), 1000) ;
+    assertEquals(0.0, contributions[0], 0.0) ;
+    assertEquals(0.0, contributions[1], 0.0) ;
+  }
+
+  @Test
+  public void shouldEstimateTheNormalizedHypervolumeAsHypervolume() {
+    Random random = new Random(47) ;
+    double [][] trueFront = randomFront(random, 200, 3) ;
+    double [][] front = randomFront(random, 30, 3) ;
+    for (double [] point : front)
+      for (int j = 0; j < point.length; j++)
+        point[j] = Math.min(1.0, point[j] * 1.05) ;
+
+    double exact = new Hypervolume().hypervolume(front, trueFront, 3) ;
+    double estimate = new MonteCarloHypervolume().hypervolume(front, trueFront, 3) ;
+    assertEquals(exact, estimate, 2 * MonteCarloHypervolume.DEFAULT_TOLERANCE * exact) ;
+  }
+
+  @Test
+  public void shouldClampThePointsOutOfTheBoundsOfTheTrueFront() {
+    double [][] trueFront = {{0.0, 1.0}, {0.5, 0.5}, {1.0, 0.0}} ;
+    double [][] front = {{-0.2, 0.6}, {0.6, 0.3}} ;
+
+    double exact = new Hypervolume().hypervolume(front, trueFront, 2) ;
+    MonteCarloHypervolume.Estimate estimate = new MonteCarloHypervolume().estimate(front, trueFront, 2) ;
+    assertEquals(0.52, exact, 1e-12) ;
+    assertEquals(exact, estimate.getValue(), 2 * MonteCarloHypervolume.DEFAULT_TOLERANCE * exact) ;
+    assertTrue((estimate.getLowerBound() <= exact) && (exact <= estimate.getUpperBound())) ;
+  }
+}
@@ -0,0 +1,106 @@
+package jmetal.test.qualityIndicator.fastHypervolume.wfg;
+
+import jmetal.qualityIndicator.fastHypervolume.wfg.Front;
+import jmetal.qualityIndicator.fastHypervolume.wfg.ParallelWFGHV;
+import jmetal.qualityIndicator.fastHypervolume.wfg.Point;
+import jmetal.qualityIndicator.fastHypervolume.wfg.WFGHV;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of the parallel WFG hypervolume, which must be exactly the same as
+ * the sequential one
+ */
+public class ParallelWFGHVTest {
+
+  private static ForkJoinPool pool ;
+
+  @BeforeClass
+  public static void createPool() {
+    pool = new ForkJoinPool(4) ;
+  }
+
+  @AfterClass
+  public static void shutdownPool() {
+    pool.shutdown() ;
+  }
+
+  /**
+   * Random points on the unit sphere
+   */
+  private static List<double[]> randomFront(Random random, int n, int dimensions) {
+    List<double[]> points = new ArrayList<double[]>() ;
+    for (int i = 0; i < n; i++) {
+      double [] point = new double[dimensions] ;
+      double norm = 0.0 ;
+      for (int j = 0; j < dimensions; j++) {
+        point[j] = Math.abs(random.nextGaussian()) ;
+        norm += point[j] * point[j] ;
+      }
+      for (int j = 0; j < dimensions; j++)
+        point[j] /= Math.sqrt(norm) ;
+      points.add(point) ;
+    }
+    return points ;
+  }
+
+  private static Front front(List<double[]> points, int dimensions) {
+    Front front = new Front(points.size(), dimensions) ;
+    for (int i = 0; i < points.size(); i++)
+      System.arraycopy(points.get(i), 0, front.points_[i].objectives_, 0, dimensions) ;
+    return front ;
+  }
+
+  private static Point referencePoint(int dimensions) {
+    double [] referencePoint = new double[dimensions] ;
+    Arrays.fill(referencePoint, 1.1) ;
+    return new Point(referencePoint) ;
+  }
+
+  @Test
+  public void shouldComputeTheSameHypervolumeAsWFGHV() {
+    Random random = new Random(43) ;
+    for (int dimensions = 2; dimensions <= 6; dimensions++) {
+      for (int run = 0; run < 5; run++) {
+        List<double[]> points = randomFront(random, 10 + 20 * run, dimensions) ;
+        double expected = new WFGHV(dimensions, points.size(), referencePoint(dimensions))
+                .getHV(front(points, dimensions)) ;
+        double hv = new ParallelWFGHV(dimensions, referencePoint(dimensions), pool)
+                .getHV(front(points, dimensions)) ;
+        assertEquals(expected, hv, 0.0) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldReuseTheObjectForFrontsOfDifferentSizes() {
+    Random random = new Random(44) ;
+    ParallelWFGHV hypervolume = new ParallelWFGHV(4, referencePoint(4), pool) ;
+    for (int n : new int[] {30, 5, 80, 1, 40}) {
+      List<double[]> points = randomFront(random, n, 4) ;
+      double expected = new WFGHV(4, n, referencePoint(4)).getHV(front(points, 4)) ;
+      assertEquals(expected, hypervolume.getHV(front(points, 4)), 0.0) ;
+    }
+  }
+
+  @Test
+  public void shouldReuseTheObjectForDifferentReferencePoints() {
+    Random random = new Random(45) ;
+    ParallelWFGHV hypervolume = new ParallelWFGHV(3, referencePoint(3), pool) ;
+    for (double r : new double[] {1.1, 2.0, 1.5}) {
+      List<double[]> points = randomFront(random, 50, 3) ;
+      Point referencePoint = new Point(new double[] {r, r, r}) ;
+      double expected = new WFGHV(3, 50, referencePoint).getHV(front(points, 3)) ;
+      assertEquals(expected, hypervolume.getHV(front(points, 3), referencePoint), 0.0) ;
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package jmetal.test.qualityIndicator.util;
+
+import jmetal.qualityIndicator.GeneralizedSpread;
+import jmetal.qualityIndicator.GenerationalDistance;
+import jmetal.qualityIndicator.InvertedGenerationalDistance;
+import jmetal.qualityIndicator.util.FrontTree;
+import jmetal.qualityIndicator.util.LexicoGraphicalComparator;
+import jmetal.qualityIndicator.util.MetricsUtil;
+import jmetal.qualityIndicator.util.ValueComparator;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of the FrontTree class, which must give the same distances as the
+ * linear searches of MetricsUtil
+ */
+public class FrontTreeTest {
+
+  private final MetricsUtil utils = new MetricsUtil() ;
+
+  /**
+   * Random points, some of them repeated
+   */
+  private static double [][] randomFront(Random random, int n, int dimensions) {
+    double [][] front = new double[n][] ;
+    for (int i = 0; i < n; i++) {
+      if ((i > 0) && (random.nextInt(5) == 0))
+        front[i] = front[random.nextInt(i)].clone() ;
+      else {
+        front[i] = new double[dimensions] ;
+        for (int j = 0; j < dimensions; j++)
+          front[i][j] = random.nextDouble() ;
+      }
+    }
+    return front ;
+  }
+
+  private void assertSameDistances(FrontTree tree, double [][] points, double [][] front) {
+    double [] closed = tree.distancesToClosedPoints(points) ;
+    double [] nearest = tree.distancesToNearestPoints(points) ;
+    for (int i = 0; i < points.length; i++) {
+      assertEquals(utils.distanceToClosedPoint(points[i], front), closed[i], 0.0) ;
+      assertEquals(utils.distanceToNearestPoint(points[i], front), nearest[i], 0.0) ;
+      assertEquals(closed[i], tree.distanceToClosedPoint(points[i]), 0.0) ;
+      assertEquals(nearest[i], tree.distanceToNearestPoint(points[i]), 0.0) ;
+    }
+  }
+
+  @Test
+  public void shouldGiveTheSameDistancesAsTheLinearSearch() {
+    Random random = new Random(46) ;
+    for (int dimensions = 2; dimensions <= 5; dimensions++) {
+      double [][] front = randomFront(random, 300, dimensions) ;
+      FrontTree tree = new FrontTree(front) ;
+      assertSameDistances(tree, front, front) ;
+      assertSameDistances(tree, randomFront(random, 100, dimensions), front) ;
+    }
+  }
+
+  @Test
+  public void shouldGiveTheSameDistancesInParallel() {
+    Random random = new Random(47) ;
+    double [][] front = randomFront(random, 1000, 3) ;
+    double [][] points = randomFront(random, 3000, 3) ;
+    ForkJoinPool pool = new ForkJoinPool(4) ;
+    try {
+      assertSameDistances(new FrontTree(front, pool), points, front) ;
+    } finally {
+      pool.shutdown() ;
+    }
+  }
+
+  @Test
+  public void shouldHandleDegenerateFronts() {
+    double [][] point = {{0.5, 0.5}} ;
+    FrontTree empty = new FrontTree(new double[0][]) ;
+    assertEquals(Double.MAX_VALUE, empty.distanceToClosedPoint(point[0]), 0.0) ;
+    assertEquals(Double.MAX_VALUE, empty.distanceToNearestPoint(point[0]), 0.0) ;
+
+    double [][] repeated = {{0.5, 0.5}, {0.5, 0.5}, {0.5, 0.5}} ;
+    assertSameDistances(new FrontTree(repeated), repeated, repeated) ;
+  }
+
+  @Test
+  public void shouldNotChangeTheIndicators() {
+    Random random = new Random(48) ;
+    double [][] trueFront = randomFront(random, 500, 3) ;
+    double [][] front = randomFront(random, 100, 3) ;
+    double [] maximumValue = utils.getMaximumValues(trueFront, 3) ;
+    double [] minimumValue = utils.getMinimumValues(trueFront, 3) ;
+    double [][] normalizedTrueFront = utils.getNormalizedFront(trueFront, maximumValue, minimumValue) ;
+    double [][] normalizedFront = utils.getNormalizedFront(front, maximumValue, minimumValue) ;
+
+    double gd = 0.0 ;
+    for (double [] point : normalizedFront)
+      gd += Math.pow(utils.distanceToClosedPoint(point, normalizedTrueFront), 2.0) ;
+    assertEquals(Math.pow(gd, 0.5) / front.length,
+                 new GenerationalDistance().generationalDistance(front, trueFront, 3), 0.0) ;
+    assertEquals(Math.pow(gd, 0.5) / front.length,
+                 new GenerationalDistance().generationalDistance(front, new FrontTree(normalizedTrueFront),
+                                                                 maximumValue, minimumValue), 0.0) ;
+
+    double igd = 0.0 ;
+    for (double [] point : normalizedTrueFront)
+      igd += Math.pow(utils.distanceToClosedPoint(point, normalizedFront), 2.0) ;
+    assertEquals(Math.pow(igd, 0.5) / trueFront.length,
+                 new InvertedGenerationalDistance().invertedGenerationalDistance(front, trueFront, 3), 0.0) ;
+
+    // Generalized spread, as computed with the linear searches
+    double [][] sortedFront = normalizedFront.clone() ;
+    Arrays.sort(sortedFront, new LexicoGraphicalComparator()) ;
+    double [][] extremes = new double[3][] ;
+    for (int i = 0; i < 3; i++) {
+      double [][] sortedTrueFront = normalizedTrueFront.clone() ;
+      Arrays.sort(sortedTrueFront, new ValueComparator(i)) ;
+      extremes[i] = sortedTrueFront[sortedTrueFront.length - 1] ;
+    }
+    double dmean = 0.0 ;
+    for (double [] point : sortedFront)
+      dmean += utils.distanceToNearestPoint(point, sortedFront) ;
+    dmean = dmean / front.length ;
+    double dExtremes = 0.0 ;
+    for (double [] extreme : extremes)
+      dExtremes += utils.distanceToClosedPoint(extreme, sortedFront) ;
+    double mean = 0.0 ;
+    for (double [] point : sortedFront)
+      mean += Math.abs(utils.distanceToNearestPoint(point, sortedFront) - dmean) ;
+    assertEquals((dExtremes + mean) / (dExtremes + front.length * dmean),
+                 new GeneralizedSpread().generalizedSpread(front, trueFront, 3), 0.0) ;
+  }
+}
@@ -0,0 +1,136 @@
+package jmetal.test.qualityIndicator.util;
+
+import jmetal.qualityIndicator.R2;
+import jmetal.qualityIndicator.util.R2Contributions;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of the R2Contributions class, compared with the nested loops over
+ * the weight vectors and the points which were used by R2
+ */
+public class R2ContributionsTest {
+
+  private static double [][] weights(int n) {
+    double [][] lambda = new double[n][2] ;
+    for (int i = 0; i < n; i++) {
+      lambda[i][0] = 1.0 * i / (n - 1) ;
+      lambda[i][1] = 1 - lambda[i][0] ;
+    }
+    return lambda ;
+  }
+
+  /**
+   * Random points in [0, 1], some of them repeated
+   */
+  private static double [][] randomFront(Random random, int n) {
+    double [][] front = new double[n][] ;
+    for (int i = 0; i < n; i++) {
+      if ((i > 0) && (random.nextInt(6) == 0))
+        front[i] = front[random.nextInt(i)].clone() ;
+      else {
+        double f1 = random.nextDouble() ;
+        front[i] = new double[] {f1, 1.0 - Math.sqrt(f1) + 0.1 * random.nextDouble()} ;
+      }
+    }
+    return front ;
+  }
+
+  /**
+   * R2 value of the points not removed, excluding another one (or none, if
+   * it is -1)
+   */
+  private static double r2(double [][] lambda, double [][] front, boolean [] removed, int excluded) {
+    double sum = 0.0 ;
+    for (double [] weight : lambda) {
+      double tmp = Double.POSITIVE_INFINITY ;
+      for (int i = 0; i < front.length; i++) {
+        if (!removed[i] && (i != excluded)) {
+          double utility = weight[0] * Math.abs(front[i][0]) ;
+          utility = Math.max(utility, weight[1] * Math.abs(front[i][1])) ;
+          tmp = Math.min(tmp, utility) ;
+        }
+      }
+      sum += tmp ;
+    }
+    return sum / (double) lambda.length ;
+  }
+
+  @Test
+  public void shouldGiveTheSameValuesAsTheNestedLoops() {
+    Random random = new Random(47) ;
+    double [][] lambda = weights(100) ;
+    double [][] front = randomFront(random, 60) ;
+    boolean [] removed = new boolean[front.length] ;
+
+    R2Contributions contributions = new R2Contributions(lambda, 2) ;
+    contributions.setFront(front) ;
+    assertEquals(r2(lambda, front, removed, -1), contributions.getR2(), 0.0) ;
+    double [] values = contributions.getR2Without() ;
+    for (int i = 0; i < front.length; i++)
+      assertEquals(r2(lambda, front, removed, i), values[i], 0.0) ;
+  }
+
+  @Test
+  public void shouldUpdateTheValuesWhenRemovingPoints() {
+    Random random = new Random(48) ;
+    double [][] lambda = weights(50) ;
+    double [][] front = randomFront(random, 40) ;
+    boolean [] removed = new boolean[front.length] ;
+
+    R2Contributions contributions = new R2Contributions(lambda, 2) ;
+    contributions.setFront(front) ;
+    while (contributions.size() > 2) {
+      int worst = contributions.getWorst() ;
+      int expected = -1 ;
+      double value = Double.POSITIVE_INFINITY ;
+      for (int i = 0; i < front.length; i++) {
+        if (!removed[i] && ((expected == -1) || (r2(lambda, front, removed, i) < value))) {
+          expected = i ;
+          value = r2(lambda, front, removed, i) ;
+        }
+      }
+      assertEquals(expected, worst) ;
+
+      contributions.remove(worst) ;
+      removed[worst] = true ;
+      assertEquals(r2(lambda, front, removed, -1), contributions.getR2(), 0.0) ;
+      for (int i = 0; i < front.length; i++)
+        if (!removed[i])
+          assertEquals(r2(lambda, front, removed, i), contributions.getR2Without(i), 0.0) ;
+    }
+  }
+
+  @Test
+  public void shouldFindTheSameWorstAndBestPointsInR2() {
+    Random random = new Random(49) ;
+    R2 indicator = new R2() ;
+    double [][] front = randomFront(random, 30) ;
+    double [][] lambda = weights(100) ;
+    boolean [] removed = new boolean[front.length] ;
+
+    // The front is normalized with its own bounds, which are [0, 1] here
+    double [][] bounded = new double[front.length + 2][] ;
+    System.arraycopy(front, 0, bounded, 0, front.length) ;
+    bounded[front.length] = new double[] {0.0, 0.0} ;
+    bounded[front.length + 1] = new double[] {1.0, 1.1} ;
+    double [][] normalized = indicator.utils_.getNormalizedFront(front,
+            indicator.utils_.getMaximumValues(bounded, 2),
+            indicator.utils_.getMinimumValues(bounded, 2)) ;
+    int worst = -1 ;
+    int best = -1 ;
+    for (int i = 0; i < front.length; i++) {
+      double value = r2(lambda, normalized, removed, i) ;
+      if ((worst == -1) || (value < r2(lambda, normalized, removed, worst)))
+        worst = i ;
+      if ((best == -1) || (value > r2(lambda, normalized, removed, best)))
+        best = i ;
+    }
+    assertEquals(worst, indicator.getWorst(front, bounded)) ;
+    assertEquals(best, indicator.getBest(front, bounded)) ;
+    assertEquals(r2(lambda, normalized, removed, -1), indicator.R2(front, bounded), 0.0) ;
+  }
+}
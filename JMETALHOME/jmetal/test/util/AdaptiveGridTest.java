@@ -0,0 +1,110 @@
+package jmetal.test.util;
+
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.util.AdaptiveGrid;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the sparse adaptive grid, compared with a grid storing all the
+ * hypercubes in an array
+ */
+public class AdaptiveGridTest {
+
+  private static Solution solution(double [] objectives) {
+    Solution solution = new Solution(objectives.length) ;
+    for (int i = 0; i < objectives.length; i++)
+      solution.setObjective(i, objectives[i]) ;
+    return solution ;
+  }
+
+  @Test
+  public void shouldKeepTheMostPopulatedAndOccupiedHypercubesOfADenseGrid() {
+    int bisections = 3 ;
+    int objectives = 2 ;
+    Random random = new Random(38) ;
+    AdaptiveGrid grid = new AdaptiveGrid(bisections, objectives) ;
+    int [] hypercubes = new int[1 << (bisections * objectives)] ;
+
+    SolutionSet front = new SolutionSet(2) ;
+    front.add(solution(new double[] {0, 1})) ;
+    front.add(solution(new double[] {1, 0})) ;
+    grid.updateGrid(front) ;
+    hypercubes[(int) grid.location(front.get(0))]++ ;
+    hypercubes[(int) grid.location(front.get(1))]++ ;
+    int mostPopulated = (int) grid.location(front.get(0)) ;
+
+    for (int step = 0; step < 5000; step++) {
+      int location = random.nextInt(hypercubes.length) ;
+      if ((hypercubes[location] > 0) && random.nextBoolean()) {
+        grid.removeSolution(location) ;
+        hypercubes[location]-- ;
+        if (location == mostPopulated)
+          for (int i = 0; i < hypercubes.length; i++)
+            if (hypercubes[i] > hypercubes[mostPopulated])
+              mostPopulated = i ;
+      } else {
+        grid.addSolution(location) ;
+        hypercubes[location]++ ;
+        if (hypercubes[location] > hypercubes[mostPopulated])
+          mostPopulated = location ;
+      }
+
+      assertEquals(mostPopulated, grid.getMostPopulated()) ;
+      int occupied = 0 ;
+      for (int i = 0; i < hypercubes.length; i++) {
+        assertEquals(hypercubes[i], grid.getLocationDensity(i)) ;
+        if (hypercubes[i] > 0)
+          occupied++ ;
+      }
+      assertEquals(occupied, grid.occupiedHypercubes()) ;
+    }
+  }
+
+  @Test
+  public void shouldLocateSolutionsWithManyObjectives() {
+    int objectives = 8 ;
+    AdaptiveGrid grid = new AdaptiveGrid(5, objectives) ;
+    SolutionSet set = new SolutionSet(3) ;
+    double [] lower = new double[objectives] ;
+    double [] upper = new double[objectives] ;
+    double [] middle = new double[objectives] ;
+    for (int i = 0; i < objectives; i++) {
+      upper[i]  = 1 ;
+      middle[i] = (i % 2 == 0) ? 0.25 : 0.75 ;
+    }
+    set.add(solution(lower)) ;
+    set.add(solution(upper)) ;
+    set.add(solution(middle)) ;
+    grid.updateGrid(set) ;
+
+    assertEquals(0, grid.location(set.get(0))) ;
+    assertEquals((1L << 40) - 1, grid.location(set.get(1))) ;
+    assertEquals(3, grid.occupiedHypercubes()) ;
+    assertEquals(1, grid.getLocationDensity(grid.location(set.get(2)))) ;
+    assertEquals(-1, grid.location(solution(new double[] {2, 0, 0, 0, 0, 0, 0, 0}))) ;
+
+    grid.addSolution(grid.location(set.get(2))) ;
+    assertEquals(grid.location(set.get(2)), grid.getMostPopulated()) ;
+    grid.removeSolution(grid.location(set.get(2))) ;
+    grid.removeSolution(grid.location(set.get(2))) ;
+    assertEquals(2, grid.occupiedHypercubes()) ;
+    assertEquals(0, grid.getLocationDensity(grid.location(set.get(2)))) ;
+  }
+
+  @Test(expected = ArrayIndexOutOfBoundsException.class)
+  public void shouldRejectTheLocationOfTheSolutionsOutOfTheGrid() {
+    AdaptiveGrid grid = new AdaptiveGrid(3, 2) ;
+    grid.addSolution(-1) ;
+  }
+
+  @Test(expected = ArrayIndexOutOfBoundsException.class)
+  public void shouldRejectLocationsBeyondTheLastHypercube() {
+    AdaptiveGrid grid = new AdaptiveGrid(3, 2) ;
+    grid.getLocationDensity(1L << 6) ;
+  }
+}
@@ -0,0 +1,94 @@
+package jmetal.test.util;
+
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.util.CrowdingDistance;
+import jmetal.util.comparators.ObjectiveComparator;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of the reusable crowding distance assignment, compared with the
+ * assignment sorting a copy of the front with an <code>ObjectiveComparator</code>
+ */
+public class CrowdingDistanceTest {
+
+  private static double [] expectedDistances(SolutionSet solutionSet, int nObjs) {
+    int size = solutionSet.size() ;
+    double [] distances = new double[size] ;
+    if (size <= 2) {
+      Arrays.fill(distances, Double.POSITIVE_INFINITY) ;
+      return distances ;
+    }
+
+    SolutionSet front = new SolutionSet(size) ;
+    for (int i = 0; i < size; i++)
+      front.add(solutionSet.get(i)) ;
+    Map<Solution, Integer> position = new IdentityHashMap<Solution, Integer>() ;
+    for (int i = 0; i < size; i++)
+      position.put(solutionSet.get(i), i) ;
+
+    for (int i = 0; i < nObjs; i++) {
+      front.sort(new ObjectiveComparator(i)) ;
+      double min = front.get(0).getObjective(i) ;
+      double max = front.get(size - 1).getObjective(i) ;
+      distances[position.get(front.get(0))] = Double.POSITIVE_INFINITY ;
+      distances[position.get(front.get(size - 1))] = Double.POSITIVE_INFINITY ;
+      for (int j = 1; j < size - 1; j++) {
+        double distance = front.get(j + 1).getObjective(i) - front.get(j - 1).getObjective(i) ;
+        distance = distance / (max - min) ;
+        distance += distances[position.get(front.get(j))] ;
+        distances[position.get(front.get(j))] = distance ;
+      }
+    }
+    return distances ;
+  }
+
+  @Test
+  public void shouldAssignTheDistancesOfTheComparatorBasedAlgorithm() {
+    Random random = new Random(34) ;
+    CrowdingDistance crowding = new CrowdingDistance() ;
+    for (int test = 0; test < 200; test++) {
+      int nObjs = 2 + random.nextInt(3) ;
+      int size = 1 + random.nextInt(60) ;
+      int numberOfValues = (test % 2 == 0) ? 5 : 1000 ;
+      SolutionSet front = new SolutionSet(size) ;
+      for (int i = 0; i < size; i++) {
+        Solution solution = new Solution(nObjs) ;
+        for (int j = 0; j < nObjs; j++)
+          solution.setObjective(j, random.nextInt(numberOfValues)) ;
+        front.add(solution) ;
+      }
+
+      double [] expected = expectedDistances(front, nObjs) ;
+      crowding.crowdingDistanceAssignment(front, nObjs) ;
+      for (int i = 0; i < size; i++)
+        assertEquals(expected[i], front.get(i).getCrowdingDistance(), 0.0) ;
+    }
+  }
+
+  @Test
+  public void shouldNotReorderTheSolutionSet() {
+    SolutionSet front = new SolutionSet(4) ;
+    double [][] points = {{3, 0}, {0, 3}, {2, 1}, {1, 2}} ;
+    for (double [] point : points) {
+      Solution solution = new Solution(2) ;
+      solution.setObjective(0, point[0]) ;
+      solution.setObjective(1, point[1]) ;
+      front.add(solution) ;
+    }
+
+    new CrowdingDistance().crowdingDistanceAssignment(front, 2) ;
+    for (int i = 0; i < points.length; i++)
+      assertEquals(points[i][0], front.get(i).getObjective(0), 0.0) ;
+    assertEquals(Double.POSITIVE_INFINITY, front.get(0).getCrowdingDistance(), 0.0) ;
+    assertEquals(Double.POSITIVE_INFINITY, front.get(1).getCrowdingDistance(), 0.0) ;
+    assertEquals(4.0 / 3.0, front.get(2).getCrowdingDistance(), 1e-12) ;
+  }
+}
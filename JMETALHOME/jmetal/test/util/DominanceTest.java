@@ -0,0 +1,82 @@
+package jmetal.test.util;
+
+import jmetal.core.Solution;
+import jmetal.util.Dominance;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of the dominance kernel, compared with a test reading all the
+ * objectives
+ */
+public class DominanceTest {
+
+  private static int naiveDominanceTest(double [] a, double [] b) {
+    int dominate1 = 0 ;
+    int dominate2 = 0 ;
+    for (int i = 0; i < a.length; i++) {
+      if (a[i] < b[i])
+        dominate1 = 1 ;
+      else if (a[i] > b[i])
+        dominate2 = 1 ;
+    }
+    if (dominate1 == dominate2)
+      return 0 ;
+    return (dominate1 == 1) ? -1 : 1 ;
+  }
+
+  private static double [] randomPoint(Random random, int numberOfObjectives) {
+    double [] point = new double[numberOfObjectives] ;
+    for (int i = 0; i < numberOfObjectives; i++)
+      point[i] = (random.nextInt(20) == 0) ? Double.NaN : random.nextInt(3) ;
+    return point ;
+  }
+
+  @Test
+  public void shouldReturnTheResultOfTheFullTest() {
+    Random random = new Random(35) ;
+    for (int m = 1; m <= 6; m++) {
+      for (int test = 0; test < 2000; test++) {
+        double [] a = randomPoint(random, m) ;
+        double [] b = randomPoint(random, m) ;
+        double [] rows = new double[3 * m] ;
+        System.arraycopy(b, 0, rows, 2 * m, m) ;
+
+        int expected = naiveDominanceTest(a, b) ;
+        assertEquals(expected, Dominance.dominanceTest(a, 0, rows, 2 * m, m)) ;
+        assertEquals(expected == -1, Dominance.dominates(a, 0, rows, 2 * m, m)) ;
+
+        Solution solution1 = new Solution(m) ;
+        Solution solution2 = new Solution(m) ;
+        for (int i = 0; i < m; i++) {
+          solution1.setObjective(i, a[i]) ;
+          solution2.setObjective(i, b[i]) ;
+        }
+        assertEquals(expected, Dominance.dominanceTest(solution1, solution2)) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldStopTheRowAtTheFirstDominatingPoint() {
+    double [] rows = {
+        2, 2,
+        0, 5,
+        3, 3,
+        1, 1,
+        0, 0} ;
+    double [] point = {2, 1} ;
+    int [] flags = {9, 9, 9, 9, 9} ;
+
+    assertEquals(3, Dominance.dominanceRow(point, 0, rows, 0, 5, 2, flags)) ;
+    assertEquals(-1, flags[0]) ;
+    assertEquals(0, flags[1]) ;
+    assertEquals(-1, flags[2]) ;
+    assertEquals(1, flags[3]) ;
+    assertEquals(9, flags[4]) ;
+    assertEquals(-1, Dominance.dominanceRow(point, 0, rows, 0, 3, 2, flags)) ;
+  }
+}
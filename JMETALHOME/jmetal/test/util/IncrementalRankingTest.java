@@ -0,0 +1,120 @@
+package jmetal.test.util;
+
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.util.Distance;
+import jmetal.util.IncrementalRanking;
+import jmetal.util.Ranking;
+import jmetal.util.comparators.CrowdingComparator;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests of the incremental fronts of the steady-state NSGA-II, compared with
+ * ranking the union of the population and the new solution
+ */
+public class IncrementalRankingTest {
+
+  private static Solution randomSolution(Random random, int numberOfObjectives, int numberOfValues) {
+    Solution solution = new Solution(numberOfObjectives) ;
+    for (int i = 0; i < numberOfObjectives; i++)
+      solution.setObjective(i, random.nextInt(numberOfValues)) ;
+    return solution ;
+  }
+
+  /**
+   * Replacement of ssNSGAII before the incremental fronts
+   */
+  private static void replace(SolutionSet population, Solution solution, int numberOfObjectives) {
+    SolutionSet union = new SolutionSet(population.size() + 1) ;
+    for (int i = 0; i < population.size(); i++)
+      union.add(population.get(i)) ;
+    union.add(solution) ;
+
+    Ranking ranking = new Ranking(union) ;
+    Distance distance = new Distance() ;
+    int remain = population.size() ;
+    population.clear() ;
+    int index = 0 ;
+    SolutionSet front = ranking.getSubfront(index) ;
+    while ((remain > 0) && (remain >= front.size())) {
+      distance.crowdingDistanceAssignment(front, numberOfObjectives) ;
+      for (int k = 0; k < front.size(); k++)
+        population.add(front.get(k)) ;
+      remain -= front.size() ;
+      index++ ;
+      if (remain > 0)
+        front = ranking.getSubfront(index) ;
+    }
+    if (remain > 0) {
+      distance.crowdingDistanceAssignment(front, numberOfObjectives) ;
+      front.sort(new CrowdingComparator()) ;
+      for (int k = 0; k < remain; k++)
+        population.add(front.get(k)) ;
+    }
+  }
+
+  private void checkReplacements(int numberOfObjectives, int numberOfValues) {
+    Random random = new Random(numberOfObjectives * 100 + numberOfValues) ;
+    int populationSize = 40 ;
+    SolutionSet expected = new SolutionSet(populationSize) ;
+    SolutionSet population = new SolutionSet(populationSize) ;
+    for (int i = 0; i < populationSize; i++) {
+      Solution solution = randomSolution(random, numberOfObjectives, numberOfValues) ;
+      expected.add(solution) ;
+      population.add(solution) ;
+    }
+
+    IncrementalRanking ranking = new IncrementalRanking(population, numberOfObjectives) ;
+    for (int iteration = 0; iteration < 500; iteration++) {
+      Solution solution = randomSolution(random, numberOfObjectives, numberOfValues) ;
+      replace(expected, solution, numberOfObjectives) ;
+      ranking.replace(solution, population) ;
+
+      assertEquals(expected.size(), population.size()) ;
+      for (int i = 0; i < population.size(); i++) {
+        assertSame(expected.get(i), population.get(i)) ;
+        assertEquals(expected.get(i).getRank(), population.get(i).getRank()) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldReplaceAsTheRankingOfTheUnionWithTwoObjectives() {
+    checkReplacements(2, 50) ;
+    checkReplacements(2, 1000) ;
+  }
+
+  @Test
+  public void shouldReplaceAsTheRankingOfTheUnionWithThreeObjectives() {
+    checkReplacements(3, 8) ;
+    checkReplacements(3, 1000) ;
+  }
+
+  @Test
+  public void shouldRankAgainAPopulationModifiedFromOutside() {
+    Random random = new Random(33) ;
+    SolutionSet population = new SolutionSet(20) ;
+    for (int i = 0; i < 20; i++)
+      population.add(randomSolution(random, 2, 100)) ;
+
+    IncrementalRanking ranking = new IncrementalRanking(population, 2) ;
+    ranking.replace(randomSolution(random, 2, 100), population) ;
+    Solution first = population.get(0) ;
+    population.remove(0) ;
+    population.add(first) ;
+
+    SolutionSet expected = new SolutionSet(20) ;
+    for (int i = 0; i < population.size(); i++)
+      expected.add(population.get(i)) ;
+    Solution solution = randomSolution(random, 2, 100) ;
+    replace(expected, solution, 2) ;
+    ranking.replace(solution, population) ;
+    for (int i = 0; i < population.size(); i++)
+      assertSame(expected.get(i), population.get(i)) ;
+  }
+}
@@ -0,0 +1,77 @@
+package jmetal.test.util;
+
+import jmetal.util.KdTree;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the k-d tree, compared with the distances to all the points
+ */
+public class KdTreeTest {
+
+  private static double distance(double [] points, int m, int a, int b) {
+    double distance = 0.0 ;
+    for (int j = 0; j < m; j++)
+      distance += Math.pow(points[a * m + j] - points[b * m + j], 2.0) ;
+    return Math.sqrt(distance) ;
+  }
+
+  @Test
+  public void shouldFindTheNearestNeighboursOfTheRemainingPoints() {
+    Random random = new Random(39) ;
+    for (int test = 0; test < 40; test++) {
+      int m = 1 + random.nextInt(4) ;
+      int n = 1 + random.nextInt(300) ;
+      int numberOfValues = (test % 2 == 0) ? 5 : 100000 ;
+      double [] points = new double[n * m] ;
+      for (int i = 0; i < points.length; i++)
+        points[i] = random.nextInt(numberOfValues) ;
+
+      KdTree tree = new KdTree(points, n, m) ;
+      boolean [] removed = new boolean[n] ;
+      for (int i = 0; i < n / 2; i++) {
+        int point = random.nextInt(n) ;
+        tree.remove(point) ;
+        removed[point] = true ;
+      }
+
+      int k = 1 + random.nextInt(8) ;
+      int [] neighbours = new int[k] ;
+      double [] distances = new double[k] ;
+      for (int p = 0; p < n; p++) {
+        double [] expected = new double[n] ;
+        int size = 0 ;
+        for (int q = 0; q < n; q++)
+          if ((q != p) && !removed[q])
+            expected[size++] = distance(points, m, p, q) ;
+        Arrays.sort(expected, 0, size) ;
+
+        int found = tree.nearest(points, p * m, p, k, neighbours, distances) ;
+        assertEquals(Math.min(k, size), found) ;
+        for (int i = 0; i < found; i++) {
+          assertEquals(expected[i], distances[i], 0.0) ;
+          assertFalse(removed[neighbours[i]]) ;
+          assertEquals(distances[i], distance(points, m, p, neighbours[i]), 0.0) ;
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldFindTheNearestPointToAPointOutsideTheTree() {
+    double [] points = {0, 0, 1, 1, 2, 0} ;
+    KdTree tree = new KdTree(points, 3, 2) ;
+    int [] neighbours = new int[1] ;
+    double [] distances = new double[1] ;
+
+    assertEquals(1, tree.nearest(new double[] {1.8, 0.1}, 0, -1, 1, neighbours, distances)) ;
+    assertEquals(2, neighbours[0]) ;
+    tree.remove(2) ;
+    tree.nearest(new double[] {1.8, 0.1}, 0, -1, 1, neighbours, distances) ;
+    assertEquals(1, neighbours[0]) ;
+  }
+}
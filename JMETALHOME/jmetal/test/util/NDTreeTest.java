@@ -0,0 +1,111 @@
+package jmetal.test.util;
+
+import jmetal.util.Dominance;
+import jmetal.util.NDTree;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of the ND-Tree, compared with a list of non-dominated points updated
+ * with a linear scan
+ */
+public class NDTreeTest {
+
+  private static boolean equal(double [] a, double [] b) {
+    for (int k = 0; k < a.length; k++)
+      if (a[k] != b[k])
+        return false ;
+    return true ;
+  }
+
+  /**
+   * Linear update of a list of non-dominated points
+   */
+  private static boolean update(List<double[]> list, double [] point, boolean rejectEqual) {
+    for (double [] member : list)
+      if (Dominance.dominates(member, 0, point, 0, point.length) ||
+          (rejectEqual && equal(member, point)))
+        return false ;
+    for (int i = list.size() - 1; i >= 0; i--)
+      if (Dominance.dominates(point, 0, list.get(i), 0, point.length))
+        list.remove(i) ;
+    list.add(point) ;
+    return true ;
+  }
+
+  private static List<Integer> identities(List<double[]> points) {
+    List<Integer> identities = new ArrayList<Integer>() ;
+    for (double [] point : points)
+      identities.add(System.identityHashCode(point)) ;
+    Collections.sort(identities) ;
+    return identities ;
+  }
+
+  private void checkRandomUpdates(int numberOfObjectives, int numberOfValues, boolean rejectEqual) {
+    Random random = new Random(numberOfObjectives * 1000 + numberOfValues) ;
+    NDTree<double[]> tree = new NDTree<double[]>(numberOfObjectives, rejectEqual) ;
+    List<double[]> list = new ArrayList<double[]>() ;
+    for (int test = 0; test < 3000; test++) {
+      double [] point = new double[numberOfObjectives] ;
+      // Points around a front moving towards the origin
+      double sum = 0.0 ;
+      for (int k = 0; k < numberOfObjectives; k++) {
+        point[k] = random.nextInt(numberOfValues) ;
+        sum += point[k] ;
+      }
+      double shift = (3000 - test) / 3000.0 * numberOfValues ;
+      for (int k = 0; k < numberOfObjectives; k++)
+        point[k] = Math.floor(point[k] * numberOfValues / (sum + 1) + shift) ;
+
+      List<double[]> removed = new ArrayList<double[]>() ;
+      assertEquals(update(list, point, rejectEqual), tree.update(point, point, removed)) ;
+      assertEquals(list.size(), tree.size()) ;
+
+      // Some points are removed explicitly, as the bounded archives do
+      if ((test % 7 == 0) && (list.size() > 0)) {
+        double [] member = list.remove(random.nextInt(list.size())) ;
+        assertEquals(true, tree.remove(member, member)) ;
+        assertEquals(false, tree.remove(member, member)) ;
+      }
+    }
+
+    List<double[]> items = new ArrayList<double[]>() ;
+    tree.collect(items) ;
+    assertEquals(identities(list), identities(items)) ;
+  }
+
+  @Test
+  public void shouldKeepTheNonDominatedPointsOfTwoObjectives() {
+    checkRandomUpdates(2, 10, true) ;
+    checkRandomUpdates(2, 10, false) ;
+    checkRandomUpdates(2, 100000, true) ;
+  }
+
+  @Test
+  public void shouldKeepTheNonDominatedPointsOfManyObjectives() {
+    for (int m = 3; m <= 5; m++) {
+      checkRandomUpdates(m, 6, true) ;
+      checkRandomUpdates(m, 6, false) ;
+      checkRandomUpdates(m, 1000, true) ;
+    }
+  }
+
+  @Test
+  public void shouldRemoveAllThePointsDominatedByANewOne() {
+    NDTree<double[]> tree = new NDTree<double[]>(2, true) ;
+    for (int i = 0; i < 100; i++) {
+      double [] point = {10 + i, 110 - i} ;
+      tree.update(point, point, null) ;
+    }
+    List<double[]> removed = new ArrayList<double[]>() ;
+    assertEquals(true, tree.update(new double[]{0, 0}, null, removed)) ;
+    assertEquals(100, removed.size()) ;
+    assertEquals(1, tree.size()) ;
+  }
+}
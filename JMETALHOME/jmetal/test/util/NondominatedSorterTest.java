@@ -0,0 +1,125 @@
+package jmetal.test.util;
+
+import jmetal.util.NondominatedSorter;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of the non-dominated sorting algorithms, compared with the ranks
+ * obtained by peeling the non-dominated points off one front at a time
+ */
+public class NondominatedSorterTest {
+
+  private static boolean dominates(double [] points, int m, int a, int b) {
+    boolean better = false ;
+    for (int j = 0; j < m; j++) {
+      if (points[a * m + j] > points[b * m + j])
+        return false ;
+      if (points[a * m + j] < points[b * m + j])
+        better = true ;
+    }
+    return better ;
+  }
+
+  private static int [] naiveRanks(double [] points, int n, int m) {
+    int [] ranks = new int[n] ;
+    for (int p = 0; p < n; p++)
+      ranks[p] = -1 ;
+
+    int assigned = 0 ;
+    for (int front = 0; assigned < n; front++) {
+      boolean [] inFront = new boolean[n] ;
+      for (int p = 0; p < n; p++) {
+        if (ranks[p] != -1)
+          continue ;
+        inFront[p] = true ;
+        for (int q = 0; q < n; q++)
+          if ((ranks[q] == -1) && dominates(points, m, q, p))
+            inFront[p] = false ;
+      }
+      for (int p = 0; p < n; p++)
+        if (inFront[p]) {
+          ranks[p] = front ;
+          assigned++ ;
+        }
+    }
+    return ranks ;
+  }
+
+  private void checkRandomSets(int numberOfObjectives, int maxSize, int numberOfValues) {
+    Random random = new Random(numberOfObjectives * 1000 + numberOfValues) ;
+    NondominatedSorter sorter = new NondominatedSorter() ;
+    for (int test = 0; test < 30; test++) {
+      int n = 1 + random.nextInt(maxSize) ;
+      double [] points = new double[n * numberOfObjectives] ;
+      for (int i = 0; i < points.length; i++)
+        points[i] = random.nextInt(numberOfValues) ;
+
+      int [] expected = naiveRanks(points, n, numberOfObjectives) ;
+      int [] ranks = new int[n] ;
+      int numberOfFronts = sorter.sort(points, n, numberOfObjectives, ranks) ;
+
+      int maxRank = 0 ;
+      for (int p = 0; p < n; p++)
+        maxRank = Math.max(maxRank, expected[p]) ;
+      assertArrayEquals(expected, ranks) ;
+      assertEquals(maxRank + 1, numberOfFronts) ;
+    }
+  }
+
+  @Test
+  public void shouldRankOneObjective() {
+    checkRandomSets(1, 50, 10) ;
+  }
+
+  @Test
+  public void shouldRankTwoObjectivesWithTheSweep() {
+    checkRandomSets(2, 200, 8) ;
+    checkRandomSets(2, 200, 1000) ;
+  }
+
+  @Test
+  public void shouldRankThreeOrMoreObjectivesWithDivideAndConquer() {
+    for (int m = 3; m <= 6; m++) {
+      checkRandomSets(m, 600, 5) ;
+      checkRandomSets(m, 600, 1000) ;
+    }
+  }
+
+  @Test
+  public void shouldRankSmallSetsWithEnsBinarySearch() {
+    checkRandomSets(3, 40, 4) ;
+    checkRandomSets(5, 40, 100) ;
+  }
+
+  @Test
+  public void shouldRankInParallelAsTheSequentialSorter() {
+    Random random = new Random(32) ;
+    NondominatedSorter sequential = new NondominatedSorter() ;
+    NondominatedSorter parallel = new NondominatedSorter(new ForkJoinPool(4)) ;
+    for (int m = 3; m <= 5; m++) {
+      for (int test = 0; test < 4; test++) {
+        int n = 1000 + random.nextInt(3000) ;
+        int numberOfValues = (test % 2 == 0) ? 20 : 100000 ;
+        double [] points = new double[n * m] ;
+        for (int i = 0; i < points.length; i++)
+          points[i] = random.nextInt(numberOfValues) ;
+
+        int [] expected = new int[n] ;
+        int [] ranks = new int[n] ;
+        assertEquals(sequential.sort(points, n, m, expected), parallel.sort(points, n, m, ranks)) ;
+        assertArrayEquals(expected, ranks) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldReturnNoFrontsForAnEmptySet() {
+    assertEquals(0, new NondominatedSorter().sort(new double[0], 0, 2, new int[0])) ;
+  }
+}
@@ -0,0 +1,41 @@
+package jmetal.test.util;
+
+import jmetal.util.SharedPool;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests of the SharedPool class
+ */
+public class SharedPoolTest {
+
+  @After
+  public void tearDown() {
+    SharedPool.setSequential(false) ;
+  }
+
+  @Test
+  public void shouldReturnASinglePool() {
+    assertNotNull(SharedPool.getPool()) ;
+    assertSame(SharedPool.getPool(), SharedPool.getPool()) ;
+  }
+
+  @Test
+  public void shouldNotRunSmallTasksInParallel() {
+    assertNull(SharedPool.get(10, 100)) ;
+  }
+
+  @Test
+  public void shouldNotRunTheTasksOfSequentialThreadsInParallel() {
+    SharedPool.setSequential(true) ;
+    assertNull(SharedPool.get(1000, 100)) ;
+
+    SharedPool.setSequential(false) ;
+    if (Runtime.getRuntime().availableProcessors() > 1)
+      assertSame(SharedPool.getPool(), SharedPool.get(1000, 100)) ;
+  }
+}
@@ -0,0 +1,74 @@
+package jmetal.test.util;
+
+import jmetal.core.Problem;
+import jmetal.core.Solution;
+import jmetal.problems.ZDT.ZDT1;
+import jmetal.problems.ZDT.ZDT5;
+import jmetal.encodings.variable.Binary;
+import jmetal.util.SolutionPool;
+import jmetal.util.wrapper.XReal;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the pool of reusable solutions
+ */
+public class SolutionPoolTest {
+
+  @Test
+  public void shouldCreateANewSolutionWhenThePoolIsEmpty() throws Exception {
+    Problem problem = new ZDT1("Real", 5) ;
+    SolutionPool pool = new SolutionPool(2) ;
+    Solution solution = new Solution(problem) ;
+
+    Solution copy = pool.copyOf(solution) ;
+    assertNotSame(solution, copy) ;
+    assertEquals(0, pool.size()) ;
+  }
+
+  @Test
+  public void shouldReuseAReleasedSolutionAndItsVariables() throws Exception {
+    Problem problem = new ZDT1("DoubleArray", 5) ;
+    SolutionPool pool = new SolutionPool(2) ;
+    Solution discarded = new Solution(problem) ;
+    double [] values = new XReal(discarded).getValues() ;
+    Solution solution = new Solution(problem) ;
+    problem.evaluate(solution) ;
+    solution.setRank(3) ;
+
+    assertTrue(pool.release(discarded)) ;
+    Solution copy = pool.copyOf(solution) ;
+
+    assertSame(discarded, copy) ;
+    assertSame(values, new XReal(copy).getValues()) ;
+    assertArrayEquals(new XReal(solution).getValues(), values, 0.0) ;
+    assertEquals(solution.getObjective(1), copy.getObjective(1), 0.0) ;
+    assertEquals(3, copy.getRank()) ;
+    assertEquals(0, pool.size()) ;
+  }
+
+  @Test
+  public void shouldCopyBinaryVariablesInPlace() throws Exception {
+    Problem problem = new ZDT5("Binary") ;
+    SolutionPool pool = new SolutionPool(1) ;
+    Solution discarded = new Solution(problem) ;
+    Binary variable = (Binary) discarded.getDecisionVariables()[2] ;
+    Solution solution = new Solution(problem) ;
+
+    pool.release(discarded) ;
+    Solution copy = pool.copyOf(solution) ;
+
+    assertSame(variable, copy.getDecisionVariables()[2]) ;
+    assertEquals(solution.getDecisionVariables()[2].toString(), variable.toString()) ;
+  }
+
+  @Test
+  public void shouldNotKeepMoreSolutionsThanItsCapacity() throws Exception {
+    SolutionPool pool = new SolutionPool(1) ;
+
+    assertTrue(pool.release(new Solution(2))) ;
+    assertFalse(pool.release(new Solution(2))) ;
+    assertEquals(1, pool.size()) ;
+  }
+}
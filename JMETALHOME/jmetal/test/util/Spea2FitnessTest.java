@@ -0,0 +1,88 @@
+package jmetal.test.util;
+
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.util.Distance;
+import jmetal.util.Spea2Fitness;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the truncation of SPEA2, compared with the removal of the solution
+ * having the lexicographically lowest sorted distances to the others
+ */
+public class Spea2FitnessTest {
+
+  private static double [] sortedDistances(Solution solution, List<Solution> others) {
+    Distance distance = new Distance() ;
+    double [] distances = new double[others.size() - 1] ;
+    int size = 0 ;
+    for (int i = 0; i < others.size(); i++)
+      if (others.get(i) != solution)
+        distances[size++] = distance.distanceBetweenObjectives(solution, others.get(i)) ;
+    Arrays.sort(distances) ;
+    return distances ;
+  }
+
+  private static List<Solution> truncate(SolutionSet solutionSet, int size) {
+    List<Solution> remaining = new ArrayList<Solution>() ;
+    for (int i = 0; i < solutionSet.size(); i++)
+      remaining.add(solutionSet.get(i)) ;
+    while (remaining.size() > size) {
+      int worst = 0 ;
+      double [] lowest = sortedDistances(remaining.get(0), remaining) ;
+      for (int i = 1; i < remaining.size(); i++) {
+        double [] distances = sortedDistances(remaining.get(i), remaining) ;
+        int k = 0 ;
+        while ((k < distances.length - 1) && (distances[k] == lowest[k]))
+          k++ ;
+        if (distances[k] < lowest[k]) {
+          worst  = i ;
+          lowest = distances ;
+        }
+      }
+      remaining.remove(worst) ;
+    }
+    return remaining ;
+  }
+
+  @Test
+  public void shouldTruncateTheNondominatedSolutionsByDistance() {
+    Random random = new Random(39) ;
+    for (int test = 0; test < 30; test++) {
+      int m = 2 + random.nextInt(2) ;
+      int n = 3 + random.nextInt(60) ;
+      int numberOfValues = (test % 2 == 0) ? 6 : 100000 ;
+      SolutionSet solutionSet = new SolutionSet(n) ;
+      for (int i = 0; i < n; i++) {
+        // Solutions on the plane sum(f) = constant are non-dominated
+        Solution solution = new Solution(m) ;
+        double sum = 0 ;
+        for (int j = 0; j < m - 1; j++) {
+          solution.setObjective(j, random.nextInt(numberOfValues)) ;
+          sum += solution.getObjective(j) ;
+        }
+        solution.setObjective(m - 1, (m - 1) * numberOfValues - sum) ;
+        solutionSet.add(solution) ;
+      }
+      int size = 1 + random.nextInt(n - 1) ;
+
+      Spea2Fitness fitness = new Spea2Fitness(solutionSet) ;
+      fitness.fitnessAssign() ;
+      for (int i = 0; i < n; i++)
+        assertTrue(solutionSet.get(i).getFitness() < 1.0) ;
+      List<Solution> expected = truncate(solutionSet, size) ;
+      SolutionSet selected = fitness.environmentalSelection(size) ;
+
+      assertEquals(expected.size(), selected.size()) ;
+      for (int i = 0; i < expected.size(); i++)
+        assertSame(expected.get(i), selected.get(i)) ;
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package jmetal.test.util.archive;
+
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.util.CrowdingDistance;
+import jmetal.util.archive.BiObjectiveArchive;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the two-objective archive, compared with a list filtered and
+ * truncated from scratch after each insertion
+ */
+public class BiObjectiveArchiveTest {
+
+  private static Solution solution(double f1, double f2) {
+    Solution solution = new Solution(2) ;
+    solution.setObjective(0, f1) ;
+    solution.setObjective(1, f2) ;
+    return solution ;
+  }
+
+  private static boolean dominatesOrEquals(Solution a, Solution b) {
+    return (a.getObjective(0) <= b.getObjective(0)) &&
+           (a.getObjective(1) <= b.getObjective(1)) ;
+  }
+
+  /**
+   * Density values of a front sorted by the first objective
+   */
+  private static double [] density(List<Solution> front, double [] referencePoint) {
+    double [] values = new double[front.size()] ;
+    if (referencePoint != null) {
+      for (int i = 0; i < front.size(); i++) {
+        double width = (i + 1 < front.size()) ? front.get(i + 1).getObjective(0) : referencePoint[0] ;
+        double height = (i > 0) ? front.get(i - 1).getObjective(1) : referencePoint[1] ;
+        values[i] = (width - front.get(i).getObjective(0)) * (height - front.get(i).getObjective(1)) ;
+      }
+    } else {
+      SolutionSet copy = new SolutionSet(front.size()) ;
+      for (int i = 0; i < front.size(); i++)
+        copy.add(solution(front.get(i).getObjective(0), front.get(i).getObjective(1))) ;
+      new CrowdingDistance().crowdingDistanceAssignment(copy, 2) ;
+      for (int i = 0; i < front.size(); i++)
+        values[i] = copy.get(i).getCrowdingDistance() ;
+    }
+    return values ;
+  }
+
+  private void checkRandomInsertions(int maxSize, int numberOfValues, double [] referencePoint) {
+    Random random = new Random(maxSize * 1000 + numberOfValues) ;
+    BiObjectiveArchive archive = new BiObjectiveArchive(maxSize, referencePoint) ;
+    List<Solution> expected = new ArrayList<Solution>() ;
+
+    for (int i = 0; i < 2000; i++) {
+      Solution solution = solution(random.nextInt(numberOfValues), random.nextInt(numberOfValues)) ;
+
+      boolean rejected = false ;
+      for (int j = 0; j < expected.size(); j++)
+        rejected |= dominatesOrEquals(expected.get(j), solution) ;
+      assertEquals(!rejected, archive.add(solution)) ;
+
+      if (!rejected) {
+        int position = 0 ;
+        for (int j = expected.size() - 1; j >= 0; j--) {
+          if (dominatesOrEquals(solution, expected.get(j)))
+            expected.remove(j) ;
+          else if (expected.get(j).getObjective(0) < solution.getObjective(0))
+            position = Math.max(position, j + 1) ;
+        }
+        expected.add(position, solution) ;
+        if (expected.size() > maxSize) {
+          double [] values = density(expected, referencePoint) ;
+          int worst = 0 ;
+          for (int j = 1; j < values.length; j++)
+            if (values[j] < values[worst])
+              worst = j ;
+          expected.remove(worst) ;
+        }
+      }
+
+      assertEquals(expected.size(), archive.size()) ;
+      double [] values = density(expected, referencePoint) ;
+      for (int j = 0; j < expected.size(); j++) {
+        boolean found = false ;
+        for (int k = 0; k < archive.size(); k++)
+          found |= (archive.get(k) == expected.get(j)) ;
+        assertTrue(found) ;
+        assertEquals(values[j], expected.get(j).getCrowdingDistance(), 1e-12) ;
+      }
+    }
+  }
+
+  @Test
+  public void shouldKeepTheCrowdingDistancesOfABoundedFront() {
+    checkRandomInsertions(10, 30, null) ;
+    checkRandomInsertions(25, 100000, null) ;
+  }
+
+  @Test
+  public void shouldKeepTheHypervolumeContributionsOfABoundedFront() {
+    checkRandomInsertions(10, 30, new double[] {31, 31}) ;
+    checkRandomInsertions(25, 100000, new double[] {100001, 100001}) ;
+  }
+
+  @Test
+  public void shouldUpdateTheNeighboursOfARemovedMember() {
+    BiObjectiveArchive archive = new BiObjectiveArchive(10, new double[] {10, 10}) ;
+    Solution first = solution(1, 5) ;
+    Solution middle = solution(2, 3) ;
+    Solution last = solution(4, 1) ;
+    archive.add(first) ;
+    archive.add(middle) ;
+    archive.add(last) ;
+    assertEquals(2 * 2, middle.getCrowdingDistance(), 0.0) ;
+
+    archive.remove(1) ;
+    assertEquals(2, archive.size()) ;
+    assertEquals(3 * 5, first.getCrowdingDistance(), 0.0) ;
+    assertEquals(6 * 4, last.getCrowdingDistance(), 0.0) ;
+
+    archive.clear() ;
+    assertEquals(0, archive.size()) ;
+    assertTrue(archive.add(middle)) ;
+  }
+
+  @Test
+  public void shouldRemoveFromTheTreeTheSolutionsRemovedByTheIterator() {
+    BiObjectiveArchive archive = new BiObjectiveArchive(10, new double[] {10, 10}) ;
+    archive.add(solution(1, 5)) ;
+    archive.add(solution(4, 1)) ;
+
+    Iterator<Solution> iterator = archive.iterator() ;
+    Solution removed = iterator.next() ;
+    iterator.remove() ;
+    assertEquals(1, archive.size()) ;
+
+    assertTrue(archive.add(solution(2, 3))) ;
+    assertEquals(2, archive.size()) ;
+    // A solution still in the tree would be rejected as repeated
+    assertTrue(archive.add(solution(removed.getObjective(0), removed.getObjective(1)))) ;
+    assertEquals(3, archive.size()) ;
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldNotReplaceSolutions() {
+    BiObjectiveArchive archive = new BiObjectiveArchive(10) ;
+    archive.add(solution(1, 5)) ;
+    archive.add(solution(4, 1)) ;
+    archive.replace(1, solution(2, 3)) ;
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldNotInsertSolutionsAtAGivenPosition() {
+    BiObjectiveArchive archive = new BiObjectiveArchive(10) ;
+    archive.add(0, solution(2, 3)) ;
+  }
+}
@@ -0,0 +1,56 @@
+package jmetal.test.util.archive;
+
+import jmetal.core.Solution;
+import jmetal.util.archive.CrowdingArchive;
+import org.junit.Test;
+
+import java.util.Iterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the CrowdingArchive class, whose ND-Tree must hold the same
+ * solutions as the archive
+ */
+public class CrowdingArchiveTest {
+
+  private static Solution solution(double f1, double f2) {
+    Solution solution = new Solution(2) ;
+    solution.setObjective(0, f1) ;
+    solution.setObjective(1, f2) ;
+    return solution ;
+  }
+
+  @Test
+  public void shouldRemoveFromTheTreeTheSolutionsRemovedByTheIterator() {
+    CrowdingArchive archive = new CrowdingArchive(10, 2) ;
+    archive.add(solution(0.0, 1.0)) ;
+    archive.add(solution(0.5, 0.5)) ;
+    archive.add(solution(1.0, 0.0)) ;
+
+    Iterator<Solution> iterator = archive.iterator() ;
+    while (iterator.hasNext()) {
+      if (iterator.next().getObjective(0) == 0.5)
+        iterator.remove() ;
+    }
+    assertEquals(2, archive.size()) ;
+
+    // A solution still in the tree would be rejected as repeated
+    assertTrue(archive.add(solution(0.5, 0.5))) ;
+    assertEquals(3, archive.size()) ;
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldNotReplaceSolutions() {
+    CrowdingArchive archive = new CrowdingArchive(10, 2) ;
+    archive.add(solution(0.0, 1.0)) ;
+    archive.replace(0, solution(0.5, 0.5)) ;
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldNotInsertSolutionsAtAGivenPosition() {
+    CrowdingArchive archive = new CrowdingArchive(10, 2) ;
+    archive.add(0, solution(0.5, 0.5)) ;
+  }
+}
@@ -705,4 +705,23 @@ public class AvlTreeTest {
     assertEquals("testDeletingDeepLeafNode", avlTree_.search(20), avlTree_.getTop().getRight());
     */
   }
+
+  @Test
+  public void testParentsAfterRotations() throws Exception {
+    for (int i = 0; i < 100; i++)
+      avlTree_.insert(i);
+    for (int i = 0; i < 100; i += 3)
+      avlTree_.delete(i);
+
+    AvlNode<Integer> node = avlTree_.getTop();
+    while (node.hasLeft())
+      node = node.getLeft();
+    for (int i = 1; i < 100; i++) {
+      if (i % 3 != 0) {
+        assertEquals("testParentsAfterRotations", i, (int) node.getItem());
+        node = avlTree_.findSuccessor(node);
+      }
+    }
+    assertNull("testParentsAfterRotations", node);
+  }
 }
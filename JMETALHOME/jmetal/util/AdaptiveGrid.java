@@ -24,11 +24,24 @@ package jmetal.util;
 import jmetal.core.Solution;
 import jmetal.core.SolutionSet;
 
+import java.util.Arrays;
+
 /**
  * This class defines an adaptive grid over a SolutionSet as the one used the
- * algorithm PAES.
+ * algorithm PAES. The grid is sparse: only the hypercubes having solutions are
+ * stored, in a hash table indexed by their locations (the positions of the
+ * hypercube in each objective, packed into a <code>long</code>), so the
+ * memory and the time required do not grow with the number of hypercubes
+ * (2^(bisections*objectives)). The occupied hypercubes are kept sorted by
+ * location, so the results are those of a grid storing all the hypercubes.
  */
 public class AdaptiveGrid {
+
+  /**
+   * Location of the free slots of the hash table; it is not a valid location,
+   * not even the -1 returned by location() for the solutions out of the grid
+   */
+  private static final long EMPTY = Long.MIN_VALUE ;
    
   /**
    * Number of bi-divisions of the objective space
@@ -39,9 +52,15 @@ public class AdaptiveGrid {
    * Objectives of the problem
    */
   private int objectives_    ;
+
+  /**
+   * Locations of the hypercubes having solutions (hash table with linear
+   * probing; the free slots contain EMPTY)
+   */
+  private long [] locations_ ;
   
   /**
-   * Number of solutions into a specific hypercube in the adaptative grid
+   * Number of solutions into the hypercube stored in each slot of the table
    */
   private int [] hypercubes_ ;
   
@@ -64,12 +83,23 @@ public class AdaptiveGrid {
   /**
    * Hypercube with maximum number of solutions
    */
-  private int mostPopulated_      ; 
+  private long mostPopulated_      ; 
   
   /**
-   * Hndicates when an hypercube has solutions
+   * Hypercubes having solutions, sorted by location
+   */
+  private long [] occupied_   ;
+
+  /**
+   * Number of hypercubes having solutions
+   */
+  private int numberOfOccupied_ ;
+
+  /**
+   * Number of hypercubes having each number of solutions (index 0 is not
+   * used)
    */
-  private int [] occupied_   ;
+  private int [] frequency_ ;
            
   /**
   * Constructor.
@@ -80,13 +110,19 @@ public class AdaptiveGrid {
   public AdaptiveGrid(int bisections, int objetives) {
     bisections_ = bisections;
     objectives_  = objetives ;
+    if (bisections_ * objectives_ > 62) {
+      Configuration.logger_.severe("AdaptiveGrid: " + bisections_ +
+          " bisections of " + objectives_ + " objectives do not fit in a location");
+      throw new IllegalArgumentException("Too many bisections: " + bisections_) ;
+    } // if
     lowerLimits_ = new double[objectives_];
     upperLimits_ = new double[objectives_];
     divisionSize_ = new double[objectives_];    
-    hypercubes_ = new int[(int)Math.pow(2.0,bisections_*objectives_)];
-    
-    for (int i = 0; i < hypercubes_.length;i++)
-      hypercubes_[i] = 0;
+    locations_  = new long[16];
+    hypercubes_ = new int[16];
+    Arrays.fill(locations_, EMPTY);
+    occupied_   = new long[16];
+    frequency_  = new int[16];
   } //AdaptativeGrid
    
   
@@ -127,17 +163,14 @@ public class AdaptiveGrid {
   private void addSolutionSet(SolutionSet solutionSet){
     //Calculate the location of all individuals and update the grid
     mostPopulated_ = 0;
-    int location;              
+    long location;              
     
     for (int ind = 0; ind < solutionSet.size();ind++){
       location = location(solutionSet.get(ind));                      
-      hypercubes_[location]++;
-      if (hypercubes_[location]>hypercubes_[mostPopulated_])
+      increase(location);
+      if (getLocationDensity(location) > getLocationDensity(mostPopulated_))
         mostPopulated_ = location;
     } // for  
-       
-    //The grid has been updated, so also update ocuppied's hypercubes
-    calculateOccupied();
  } // addSolutionSet
    
    
@@ -156,9 +189,7 @@ public class AdaptiveGrid {
     } // for
 	   
     //Clean the hypercubes
-    for (int i = 0; i < hypercubes_.length;i++) {
-      hypercubes_[i] = 0;	   
-    }
+    clean();
     
     //Add the population
     addSolutionSet(solutionSet);
@@ -175,7 +206,7 @@ public class AdaptiveGrid {
    */
   public void updateGrid(Solution solution, SolutionSet solutionSet){	   
     
-    int location = location(solution);
+    long location = location(solution);
     if (location == -1) {//Re-build the Adaptative-Grid
       //Update lower and upper limits
       updateLimits(solutionSet);
@@ -194,9 +225,7 @@ public class AdaptiveGrid {
       }
 	   
       //Clean the hypercube
-      for (int i = 0; i < hypercubes_.length; i++) {
-        hypercubes_[i] = 0;
-      }
+      clean();
 	   
       //add the population
       addSolutionSet(solutionSet);
@@ -207,8 +236,10 @@ public class AdaptiveGrid {
   /** 
    * Calculates the hypercube of a solution.
    * @param solution The <code>Solution</code>.
+   * @return The location of the hypercube, or -1 if the solution is out of
+   * the grid bounds.
    */
-  public int location(Solution solution){                 
+  public long location(Solution solution){                 
     //Create a int [] to store the range of each objetive
     int [] position = new int[objectives_];
 
@@ -238,10 +269,10 @@ public class AdaptiveGrid {
       } // if
     }
      
-    //Calcualate the location into the hypercubes
-    int location = 0;
+    //Pack the positions into the location of the hypercube
+    long location = 0;
     for (int obj = 0; obj < objectives_; obj++) {
-      location += position[obj] * Math.pow(2.0,obj * bisections_); 
+      location |= ((long) position[obj]) << (obj * bisections_); 
     }                                        
     return location;
   } //location
@@ -250,7 +281,7 @@ public class AdaptiveGrid {
   * Returns the value of the most populated hypercube.
   * @return The hypercube with the maximum number of solutions.
   */
-  public int getMostPopulated(){
+  public long getMostPopulated(){
     return mostPopulated_;
   } // getMostPopulated
    
@@ -259,45 +290,43 @@ public class AdaptiveGrid {
   * @param location Number of the hypercube.
   * @return The number of solutions into a specific hypercube.
   */
-  public int getLocationDensity(int location){
-       return hypercubes_[location];
+  public int getLocationDensity(long location){
+    return hypercubes_[slot(location)];
   } //getLocationDensity
    
   /** 
   * Decreases the number of solutions into a specific hypercube.
   * @param location Number of hypercube.
   */
-  public void removeSolution(int location) {       
+  public void removeSolution(long location) {       
     //Decrease the solutions in the location specified.
-    hypercubes_[location]--;
+    int density = getLocationDensity(location);
+    decrease(location);
         
-    //Update the most poblated hypercube
-    if (location == mostPopulated_)               
-      for (int i = 0; i < hypercubes_.length;i++)
-        if (hypercubes_[i] > hypercubes_[mostPopulated_])
-          mostPopulated_ = i;                    
-       
-    //If hypercubes[location] now becomes to zero, then update ocupped hypercubes
-    if (hypercubes_[location]==0)
-      this.calculateOccupied();
+    //Update the most poblated hypercube: the first hypercube having now more
+    //solutions than it, if any, is the first one having its previous density
+    if ((location == mostPopulated_) && (density < frequency_.length) &&
+        (frequency_[density] > 0)) {
+      for (int i = 0; i < numberOfOccupied_; i++) {
+        if (getLocationDensity(occupied_[i]) > getLocationDensity(mostPopulated_)) {
+          mostPopulated_ = occupied_[i];
+          break;
+        } // if
+      } // for
+    } // if
   } //removeSolution
    
  /**
   * Increases the number of solutions into a specific hypercube.
   * @param location Number of hypercube.
   */
-  public void addSolution(int location) {
+  public void addSolution(long location) {
     //Increase the solutions in the location specified.
-    hypercubes_[location]++;
+    increase(location);
     
     //Update the most poblated hypercube
-    if (hypercubes_[location] > hypercubes_[mostPopulated_])
+    if (getLocationDensity(location) > getLocationDensity(mostPopulated_))
       mostPopulated_ = location;       
-       
-    //if hypercubes[location] becomes to one, then recalculate 
-    //the occupied hypercubes
-    if (hypercubes_[location] == 1)
-      this.calculateOccupied();
   } //addSolution
 
   /**
@@ -325,32 +354,25 @@ public class AdaptiveGrid {
    * Returns a random hypercube using a rouleteWheel method.  
   *  @return the number of the selected hypercube.
   */
-  public int rouletteWheel(){
+  public long rouletteWheel(){
     //Calculate the inverse sum
     double inverseSum = 0.0;
-    for (int aHypercubes_ : hypercubes_) {
-      if (aHypercubes_ > 0) {
-        inverseSum += 1.0 / (double) aHypercubes_;
-      }
+    for (int i = 0; i < numberOfOccupied_; i++) {
+      inverseSum += 1.0 / (double) getLocationDensity(occupied_[i]);
     }
         
     //Calculate a random value between 0 and sumaInversa
     double random = PseudoRandom.randDouble(0.0,inverseSum);
-    int hypercube = 0;
     double accumulatedSum = 0.0;
-    while (hypercube < hypercubes_.length){
-      if (hypercubes_[hypercube] > 0) {
-        accumulatedSum += 1.0 / (double)hypercubes_[hypercube];
-      } // if
+    for (int i = 0; i < numberOfOccupied_; i++) {
+      accumulatedSum += 1.0 / (double) getLocationDensity(occupied_[i]);
             
       if (accumulatedSum > random) {
-        return hypercube;
+        return occupied_[i];
       } // if
-        
-      hypercube++;
-    } // while
+    } // for
     
-    return hypercube;        
+    return 1L << (bisections_ * objectives_);        
   } //rouletteWheel
     
   /**
@@ -358,23 +380,7 @@ public class AdaptiveGrid {
   * return the number of hypercubes with more than zero solutions.
   */
   public int calculateOccupied(){
-    int total = 0;
-    for (int aHypercubes_ : hypercubes_) {
-      if (aHypercubes_ > 0) {
-        total++;
-      } // if
-    } // for
-        
-    occupied_ = new int[total];        
-    int base = 0;
-    for (int i = 0; i < hypercubes_.length;i++){
-      if (hypercubes_[i] > 0){             
-        occupied_[base] = i;
-        base++;
-      } // if
-    } // for        
-        
-    return total;
+    return numberOfOccupied_;
   } //calculateOcuppied
     
   /** 
@@ -382,7 +388,7 @@ public class AdaptiveGrid {
    * @return the number of hypercubes with more than zero solutions.
    */
   public int occupiedHypercubes(){
-    return occupied_.length;
+    return numberOfOccupied_;
   } // occupiedHypercubes
     
   
@@ -390,9 +396,117 @@ public class AdaptiveGrid {
    * Returns a random hypercube that has more than zero solutions.
    * @return The hypercube.
    */
-  public int randomOccupiedHypercube(){
-    int rand = PseudoRandom.randInt(0,occupied_.length-1);
+  public long randomOccupiedHypercube(){
+    int rand = PseudoRandom.randInt(0,numberOfOccupied_-1);
     return occupied_[rand];
   } //randomOccupiedHypercube
-} //AdaptativeGrid
 
+  /**
+   * Removes all the solutions from the hypercubes
+   */
+  private void clean() {
+    Arrays.fill(locations_, EMPTY);
+    Arrays.fill(hypercubes_, 0);
+    Arrays.fill(frequency_, 0);
+    numberOfOccupied_ = 0;
+  } // clean
+
+  /**
+   * Increases the number of solutions of a hypercube, adding it to the
+   * table and to the occupied hypercubes if it was empty
+   */
+  private void increase(long location) {
+    int slot = slot(location);
+    if (locations_[slot] == EMPTY) {
+      locations_[slot] = location;
+      int position = -Arrays.binarySearch(occupied_, 0, numberOfOccupied_, location) - 1;
+      if (numberOfOccupied_ == occupied_.length)
+        occupied_ = Arrays.copyOf(occupied_, 2 * occupied_.length);
+      System.arraycopy(occupied_, position, occupied_, position + 1, numberOfOccupied_ - position);
+      occupied_[position] = location;
+      numberOfOccupied_++;
+    } // if
+    else
+      frequency_[hypercubes_[slot]]--;
+
+    hypercubes_[slot]++;
+    if (hypercubes_[slot] == frequency_.length)
+      frequency_ = Arrays.copyOf(frequency_, 2 * frequency_.length);
+    frequency_[hypercubes_[slot]]++;
+
+    if (2 * numberOfOccupied_ > locations_.length)
+      rehash();
+  } // increase
+
+  /**
+   * Decreases the number of solutions of a hypercube, removing it from the
+   * table and from the occupied hypercubes if it becomes empty
+   */
+  private void decrease(long location) {
+    int slot = slot(location);
+    frequency_[hypercubes_[slot]]--;
+    hypercubes_[slot]--;
+    if (hypercubes_[slot] > 0) {
+      frequency_[hypercubes_[slot]]++;
+      return;
+    } // if
+
+    int position = Arrays.binarySearch(occupied_, 0, numberOfOccupied_, location);
+    System.arraycopy(occupied_, position + 1, occupied_, position, numberOfOccupied_ - position - 1);
+    numberOfOccupied_--;
+
+    // Backward shift deletion: the following entries of the cluster which
+    // could be stored in the free slot are moved to it
+    int mask = locations_.length - 1;
+    int next = slot;
+    while (true) {
+      next = (next + 1) & mask;
+      if (locations_[next] == EMPTY)
+        break;
+      int home = hash(locations_[next]) & mask;
+      boolean stays = (slot <= next) ? ((slot < home) && (home <= next))
+                                     : ((slot < home) || (home <= next));
+      if (!stays) {
+        locations_[slot]  = locations_[next];
+        hypercubes_[slot] = hypercubes_[next];
+        slot = next;
+      } // if
+    } // while
+    locations_[slot]  = EMPTY;
+    hypercubes_[slot] = 0;
+  } // decrease
+
+  /**
+   * Returns the slot of the table storing a hypercube, or the free slot
+   * where it has to be stored
+   * @throws ArrayIndexOutOfBoundsException if the location is out of the grid
+   */
+  private int slot(long location) {
+    if ((location < 0) || (location >= (1L << (bisections_ * objectives_))))
+      throw new ArrayIndexOutOfBoundsException("Location out of the grid: " + location) ;
+    int mask = locations_.length - 1;
+    int slot = hash(location) & mask;
+    while ((locations_[slot] != EMPTY) && (locations_[slot] != location))
+      slot = (slot + 1) & mask;
+    return slot;
+  } // slot
+
+  private void rehash() {
+    long [] locations = locations_;
+    int [] hypercubes = hypercubes_;
+    locations_  = new long[2 * locations.length];
+    hypercubes_ = new int[2 * locations.length];
+    Arrays.fill(locations_, EMPTY);
+    for (int i = 0; i < locations.length; i++) {
+      if (locations[i] != EMPTY) {
+        int slot = slot(locations[i]);
+        locations_[slot]  = locations[i];
+        hypercubes_[slot] = hypercubes[i];
+      } // if
+    } // for
+  } // rehash
+
+  private static int hash(long location) {
+    return (int) ((location * 0x9E3779B97F4A7C15L) >>> 32);
+  } // hash
+} //AdaptativeGrid
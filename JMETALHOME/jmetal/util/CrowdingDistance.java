@@ -0,0 +1,155 @@
+//  CrowdingDistance.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util;
+
+import jmetal.core.SolutionSet;
+
+/**
+ * Reusable crowding distance assignment. The objective values of a front are
+ * copied, objective by objective, into a buffer; for each objective an index
+ * permutation is sorted (with a stable merge sort on the primitive values, so
+ * ties are broken as <code>Collections.sort</code> would do when sorting the
+ * solutions with an <code>ObjectiveComparator</code>), and the distances are
+ * accumulated in an array that is written back to the solutions at the end.
+ * The buffers grow with the largest front seen and are kept between calls,
+ * so an algorithm assigning the crowding distance every generation does not
+ * allocate memory once the buffers have reached the size of its fronts.
+ *
+ * The results are the same as those of
+ * <code>Distance.crowdingDistanceAssignment</code>. An instance must not be
+ * shared by several threads.
+ */
+public class CrowdingDistance {
+
+  /**
+   * Objective values of the front, column-major: the values of objective j
+   * start at <code>j * size</code>
+   */
+  private double [] values_ ;
+
+  /**
+   * Index permutation, sorted by each objective in turn
+   */
+  private int [] index_ ;
+
+  /**
+   * Merge buffer
+   */
+  private int [] buffer_ ;
+
+  /**
+   * Crowding distance accumulated for each solution
+   */
+  private double [] crowding_ ;
+
+  /**
+   * Constructor.
+   */
+  public CrowdingDistance() {
+    values_   = new double[0] ;
+    index_    = new int[0] ;
+    buffer_   = new int[0] ;
+    crowding_ = new double[0] ;
+  } // CrowdingDistance
+
+  /**
+   * Assigns crowding distances to all solutions in a <code>SolutionSet</code>.
+   * @param solutionSet The <code>SolutionSet</code>.
+   * @param nObjs Number of objectives.
+   */
+  public void crowdingDistanceAssignment(SolutionSet solutionSet, int nObjs) {
+    int size = solutionSet.size() ;
+
+    if (size == 0)
+      return ;
+
+    if (size <= 2) {
+      for (int i = 0; i < size; i++)
+        solutionSet.get(i).setCrowdingDistance(Double.POSITIVE_INFINITY) ;
+      return ;
+    } // if
+
+    ensureCapacity(size, nObjs) ;
+    double [] values   = values_ ;
+    int []    index    = index_ ;
+    double [] crowding = crowding_ ;
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < nObjs; j++)
+        values[j * size + i] = solutionSet.get(i).getObjective(j) ;
+      index[i]    = i ;
+      crowding[i] = 0.0 ;
+    } // for
+
+    // The permutation is not reset between objectives: as in the original
+    // implementation, which sorted the same copy of the front once per
+    // objective, ties keep the order of the previous objective
+    for (int j = 0; j < nObjs; j++) {
+      int offset = j * size ;
+      sort(index, buffer_, 0, size, values, offset) ;
+      double min   = values[offset + index[0]] ;
+      double max   = values[offset + index[size - 1]] ;
+      double range = max - min ;
+
+      crowding[index[0]]        = Double.POSITIVE_INFINITY ;
+      crowding[index[size - 1]] = Double.POSITIVE_INFINITY ;
+      for (int k = 1; k < size - 1; k++) {
+        double distance = values[offset + index[k + 1]] - values[offset + index[k - 1]] ;
+        distance = distance / range ;
+        crowding[index[k]] += distance ;
+      } // for
+    } // for
+
+    for (int i = 0; i < size; i++)
+      solutionSet.get(i).setCrowdingDistance(crowding[i]) ;
+  } // crowdingDistanceAssignment
+
+  private void ensureCapacity(int size, int nObjs) {
+    if (values_.length < size * nObjs)
+      values_ = new double[size * nObjs] ;
+    if (index_.length < size) {
+      index_    = new int[size] ;
+      buffer_   = new int[size] ;
+      crowding_ = new double[size] ;
+    } // if
+  } // ensureCapacity
+
+  /**
+   * Stable merge sort of the positions [from, to) of an index array,
+   * according to the values of an objective starting at a given offset
+   */
+  private static void sort(int [] index, int [] buffer, int from, int to,
+                           double [] values, int offset) {
+    if (to - from < 2)
+      return ;
+    int middle = (from + to) >>> 1 ;
+    sort(index, buffer, from, middle, values, offset) ;
+    sort(index, buffer, middle, to, values, offset) ;
+    if (!(values[offset + index[middle]] < values[offset + index[middle - 1]]))
+      return ;
+
+    System.arraycopy(index, from, buffer, from, to - from) ;
+    int left  = from ;
+    int right = middle ;
+    for (int k = from; k < to; k++) {
+      if ((right >= to) ||
+          ((left < middle) &&
+           !(values[offset + buffer[right]] < values[offset + buffer[left]])))
+        index[k] = buffer[left++] ;
+      else
+        index[k] = buffer[right++] ;
+    } // for
+  } // sort
+} // CrowdingDistance
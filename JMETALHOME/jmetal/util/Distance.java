@@ -23,7 +23,6 @@ package jmetal.util;
 
 import jmetal.core.Solution;
 import jmetal.core.SolutionSet;
-import jmetal.util.comparators.ObjectiveComparator;
 import jmetal.util.wrapper.XReal;
 
 /**
@@ -141,6 +140,16 @@ public class Distance {
     XReal solI = new XReal(solutionI) ;
     XReal solJ = new XReal(solutionJ) ;
 
+    if (solI.isArrayBacked() && solJ.isArrayBacked()) {
+      double [] valuesI = solI.getValues() ;
+      double [] valuesJ = solJ.getValues() ;
+      for (int i = 0; i < valuesI.length; i++) {
+        double diff = valuesI[i] - valuesJ[i] ;
+        distance += diff * diff ;
+      } // for
+      return Math.sqrt(distance) ;
+    } // if
+
       double diff;    //Auxiliar var
       //-> Calculate the Euclidean distance
       for (int i = 0; i < solI.getNumberOfDecisionVariables(); i++){
@@ -195,56 +204,13 @@ public class Distance {
   }
 
   /** Assigns crowding distances to all solutions in a <code>SolutionSet</code>.
+   * The algorithms assigning crowding distances repeatedly should keep their
+   * own <code>CrowdingDistance</code> instead, whose buffers are reused.
    * @param solutionSet The <code>SolutionSet</code>.
    * @param nObjs Number of objectives.
    */
   public void crowdingDistanceAssignment(SolutionSet solutionSet, int nObjs) {
-    int size = solutionSet.size();
-
-    if (size == 0)
-      return;
-
-    if (size == 1) {
-      solutionSet.get(0).setCrowdingDistance(Double.POSITIVE_INFINITY);
-      return;
-    } // if
-
-    if (size == 2) {
-      solutionSet.get(0).setCrowdingDistance(Double.POSITIVE_INFINITY);
-      solutionSet.get(1).setCrowdingDistance(Double.POSITIVE_INFINITY);
-      return;
-    } // if       
-
-    //Use a new SolutionSet to evite alter original solutionSet
-    SolutionSet front = new SolutionSet(size);
-    for (int i = 0; i < size; i++){
-      front.add(solutionSet.get(i));
-    }
-
-    for (int i = 0; i < size; i++)
-      front.get(i).setCrowdingDistance(0.0);
-
-    double objetiveMaxn;
-    double objetiveMinn;
-    double distance;
-
-    for (int i = 0; i<nObjs; i++) {
-      // Sort the population by Obj n            
-      front.sort(new ObjectiveComparator(i));
-      objetiveMinn = front.get(0).getObjective(i);
-      objetiveMaxn = front.get(front.size()-1).getObjective(i);
-
-      //Set de crowding distance            
-      front.get(0).setCrowdingDistance(Double.POSITIVE_INFINITY);
-      front.get(size-1).setCrowdingDistance(Double.POSITIVE_INFINITY);
-
-      for (int j = 1; j < size-1; j++) {
-        distance = front.get(j+1).getObjective(i) - front.get(j-1).getObjective(i);
-        distance = distance / (objetiveMaxn - objetiveMinn);
-        distance += front.get(j).getCrowdingDistance();
-        front.get(j).setCrowdingDistance(distance);
-      } // for
-    } // for        
-  } // crowdingDistanceAssing            
+    new CrowdingDistance().crowdingDistanceAssignment(solutionSet, nObjs);
+  } // crowdingDistanceAssing
 } // Distance
 
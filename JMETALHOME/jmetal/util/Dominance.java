@@ -0,0 +1,182 @@
+//  Dominance.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util;
+
+import jmetal.core.Solution;
+
+/**
+ * Pareto dominance tests on objective values, as in
+ * <code>DominanceComparator</code> (only the objective values are taken into
+ * account, and all objectives are minimized). The tests return as soon as the
+ * result is known: when each point is better than the other in some
+ * objective, the remaining objectives are not read. The points are given as
+ * an array and an offset, so that rows of a row-major objective array (see
+ * <code>PopulationView</code>) can be compared without copying them; there are
+ * specialised versions for two and three objectives.
+ *
+ * The result of the tests is -1, or 0, or 1 if the first point dominates the
+ * second one, both are non-dominated (or equal), or the first point is
+ * dominated by the second one, respectively.
+ */
+public class Dominance {
+
+  /**
+   * Dominance test between two points
+   * @param a Array holding the first point
+   * @param offsetA Position of the first point in a
+   * @param b Array holding the second point
+   * @param offsetB Position of the second point in b
+   * @param numberOfObjectives Number of objectives
+   * @return -1, 0 or 1, as described in the class comment
+   */
+  public static int dominanceTest(double [] a, int offsetA, double [] b, int offsetB,
+                                  int numberOfObjectives) {
+    switch (numberOfObjectives) {
+      case 2 : return dominanceTest2(a, offsetA, b, offsetB) ;
+      case 3 : return dominanceTest3(a, offsetA, b, offsetB) ;
+      default :
+        boolean better = false ;
+        boolean worse  = false ;
+        for (int i = 0; i < numberOfObjectives; i++) {
+          double value1 = a[offsetA + i] ;
+          double value2 = b[offsetB + i] ;
+          if (value1 < value2) {
+            if (worse)
+              return 0 ;
+            better = true ;
+          } else if (value1 > value2) {
+            if (better)
+              return 0 ;
+            worse = true ;
+          } // else if
+        } // for
+        return better ? -1 : (worse ? 1 : 0) ;
+    } // switch
+  } // dominanceTest
+
+  /**
+   * Dominance test between two points of two objectives
+   */
+  public static int dominanceTest2(double [] a, int offsetA, double [] b, int offsetB) {
+    double a0 = a[offsetA] ;
+    double b0 = b[offsetB] ;
+    double a1 = a[offsetA + 1] ;
+    double b1 = b[offsetB + 1] ;
+    if (a0 < b0)
+      return (a1 > b1) ? 0 : -1 ;
+    if (a0 > b0)
+      return (a1 < b1) ? 0 : 1 ;
+    if (a1 < b1)
+      return -1 ;
+    return (a1 > b1) ? 1 : 0 ;
+  } // dominanceTest2
+
+  /**
+   * Dominance test between two points of three objectives
+   */
+  public static int dominanceTest3(double [] a, int offsetA, double [] b, int offsetB) {
+    boolean better = false ;
+    boolean worse  = false ;
+    if (a[offsetA] < b[offsetB])
+      better = true ;
+    else if (a[offsetA] > b[offsetB])
+      worse = true ;
+
+    if (a[offsetA + 1] < b[offsetB + 1]) {
+      if (worse)
+        return 0 ;
+      better = true ;
+    } else if (a[offsetA + 1] > b[offsetB + 1]) {
+      if (better)
+        return 0 ;
+      worse = true ;
+    } // else if
+
+    if (a[offsetA + 2] < b[offsetB + 2])
+      return worse ? 0 : -1 ;
+    if (a[offsetA + 2] > b[offsetB + 2])
+      return better ? 0 : 1 ;
+    return better ? -1 : (worse ? 1 : 0) ;
+  } // dominanceTest3
+
+  /**
+   * Returns true if the first point dominates the second one. The test stops
+   * at the first objective in which the first point is worse.
+   */
+  public static boolean dominates(double [] a, int offsetA, double [] b, int offsetB,
+                                  int numberOfObjectives) {
+    boolean better = false ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      double value1 = a[offsetA + i] ;
+      double value2 = b[offsetB + i] ;
+      if (value1 > value2)
+        return false ;
+      if (value1 < value2)
+        better = true ;
+    } // for
+    return better ;
+  } // dominates
+
+  /**
+   * Dominance test of a point against the rows [from, to) of a row-major
+   * objective array. The result of the test against row i is stored in
+   * flags[i]. The rows after the first one dominating the point are not
+   * tested, as the point is then discarded by the archives.
+   * @param point Array holding the point
+   * @param offset Position of the point in its array
+   * @param objectives Row-major objective array
+   * @param from First row
+   * @param to Row after the last one
+   * @param numberOfObjectives Number of objectives
+   * @param flags Array receiving the results, indexed by row
+   * @return The first row dominating the point, or -1 if there is none
+   */
+  public static int dominanceRow(double [] point, int offset, double [] objectives,
+                                 int from, int to, int numberOfObjectives, int [] flags) {
+    for (int i = from; i < to; i++) {
+      flags[i] = dominanceTest(point, offset, objectives, i * numberOfObjectives,
+                               numberOfObjectives) ;
+      if (flags[i] == 1)
+        return i ;
+    } // for
+    return -1 ;
+  } // dominanceRow
+
+  /**
+   * Dominance test between two solutions, reading their objective values
+   * until the result is known
+   * @return -1, 0 or 1, as described in the class comment
+   */
+  public static int dominanceTest(Solution solution1, Solution solution2) {
+    boolean better = false ;
+    boolean worse  = false ;
+    int numberOfObjectives = solution1.getNumberOfObjectives() ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      double value1 = solution1.getObjective(i) ;
+      double value2 = solution2.getObjective(i) ;
+      if (value1 < value2) {
+        if (worse)
+          return 0 ;
+        better = true ;
+      } else if (value1 > value2) {
+        if (better)
+          return 0 ;
+        worse = true ;
+      } // else if
+    } // for
+    return better ? -1 : (worse ? 1 : 0) ;
+  } // dominanceTest
+} // Dominance
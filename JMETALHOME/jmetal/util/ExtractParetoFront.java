@@ -32,10 +32,12 @@ public class ExtractParetoFront {
 
 	String fileName_; 
 	int dimensions_;
-	List<Point> points_ = new LinkedList<Point>();
+	NDTree<Point> points_;
+	int numberOfPoints_ = 0;
 
 	private class Point {
 		double [] vector_; 
+		int index_; // Position of the point in the file
 
 		public Point (double [] vector) {
 			vector_ = vector;
@@ -57,6 +59,7 @@ public class ExtractParetoFront {
 	public ExtractParetoFront(String name, int dimensions) {
 		fileName_ = name;
 		dimensions_ = dimensions;
+		points_ = new NDTree<Point>(dimensions, false);
 		loadInstance();
 	} // ReadInstance
 
@@ -113,22 +116,10 @@ public class ExtractParetoFront {
 
 
 	public void add(Point point) {
-		Iterator<Point> iterator = points_.iterator();
-
-
-		while (iterator.hasNext()){
-			Point auxPoint = iterator.next();
-			int flag = compare(point,auxPoint);
-
-			if (flag == -1) {  // A solution in the list is dominated by the new one
-				iterator.remove();
-
-			} else if (flag == 1) { // The solution is dominated
-				return;
-			}        
-		} // while
-		points_.add(point);
-
+		// The points dominated by the new one are removed from the ND-Tree,
+		// which rejects the point if it is dominated
+		point.index_ = numberOfPoints_++;
+		points_.update(point.vector_, point, null);
 	} // add                   
 
 
@@ -159,7 +150,16 @@ public class ExtractParetoFront {
 			OutputStreamWriter osw = new OutputStreamWriter(fos)    ;
 			BufferedWriter bw      = new BufferedWriter(osw)        ;
 
-      for (Point auxPoint : points_) {
+      // The points are written in the order of the file
+      List<Point> points = new ArrayList<Point>(points_.size());
+      points_.collect(points);
+      Collections.sort(points, new Comparator<Point>() {
+        public int compare(Point one, Point two) {
+          return (one.index_ < two.index_) ? -1 : ((one.index_ == two.index_) ? 0 : 1);
+        }
+      });
+
+      for (Point auxPoint : points) {
         String aux = "";
 
         for (int i = 0; i < auxPoint.vector_.length; i++) {
@@ -0,0 +1,332 @@
+//  IncrementalRanking.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util;
+
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.util.comparators.CrowdingComparator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class keeps the fronts of the population of a steady-state NSGA-II
+ * up to date. Each replacement inserts a new solution and removes the worst
+ * one, producing the same population (including the order of the solutions,
+ * their ranks and their crowding distances) as ranking the union of the
+ * population and the new solution with <code>Ranking</code> and applying the
+ * replacement of NSGA-II, but only the fronts affected by the insertion are
+ * updated:
+ * - the new solution goes to the first front not dominating it;
+ * - the solutions of that front dominated by the new one move to the next
+ *   front, the solutions of the next front dominated by those move to the
+ *   following one, and so on (a solution moves at most one front); as the
+ *   population is written front by front, the solutions moved precede in it
+ *   the solutions of the front receiving them;
+ * - the crowding distances are only computed again for the fronts whose
+ *   members have changed, and for the last front, from which the solution
+ *   with the lowest crowding distance is removed.
+ * Subclasses can change the solution removed from the last front and the
+ * density values of the fronts.
+ */
+public class IncrementalRanking {
+
+  /**
+   * Number of objectives of the solutions
+   */
+  private final int numberOfObjectives_ ;
+
+  /**
+   * Maximum number of solutions of a front
+   */
+  private final int capacity_ ;
+
+  /**
+   * The fronts; the solutions of each front are kept in the order in which
+   * they appear in the population
+   */
+  private final List<SolutionSet> fronts_ ;
+
+  /**
+   * dirty_[i] is true if the crowding distances of front i have to be
+   * computed again
+   */
+  private final boolean [] dirty_ ;
+
+  /**
+   * Positions of the solutions in the population, only needed when the
+   * population is not ordered front by front (before the first replacement,
+   * or if it has been modified from outside); null otherwise
+   */
+  private Map<Solution, Integer> positions_ ;
+
+  /**
+   * Working lists
+   */
+  private List<Solution> moved_ ;
+  private List<Solution> nextMoved_ ;
+  private final List<Solution> kept_ ;
+
+  private final CrowdingDistance distance_ ;
+  private static final Comparator crowdingComparator_ = new CrowdingComparator() ;
+
+  /**
+   * Constructor. The population is ranked; the crowding distances are
+   * computed in the first replacement.
+   * @param population The population
+   * @param numberOfObjectives Number of objectives of the problem
+   */
+  public IncrementalRanking(SolutionSet population, int numberOfObjectives) {
+    numberOfObjectives_ = numberOfObjectives ;
+    capacity_  = population.size() + 1 ;
+    fronts_    = new ArrayList<SolutionSet>() ;
+    dirty_     = new boolean[capacity_ + 1] ;
+    moved_     = new ArrayList<Solution>() ;
+    nextMoved_ = new ArrayList<Solution>() ;
+    kept_      = new ArrayList<Solution>() ;
+    distance_  = new CrowdingDistance() ;
+
+    reset(population) ;
+  } // IncrementalRanking
+
+  /**
+   * Ranks the population from scratch
+   */
+  private void reset(SolutionSet population) {
+    fronts_.clear() ;
+    positions_ = new IdentityHashMap<Solution, Integer>() ;
+    for (int i = 0; i < population.size(); i++)
+      positions_.put(population.get(i), i) ;
+
+    Ranking ranking = new Ranking(population) ;
+    for (int i = 0; i < ranking.getNumberOfSubfronts(); i++) {
+      SolutionSet front = addFront() ;
+      for (int j = 0; j < ranking.getSubfront(i).size(); j++)
+        front.add(ranking.getSubfront(i).get(j)) ;
+    } // for
+  } // reset
+
+  /**
+   * Inserts a solution and removes the worst one, according to the
+   * replacement of NSGA-II. The population is rewritten front by front.
+   * @param solution The new solution
+   * @param population The population, which must contain the solutions of
+   * the fronts
+   * @return The solution removed, which may be the new one
+   */
+  public Solution replace(Solution solution, SolutionSet population) {
+    if ((positions_ == null) && !isOrderedByFronts(population))
+      reset(population) ;
+
+    insert(solution) ;
+    Solution worst = removeWorst() ;
+    positions_ = null ;
+
+    population.clear() ;
+    for (int i = 0; i < fronts_.size(); i++) {
+      SolutionSet front = fronts_.get(i) ;
+      for (int j = 0; j < front.size(); j++)
+        population.add(front.get(j)) ;
+    } // for
+
+    return worst ;
+  } // replace
+
+  /**
+   * Returns a <code>SolutionSet</code> containing the solutions of a given
+   * rank
+   * @param rank The rank
+   */
+  public SolutionSet getSubfront(int rank) {
+    return fronts_.get(rank) ;
+  } // getSubfront
+
+  /**
+   * Returns the number of fronts
+   */
+  public int getNumberOfSubfronts() {
+    return fronts_.size() ;
+  } // getNumberOfSubfronts
+
+  private void insert(Solution solution) {
+    // First front not dominating the solution; if a front dominates it, so
+    // does the previous one
+    int low  = 0 ;
+    int high = fronts_.size() ;
+    while (low < high) {
+      int middle = (low + high) >>> 1 ;
+      if (dominated(solution, fronts_.get(middle)))
+        low = middle + 1 ;
+      else
+        high = middle ;
+    } // while
+
+    if (low == fronts_.size())
+      addFront() ;
+
+    SolutionSet front = fronts_.get(low) ;
+    moved_.clear() ;
+    kept_.clear() ;
+    for (int i = 0; i < front.size(); i++) {
+      if (dominates(solution, front.get(i)))
+        moved_.add(front.get(i)) ;
+      else
+        kept_.add(front.get(i)) ;
+    } // for
+    kept_.add(solution) ;
+    rewrite(front, kept_) ;
+    solution.setRank(low) ;
+    dirty_[low] = true ;
+
+    for (int rank = low + 1; !moved_.isEmpty(); rank++) {
+      if (rank == fronts_.size())
+        addFront() ;
+
+      front = fronts_.get(rank) ;
+      nextMoved_.clear() ;
+      kept_.clear() ;
+      if (positions_ == null)
+        kept_.addAll(moved_) ;
+      int next = 0 ;
+      for (int i = 0; i < front.size(); i++) {
+        Solution member = front.get(i) ;
+        if (dominatedByAny(member, moved_))
+          nextMoved_.add(member) ;
+        else {
+          // Merge by position when the population is not ordered by fronts
+          if (positions_ != null)
+            while ((next < moved_.size()) &&
+                   (positions_.get(moved_.get(next)) < positions_.get(member)))
+              kept_.add(moved_.get(next++)) ;
+          kept_.add(member) ;
+        } // else
+      } // for
+      if (positions_ != null)
+        while (next < moved_.size())
+          kept_.add(moved_.get(next++)) ;
+      rewrite(front, kept_) ;
+      for (int i = 0; i < moved_.size(); i++)
+        moved_.get(i).setRank(rank) ;
+      dirty_[rank] = true ;
+
+      List<Solution> swap = moved_ ;
+      moved_     = nextMoved_ ;
+      nextMoved_ = swap ;
+    } // for
+  } // insert
+
+  private Solution removeWorst() {
+    int last = fronts_.size() - 1 ;
+    SolutionSet front = fronts_.get(last) ;
+
+    Solution worst ;
+    boolean partial = front.size() > 1 ;
+    if (partial) {
+      worst = removeFromLastFront(front) ;
+      dirty_[last] = true ;
+    } // if
+    else {
+      worst = front.get(0) ;
+      fronts_.remove(last) ;
+    } // else
+
+    int fronts = partial ? last : fronts_.size() ;
+    for (int i = 0; i < fronts; i++) {
+      if (dirty_[i]) {
+        assignDensity(fronts_.get(i)) ;
+        dirty_[i] = false ;
+      } // if
+    } // for
+
+    return worst ;
+  } // removeWorst
+
+  /**
+   * Removes the worst solution of the last front, which has more than one
+   * solution: the one having the lowest crowding distance, as in NSGA-II.
+   * The crowding distances of the solutions kept are the ones computed with
+   * the removed solution.
+   * @param front The last front
+   * @return The solution removed
+   */
+  protected Solution removeFromLastFront(SolutionSet front) {
+    distance_.crowdingDistanceAssignment(front, numberOfObjectives_) ;
+    front.sort(crowdingComparator_) ;
+    Solution worst = front.get(front.size() - 1) ;
+    front.remove(front.size() - 1) ;
+    return worst ;
+  } // removeFromLastFront
+
+  /**
+   * Computes the density values (the crowding distances) of a front whose
+   * members have changed, other than the last one
+   * @param front The front
+   */
+  protected void assignDensity(SolutionSet front) {
+    distance_.crowdingDistanceAssignment(front, numberOfObjectives_) ;
+  } // assignDensity
+
+  /**
+   * Returns true if the population contains the solutions of the fronts, in
+   * the same order
+   */
+  private boolean isOrderedByFronts(SolutionSet population) {
+    int position = 0 ;
+    for (int i = 0; i < fronts_.size(); i++) {
+      SolutionSet front = fronts_.get(i) ;
+      for (int j = 0; j < front.size(); j++) {
+        if ((position == population.size()) || (population.get(position) != front.get(j)))
+          return false ;
+        position++ ;
+      } // for
+    } // for
+    return position == population.size() ;
+  } // isOrderedByFronts
+
+  private SolutionSet addFront() {
+    SolutionSet front = new SolutionSet(capacity_) ;
+    dirty_[fronts_.size()] = true ;
+    fronts_.add(front) ;
+    return front ;
+  } // addFront
+
+  private void rewrite(SolutionSet front, List<Solution> solutions) {
+    front.clear() ;
+    for (int i = 0; i < solutions.size(); i++)
+      front.add(solutions.get(i)) ;
+  } // rewrite
+
+  private boolean dominated(Solution solution, SolutionSet front) {
+    for (int i = front.size() - 1; i >= 0; i--)
+      if (dominates(front.get(i), solution))
+        return true ;
+    return false ;
+  } // dominated
+
+  private boolean dominatedByAny(Solution solution, List<Solution> solutions) {
+    for (int i = 0; i < solutions.size(); i++)
+      if (dominates(solutions.get(i), solution))
+        return true ;
+    return false ;
+  } // dominatedByAny
+
+  private static boolean dominates(Solution solution1, Solution solution2) {
+    return Dominance.dominanceTest(solution1, solution2) == -1 ;
+  } // dominates
+} // IncrementalRanking
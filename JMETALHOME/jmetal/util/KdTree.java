@@ -0,0 +1,295 @@
+//  KdTree.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util;
+
+/**
+ * This class implements a k-d tree over a set of points, stored row by row in
+ * an array, to find the nearest neighbours of a point. The euclidean distances
+ * are computed as in <code>Distance.distanceBetweenObjectives</code>, so they
+ * are exactly the ones of a distance matrix. Points can be removed from the
+ * tree; they are skipped by the searches.
+ *
+ * The tree is implicit: it is a permutation of the points in which the median
+ * point of each range splits it in the dimension of greatest spread.
+ */
+public class KdTree {
+
+  /**
+   * Coordinates of the points, row by row
+   */
+  private final double [] points_ ;
+
+  /**
+   * Number of coordinates of each point
+   */
+  private final int dimensions_ ;
+
+  /**
+   * Points of the tree; the point splitting the range [from, to) is at
+   * position (from + to) / 2
+   */
+  private final int [] index_ ;
+
+  /**
+   * Dimension split by the point at each position of the tree
+   */
+  private final int [] split_ ;
+
+  /**
+   * removed_[i] is true if the point i has been removed
+   */
+  private final boolean [] removed_ ;
+
+  /**
+   * Search state: point searched, and the best neighbours found, as a max-heap
+   */
+  private double [] query_ ;
+  private int       queryOffset_ ;
+  private int       excluded_ ;
+  private int       k_ ;
+  private int       found_ ;
+  private int []    heapIndex_ ;
+  private double [] heapDistance_ ;
+
+  /**
+   * Constructor
+   * @param points The coordinates of the points, row by row; the array is
+   * not copied
+   * @param numberOfPoints The number of points
+   * @param dimensions The number of coordinates of each point
+   */
+  public KdTree(double [] points, int numberOfPoints, int dimensions) {
+    points_     = points ;
+    dimensions_ = dimensions ;
+    index_      = new int[numberOfPoints] ;
+    split_      = new int[numberOfPoints] ;
+    removed_    = new boolean[numberOfPoints] ;
+    for (int i = 0; i < numberOfPoints; i++)
+      index_[i] = i ;
+    build(0, numberOfPoints) ;
+  } // KdTree
+
+  /**
+   * Constructor of a tree sharing the points and the structure of another
+   * one, but with its own search state and removed points, so that both
+   * trees can be searched at the same time by different threads
+   * @param tree The tree
+   */
+  public KdTree(KdTree tree) {
+    points_     = tree.points_ ;
+    dimensions_ = tree.dimensions_ ;
+    index_      = tree.index_ ;
+    split_      = tree.split_ ;
+    removed_    = tree.removed_.clone() ;
+  } // KdTree
+
+  /**
+   * Removes a point from the tree
+   * @param point The point
+   */
+  public void remove(int point) {
+    removed_[point] = true ;
+  } // remove
+
+  /**
+   * Returns the euclidean distance between a point and a point of the tree
+   * @param query The array containing the coordinates of the first point
+   * @param offset The position of the first coordinate in the array
+   * @param point The point of the tree
+   */
+  public double distance(double [] query, int offset, int point) {
+    double distance = 0.0 ;
+    int base = point * dimensions_ ;
+    for (int i = 0; i < dimensions_; i++) {
+      double diff = query[offset + i] - points_[base + i] ;
+      distance += Math.pow(diff, 2.0) ;
+    } // for
+    return Math.sqrt(distance) ;
+  } // distance
+
+  /**
+   * Finds the k nearest neighbours of a point, sorted by increasing distance.
+   * Ties are broken arbitrarily.
+   * @param query The array containing the coordinates of the point
+   * @param offset The position of the first coordinate in the array
+   * @param excluded A point of the tree that cannot be a neighbour (the point
+   * itself, if it belongs to the tree), or -1
+   * @param k The number of neighbours
+   * @param neighbours Returns the neighbours; its length must be at least k
+   * @param distances Returns the distances to the neighbours; its length
+   * must be at least k
+   * @return The number of neighbours found, which is lower than k if there
+   * are not enough points in the tree
+   */
+  public int nearest(double [] query, int offset, int excluded, int k,
+                     int [] neighbours, double [] distances) {
+    query_        = query ;
+    queryOffset_  = offset ;
+    excluded_     = excluded ;
+    k_            = k ;
+    found_        = 0 ;
+    heapIndex_    = neighbours ;
+    heapDistance_ = distances ;
+    if (k > 0)
+      search(0, index_.length) ;
+
+    // Heap sort
+    int found = found_ ;
+    for (int size = found - 1; size > 0; size--) {
+      swap(0, size) ;
+      siftDown(0, size) ;
+    } // for
+    query_ = null ;
+    heapIndex_ = null ;
+    heapDistance_ = null ;
+    return found ;
+  } // nearest
+
+  private void build(int from, int to) {
+    if (to - from < 2) {
+      if (to > from)
+        split_[from] = 0 ;
+      return ;
+    } // if
+
+    int dimension = 0 ;
+    double spread = -1.0 ;
+    for (int d = 0; d < dimensions_; d++) {
+      double min = Double.POSITIVE_INFINITY ;
+      double max = Double.NEGATIVE_INFINITY ;
+      for (int i = from; i < to; i++) {
+        double value = points_[index_[i] * dimensions_ + d] ;
+        if (value < min)
+          min = value ;
+        if (value > max)
+          max = value ;
+      } // for
+      if (max - min > spread) {
+        spread    = max - min ;
+        dimension = d ;
+      } // if
+    } // for
+
+    int middle = (from + to) >>> 1 ;
+    select(from, to - 1, middle, dimension) ;
+    split_[middle] = dimension ;
+    build(from, middle) ;
+    build(middle + 1, to) ;
+  } // build
+
+  /**
+   * Moves to position k of index_[left..right] the point that would be
+   * there if the range were sorted by a dimension, the lower points before
+   * it and the greater ones after it
+   */
+  private void select(int left, int right, int k, int dimension) {
+    while (right > left) {
+      double pivot = value(index_[(left + right) >>> 1], dimension) ;
+      int i = left ;
+      int j = right ;
+      while (i <= j) {
+        while (value(index_[i], dimension) < pivot)
+          i++ ;
+        while (value(index_[j], dimension) > pivot)
+          j-- ;
+        if (i <= j) {
+          int tmp = index_[i] ;
+          index_[i] = index_[j] ;
+          index_[j] = tmp ;
+          i++ ;
+          j-- ;
+        } // if
+      } // while
+      if (k <= j)
+        right = j ;
+      else if (k >= i)
+        left = i ;
+      else
+        return ;
+    } // while
+  } // select
+
+  private double value(int point, int dimension) {
+    return points_[point * dimensions_ + dimension] ;
+  } // value
+
+  private void search(int from, int to) {
+    if (from >= to)
+      return ;
+
+    int middle = (from + to) >>> 1 ;
+    int point = index_[middle] ;
+    int dimension = split_[middle] ;
+    double diff = query_[queryOffset_ + dimension] - value(point, dimension) ;
+
+    if (diff < 0) {
+      search(from, middle) ;
+      offer(point) ;
+      if ((found_ < k_) || (Math.sqrt(Math.pow(diff, 2.0)) <= heapDistance_[0]))
+        search(middle + 1, to) ;
+    } else {
+      search(middle + 1, to) ;
+      offer(point) ;
+      if ((found_ < k_) || (Math.sqrt(Math.pow(diff, 2.0)) <= heapDistance_[0]))
+        search(from, middle) ;
+    } // else
+  } // search
+
+  private void offer(int point) {
+    if (removed_[point] || (point == excluded_))
+      return ;
+
+    double distance = distance(query_, queryOffset_, point) ;
+    if (found_ < k_) {
+      int i = found_++ ;
+      heapIndex_[i]    = point ;
+      heapDistance_[i] = distance ;
+      while ((i > 0) && (heapDistance_[(i - 1) / 2] < heapDistance_[i])) {
+        swap(i, (i - 1) / 2) ;
+        i = (i - 1) / 2 ;
+      } // while
+    } else if (distance < heapDistance_[0]) {
+      heapIndex_[0]    = point ;
+      heapDistance_[0] = distance ;
+      siftDown(0, found_) ;
+    } // if
+  } // offer
+
+  private void siftDown(int i, int size) {
+    while (true) {
+      int largest = i ;
+      int left = 2 * i + 1 ;
+      int right = left + 1 ;
+      if ((left < size) && (heapDistance_[left] > heapDistance_[largest]))
+        largest = left ;
+      if ((right < size) && (heapDistance_[right] > heapDistance_[largest]))
+        largest = right ;
+      if (largest == i)
+        return ;
+      swap(i, largest) ;
+      i = largest ;
+    } // while
+  } // siftDown
+
+  private void swap(int i, int j) {
+    int index = heapIndex_[i] ;
+    heapIndex_[i] = heapIndex_[j] ;
+    heapIndex_[j] = index ;
+    double distance = heapDistance_[i] ;
+    heapDistance_[i] = heapDistance_[j] ;
+    heapDistance_[j] = distance ;
+  } // swap
+} // KdTree
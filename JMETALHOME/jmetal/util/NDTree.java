@@ -0,0 +1,476 @@
+//  NDTree.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ND-Tree (A. Jaszkiewicz, T. Lust: "ND-Tree-based update: a fast algorithm
+ * for the dynamic non-dominance problem", IEEE TEVC 2018) holding a set of
+ * mutually non-dominated points, each one with an associated item (typically
+ * the <code>Solution</code> it belongs to). Each node keeps the bounding box
+ * of its points (the ideal and nadir points of the node), so that the update
+ * with a new point only visits the nodes which may contain a point
+ * dominating it (those whose ideal point weakly dominates it) or a point
+ * dominated by it (those whose nadir point is weakly dominated by it), and
+ * whole nodes are accepted or discarded when their box is dominated by, or
+ * dominates, the new point. The leaves hold up to <code>LEAF_SIZE</code>
+ * points; a full leaf is split into <code>numberOfObjectives + 1</code>
+ * leaves grouping close points.
+ *
+ * The dominance test is the one of <code>DominanceComparator</code>. The
+ * bounding boxes are kept exact when points are removed.
+ */
+public class NDTree<T> {
+
+  /**
+   * Maximum number of points of a leaf
+   */
+  public static final int LEAF_SIZE = 20 ;
+
+  private final int numberOfObjectives_ ;
+
+  /**
+   * Number of leaves a full leaf is split into
+   */
+  private final int numberOfChildren_ ;
+
+  /**
+   * If true, a point equal to a point of the tree is rejected; otherwise, it
+   * is inserted (equal points do not dominate each other)
+   */
+  private final boolean rejectEqual_ ;
+
+  private Node<T> root_ ;
+
+  private int size_ ;
+
+  /**
+   * Constructor.
+   * @param numberOfObjectives Number of objectives
+   * @param rejectEqual If true, points equal to a point of the tree are not
+   * inserted
+   */
+  public NDTree(int numberOfObjectives, boolean rejectEqual) {
+    numberOfObjectives_ = numberOfObjectives ;
+    numberOfChildren_   = numberOfObjectives + 1 ;
+    rejectEqual_        = rejectEqual ;
+    root_               = null ;
+    size_               = 0 ;
+  } // NDTree
+
+  /**
+   * Updates the tree with a point. If the point is dominated by a point of
+   * the tree (or equal to one, if equal points are rejected) the tree is
+   * not modified; otherwise, the points dominated by the new point are
+   * removed and the point is inserted.
+   * @param point The objective values; the array is kept by the tree, so it
+   * must not be modified afterwards
+   * @param item The item associated to the point
+   * @param removed List receiving the items of the points removed, or null
+   * @return true if the point has been inserted
+   */
+  public boolean update(double [] point, T item, List<T> removed) {
+    if (root_ != null) {
+      if (isDominated(root_, point))
+        return false ;
+      if (removeDominated(root_, point, removed) && (root_.size() == 0))
+        root_ = null ;
+    } // if
+
+    if (root_ == null)
+      root_ = new Node<T>() ;
+    insert(point, item) ;
+    return true ;
+  } // update
+
+  /**
+   * Returns true if a point is dominated by a point of the tree (or equal to
+   * one, if equal points are rejected)
+   */
+  public boolean isDominated(double [] point) {
+    return (root_ != null) && isDominated(root_, point) ;
+  } // isDominated
+
+  /**
+   * Removes an item
+   * @param point The objective values of the item
+   * @param item The item, which is compared by identity
+   * @return true if the item was in the tree
+   */
+  public boolean remove(double [] point, T item) {
+    if ((root_ == null) || !remove(root_, point, item))
+      return false ;
+    if (root_.size() == 0)
+      root_ = null ;
+    size_-- ;
+    return true ;
+  } // remove
+
+  /**
+   * Returns the number of points of the tree
+   */
+  public int size() {
+    return size_ ;
+  } // size
+
+  /**
+   * Removes all the points
+   */
+  public void clear() {
+    root_ = null ;
+    size_ = 0 ;
+  } // clear
+
+  /**
+   * Adds the items of the tree to a list
+   */
+  public void collect(List<T> items) {
+    if (root_ != null)
+      collect(root_, items) ;
+  } // collect
+
+  private boolean isDominated(Node<T> node, double [] point) {
+    // No point of the node can dominate the point
+    if (someGreater(node.ideal_, point))
+      return false ;
+    // All the points of the node dominate the point
+    if (dominatesStrictly(node.nadir_, point))
+      return true ;
+
+    if (node.isLeaf()) {
+      for (int i = 0; i < node.points_.size(); i++) {
+        double [] member = node.points_.get(i) ;
+        if (Dominance.dominates(member, 0, point, 0, numberOfObjectives_))
+          return true ;
+        if (rejectEqual_ && equal(member, point))
+          return true ;
+      } // for
+      return false ;
+    } // if
+
+    for (int i = 0; i < node.children_.size(); i++)
+      if (isDominated(node.children_.get(i), point))
+        return true ;
+    return false ;
+  } // isDominated
+
+  /**
+   * Removes the points of a node dominated by a point
+   * @return true if the node has been modified
+   */
+  private boolean removeDominated(Node<T> node, double [] point, List<T> removed) {
+    // No point of the node can be dominated by the point
+    if (someGreater(point, node.nadir_))
+      return false ;
+    // All the points of the node are dominated by the point
+    if (dominatesStrictly(point, node.ideal_)) {
+      size_ -= numberOfPoints(node) ;
+      if (removed != null)
+        collect(node, removed) ;
+      node.clear() ;
+      return true ;
+    } // if
+
+    boolean modified = false ;
+    if (node.isLeaf()) {
+      int i = 0 ;
+      while (i < node.points_.size()) {
+        if (Dominance.dominates(point, 0, node.points_.get(i), 0, numberOfObjectives_)) {
+          if (removed != null)
+            removed.add(node.items_.get(i)) ;
+          node.removeEntry(i) ;
+          size_-- ;
+          modified = true ;
+        } // if
+        else
+          i++ ;
+      } // while
+    } // if
+    else {
+      int i = 0 ;
+      while (i < node.children_.size()) {
+        Node<T> child = node.children_.get(i) ;
+        if (removeDominated(child, point, removed)) {
+          modified = true ;
+          if (child.size() == 0) {
+            node.children_.remove(i) ;
+            continue ;
+          } // if
+        } // if
+        i++ ;
+      } // while
+    } // else
+
+    if (modified)
+      node.updateBounds(numberOfObjectives_) ;
+    return modified ;
+  } // removeDominated
+
+  private void insert(double [] point, T item) {
+    Node<T> node = root_ ;
+    while (!node.isLeaf()) {
+      node.include(point, numberOfObjectives_) ;
+      node = closestChild(node, point) ;
+    } // while
+
+    node.include(point, numberOfObjectives_) ;
+    node.points_.add(point) ;
+    node.items_.add(item) ;
+    size_++ ;
+    if (node.points_.size() > LEAF_SIZE)
+      split(node) ;
+  } // insert
+
+  private Node<T> closestChild(Node<T> node, double [] point) {
+    Node<T> closest = null ;
+    double minDistance = Double.POSITIVE_INFINITY ;
+    for (int i = 0; i < node.children_.size(); i++) {
+      Node<T> child = node.children_.get(i) ;
+      double distance = 0.0 ;
+      for (int k = 0; k < numberOfObjectives_; k++) {
+        double difference = point[k] - (child.ideal_[k] + child.nadir_[k]) / 2.0 ;
+        distance += difference * difference ;
+      } // for
+      if ((closest == null) || (distance < minDistance)) {
+        closest     = child ;
+        minDistance = distance ;
+      } // if
+    } // for
+    return closest ;
+  } // closestChild
+
+  /**
+   * Splits a full leaf into leaves grouping close points. The seeds of the
+   * new leaves are the point farthest from the others and, then, the points
+   * farthest from the seeds already chosen.
+   */
+  private void split(Node<T> leaf) {
+    int size = leaf.points_.size() ;
+    double [][] distance = new double[size][size] ;
+    for (int i = 0; i < size; i++)
+      for (int j = i + 1; j < size; j++)
+        distance[i][j] = distance[j][i] = distance(leaf.points_.get(i), leaf.points_.get(j)) ;
+
+    int first = 0 ;
+    double maxSum = -1.0 ;
+    for (int i = 0; i < size; i++) {
+      double sum = 0.0 ;
+      for (int j = 0; j < size; j++)
+        sum += distance[i][j] ;
+      if (sum > maxSum) {
+        maxSum = sum ;
+        first  = i ;
+      } // if
+    } // for
+
+    int [] seeds = new int[Math.min(numberOfChildren_, size)] ;
+    double [] toSeeds = new double[size] ;
+    seeds[0] = first ;
+    for (int i = 0; i < size; i++)
+      toSeeds[i] = distance[first][i] ;
+    // The seeds are not chosen again
+    toSeeds[first] = -1.0 ;
+    for (int s = 1; s < seeds.length; s++) {
+      int farthest = -1 ;
+      for (int i = 0; i < size; i++)
+        if ((toSeeds[i] >= 0) && ((farthest == -1) || (toSeeds[i] > toSeeds[farthest])))
+          farthest = i ;
+      seeds[s] = farthest ;
+      for (int i = 0; i < size; i++)
+        toSeeds[i] = Math.min(toSeeds[i], distance[farthest][i]) ;
+      toSeeds[farthest] = -1.0 ;
+    } // for
+
+    List<Node<T>> children = new ArrayList<Node<T>>(seeds.length) ;
+    for (int s = 0; s < seeds.length; s++)
+      children.add(new Node<T>()) ;
+    for (int i = 0; i < size; i++) {
+      int closest = 0 ;
+      for (int s = 1; s < seeds.length; s++)
+        if (distance[seeds[s]][i] < distance[seeds[closest]][i])
+          closest = s ;
+      for (int s = 0; s < seeds.length; s++)
+        if (seeds[s] == i)
+          closest = s ;
+      Node<T> child = children.get(closest) ;
+      child.include(leaf.points_.get(i), numberOfObjectives_) ;
+      child.points_.add(leaf.points_.get(i)) ;
+      child.items_.add(leaf.items_.get(i)) ;
+    } // for
+
+    leaf.points_   = null ;
+    leaf.items_    = null ;
+    leaf.children_ = children ;
+  } // split
+
+  private boolean remove(Node<T> node, double [] point, T item) {
+    if (someGreater(node.ideal_, point) || someGreater(point, node.nadir_))
+      return false ;
+
+    if (node.isLeaf()) {
+      for (int i = 0; i < node.items_.size(); i++) {
+        if (node.items_.get(i) == item) {
+          node.removeEntry(i) ;
+          node.updateBounds(numberOfObjectives_) ;
+          return true ;
+        } // if
+      } // for
+      return false ;
+    } // if
+
+    for (int i = 0; i < node.children_.size(); i++) {
+      Node<T> child = node.children_.get(i) ;
+      if (remove(child, point, item)) {
+        if (child.size() == 0)
+          node.children_.remove(i) ;
+        node.updateBounds(numberOfObjectives_) ;
+        return true ;
+      } // if
+    } // for
+    return false ;
+  } // remove
+
+  private int numberOfPoints(Node<T> node) {
+    if (node.isLeaf())
+      return node.points_.size() ;
+    int points = 0 ;
+    for (int i = 0; i < node.children_.size(); i++)
+      points += numberOfPoints(node.children_.get(i)) ;
+    return points ;
+  } // numberOfPoints
+
+  private void collect(Node<T> node, List<T> items) {
+    if (node.isLeaf())
+      items.addAll(node.items_) ;
+    else
+      for (int i = 0; i < node.children_.size(); i++)
+        collect(node.children_.get(i), items) ;
+  } // collect
+
+  /**
+   * Returns true if a[k] > b[k] for some objective k
+   */
+  private boolean someGreater(double [] a, double [] b) {
+    for (int k = 0; k < numberOfObjectives_; k++)
+      if (a[k] > b[k])
+        return true ;
+    return false ;
+  } // someGreater
+
+  /**
+   * Returns true if a[k] <= b[k] for every objective k, and a[k] < b[k] for
+   * some objective. Unlike <code>Dominance.dominates</code>, NaN values make
+   * the test fail, as the bounding boxes of nodes with NaN values are not
+   * reliable.
+   */
+  private boolean dominatesStrictly(double [] a, double [] b) {
+    boolean better = false ;
+    for (int k = 0; k < numberOfObjectives_; k++) {
+      if (!(a[k] <= b[k]))
+        return false ;
+      if (a[k] < b[k])
+        better = true ;
+    } // for
+    return better ;
+  } // dominatesStrictly
+
+  private boolean equal(double [] a, double [] b) {
+    for (int k = 0; k < numberOfObjectives_; k++)
+      if (a[k] != b[k])
+        return false ;
+    return true ;
+  } // equal
+
+  private double distance(double [] a, double [] b) {
+    double sum = 0.0 ;
+    for (int k = 0; k < numberOfObjectives_; k++)
+      sum += (a[k] - b[k]) * (a[k] - b[k]) ;
+    return Math.sqrt(sum) ;
+  } // distance
+
+  /**
+   * Node of the tree; a leaf holds points, an internal node holds children
+   */
+  private static class Node<T> {
+    double [] ideal_ ;
+    double [] nadir_ ;
+    List<Node<T>>  children_ ;
+    List<double[]> points_ ;
+    List<T>        items_ ;
+
+    Node() {
+      points_ = new ArrayList<double[]>(LEAF_SIZE + 1) ;
+      items_  = new ArrayList<T>(LEAF_SIZE + 1) ;
+    } // Node
+
+    boolean isLeaf() {
+      return children_ == null ;
+    } // isLeaf
+
+    /**
+     * Number of points of a leaf, or number of children of an internal node
+     */
+    int size() {
+      return isLeaf() ? points_.size() : children_.size() ;
+    } // size
+
+    void clear() {
+      children_ = null ;
+      points_   = new ArrayList<double[]>(LEAF_SIZE + 1) ;
+      items_    = new ArrayList<T>(LEAF_SIZE + 1) ;
+    } // clear
+
+    void removeEntry(int i) {
+      int last = points_.size() - 1 ;
+      points_.set(i, points_.get(last)) ;
+      items_.set(i, items_.get(last)) ;
+      points_.remove(last) ;
+      items_.remove(last) ;
+    } // removeEntry
+
+    void include(double [] point, int numberOfObjectives) {
+      if (ideal_ == null) {
+        ideal_ = point.clone() ;
+        nadir_ = point.clone() ;
+        return ;
+      } // if
+      for (int k = 0; k < numberOfObjectives; k++) {
+        ideal_[k] = Math.min(ideal_[k], point[k]) ;
+        nadir_[k] = Math.max(nadir_[k], point[k]) ;
+      } // for
+    } // include
+
+    /**
+     * Computes again the bounding box from the points or the children
+     */
+    void updateBounds(int numberOfObjectives) {
+      ideal_ = null ;
+      nadir_ = null ;
+      if (isLeaf()) {
+        for (int i = 0; i < points_.size(); i++)
+          include(points_.get(i), numberOfObjectives) ;
+      } // if
+      else {
+        for (int i = 0; i < children_.size(); i++) {
+          include(children_.get(i).ideal_, numberOfObjectives) ;
+          include(children_.get(i).nadir_, numberOfObjectives) ;
+        } // for
+      } // else
+    } // updateBounds
+  } // Node
+} // NDTree
@@ -26,8 +26,10 @@ import jmetal.core.SolutionSet;
 import jmetal.util.comparators.DominanceComparator;
 import jmetal.util.comparators.SolutionComparator;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 
 /** 
  * This class implements an unbound list of non-dominated solutions
@@ -44,6 +46,22 @@ public class NonDominatedSolutionList extends SolutionSet{
 	 */
 	private static final Comparator equal_ = new SolutionComparator();     
 
+	/**
+	 * Stores the ND-Tree indexing the objective values of the list when the
+	 * default comparator is used (created with the first solution)
+	 */
+	private NDTree<Solution> tree_ ;
+
+	/**
+	 * True if the dominance tests are done on the ND-Tree
+	 */
+	private boolean useTree_ ;
+
+	/**
+	 * Stores the solutions removed from the tree by the last insertion
+	 */
+	private List<Solution> removed_ ;
+
 	/** 
 	 * Constructor.
 	 * The objects of this class are lists of non-dominated solutions according to
@@ -51,6 +69,10 @@ public class NonDominatedSolutionList extends SolutionSet{
 	 */
 	public NonDominatedSolutionList() {
 		super();
+		// With the default comparator the dominance tests are applied on an
+		// ND-Tree
+		useTree_ = true ;
+		removed_ = new ArrayList<Solution>() ;
 	} // NonDominatedList
 
 	/**
@@ -72,6 +94,9 @@ public class NonDominatedSolutionList extends SolutionSet{
 	 * that case, the domination tests are omitted
 	 */
 	public boolean add(Solution solution){
+		if (useTree_)
+			return addToTree(solution) ;
+
 		if (solutionsList_.size() == 0) {
 			solutionsList_.add(solution);    
 			return true ;
@@ -103,4 +128,89 @@ public class NonDominatedSolutionList extends SolutionSet{
 			return true;        
 		}
 	} // add                   
+
+	/**
+	 * Same as <code>add</code>, using the ND-Tree for the dominance tests
+	 */
+	private boolean addToTree(Solution solution) {
+		if (tree_ == null)
+			tree_ = new NDTree<Solution>(solution.getNumberOfObjectives(), false) ;
+
+		removed_.clear() ;
+		if (!tree_.update(objectivesOf(solution), solution, removed_))
+			return false ;  // The new solution is dominated
+
+		// The solutions dominated by the new one are removed in a single pass,
+		// keeping the order of the others
+		if (!removed_.isEmpty()) {
+			int size = 0 ;
+			for (int i = 0; i < solutionsList_.size(); i++) {
+				Solution member = solutionsList_.get(i) ;
+				boolean found = false ;
+				for (int j = 0; (j < removed_.size()) && !found; j++)
+					found = (removed_.get(j) == member) ;
+				if (!found)
+					solutionsList_.set(size++, member) ;
+			} // for
+			while (solutionsList_.size() > size)
+				solutionsList_.remove(solutionsList_.size() - 1) ;
+		} // if
+
+		solutionsList_.add(solution) ;
+		return true ;
+	} // addToTree
+
+	/**
+	 * Removes the solution at a given position of the list
+	 * @param i The position
+	 */
+	public void remove(int i) {
+		if (tree_ != null)
+			tree_.remove(objectivesOf(solutionsList_.get(i)), solutionsList_.get(i)) ;
+		super.remove(i) ;
+	} // remove
+
+	/**
+	 * Empties the list
+	 */
+	public void clear() {
+		if (tree_ != null)
+			tree_.clear() ;
+		super.clear() ;
+	} // clear
+
+	/**
+	 * Inserting a solution at a given position would skip the dominance tests,
+	 * so it is not supported when the list uses the ND-Tree
+	 */
+	public boolean add(int index, Solution solution) {
+		if (useTree_)
+			throw new UnsupportedOperationException("NonDominatedSolutionList.add(int, Solution)") ;
+		return super.add(index, solution) ;
+	} // add
+
+	/**
+	 * Replacing a solution would skip the dominance tests, so it is not
+	 * supported when the list uses the ND-Tree
+	 */
+	public void replace(int position, Solution solution) {
+		if (useTree_)
+			throw new UnsupportedOperationException("NonDominatedSolutionList.replace") ;
+		super.replace(position, solution) ;
+	} // replace
+
+	/**
+	 * Returns an <code>Iterator</code> whose <code>remove()</code> also removes
+	 * the solution from the ND-Tree
+	 */
+	public Iterator<Solution> iterator() {
+		return new SolutionSetIterator(this) ;
+	} // iterator
+
+	private static double [] objectivesOf(Solution solution) {
+		double [] point = new double[solution.getNumberOfObjectives()] ;
+		for (int i = 0; i < point.length; i++)
+			point[i] = solution.getObjective(i) ;
+		return point ;
+	} // objectivesOf
 } // NonDominatedList
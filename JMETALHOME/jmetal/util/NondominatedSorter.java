@@ -0,0 +1,721 @@
+//  NondominatedSorter.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class computes the non-domination rank of a set of points (rank 0
+ * for the non-dominated points, rank 1 for the points only dominated by
+ * points of rank 0, and so on), using the same dominance test as
+ * <code>DominanceComparator</code>: only the objective values are considered,
+ * and points with equal objective values get the same rank.
+ *
+ * The points are first sorted lexicographically, so that a point can only be
+ * dominated by the points preceding it. Then, the ranks are computed with:
+ * - a sweep with a binary search over the fronts for two objectives,
+ *   O(N log N);
+ * - the Jensen-Fortin divide-and-conquer algorithm, in the version of
+ *   Buzdalov and Shalyto handling equal values, for three or more objectives,
+ *   O(N (log N)^(M-1));
+ * - the efficient non-dominated sort with binary search (ENS-BS) of Zhang et
+ *   al. for one objective and for small sets, for which it is faster than the
+ *   divide-and-conquer algorithm.
+ * The working arrays are kept between invocations, so an object of this
+ * class should not be shared among threads.
+ *
+ * For large sets with three or more objectives the divide-and-conquer
+ * algorithm can run in parallel in a <code>ForkJoinPool</code>. The ranks do
+ * not depend on the number of threads. By default, the parallel mode is used
+ * when there are several processors and at least
+ * <code>PARALLEL_THRESHOLD</code> points.
+ */
+public class NondominatedSorter {
+
+  /**
+   * Sets with fewer points than this are sorted with ENS-BS when they have
+   * three or more objectives
+   */
+  private static final int DIVIDE_AND_CONQUER_THRESHOLD = 200 ;
+
+  /**
+   * Subsets with fewer points than this are ranked by comparing all the
+   * pairs in the divide-and-conquer algorithm
+   */
+  private static final int BRUTE_FORCE_THRESHOLD = 16 ;
+
+  /**
+   * Minimum number of points of a set to be sorted in parallel by default
+   */
+  public static final int PARALLEL_THRESHOLD = 2000 ;
+
+  /**
+   * Subproblems with fewer points than this are not split into parallel
+   * tasks
+   */
+  private static final int FORK_THRESHOLD = 512 ;
+
+  /**
+   * Pool given in the constructor, or null
+   */
+  private final ForkJoinPool pool_ ;
+
+  /**
+   * True while a set is being sorted in parallel
+   */
+  private boolean parallel_ ;
+
+  /**
+   * Number of objectives of the points being sorted
+   */
+  private int numberOfObjectives_ ;
+
+  /**
+   * Objective values in lexicographic order, row-major
+   */
+  private double [] points_ ;
+
+  /**
+   * order_[p] is the original index of the p-th point in lexicographic order
+   */
+  private int [] order_ ;
+
+  /**
+   * Ranks of the points in lexicographic order
+   */
+  private int [] rank_ ;
+
+  /**
+   * Working arrays
+   */
+  private int [] work_ ;
+  private int [] buffer_ ;
+  private int [] tree_ ;
+  private double [] values_ ;
+
+  /**
+   * Constructor
+   */
+  public NondominatedSorter() {
+    this(null) ;
+  } // NondominatedSorter
+
+  /**
+   * Constructor
+   * @param pool Pool in which the divide-and-conquer algorithm is always run,
+   * whatever the number of points; if null, the sorter decides by itself
+   */
+  public NondominatedSorter(ForkJoinPool pool) {
+    pool_   = pool ;
+    points_ = new double[0] ;
+    order_  = new int[0] ;
+  } // NondominatedSorter
+
+  /**
+   * Computes the ranks of a set of points
+   * @param objectives The objective values of the points, row-major
+   * (<code>objectives[i * numberOfObjectives + j]</code>)
+   * @param size Number of points
+   * @param numberOfObjectives Number of objectives
+   * @param ranks Array receiving the rank of each point
+   * @return The number of fronts
+   */
+  public int sort(double [] objectives, int size, int numberOfObjectives, int [] ranks) {
+    if (size == 0)
+      return 0 ;
+
+    numberOfObjectives_ = numberOfObjectives ;
+    ensureCapacity(size) ;
+
+    sortLexicographically(objectives, size) ;
+    for (int p = 0; p < size; p++)
+      System.arraycopy(objectives, order_[p] * numberOfObjectives, points_,
+                       p * numberOfObjectives, numberOfObjectives) ;
+
+    if (numberOfObjectives == 2)
+      sweep(size) ;
+    else if ((numberOfObjectives == 1) || (size < DIVIDE_AND_CONQUER_THRESHOLD))
+      ensBinarySearch(size) ;
+    else {
+      for (int p = 0; p < size; p++) {
+        rank_[p] = 0 ;
+        work_[p] = p ;
+      } // for
+
+      ForkJoinPool pool = pool_ ;
+      if (pool == null)
+        pool = SharedPool.get(size, PARALLEL_THRESHOLD) ;
+
+      if (pool == null)
+        helperA(0, size, numberOfObjectives - 1) ;
+      else {
+        parallel_ = true ;
+        try {
+          pool.invoke(new HelperATask(0, size, numberOfObjectives - 1)) ;
+        } finally {
+          parallel_ = false ;
+        } // finally
+      } // else
+    } // else
+
+    int numberOfFronts = 0 ;
+    for (int p = 0; p < size; p++) {
+      ranks[order_[p]] = rank_[p] ;
+      numberOfFronts = Math.max(numberOfFronts, rank_[p] + 1) ;
+    } // for
+
+    return numberOfFronts ;
+  } // sort
+
+  /**
+   * Two objectives. Inside a front, the points in lexicographic order have
+   * decreasing values of the second objective, so a front dominates a point
+   * if and only if the last point added to it does.
+   */
+  private void sweep(int size) {
+    int numberOfFronts = 0 ;
+    // work_[k] is the last point added to front k
+    for (int p = 0; p < size; p++) {
+      double f1 = points_[2 * p] ;
+      double f2 = points_[2 * p + 1] ;
+
+      int low  = 0 ;
+      int high = numberOfFronts ;
+      while (low < high) {
+        int middle = (low + high) >>> 1 ;
+        int last   = work_[middle] ;
+        double lastF2 = points_[2 * last + 1] ;
+        if ((lastF2 < f2) || ((lastF2 == f2) && (points_[2 * last] < f1)))
+          low = middle + 1 ;
+        else
+          high = middle ;
+      } // while
+
+      rank_[p]   = low ;
+      work_[low] = p ;
+      if (low == numberOfFronts)
+        numberOfFronts++ ;
+    } // for
+  } // sweep
+
+  /**
+   * ENS-BS. Each point is assigned to the first front not dominating it,
+   * which is found with a binary search; the points of a front are checked
+   * starting from the last one added.
+   */
+  private void ensBinarySearch(int size) {
+    int numberOfFronts = 0 ;
+    // work_[k] is the last point added to front k, buffer_[p] the point
+    // added to the front of p before it (or -1)
+    for (int p = 0; p < size; p++) {
+      int low  = 0 ;
+      int high = numberOfFronts ;
+      while (low < high) {
+        int middle = (low + high) >>> 1 ;
+        if (frontDominates(work_[middle], p))
+          low = middle + 1 ;
+        else
+          high = middle ;
+      } // while
+
+      rank_[p]    = low ;
+      buffer_[p]  = (low < numberOfFronts) ? work_[low] : -1 ;
+      work_[low]  = p ;
+      if (low == numberOfFronts)
+        numberOfFronts++ ;
+    } // for
+  } // ensBinarySearch
+
+  private boolean frontDominates(int last, int p) {
+    for (int q = last; q != -1; q = buffer_[q])
+      if (dominates(q, p))
+        return true ;
+    return false ;
+  } // frontDominates
+
+  /**
+   * Returns true if point q, which precedes point p in lexicographic order,
+   * dominates p
+   */
+  private boolean dominates(int q, int p) {
+    return Dominance.dominates(points_, q * numberOfObjectives_, points_,
+                               p * numberOfObjectives_, numberOfObjectives_) ;
+  } // dominates
+
+  /**
+   * Returns true if point l is not worse than point h in objectives 0..k
+   */
+  private boolean weaklyDominates(int l, int h, int k) {
+    int offsetL = l * numberOfObjectives_ ;
+    int offsetH = h * numberOfObjectives_ ;
+    for (int j = 0; j <= k; j++)
+      if (points_[offsetL + j] > points_[offsetH + j])
+        return false ;
+    return true ;
+  } // weaklyDominates
+
+  /**
+   * Ranks the points work_[from..to), which have equal values in the
+   * objectives after k. Their ranks are lower bounds on input. On return the
+   * range is sorted again.
+   */
+  private void helperA(int from, int to, int k) {
+    int size = to - from ;
+    if (size < 2)
+      return ;
+
+    if (k == 1) {
+      sweepA(from, to) ;
+      return ;
+    } // if
+
+    if (size < BRUTE_FORCE_THRESHOLD) {
+      for (int i = from + 1; i < to; i++) {
+        int p = work_[i] ;
+        for (int j = from; j < i; j++) {
+          int q = work_[j] ;
+          if ((rank_[q] >= rank_[p]) && dominates(q, p))
+            rank_[p] = rank_[q] + 1 ;
+        } // for
+      } // for
+      return ;
+    } // if
+
+    double min = Double.POSITIVE_INFINITY ;
+    double max = Double.NEGATIVE_INFINITY ;
+    for (int i = from; i < to; i++) {
+      double value = value(work_[i], k) ;
+      min = Math.min(min, value) ;
+      max = Math.max(max, value) ;
+    } // for
+    if (min == max) {
+      helperA(from, to, k - 1) ;
+      return ;
+    } // if
+
+    double median = median(from, to, to, to, k) ;
+    int endLow    = from + partition(from, to, k, median) ;
+    int endMiddle = endLow + countEqual(endLow, to, k, median) ;
+
+    helperA(from, endLow, k) ;
+    helperB(from, endLow, endLow, endMiddle, k - 1) ;
+    helperA(endLow, endMiddle, k - 1) ;
+    Arrays.sort(work_, from, endMiddle) ;
+    helperB(from, endMiddle, endMiddle, to, k - 1) ;
+    helperA(endMiddle, to, k) ;
+    Arrays.sort(work_, from, to) ;
+  } // helperA
+
+  /**
+   * Updates the ranks of the points work_[fromH..toH) with the points
+   * work_[fromL..toL), whose ranks are final. Every point of the first set is
+   * better than every point of the second one in some objective after k, and
+   * not worse in the others after k. On return both ranges are sorted again.
+   * The two subproblems above and below the median are independent, so they
+   * are run in parallel in the parallel mode; as each invocation only works
+   * on its own ranges of the working arrays, this does not need any locking.
+   */
+  private void helperB(int fromL, int toL, int fromH, int toH, int k) {
+    int sizeL = toL - fromL ;
+    int sizeH = toH - fromH ;
+    if ((sizeL == 0) || (sizeH == 0))
+      return ;
+
+    if (k == 0) {
+      mergeB(fromL, toL, fromH, toH) ;
+      return ;
+    } // if
+
+    // In the parallel mode, large sets are split on the second objective too
+    boolean fork = parallel_ && (sizeL + sizeH >= FORK_THRESHOLD) ;
+    if ((k == 1) && !fork) {
+      sweepB(fromL, toL, fromH, toH) ;
+      return ;
+    } // if
+
+    if ((sizeL == 1) || (sizeH == 1) || (sizeL * sizeH < BRUTE_FORCE_THRESHOLD * BRUTE_FORCE_THRESHOLD)) {
+      for (int i = fromH; i < toH; i++) {
+        int h = work_[i] ;
+        for (int j = fromL; j < toL; j++) {
+          int l = work_[j] ;
+          if ((rank_[l] >= rank_[h]) && weaklyDominates(l, h, k))
+            rank_[h] = rank_[l] + 1 ;
+        } // for
+      } // for
+      return ;
+    } // if
+
+    double maxL = Double.NEGATIVE_INFINITY ;
+    double minL = Double.POSITIVE_INFINITY ;
+    for (int i = fromL; i < toL; i++) {
+      double value = value(work_[i], k) ;
+      minL = Math.min(minL, value) ;
+      maxL = Math.max(maxL, value) ;
+    } // for
+    double maxH = Double.NEGATIVE_INFINITY ;
+    double minH = Double.POSITIVE_INFINITY ;
+    for (int i = fromH; i < toH; i++) {
+      double value = value(work_[i], k) ;
+      minH = Math.min(minH, value) ;
+      maxH = Math.max(maxH, value) ;
+    } // for
+
+    if (maxL <= minH) {
+      helperB(fromL, toL, fromH, toH, k - 1) ;
+      return ;
+    } // if
+    if (minL > maxH)
+      return ;
+
+    double median = median(fromL, toL, fromH, toH, k) ;
+    int endLowL    = fromL + partition(fromL, toL, k, median) ;
+    int endMiddleL = endLowL + countEqual(endLowL, toL, k, median) ;
+    int endLowH    = fromH + partition(fromH, toH, k, median) ;
+    int endMiddleH = endLowH + countEqual(endLowH, toH, k, median) ;
+
+    if (fork) {
+      HelperBTask low = new HelperBTask(fromL, endLowL, fromH, endLowH, k) ;
+      low.fork() ;
+      helperB(endMiddleL, toL, endMiddleH, toH, k) ;
+      low.join() ;
+    } // if
+    else {
+      helperB(fromL, endLowL, fromH, endLowH, k) ;
+      helperB(endMiddleL, toL, endMiddleH, toH, k) ;
+    } // else
+    Arrays.sort(work_, fromL, endMiddleL) ;
+    Arrays.sort(work_, endLowH, toH) ;
+    helperB(fromL, endMiddleL, endLowH, toH, k - 1) ;
+    Arrays.sort(work_, fromL, toL) ;
+    Arrays.sort(work_, fromH, toH) ;
+  } // helperB
+
+  /**
+   * Case k = 1 of helperA: a sweep over the first objective keeping the
+   * maximum rank for each value of the second one in a Fenwick tree. Equal
+   * points are processed together, as they do not dominate each other.
+   */
+  private void sweepA(int from, int to) {
+    int size = prepareTree(from, to) ;
+
+    int i = from ;
+    while (i < to) {
+      int p = work_[i] ;
+      int end = i + 1 ;
+      while ((end < to) && equal(work_[end], p))
+        end++ ;
+
+      double value = points_[p * numberOfObjectives_ + 1] ;
+      int rank = query(from, upperBound(from, size, value)) + 1 ;
+      for (int j = i; j < end; j++)
+        rank = Math.max(rank, rank_[work_[j]]) ;
+      int position = lowerBound(from, size, value) ;
+      for (int j = i; j < end; j++) {
+        rank_[work_[j]] = rank ;
+        update(from, size, position, rank) ;
+      } // for
+      i = end ;
+    } // while
+  } // sweepA
+
+  /**
+   * Case k = 1 of helperB
+   */
+  private void sweepB(int fromL, int toL, int fromH, int toH) {
+    int size = prepareTree(fromL, toL) ;
+
+    int j = fromL ;
+    for (int i = fromH; i < toH; i++) {
+      int h = work_[i] ;
+      double value = points_[h * numberOfObjectives_] ;
+      while ((j < toL) && (points_[work_[j] * numberOfObjectives_] <= value)) {
+        int l = work_[j] ;
+        int position = lowerBound(fromL, size, points_[l * numberOfObjectives_ + 1]) ;
+        update(fromL, size, position, rank_[l]) ;
+        j++ ;
+      } // while
+
+      int rank = query(fromL, upperBound(fromL, size, points_[h * numberOfObjectives_ + 1])) + 1 ;
+      if (rank > rank_[h])
+        rank_[h] = rank ;
+    } // for
+  } // sweepB
+
+  /**
+   * Case k = 0 of helperB, only reached in the parallel mode
+   */
+  private void mergeB(int fromL, int toL, int fromH, int toH) {
+    int rank = -1 ;
+    int j = fromL ;
+    for (int i = fromH; i < toH; i++) {
+      int h = work_[i] ;
+      double value = points_[h * numberOfObjectives_] ;
+      while ((j < toL) && (points_[work_[j] * numberOfObjectives_] <= value)) {
+        rank = Math.max(rank, rank_[work_[j]]) ;
+        j++ ;
+      } // while
+
+      if (rank + 1 > rank_[h])
+        rank_[h] = rank + 1 ;
+    } // for
+  } // mergeB
+
+  /**
+   * Stores in values_[from..to) the sorted values of the second objective of
+   * the points work_[from..to) and empties the Fenwick tree stored in
+   * tree_[from..to)
+   * @return The number of values
+   */
+  private int prepareTree(int from, int to) {
+    for (int i = from; i < to; i++)
+      values_[i] = points_[work_[i] * numberOfObjectives_ + 1] ;
+    Arrays.sort(values_, from, to) ;
+    Arrays.fill(tree_, from, to, -1) ;
+    return to - from ;
+  } // prepareTree
+
+  private void update(int base, int size, int position, int rank) {
+    for (int i = position + 1; i <= size; i += i & -i)
+      if (tree_[base + i - 1] < rank)
+        tree_[base + i - 1] = rank ;
+  } // update
+
+  /**
+   * Returns the maximum rank stored in positions [0, end) of the tree, or -1
+   */
+  private int query(int base, int end) {
+    int rank = -1 ;
+    for (int i = end; i > 0; i -= i & -i)
+      if (tree_[base + i - 1] > rank)
+        rank = tree_[base + i - 1] ;
+    return rank ;
+  } // query
+
+  /**
+   * Returns the number of values in values_[base..base + size) lower than
+   * value
+   */
+  private int lowerBound(int base, int size, double value) {
+    int low  = 0 ;
+    int high = size ;
+    while (low < high) {
+      int middle = (low + high) >>> 1 ;
+      if (values_[base + middle] < value)
+        low = middle + 1 ;
+      else
+        high = middle ;
+    } // while
+    return low ;
+  } // lowerBound
+
+  /**
+   * Returns the number of values in values_[base..base + size) not greater
+   * than value
+   */
+  private int upperBound(int base, int size, double value) {
+    int low  = 0 ;
+    int high = size ;
+    while (low < high) {
+      int middle = (low + high) >>> 1 ;
+      if (values_[base + middle] <= value)
+        low = middle + 1 ;
+      else
+        high = middle ;
+    } // while
+    return low ;
+  } // upperBound
+
+  /**
+   * Returns the median of objective k among the points work_[from1..to1)
+   * and work_[from2..to2), using the same ranges of values_
+   */
+  private double median(int from1, int to1, int from2, int to2, int k) {
+    for (int i = from1; i < to1; i++)
+      values_[i] = value(work_[i], k) ;
+    for (int i = from2; i < to2; i++)
+      values_[i] = value(work_[i], k) ;
+    Arrays.sort(values_, from1, to1) ;
+    Arrays.sort(values_, from2, to2) ;
+
+    // Merge both sorted ranges up to the middle position
+    int middle = (to1 - from1 + to2 - from2 - 1) / 2 ;
+    int i = from1 ;
+    int j = from2 ;
+    double median = 0.0 ;
+    for (int count = 0; count <= middle; count++) {
+      if ((j == to2) || ((i < to1) && (values_[i] <= values_[j])))
+        median = values_[i++] ;
+      else
+        median = values_[j++] ;
+    } // for
+    return median ;
+  } // median
+
+  /**
+   * Stable partition of work_[from..to) into the points with objective k
+   * lower than, equal to and greater than a value
+   * @return The number of points lower than the value
+   */
+  private int partition(int from, int to, int k, double value) {
+    int lower = 0 ;
+    int equal = 0 ;
+    for (int i = from; i < to; i++) {
+      double objective = value(work_[i], k) ;
+      if (objective < value)
+        lower++ ;
+      else if (objective == value)
+        equal++ ;
+    } // for
+
+    int nextLower   = from ;
+    int nextEqual   = from + lower ;
+    int nextGreater = from + lower + equal ;
+    for (int i = from; i < to; i++) {
+      double objective = value(work_[i], k) ;
+      if (objective < value)
+        buffer_[nextLower++] = work_[i] ;
+      else if (objective == value)
+        buffer_[nextEqual++] = work_[i] ;
+      else
+        buffer_[nextGreater++] = work_[i] ;
+    } // for
+    System.arraycopy(buffer_, from, work_, from, to - from) ;
+
+    return lower ;
+  } // partition
+
+  private int countEqual(int from, int to, int k, double value) {
+    int count = 0 ;
+    while ((from + count < to) && (value(work_[from + count], k) == value))
+      count++ ;
+    return count ;
+  } // countEqual
+
+  private double value(int p, int k) {
+    return points_[p * numberOfObjectives_ + k] ;
+  } // value
+
+  private boolean equal(int p, int q) {
+    int offsetP = p * numberOfObjectives_ ;
+    int offsetQ = q * numberOfObjectives_ ;
+    for (int j = 0; j < numberOfObjectives_; j++)
+      if (points_[offsetP + j] != points_[offsetQ + j])
+        return false ;
+    return true ;
+  } // equal
+
+  /**
+   * Stable merge sort of the indexes of the points in lexicographic order
+   */
+  private void sortLexicographically(double [] objectives, int size) {
+    for (int i = 0; i < size; i++)
+      order_[i] = i ;
+
+    for (int width = 1; width < size; width *= 2) {
+      for (int from = 0; from < size; from += 2 * width) {
+        int middle = Math.min(from + width, size) ;
+        int to     = Math.min(from + 2 * width, size) ;
+        int i = from ;
+        int j = middle ;
+        int k = from ;
+        while ((i < middle) && (j < to)) {
+          if (compare(objectives, order_[j], order_[i]) < 0)
+            work_[k++] = order_[j++] ;
+          else
+            work_[k++] = order_[i++] ;
+        } // while
+        while (i < middle)
+          work_[k++] = order_[i++] ;
+        while (j < to)
+          work_[k++] = order_[j++] ;
+      } // for
+      int [] swap = order_ ;
+      order_ = work_ ;
+      work_  = swap ;
+    } // for
+  } // sortLexicographically
+
+  private int compare(double [] objectives, int a, int b) {
+    int offsetA = a * numberOfObjectives_ ;
+    int offsetB = b * numberOfObjectives_ ;
+    for (int j = 0; j < numberOfObjectives_; j++) {
+      double valueA = objectives[offsetA + j] ;
+      double valueB = objectives[offsetB + j] ;
+      if (valueA < valueB)
+        return -1 ;
+      if (valueA > valueB)
+        return 1 ;
+    } // for
+    return 0 ;
+  } // compare
+
+  /**
+   * Task running helperA in a pool
+   */
+  private class HelperATask extends RecursiveAction {
+    private final int from_ ;
+    private final int to_ ;
+    private final int k_ ;
+
+    HelperATask(int from, int to, int k) {
+      from_ = from ;
+      to_   = to ;
+      k_    = k ;
+    } // HelperATask
+
+    protected void compute() {
+      helperA(from_, to_, k_) ;
+    } // compute
+  } // HelperATask
+
+  /**
+   * Task running helperB in a pool
+   */
+  private class HelperBTask extends RecursiveAction {
+    private final int fromL_ ;
+    private final int toL_ ;
+    private final int fromH_ ;
+    private final int toH_ ;
+    private final int k_ ;
+
+    HelperBTask(int fromL, int toL, int fromH, int toH, int k) {
+      fromL_ = fromL ;
+      toL_   = toL ;
+      fromH_ = fromH ;
+      toH_   = toH ;
+      k_     = k ;
+    } // HelperBTask
+
+    protected void compute() {
+      helperB(fromL_, toL_, fromH_, toH_, k_) ;
+    } // compute
+  } // HelperBTask
+
+  private void ensureCapacity(int size) {
+    if (points_.length < size * numberOfObjectives_)
+      points_ = new double[size * numberOfObjectives_] ;
+    if (order_.length < size) {
+      order_  = new int[size] ;
+      rank_   = new int[size] ;
+      work_   = new int[size] ;
+      buffer_ = new int[size] ;
+      tree_   = new int[size] ;
+      values_ = new double[size] ;
+    } // if
+  } // ensureCapacity
+} // NondominatedSorter
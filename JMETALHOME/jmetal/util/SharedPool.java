@@ -0,0 +1,81 @@
+//  SharedPool.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class holds the <code>ForkJoinPool</code> shared by the classes that
+ * decide by themselves to run a task in parallel when it is large enough and
+ * no pool has been given to them (for instance, <code>NondominatedSorter</code>
+ * or <code>Epsilon</code>), so there is a single pool, with one thread per
+ * processor, in the whole program.
+ *
+ * The threads which already run in parallel with others, such as the threads
+ * of an experiment, can be marked as sequential; the tasks they start then
+ * run in the thread itself instead of in the pool.
+ */
+public class SharedPool {
+
+  /**
+   * The pool, created the first time it is needed
+   */
+  private static ForkJoinPool pool_ ;
+
+  /**
+   * True for the threads marked as sequential
+   */
+  private static final ThreadLocal<Boolean> sequential_ = new ThreadLocal<Boolean>() ;
+
+  private SharedPool() {
+  } // SharedPool
+
+  /**
+   * Returns the pool in which a task should be run, or null if it should be
+   * run in the current thread: when it is smaller than a threshold, when
+   * there is a single processor, or when the current thread has been marked
+   * as sequential
+   * @param size The size of the task
+   * @param threshold The minimum size of a task to be run in parallel
+   */
+  public static ForkJoinPool get(long size, long threshold) {
+    if ((size < threshold) || (Runtime.getRuntime().availableProcessors() < 2) ||
+        (sequential_.get() != null))
+      return null ;
+    return getPool() ;
+  } // get
+
+  /**
+   * Returns the shared pool
+   */
+  public static synchronized ForkJoinPool getPool() {
+    if (pool_ == null)
+      pool_ = new ForkJoinPool() ;
+    return pool_ ;
+  } // getPool
+
+  /**
+   * Marks the current thread as sequential, or not
+   * @param sequential True if the tasks started by the current thread must
+   * not be run in the shared pool
+   */
+  public static void setSequential(boolean sequential) {
+    if (sequential)
+      sequential_.set(Boolean.TRUE) ;
+    else
+      sequential_.remove() ;
+  } // setSequential
+} // SharedPool
@@ -0,0 +1,96 @@
+//  SolutionPool.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util;
+
+import jmetal.core.Solution;
+
+/**
+ * Pool of discarded solutions of a problem. Instead of creating new solutions
+ * with the copy constructor, the operators can obtain a copy through
+ * <code>copyOf(Solution)</code>, which overwrites a released solution (and
+ * its decision variables) when there is one available. The algorithms release
+ * the solutions they discard, so that in a steady state no solutions are
+ * allocated. A solution must not be released while it is still referenced
+ * from a population.
+ */
+public class SolutionPool {
+
+  /**
+   * Solutions available for reuse
+   */
+  private Solution [] solutions_ ;
+
+  /**
+   * Number of solutions available
+   */
+  private int size_ ;
+
+  /**
+   * Constructor
+   * @param capacity Maximum number of solutions kept in the pool; the
+   * solutions released when the pool is full are left to the garbage
+   * collector
+   */
+  public SolutionPool(int capacity) {
+    solutions_ = new Solution[capacity] ;
+    size_      = 0 ;
+  } // SolutionPool
+
+  /**
+   * Returns a copy of a solution, reusing a released solution if possible
+   * @param solution The solution to copy
+   * @return The copy
+   */
+  public Solution copyOf(Solution solution) {
+    if (size_ == 0)
+      return new Solution(solution) ;
+
+    Solution copy = solutions_[--size_] ;
+    solutions_[size_] = null ;
+    copy.copy(solution) ;
+    return copy ;
+  } // copyOf
+
+  /**
+   * Returns a solution to the pool
+   * @param solution The solution, which must not be used by the caller
+   * anymore
+   * @return true if the solution has been stored in the pool
+   */
+  public boolean release(Solution solution) {
+    if (size_ == solutions_.length)
+      return false ;
+
+    solutions_[size_++] = solution ;
+    return true ;
+  } // release
+
+  /**
+   * Returns the number of solutions available in the pool
+   */
+  public int size() {
+    return size_ ;
+  } // size
+
+  /**
+   * Removes all the solutions from the pool
+   */
+  public void clear() {
+    for (int i = 0; i < size_; i++)
+      solutions_[i] = null ;
+    size_ = 0 ;
+  } // clear
+} // SolutionPool
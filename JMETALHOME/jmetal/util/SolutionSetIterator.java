@@ -0,0 +1,76 @@
+//  SolutionSetIterator.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util;
+
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * This class implements an <code>Iterator</code> over a
+ * <code>SolutionSet</code> whose <code>remove()</code> method invokes
+ * <code>SolutionSet.remove(int)</code>, so the sets indexing their solutions
+ * in other structures (for instance, the archives using an ND-Tree) keep
+ * them up to date.
+ */
+public class SolutionSetIterator implements Iterator<Solution> {
+
+  /**
+   * The solution set
+   */
+  private SolutionSet solutionSet_ ;
+
+  /**
+   * Position of the next solution
+   */
+  private int next_ ;
+
+  /**
+   * Position of the last solution returned, or -1 if it can not be removed
+   */
+  private int last_ ;
+
+  /**
+   * Constructor
+   * @param solutionSet The solution set
+   */
+  public SolutionSetIterator(SolutionSet solutionSet) {
+    solutionSet_ = solutionSet ;
+    next_        = 0 ;
+    last_        = -1 ;
+  } // SolutionSetIterator
+
+  public boolean hasNext() {
+    return next_ < solutionSet_.size() ;
+  } // hasNext
+
+  public Solution next() {
+    if (!hasNext())
+      throw new NoSuchElementException() ;
+    last_ = next_++ ;
+    return solutionSet_.get(last_) ;
+  } // next
+
+  public void remove() {
+    if (last_ < 0)
+      throw new IllegalStateException() ;
+    solutionSet_.remove(last_) ;
+    next_ = last_ ;
+    last_ = -1 ;
+  } // remove
+} // SolutionSetIterator
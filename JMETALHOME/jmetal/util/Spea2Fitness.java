@@ -28,34 +28,43 @@ import jmetal.util.comparators.FitnessComparator;
 import java.util.*;
 
 /**
- * This class implements some facilities for calculating the Spea2 fitness
+ * This class implements some facilities for calculating the Spea2 fitness.
+ * The distances between the solutions are not stored in a matrix: the
+ * nearest neighbours of a solution are found with a <code>KdTree</code>, and
+ * the truncation of the environmental selection only keeps the distances to
+ * the nearest neighbours of each solution.
  */
 public class Spea2Fitness {
-    
+
   /**
-   * Stores the distance between solutions
+   * Number of neighbours initially kept for each solution by the truncation
    */
-  private double [][] distance = null;
+  private static final int NEIGHBOURS = 4 ;
   
   /**
    * Stores the solutionSet to assign the fitness
    */
   private SolutionSet solutionSet_ = null;
   
-  /** 
-   * stores a <code>Distance</code> object
-   */
-  private static final Distance distance_ = new Distance();
-  
-  /**
-   * stores a <code>Comparator</code> for distance between nodes checking
-   */
-  private static final Comparator distanceNodeComparator = new DistanceNodeComparator();      
-  
   /**
    * stores a <code>Comparator</code> for dominance checking
    */
   private static final Comparator dominance_ = new DominanceComparator();
+
+  /**
+   * Truncation state: objective values and index of the solutions, and the
+   * distances to the nearest neighbours of each one (the first count_[i]
+   * positions of neighbour_[i] and neighbourDistance_[i] are the nearest
+   * neighbours of solution i among the solutions not removed, sorted by
+   * distance)
+   */
+  private KdTree      tree_ ;
+  private double []   points_ ;
+  private int         numberOfObjectives_ ;
+  private int         remaining_ ;
+  private int [][]    neighbour_ ;
+  private double [][] neighbourDistance_ ;
+  private int []      count_ ;
   
   /** 
    * Constructor.
@@ -63,7 +72,6 @@ public class Spea2Fitness {
    * @param solutionSet The <code>SolutionSet</code>
    */
   public Spea2Fitness(SolutionSet solutionSet) {
-    distance     = distance_.distanceMatrix(solutionSet);        
     solutionSet_ = solutionSet;
     for (int i = 0; i < solutionSet_.size(); i++) {
       solutionSet_.get(i).setLocation(i);
@@ -105,10 +113,15 @@ public class Spea2Fitness {
     // Add the distance to the k-th individual. In the reference paper of SPEA2, 
     // k = sqrt(population.size()), but a value of k = 1 recommended. See
     // http://www.tik.ee.ethz.ch/pisa/selectors/spea2/spea2_documentation.txt
+    // The k-th individual is the k-th nearest one, as the distance of each
+    // individual to itself is the lowest one
     int k = 1 ;
-    for (int i = 0; i < distance.length; i++) {
-      Arrays.sort(distance[i]);
-      kDistance = 1.0 / (distance[i][k] + 2.0); // Calcule de D(i) distance
+    KdTree tree = index(solutionSet_) ;
+    int [] neighbour = new int[k] ;
+    double [] distance = new double[k] ;
+    for (int i = 0; i < solutionSet_.size(); i++) {
+      tree.nearest(points_, i * numberOfObjectives_, i, k, neighbour, distance) ;
+      kDistance = 1.0 / (distance[k - 1] + 2.0); // Calcule de D(i) distance
       //population.get(i).setFitness(rawFitness[i]);
       solutionSet_.get(i).setFitness(rawFitness[i] + kDistance);           
     } // for                  
@@ -151,62 +164,104 @@ public class Spea2Fitness {
       return aux;            
     }        
                                                 
-    double [][] distance = distance_.distanceMatrix(aux);   
-    List< List<DistanceNode> > distanceList = new LinkedList< List<DistanceNode> >();
+    // The solution removed at each step is the one whose distances to the
+    // other solutions, sorted, are lexicographically the lowest ones. The
+    // distances are only compared up to the first difference, so few
+    // neighbours of each solution are needed
+    tree_ = index(aux);
+    remaining_ = aux.size();
+    int [] location = new int[aux.size()];
+    neighbour_ = new int[aux.size()][];
+    neighbourDistance_ = new double[aux.size()][];
+    count_ = new int[aux.size()];
     for (int pos = 0; pos < aux.size(); pos++) {
       aux.get(pos).setLocation(pos);
-      List<DistanceNode> distanceNodeList = new ArrayList<DistanceNode>();
-      for (int ref = 0; ref < aux.size(); ref++) {
-        if (pos != ref) {
-          distanceNodeList.add(new DistanceNode(distance[pos][ref],ref));
-        } // if
-      } // for
-      distanceList.add(distanceNodeList);
-    } // for                        
-
-
-    for (List<DistanceNode> aDistanceList : distanceList) {
-      Collections.sort(aDistanceList, distanceNodeComparator);
+      location[pos] = pos;
     } // for
-                              
+
     while (aux.size() > size) {
       double minDistance = Double.MAX_VALUE;            
       int toRemove = 0;
-      i = 0;
-      for (List<DistanceNode> dn : distanceList) {
-        if (dn.get(0).getDistance() < minDistance) {
+      for (i = 0; i < aux.size(); i++) {
+        double distance = neighbourDistance(location[i], 0);
+        if (distance < minDistance) {
           toRemove = i;
-          minDistance = dn.get(0).getDistance();
+          minDistance = distance;
           //i y toRemove have the same distance to the first solution
-        } else if (dn.get(0).getDistance() == minDistance) {
+        } else if (distance == minDistance) {
           int k = 0;
-          while ((dn.get(k).getDistance() ==
-                  distanceList.get(toRemove).get(k).getDistance()) &&
-                  k < (distanceList.get(i).size() - 1)) {
+          while ((neighbourDistance(location[i], k) ==
+                  neighbourDistance(location[toRemove], k)) &&
+                  k < (aux.size() - 2)) {
             k++;
           }
 
-          if (dn.get(k).getDistance() <
-                  distanceList.get(toRemove).get(k).getDistance()) {
+          if (neighbourDistance(location[i], k) <
+              neighbourDistance(location[toRemove], k)) {
             toRemove = i;
           } // if
         } // if
-        i++;
-      } // while
+      } // for
       
-      int tmp = aux.get(toRemove).getLocation();
+      int tmp = location[toRemove];
       aux.remove(toRemove);            
-      distanceList.remove(toRemove);
-
-      for (List<DistanceNode> aDistanceList : distanceList) {
-        Iterator<DistanceNode> interIterator = aDistanceList.iterator();
-        while (interIterator.hasNext()) {
-          if (interIterator.next().getReference() == tmp) {
-            interIterator.remove();
-          } // if
-        } // while
-      } // while      
+      System.arraycopy(location, toRemove + 1, location, toRemove, aux.size() - toRemove);
+      remove(tmp);
     } // while   
+
+    tree_ = null;
+    neighbour_ = null;
+    neighbourDistance_ = null;
     return aux;
   } // environmentalSelection   
+
+  /**
+   * Builds a <code>KdTree</code> with the objective values of a
+   * <code>SolutionSet</code>
+   */
+  private KdTree index(SolutionSet solutionSet) {
+    numberOfObjectives_ = (solutionSet.size() == 0) ? 0 : solutionSet.get(0).getNumberOfObjectives();
+    points_ = new double[solutionSet.size() * numberOfObjectives_];
+    for (int i = 0; i < solutionSet.size(); i++)
+      for (int j = 0; j < numberOfObjectives_; j++)
+        points_[i * numberOfObjectives_ + j] = solutionSet.get(i).getObjective(j);
+    return new KdTree(points_, solutionSet.size(), numberOfObjectives_);
+  } // index
+
+  /**
+   * Returns the distance from a solution to its k-th nearest neighbour (the
+   * first one being k = 0) among the solutions not removed
+   */
+  private double neighbourDistance(int solution, int k) {
+    if (k >= count_[solution]) {
+      int size = Math.min(Math.max(NEIGHBOURS, 2 * (k + 1)), remaining_ - 1);
+      if ((neighbour_[solution] == null) || (neighbour_[solution].length < size)) {
+        neighbour_[solution] = new int[size];
+        neighbourDistance_[solution] = new double[size];
+      } // if
+      count_[solution] = tree_.nearest(points_, solution * numberOfObjectives_, solution,
+          size, neighbour_[solution], neighbourDistance_[solution]);
+    } // if
+    return neighbourDistance_[solution][k];
+  } // neighbourDistance
+
+  /**
+   * Removes a solution, and removes it from the neighbours of the others
+   */
+  private void remove(int solution) {
+    tree_.remove(solution);
+    remaining_--;
+    count_[solution] = 0;
+    for (int i = 0; i < count_.length; i++) {
+      int [] neighbour = neighbour_[i];
+      for (int j = 0; j < count_[i]; j++) {
+        if (neighbour[j] == solution) {
+          System.arraycopy(neighbour, j + 1, neighbour, j, count_[i] - j - 1);
+          System.arraycopy(neighbourDistance_[i], j + 1, neighbourDistance_[i], j, count_[i] - j - 1);
+          count_[i]--;
+          break;
+        } // if
+      } // for
+    } // for
+  } // remove
 } // Spea2Fitness
@@ -23,10 +23,12 @@ package jmetal.util.archive;
 
 import jmetal.core.Solution;
 import jmetal.util.AdaptiveGrid;
-import jmetal.util.comparators.DominanceComparator;
+import jmetal.util.NDTree;
+import jmetal.util.SolutionSetIterator;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * This class implements an archive based on an adaptive grid used in PAES
@@ -44,9 +46,14 @@ public class AdaptiveGridArchive extends Archive {
 	private int maxSize_;
 
 	/**
-	 * Stores a <code>Comparator</code> for dominance checking
+	 * Stores the ND-Tree indexing the objective values of the archive
 	 */
-	private Comparator dominance_;
+	private NDTree<Solution> tree_;
+
+	/**
+	 * Stores the solutions removed from the tree by the last insertion
+	 */
+	private List<Solution> removed_;
 
 	/**
 	 * Constructor.
@@ -59,8 +66,9 @@ public class AdaptiveGridArchive extends Archive {
 	public AdaptiveGridArchive(int maxSize,int bisections, int objectives) {
 		super(maxSize);
 		maxSize_   = maxSize;
-		dominance_ = new DominanceComparator();
 		grid_      = new AdaptiveGrid(bisections,objectives);
+		tree_      = new NDTree<Solution>(objectives, false);
+		removed_   = new ArrayList<Solution>();
 	} // AdaptiveGridArchive
 
 	/**
@@ -75,26 +83,28 @@ public class AdaptiveGridArchive extends Archive {
 	 * otherwise.
 	 */
 	public boolean add(Solution solution) {
+		// The dominance tests are done on the ND-Tree, which returns the
+		// individuals dominated by the solution
+		removed_.clear();
+		if (!tree_.update(objectivesOf(solution), solution, removed_))
+			return false; // An Individual into the file dominates the solution
+		// to insert; it will not be inserted
+
 		//Iterator of individuals over the list
 		Iterator<Solution> iterator = solutionsList_.iterator();
 
-		while (iterator.hasNext()){
+		while (iterator.hasNext() && !removed_.isEmpty()){
 			Solution element = iterator.next();
-			int flag = dominance_.compare(solution,element);
-			if (flag == -1) { // The Individual to insert dominates other 
-				// individuals in  the archive
+			if (removeFrom(removed_, element)) { // The Individual to insert 
+				// dominates other individuals in  the archive
 				iterator.remove(); //Delete it from the archive
-				int location = grid_.location(element);
+				long location = grid_.location(element);
 				if (grid_.getLocationDensity(location) > 1) {//The hypercube contains 
 					grid_.removeSolution(location);            //more than one individual
 				} else {
 					grid_.updateGrid(this);
 				} // else
 			} // if 
-			else if (flag == 1) { // An Individual into the file dominates the 
-				// solution to insert
-				return false; // The solution will not be inserted
-			} // else if           
 		} // while
 
 		// At this point, the solution may be inserted
@@ -106,7 +116,7 @@ public class AdaptiveGridArchive extends Archive {
 
 		if (size() < maxSize_){ //The archive is not full              
 			grid_.updateGrid(solution,this); // Update the grid if applicable
-			int location ;
+			long location ;
 			location= grid_.location(solution); // Get the location of the solution
 			grid_.addSolution(location); // Increment the density of the hypercube
 			solutionsList_.add(solution); // Add the solution to the list
@@ -115,9 +125,10 @@ public class AdaptiveGridArchive extends Archive {
 
 		// At this point, the solution has to be inserted and the archive is full
 		grid_.updateGrid(solution,this);
-		int location = grid_.location(solution);
+		long location = grid_.location(solution);
 		if (location == grid_.getMostPopulated()) { // The solution is in the 
 			// most populated hypercube
+			tree_.remove(objectivesOf(solution), solution);
 			return false; // Not inserted
 		} 
 		else {
@@ -127,9 +138,10 @@ public class AdaptiveGridArchive extends Archive {
 			while (iterator.hasNext()) {
 				if (!removed) {
 					Solution element = iterator.next();
-					int location2 = grid_.location(element);
+					long location2 = grid_.location(element);
 					if (location2 == grid_.getMostPopulated()) {
 						iterator.remove();
+						tree_.remove(objectivesOf(element), element);
 						grid_.removeSolution(location2);
 					} // if
 				} // if
@@ -142,6 +154,69 @@ public class AdaptiveGridArchive extends Archive {
 		return true;
 	} // add
 
+	/**
+	 * Removes the solution at a given position of the archive
+	 * @param i The position
+	 */
+	public void remove(int i) {
+		Solution solution = solutionsList_.get(i);
+		tree_.remove(objectivesOf(solution), solution);
+		super.remove(i);
+	} // remove
+
+	/**
+	 * Empties the archive
+	 */
+	public void clear() {
+		tree_.clear();
+		super.clear();
+	} // clear
+
+	/**
+	 * Inserting a solution at a given position would skip the dominance tests
+	 * and the grid, so it is not supported by the archive
+	 */
+	public boolean add(int index, Solution solution) {
+		throw new UnsupportedOperationException("AdaptiveGridArchive.add(int, Solution)");
+	} // add
+
+	/**
+	 * Replacing a solution would skip the dominance tests and the grid, so it
+	 * is not supported by the archive
+	 */
+	public void replace(int position, Solution solution) {
+		throw new UnsupportedOperationException("AdaptiveGridArchive.replace");
+	} // replace
+
+	/**
+	 * Returns an <code>Iterator</code> whose <code>remove()</code> also removes
+	 * the solution from the ND-Tree
+	 */
+	public Iterator<Solution> iterator() {
+		return new SolutionSetIterator(this);
+	} // iterator
+
+	private double [] objectivesOf(Solution solution) {
+		double [] point = new double[solution.getNumberOfObjectives()];
+		for (int i = 0; i < point.length; i++)
+			point[i] = solution.getObjective(i);
+		return point;
+	} // objectivesOf
+
+	/**
+	 * Removes a solution from a list, comparing by identity
+	 * @return true if the solution was in the list
+	 */
+	private static boolean removeFrom(List<Solution> solutions, Solution solution) {
+		for (int i = 0; i < solutions.size(); i++) {
+			if (solutions.get(i) == solution) {
+				solutions.remove(i);
+				return true;
+			} // if
+		} // for
+		return false;
+	} // removeFrom
+
 	/**
 	 * Returns the AdaptativeGrid used
 	 * @return the AdaptativeGrid
@@ -0,0 +1,386 @@
+//  BiObjectiveArchive.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util.archive;
+
+import jmetal.core.Solution;
+import jmetal.util.SolutionSetIterator;
+import jmetal.util.avl.AvlNode;
+import jmetal.util.avl.AvlTree;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * This class implements a bounded archive for problems having two
+ * objectives. The members are kept in an <code>AvlTree</code> sorted by the
+ * first objective; as they are non-dominated, they are sorted in decreasing
+ * order of the second objective, so the dominance test of a new solution only
+ * needs its predecessor in the tree, and the members it dominates are its
+ * next successors. Inserting a solution takes O(log n) time (plus the time of
+ * removing the dominated members).
+ *
+ * The density value of a member only depends on its two neighbours in the
+ * tree, so it is updated when one of them changes. It is either:
+ * - its crowding distance, as computed by <code>CrowdingDistance</code> (the
+ *   extreme members get an infinite value; when an extreme member changes,
+ *   all the values are computed again, as the ranges of the objectives
+ *   change), or
+ * - its exclusive hypervolume contribution, if a reference point is given.
+ * When the archive is full, the member having the lowest value is removed.
+ * The values are also copied to the crowding distances of the members, but
+ * they are kept apart, so these can be changed from outside.
+ *
+ * The dominance and equality tests are those of
+ * <code>DominanceComparator</code> and <code>EqualSolutions</code>. The
+ * position of the members in the archive is not meaningful: the last member
+ * is moved to the position of a removed one.
+ */
+public class BiObjectiveArchive extends Archive {
+
+  /**
+   * Stores the maximum size of the archive.
+   */
+  private int maxSize_;
+
+  /**
+   * Stores the reference point of the hypervolume contributions, or null if
+   * the crowding distances are used
+   */
+  private double [] referencePoint_;
+
+  /**
+   * Stores the members sorted by their objective values
+   */
+  private AvlTree<Solution> tree_;
+
+  /**
+   * Stores the members sorted by their density values
+   */
+  private TreeSet<Solution> density_;
+
+  /**
+   * Stores the position and the density value of each member
+   */
+  private Map<Solution, Entry> entries_;
+
+  /**
+   * Stores the extreme members used to compute the crowding distances
+   */
+  private Solution first_;
+  private Solution last_;
+
+  /**
+   * Stores a <code>Comparator</code> sorting the solutions by the first
+   * objective, and then by the second one.
+   */
+  private static final Comparator objectiveOrder_ = new Comparator() {
+    public int compare(Object o1, Object o2) {
+      Solution solution1 = (Solution) o1;
+      Solution solution2 = (Solution) o2;
+      for (int i = 0; i < 2; i++) {
+        if (solution1.getObjective(i) < solution2.getObjective(i))
+          return -1;
+        else if (solution1.getObjective(i) > solution2.getObjective(i))
+          return 1;
+      } // for
+      return 0;
+    }
+  };
+
+  /**
+   * Stores a <code>Comparator</code> sorting the members by increasing
+   * density value; the ties are broken by the first objective.
+   */
+  private final Comparator<Solution> densityOrder_ = new Comparator<Solution>() {
+    public int compare(Solution solution1, Solution solution2) {
+      double value1 = entries_.get(solution1).density_;
+      double value2 = entries_.get(solution2).density_;
+      if (value1 < value2)
+        return -1;
+      else if (value1 > value2)
+        return 1;
+      return objectiveOrder_.compare(solution1, solution2);
+    }
+  };
+
+  /**
+   * Position and density value of a member
+   */
+  private static class Entry {
+    int    position_;
+    double density_;
+  } // Entry
+
+  /**
+   * Constructor. The crowding distances are used to bound the archive.
+   * @param maxSize The maximum size of the archive.
+   */
+  public BiObjectiveArchive(int maxSize) {
+    this(maxSize, null);
+  } // BiObjectiveArchive
+
+  /**
+   * Constructor.
+   * @param maxSize The maximum size of the archive.
+   * @param referencePoint The reference point of the hypervolume
+   * contributions used to bound the archive; if null, the crowding distances
+   * are used.
+   */
+  public BiObjectiveArchive(int maxSize, double [] referencePoint) {
+    super(maxSize);
+    maxSize_        = maxSize;
+    referencePoint_ = (referencePoint == null) ? null : referencePoint.clone();
+    tree_           = new AvlTree<Solution>(objectiveOrder_);
+    density_        = new TreeSet<Solution>(densityOrder_);
+    entries_        = new IdentityHashMap<Solution, Entry>();
+  } // BiObjectiveArchive
+
+  /**
+   * Adds a <code>Solution</code> to the archive. If the <code>Solution</code>
+   * is dominated by or equal to any member of the archive, then it is
+   * discarded. If the <code>Solution</code> dominates some members of the
+   * archive, these are removed. If the archive is full, the member having
+   * the lowest density value (which can be the new one) is removed.
+   * @param solution The <code>Solution</code>
+   * @return true if the <code>Solution</code> has been inserted, false
+   * otherwise.
+   */
+  public boolean add(Solution solution) {
+    // The predecessor has a lower or equal first objective: the solution is
+    // dominated by a member iff it is dominated by (or equal to) it
+    AvlNode<Solution> node = floor(solution);
+    if ((node != null) &&
+        (node.getItem().getObjective(1) <= solution.getObjective(1)))
+      return false;
+
+    // The members dominated by the solution are the next successors having
+    // a greater or equal second objective
+    Solution next = (node == null) ? item(leftmost(tree_.getTop())) : successor(node.getItem());
+    while ((next != null) && (next.getObjective(1) >= solution.getObjective(1))) {
+      Solution dominated = next;
+      next = successor(dominated);
+      delete(dominated);
+    } // while
+
+    Entry entry = new Entry();
+    entry.position_ = solutionsList_.size();
+    entry.density_  = Double.POSITIVE_INFINITY;
+    entries_.put(solution, entry);
+    tree_.insert(solution);
+    solutionsList_.add(solution);
+    solution.setCrowdingDistance(entry.density_);
+    density_.add(solution);
+    update(solution);
+
+    if (size() > maxSize_)
+      remove(density_.first());
+    return true;
+  } // add
+
+  /**
+   * Removes the solution at a given position of the archive
+   * @param i The position
+   */
+  public void remove(int i) {
+    remove(solutionsList_.get(i));
+  } // remove
+
+  /**
+   * Empties the archive
+   */
+  public void clear() {
+    tree_    = new AvlTree<Solution>(objectiveOrder_);
+    density_.clear();
+    entries_.clear();
+    first_   = null;
+    last_    = null;
+    super.clear();
+  } // clear
+
+  /**
+   * Sorts the archive using a <code>Comparator</code>.
+   * @param comparator <code>Comparator</code> used to sort.
+   */
+  public void sort(Comparator comparator) {
+    super.sort(comparator);
+    for (int i = 0; i < solutionsList_.size(); i++)
+      entries_.get(solutionsList_.get(i)).position_ = i;
+  } // sort
+
+  /**
+   * Inserting a solution at a given position would skip the dominance tests,
+   * so it is not supported by the archive
+   */
+  public boolean add(int index, Solution solution) {
+    throw new UnsupportedOperationException("BiObjectiveArchive.add(int, Solution)");
+  } // add
+
+  /**
+   * Replacing a solution would skip the dominance tests, so it is not
+   * supported by the archive
+   */
+  public void replace(int position, Solution solution) {
+    throw new UnsupportedOperationException("BiObjectiveArchive.replace");
+  } // replace
+
+  /**
+   * Returns an <code>Iterator</code> whose <code>remove()</code> also removes
+   * the solution from the tree and updates the density values
+   */
+  public Iterator<Solution> iterator() {
+    return new SolutionSetIterator(this);
+  } // iterator
+
+  /**
+   * Removes a member and updates the density values of its neighbours
+   */
+  private void remove(Solution solution) {
+    Solution previous = predecessor(solution);
+    Solution next = successor(solution);
+    delete(solution);
+    if (previous != null)
+      update(previous);
+    else if (next != null)
+      update(next);
+  } // remove
+
+  /**
+   * Removes a member, without updating the density values
+   */
+  private void delete(Solution solution) {
+    tree_.delete(solution);
+    density_.remove(solution);
+
+    int i = entries_.remove(solution).position_;
+    Solution moved = solutionsList_.remove(solutionsList_.size() - 1);
+    if (moved != solution) {
+      solutionsList_.set(i, moved);
+      entries_.get(moved).position_ = i;
+    } // if
+  } // delete
+
+  /**
+   * Updates the density values of a member and of its neighbours, or of all
+   * the members if the extreme ones have changed and the crowding distances
+   * are used
+   */
+  private void update(Solution solution) {
+    if (referencePoint_ == null) {
+      Solution first = item(leftmost(tree_.getTop()));
+      Solution last = item(rightmost(tree_.getTop()));
+      if ((first != first_) || (last != last_)) {
+        first_ = first;
+        last_  = last;
+        for (Solution member = first; member != null; member = successor(member))
+          setDensity(member, predecessor(member), successor(member));
+        return;
+      } // if
+    } // if
+
+    Solution previous = predecessor(solution);
+    Solution next = successor(solution);
+    setDensity(solution, previous, next);
+    if (previous != null)
+      setDensity(previous, predecessor(previous), solution);
+    if (next != null)
+      setDensity(next, solution, successor(next));
+  } // update
+
+  /**
+   * Sets the density value of a member, given its neighbours
+   */
+  private void setDensity(Solution solution, Solution previous, Solution next) {
+    double value;
+    if (referencePoint_ != null) {
+      double width = (next == null) ? referencePoint_[0] : next.getObjective(0);
+      double height = (previous == null) ? referencePoint_[1] : previous.getObjective(1);
+      value = (width - solution.getObjective(0)) * (height - solution.getObjective(1));
+    } // if
+    else if ((previous == null) || (next == null))
+      value = Double.POSITIVE_INFINITY;
+    else {
+      value = (next.getObjective(0) - previous.getObjective(0)) /
+              (last_.getObjective(0) - first_.getObjective(0));
+      value += (previous.getObjective(1) - next.getObjective(1)) /
+               (first_.getObjective(1) - last_.getObjective(1));
+    } // else
+
+    Entry entry = entries_.get(solution);
+    if (value != entry.density_) {
+      density_.remove(solution);
+      entry.density_ = value;
+      density_.add(solution);
+    } // if
+    solution.setCrowdingDistance(value);
+  } // setDensity
+
+  /**
+   * Returns the node of the greatest member lower than or equal to a
+   * solution, or null if there is not any
+   */
+  private AvlNode<Solution> floor(Solution solution) {
+    AvlNode<Solution> result = null;
+    AvlNode<Solution> node = tree_.getTop();
+    while (node != null) {
+      if (objectiveOrder_.compare(node.getItem(), solution) <= 0) {
+        result = node;
+        node = node.getRight();
+      } else
+        node = node.getLeft();
+    } // while
+    return result;
+  } // floor
+
+  /**
+   * Returns the member following a given one, or null if it is the last one
+   */
+  private Solution successor(Solution solution) {
+    return item(tree_.findSuccessor(tree_.search(solution)));
+  } // successor
+
+  /**
+   * Returns the member preceding a given one, or null if it is the first one
+   */
+  private Solution predecessor(Solution solution) {
+    AvlNode<Solution> node = tree_.search(solution);
+    if (node.hasLeft())
+      return item(rightmost(node.getLeft()));
+    while (node.hasParent() && (node.getParent().getLeft() == node))
+      node = node.getParent();
+    return item(node.getParent());
+  } // predecessor
+
+  private static AvlNode<Solution> leftmost(AvlNode<Solution> node) {
+    if (node != null)
+      while (node.hasLeft())
+        node = node.getLeft();
+    return node;
+  } // leftmost
+
+  private static AvlNode<Solution> rightmost(AvlNode<Solution> node) {
+    if (node != null)
+      while (node.hasRight())
+        node = node.getRight();
+    return node;
+  } // rightmost
+
+  private static Solution item(AvlNode<Solution> node) {
+    return (node == null) ? null : node.getItem();
+  } // item
+} // BiObjectiveArchive
@@ -22,12 +22,15 @@
 package jmetal.util.archive;
 
 import jmetal.core.Solution;
-import jmetal.util.Distance;
+import jmetal.util.CrowdingDistance;
+import jmetal.util.NDTree;
+import jmetal.util.SolutionSetIterator;
 import jmetal.util.comparators.CrowdingDistanceComparator;
-import jmetal.util.comparators.DominanceComparator;
-import jmetal.util.comparators.EqualSolutions;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * This class implements a bounded archive based on crowding distances (as
@@ -46,25 +49,29 @@ public class CrowdingArchive extends Archive {
   private int objectives_;    
   
   /**
-   * Stores a <code>Comparator</code> for dominance checking.
+   * Stores a <code>Comparator</code> for checking crowding distances.
    */
-  private Comparator dominance_;
+  private Comparator crowdingDistance_; 
   
   /**
-   * Stores a <code>Comparator</code> for equality checking (in the objective
-   * space).
+   * Stores a <code>CrowdingDistance</code> object, for the crowding distances
    */
-  private Comparator equals_; 
+  private CrowdingDistance distance_; 
 
   /**
-   * Stores a <code>Comparator</code> for checking crowding distances.
+   * Stores the objective values of the solution being inserted
    */
-  private Comparator crowdingDistance_; 
-  
+  private double [] point_ ;
+
   /**
-   * Stores a <code>Distance</code> object, for distances utilities
+   * Stores the ND-Tree indexing the objective values of the archive
    */
-  private Distance distance_; 
+  private NDTree<Solution> tree_ ;
+
+  /**
+   * Stores the solutions removed from the tree by the last insertion
+   */
+  private List<Solution> removed_ ;
     
   /**
    * Constructor. 
@@ -75,11 +82,11 @@ public class CrowdingArchive extends Archive {
     super(maxSize);
     maxSize_          = maxSize;
     objectives_       = numberOfObjectives;        
-    dominance_        = new DominanceComparator();
-    equals_           = new EqualSolutions();
     crowdingDistance_ = new CrowdingDistanceComparator();
-    distance_         = new Distance();
-    
+    distance_         = new CrowdingDistance();
+    point_            = new double[numberOfObjectives];
+    tree_             = new NDTree<Solution>(numberOfObjectives, true);
+    removed_          = new ArrayList<Solution>();
   } // CrowdingArchive
     
   
@@ -95,25 +102,18 @@ public class CrowdingArchive extends Archive {
    * otherwise.
    */
   public boolean add(Solution solution){
-    int flag = 0;
-    int i = 0;
-    Solution aux; //Store an solution temporally
-    while (i < solutionsList_.size()){
-      aux = solutionsList_.get(i);            
-            
-      flag = dominance_.compare(solution,aux);
-      if (flag == 1) {               // The solution to add is dominated
-        return false;                // Discard the new solution
-      } else if (flag == -1) {       // A solution in the archive is dominated
-        solutionsList_.remove(i);    // Remove it from the population            
-      } else {
-          if (equals_.compare(aux,solution)==0) { // There is an equal solution 
-        	                                      // in the population
-            return false; // Discard the new solution
-          }  // if
-          i++;
-      }
-    }
+    // The dominance and equality tests (as in DominanceComparator and
+    // EqualSolutions) are done on the ND-Tree, which returns the members
+    // dominated by the solution
+    for (int i = 0; i < objectives_; i++)
+      point_[i] = solution.getObjective(i);
+    removed_.clear();
+    if (!tree_.update(point_, solution, removed_))
+      return false;                  // The solution is dominated or repeated
+    point_ = new double[objectives_]; // The array is kept by the tree
+
+    if (!removed_.isEmpty())         // Remove the dominated members, keeping
+      removeAll(removed_);           // the order of the others
     // Insert the solution into the archive
     solutionsList_.add(solution);        
     if (size() > maxSize_) { // The archive is full
@@ -122,4 +122,65 @@ public class CrowdingArchive extends Archive {
     }        
     return true;
   } // add
+
+  /**
+   * Removes the solution at a given position of the archive
+   * @param i The position
+   */
+  public void remove(int i) {
+    Solution solution = solutionsList_.get(i);
+    for (int j = 0; j < objectives_; j++)
+      point_[j] = solution.getObjective(j);
+    tree_.remove(point_, solution);
+    super.remove(i);
+  } // remove
+
+  /**
+   * Empties the archive
+   */
+  public void clear() {
+    tree_.clear();
+    super.clear();
+  } // clear
+
+  /**
+   * Inserting a solution at a given position would skip the dominance tests,
+   * so it is not supported by the archive
+   */
+  public boolean add(int index, Solution solution) {
+    throw new UnsupportedOperationException("CrowdingArchive.add(int, Solution)");
+  } // add
+
+  /**
+   * Replacing a solution would skip the dominance tests, so it is not
+   * supported by the archive
+   */
+  public void replace(int position, Solution solution) {
+    throw new UnsupportedOperationException("CrowdingArchive.replace");
+  } // replace
+
+  /**
+   * Returns an <code>Iterator</code> whose <code>remove()</code> also removes
+   * the solution from the ND-Tree
+   */
+  public Iterator<Solution> iterator() {
+    return new SolutionSetIterator(this);
+  } // iterator
+
+  /**
+   * Removes a group of solutions from the list, in a single pass
+   */
+  private void removeAll(List<Solution> solutions) {
+    int size = 0;
+    for (int i = 0; i < solutionsList_.size(); i++) {
+      Solution member = solutionsList_.get(i);
+      boolean found = false;
+      for (int j = 0; (j < solutions.size()) && !found; j++)
+        found = (solutions.get(j) == member);
+      if (!found)
+        solutionsList_.set(size++, member);
+    } // for
+    while (solutionsList_.size() > size)
+      solutionsList_.remove(solutionsList_.size() - 1);
+  } // removeAll
 } // CrowdingArchive
@@ -23,8 +23,8 @@ package jmetal.util.archive;
 import jmetal.core.Solution;
 import jmetal.qualityIndicator.util.MetricsUtil;
 import jmetal.util.Distance;
+import jmetal.util.Dominance;
 import jmetal.util.comparators.CrowdingDistanceComparator;
-import jmetal.util.comparators.DominanceComparator;
 import jmetal.util.comparators.EqualSolutions;
 
 import java.util.Comparator;
@@ -45,11 +45,6 @@ public class HypervolumeArchive extends Archive {
    */
   private int objectives_;    
   
-  /**
-   * Stores a <code>Comparator</code> for dominance checking.
-   */
-  private Comparator dominance_;
-  
   /**
    * Stores a <code>Comparator</code> for equality checking (in the objective
    * space).
@@ -75,7 +70,6 @@ public class HypervolumeArchive extends Archive {
     super(maxSize);
     maxSize_          = maxSize;
     objectives_       = numberOfObjectives;        
-    dominance_        = new DominanceComparator();
     equals_           = new EqualSolutions();
     distance_         = new Distance();
     utils_            = new MetricsUtil() ;
@@ -104,7 +98,7 @@ public class HypervolumeArchive extends Archive {
     while (i < solutionsList_.size()){
       aux = solutionsList_.get(i);            
             
-      flag = dominance_.compare(solution,aux);
+      flag = Dominance.dominanceTest(solution, aux);
       if (flag == 1) {               // The solution to add is dominated
         return false;                // Discard the new solution
       } else if (flag == -1) {       // A solution in the archive is dominated
@@ -23,9 +23,9 @@ package jmetal.util.archive;
 
 import jmetal.core.Solution;
 import jmetal.qualityIndicator.R2;
+import jmetal.util.Dominance;
 import jmetal.util.PseudoRandom;
 import jmetal.util.comparators.CrowdingDistanceComparator;
-import jmetal.util.comparators.DominanceComparator;
 import jmetal.util.comparators.EqualSolutions;
 
 import java.util.Comparator;
@@ -46,11 +46,6 @@ public class R2Archive extends Archive {
    */
   private int objectives_;    
   
-  /**
-   * Stores a <code>Comparator</code> for dominance checking.
-   */
-  private Comparator dominance_;
-  
   /**
    * Stores a <code>Comparator</code> for equality checking (in the objective
    * space).
@@ -71,7 +66,6 @@ public class R2Archive extends Archive {
     super(maxSize);
     maxSize_          = maxSize;
     objectives_       = 2;        // hardcoded
-    dominance_        = new DominanceComparator();
     equals_           = new EqualSolutions();
     crowdingDistance_ = new CrowdingDistanceComparator();
     r2Indicator_       = new R2();
@@ -89,7 +83,6 @@ public class R2Archive extends Archive {
     super(maxSize);
     maxSize_          = maxSize;
     objectives_       = numberOfObjectives;        
-    dominance_        = new DominanceComparator();
     equals_           = new EqualSolutions();
     crowdingDistance_ = new CrowdingDistanceComparator();
     r2Indicator_      = new R2(numberOfObjectives,file);
@@ -116,7 +109,7 @@ public class R2Archive extends Archive {
     while (i < solutionsList_.size()){
       aux = solutionsList_.get(i);            
             
-      flag = dominance_.compare(solution,aux);
+      flag = Dominance.dominanceTest(solution, aux);
       if (flag == 1) {               // The solution to add is dominated
         return false;                // Discard the new solution
       } else if (flag == -1) {       // A solution in the archive is dominated
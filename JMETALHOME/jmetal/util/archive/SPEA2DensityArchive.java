@@ -22,8 +22,8 @@
 package jmetal.util.archive;
 
 import jmetal.core.Solution;
+import jmetal.util.Dominance;
 import jmetal.util.Spea2Fitness;
-import jmetal.util.comparators.DominanceComparator;
 import jmetal.util.comparators.EqualSolutions;
 import jmetal.util.comparators.FitnessComparator;
 
@@ -40,11 +40,6 @@ import java.util.Comparator;
    */
   private int maxSize_;    
   
-  /**
-   * Stores a <code>Comparator</code> for dominance checking.
-   */
-  private Comparator dominance_;
-  
   /**
    * Stores a <code>Comparator</code> for fitness checking.
    */
@@ -63,7 +58,6 @@ import java.util.Comparator;
   public SPEA2DensityArchive(int maxSize) {
     super(maxSize);
     maxSize_           = maxSize                   ;        
-    dominance_         = new DominanceComparator() ;
     equals_            = new EqualSolutions()      ;
     fitnessComparator_ = new FitnessComparator();
   } // StrengthRawFitnessArchive
@@ -85,7 +79,7 @@ import java.util.Comparator;
     Solution aux;
     while (i < solutionsList_.size()){
       aux = solutionsList_.get(i);                        
-      flag = dominance_.compare(solution,aux);
+      flag = Dominance.dominanceTest(solution, aux);
       if (flag == 1) {                // The solution to add is dominated
         return false;                 // Discard the new solution
       } else if (flag == -1) {        // A solution in the archive is dominated
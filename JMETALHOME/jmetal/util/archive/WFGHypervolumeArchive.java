@@ -26,8 +26,8 @@ import jmetal.qualityIndicator.fastHypervolume.wfg.Point;
 import jmetal.qualityIndicator.fastHypervolume.wfg.WFGHV;
 import jmetal.qualityIndicator.util.MetricsUtil;
 import jmetal.util.Distance;
+import jmetal.util.Dominance;
 import jmetal.util.comparators.CrowdingDistanceComparator;
-import jmetal.util.comparators.DominanceComparator;
 import jmetal.util.comparators.EqualSolutions;
 
 import java.util.Comparator;
@@ -48,11 +48,6 @@ public class WFGHypervolumeArchive extends Archive {
    */
   private int objectives_;    
   
-  /**
-   * Stores a <code>Comparator</code> for dominance checking.
-   */
-  private Comparator dominance_;
-  
   /**
    * Stores a <code>Comparator</code> for equality checking (in the objective
    * space).
@@ -79,7 +74,6 @@ public class WFGHypervolumeArchive extends Archive {
     super(maxSize);
     maxSize_          = maxSize;
     objectives_       = numberOfObjectives;        
-    dominance_        = new DominanceComparator();
     equals_           = new EqualSolutions();
     distance_         = new Distance();
     utils_            = new MetricsUtil() ;
@@ -108,7 +102,7 @@ public class WFGHypervolumeArchive extends Archive {
     while (i < solutionsList_.size()){
       aux = solutionsList_.get(i);            
             
-      flag = dominance_.compare(solution,aux);
+      flag = Dominance.dominanceTest(solution, aux);
       if (flag == 1) {               // The solution to add is dominated
         return false;                // Discard the new solution
       } else if (flag == -1) {       // A solution in the archive is dominated
@@ -321,7 +321,9 @@ public class AvlTree<T> {
       setTop(leftNode);
     }
 
-    node.setLeft(node.getLeft().getRight());
+    node.setLeft(leftNode.getRight());
+    if (node.hasLeft())
+      node.getLeft().setParent(node);
     leftNode.setRight(node);
     node.setParent(leftNode);
 
@@ -342,7 +344,9 @@ public class AvlTree<T> {
       setTop(rightNode);
     }
 
-    node.setRight(node.getRight().getLeft());
+    node.setRight(rightNode.getLeft());
+    if (node.hasRight())
+      node.getRight().setParent(node);
     rightNode.setLeft(node);
     node.setParent(rightNode);
 
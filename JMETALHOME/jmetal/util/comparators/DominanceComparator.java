@@ -22,6 +22,7 @@
 package jmetal.util.comparators;
 
 import jmetal.core.Solution;
+import jmetal.util.Dominance;
 
 import java.util.Comparator;
 
@@ -65,15 +66,6 @@ public class DominanceComparator implements Comparator {
     Solution solution1 = (Solution)object1;
     Solution solution2 = (Solution)object2;
 
-    int dominate1 ; // dominate1 indicates if some objective of solution1 
-                    // dominates the same objective in solution2. dominate2
-    int dominate2 ; // is the complementary of dominate1.
-
-    dominate1 = 0 ; 
-    dominate2 = 0 ;
-    
-    int flag; //stores the result of the comparison
-
     // Test to determine whether at least a solution violates some constraint
     //if (violationConstraintComparator_.needToCompare(solution1, solution2))
       //return violationConstraintComparator_.compare(solution1, solution2) ;
@@ -87,33 +79,6 @@ public class DominanceComparator implements Comparator {
    */
     
     // Equal number of violated constraints. Applying a dominance Test then
-    double value1, value2;
-    for (int i = 0; i < solution1.getNumberOfObjectives(); i++) {
-      value1 = solution1.getObjective(i);
-      value2 = solution2.getObjective(i);
-      if (value1 < value2) {
-        flag = -1;
-      } else if (value1 > value2) {
-        flag = 1;
-      } else {
-        flag = 0;
-      }
-      
-      if (flag == -1) {
-        dominate1 = 1;
-      }
-      
-      if (flag == 1) {
-        dominate2 = 1;           
-      }
-    }
-            
-    if (dominate1 == dominate2) {            
-      return 0; //No one dominate the other
-    }
-    if (dominate1 == 1) {
-      return -1; // solution1 dominate
-    }
-    return 1;    // solution2 dominate   
+    return Dominance.dominanceTest(solution1, solution2);
   } // compare
 } // DominanceComparator
@@ -138,4 +138,48 @@ public class XInt {
 					type_ + "+ invalid") ;		
 		return 0 ;
 	} // size
+
+	/**
+	 * Returns true if the values of the solution are stored in a primitive
+	 * array, so that <code>getValues()</code> does not copy them
+	 */
+	public boolean isArrayBacked() {
+		return type_.getClass() == ArrayIntSolutionType.class ;
+	} // isArrayBacked
+
+	/**
+	 * Returns the values of the variables as an array. If the solution is
+	 * array-backed (see <code>isArrayBacked()</code>), the backing array is
+	 * returned and changes in it are changes in the solution; otherwise, the
+	 * values are copied into a new array.
+	 * @return The values of the variables
+	 * @throws JMException
+	 */
+	public int [] getValues() throws JMException {
+		if (isArrayBacked())
+			return ((ArrayInt)(solution_.getDecisionVariables()[0])).getArray() ;
+
+		int [] values = new int[getNumberOfDecisionVariables()] ;
+		for (int i = 0; i < values.length; i++)
+			values[i] = getValue(i) ;
+		return values ;
+	} // getValues
+
+	/**
+	 * Sets the values of the variables from an array. Nothing is copied if the
+	 * array is the one returned by <code>getValues()</code> for an
+	 * array-backed solution.
+	 * @param values The values
+	 * @throws JMException
+	 */
+	public void setValues(int [] values) throws JMException {
+		if (isArrayBacked()) {
+			int [] array = ((ArrayInt)(solution_.getDecisionVariables()[0])).getArray() ;
+			if (array != values)
+				System.arraycopy(values, 0, array, 0, array.length) ;
+		} else {
+			for (int i = 0; i < values.length; i++)
+				setValue(i, values[i]) ;
+		} // else
+	} // setValues
 } // XInt
\ No newline at end of file
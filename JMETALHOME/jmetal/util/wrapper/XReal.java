@@ -26,8 +26,10 @@ import jmetal.core.SolutionType;
 import jmetal.encodings.solutionType.ArrayRealAndBinarySolutionType;
 import jmetal.encodings.solutionType.ArrayRealSolutionType;
 import jmetal.encodings.solutionType.BinaryRealSolutionType;
+import jmetal.encodings.solutionType.DoubleArraySolutionType;
 import jmetal.encodings.solutionType.RealSolutionType;
 import jmetal.encodings.variable.ArrayReal;
+import jmetal.encodings.variable.DoubleArray;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
 
@@ -65,6 +67,9 @@ public class XReal {
 				(type_.getClass() == BinaryRealSolutionType.class)){
 			return solution_.getDecisionVariables()[index].getValue() ;			
 		} 
+		else if (type_.getClass() == DoubleArraySolutionType.class) {
+			return ((DoubleArray)(solution_.getDecisionVariables()[0])).getArray()[index] ;
+		}
 		else if (type_.getClass() == ArrayRealSolutionType.class) {
 			return ((ArrayReal)(solution_.getDecisionVariables()[0])).array_[index] ;
 		}
@@ -87,6 +92,8 @@ public class XReal {
 	public void setValue(int index, double value) throws JMException {
 		if (type_.getClass() == RealSolutionType.class)
 			solution_.getDecisionVariables()[index].setValue(value) ;
+		else if (type_.getClass() == DoubleArraySolutionType.class)
+			((DoubleArray)(solution_.getDecisionVariables()[0])).getArray()[index]=value ;
 		else if (type_.getClass() == ArrayRealSolutionType.class)
 			((ArrayReal)(solution_.getDecisionVariables()[0])).array_[index]=value ;
 		else if (type_.getClass() == ArrayRealAndBinarySolutionType.class)
@@ -106,6 +113,8 @@ public class XReal {
 		if ((type_.getClass() == RealSolutionType.class) ||
 				(type_.getClass() == BinaryRealSolutionType.class))
 			return solution_.getDecisionVariables()[index].getLowerBound() ;
+		else if (type_.getClass() == DoubleArraySolutionType.class)
+			return solution_.getProblem().getLowerLimit(index) ;
 		else if (type_.getClass() == ArrayRealSolutionType.class) 
 			return ((ArrayReal)(solution_.getDecisionVariables()[0])).getLowerBound(index) ;
 		else if (type_.getClass() == ArrayRealAndBinarySolutionType.class) 
@@ -128,6 +137,8 @@ public class XReal {
 		if ((type_.getClass() == RealSolutionType.class) ||
 				(type_.getClass() == BinaryRealSolutionType.class))			
 			return solution_.getDecisionVariables()[index].getUpperBound() ;
+		else if (type_.getClass() == DoubleArraySolutionType.class)
+			return solution_.getProblem().getUpperLimit(index) ;
 		else if (type_.getClass() == ArrayRealSolutionType.class) 
 			return ((ArrayReal)(solution_.getDecisionVariables()[0])).getUpperBound(index) ;
 		else if (type_.getClass() == ArrayRealAndBinarySolutionType.class) 
@@ -147,6 +158,8 @@ public class XReal {
 		if ((type_.getClass() == RealSolutionType.class) ||
 				(type_.getClass() == BinaryRealSolutionType.class))		
 			return solution_.getDecisionVariables().length ;
+		else if (type_.getClass() == DoubleArraySolutionType.class)
+			return ((DoubleArray)(solution_.getDecisionVariables()[0])).getLength() ;
 		else if (type_.getClass() == ArrayRealSolutionType.class) 
 			return ((ArrayReal)(solution_.getDecisionVariables()[0])).getLength() ;
 		else
@@ -163,6 +176,8 @@ public class XReal {
 		if ((type_.getClass().equals(RealSolutionType.class)) ||
 				(type_.getClass().equals(BinaryRealSolutionType.class)))		
 			return solution_.getDecisionVariables().length ;
+		else if (type_.getClass().equals(DoubleArraySolutionType.class))
+			return ((DoubleArray)(solution_.getDecisionVariables()[0])).getLength() ;
 		else if (type_.getClass().equals(ArrayRealSolutionType.class)) 
 			return ((ArrayReal)(solution_.getDecisionVariables()[0])).getLength() ;
 		else
@@ -170,4 +185,91 @@ public class XReal {
 					type_ + "+ invalid") ;		
 		return 0 ;
 	} // size
+
+	/**
+	 * Returns true if the values of the solution are stored in a primitive
+	 * array, so that <code>getValues()</code> does not copy them
+	 */
+	public boolean isArrayBacked() {
+		return (type_.getClass() == DoubleArraySolutionType.class) ||
+				(type_.getClass() == ArrayRealSolutionType.class) ;
+	} // isArrayBacked
+
+	/**
+	 * Returns the array storing the values of an array-backed solution
+	 */
+	private double [] getArray() {
+		if (type_.getClass() == DoubleArraySolutionType.class)
+			return ((DoubleArray)(solution_.getDecisionVariables()[0])).getArray() ;
+		else
+			return ((ArrayReal)(solution_.getDecisionVariables()[0])).getArray() ;
+	} // getArray
+
+	/**
+	 * Returns the values of the variables as an array. If the solution is
+	 * array-backed (see <code>isArrayBacked()</code>), the backing array is
+	 * returned and changes in it are changes in the solution; otherwise, the
+	 * values are copied into a new array.
+	 * @return The values of the variables
+	 * @throws JMException
+	 */
+	public double [] getValues() throws JMException {
+		if (isArrayBacked())
+			return getArray() ;
+
+		double [] values = new double[getNumberOfDecisionVariables()] ;
+		for (int i = 0; i < values.length; i++)
+			values[i] = getValue(i) ;
+		return values ;
+	} // getValues
+
+	/**
+	 * Sets the values of the variables from an array. Nothing is copied if the
+	 * array is the one returned by <code>getValues()</code> for an
+	 * array-backed solution.
+	 * @param values The values
+	 * @throws JMException
+	 */
+	public void setValues(double [] values) throws JMException {
+		if (isArrayBacked()) {
+			double [] array = getArray() ;
+			if (array != values)
+				System.arraycopy(values, 0, array, 0, array.length) ;
+		} else {
+			for (int i = 0; i < values.length; i++)
+				setValue(i, values[i]) ;
+		} // else
+	} // setValues
+
+	/**
+	 * Returns the lower bounds of the variables. For array-backed solutions
+	 * the array of the problem is returned, so it must not be modified.
+	 * @return The lower bounds
+	 * @throws JMException
+	 */
+	public double [] getLowerBounds() throws JMException {
+		if (isArrayBacked())
+			return solution_.getProblem().getLowerLimit() ;
+
+		double [] bounds = new double[getNumberOfDecisionVariables()] ;
+		for (int i = 0; i < bounds.length; i++)
+			bounds[i] = getLowerBound(i) ;
+		return bounds ;
+	} // getLowerBounds
+
+	/**
+	 * Returns the upper bounds of the variables. For array-backed solutions
+	 * the array of the problem is returned, so it must not be modified.
+	 * @return The upper bounds
+	 * @throws JMException
+	 */
+	public double [] getUpperBounds() throws JMException {
+		if (isArrayBacked())
+			return solution_.getProblem().getUpperLimit() ;
+
+		double [] bounds = new double[getNumberOfDecisionVariables()] ;
+		for (int i = 0; i < bounds.length; i++)
+			bounds[i] = getUpperBound(i) ;
+		return bounds ;
+	} // getUpperBounds
 } // XReal
\ No newline at end of file